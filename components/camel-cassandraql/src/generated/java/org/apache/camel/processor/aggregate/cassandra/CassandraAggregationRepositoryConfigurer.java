@@ -27,6 +27,8 @@ public class CassandraAggregationRepositoryConfigurer extends org.apache.camel.s
         case "allowSerializedHeaders": target.setAllowSerializedHeaders(property(camelContext, boolean.class, value)); return true;
         case "deadletteruri":
         case "deadLetterUri": target.setDeadLetterUri(property(camelContext, java.lang.String.class, value)); return true;
+        case "exchangecodec":
+        case "exchangeCodec": target.setExchangeCodec(property(camelContext, org.apache.camel.support.ExchangeCodec.class, value)); return true;
         case "exchangecolumn":
         case "exchangeColumn": target.setExchangeColumn(property(camelContext, java.lang.String.class, value)); return true;
         case "exchangeidcolumn":
@@ -59,6 +61,8 @@ public class CassandraAggregationRepositoryConfigurer extends org.apache.camel.s
         case "allowSerializedHeaders": return boolean.class;
         case "deadletteruri":
         case "deadLetterUri": return java.lang.String.class;
+        case "exchangecodec":
+        case "exchangeCodec": return org.apache.camel.support.ExchangeCodec.class;
         case "exchangecolumn":
         case "exchangeColumn": return java.lang.String.class;
         case "exchangeidcolumn":
@@ -92,6 +96,8 @@ public class CassandraAggregationRepositoryConfigurer extends org.apache.camel.s
         case "allowSerializedHeaders": return target.isAllowSerializedHeaders();
         case "deadletteruri":
         case "deadLetterUri": return target.getDeadLetterUri();
+        case "exchangecodec":
+        case "exchangeCodec": return target.getExchangeCodec();
         case "exchangecolumn":
         case "exchangeColumn": return target.getExchangeColumn();
         case "exchangeidcolumn":
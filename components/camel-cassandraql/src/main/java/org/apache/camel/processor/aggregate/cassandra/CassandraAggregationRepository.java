@@ -37,6 +37,7 @@ import org.apache.camel.spi.AggregationRepository;
 import org.apache.camel.spi.Configurer;
 import org.apache.camel.spi.Metadata;
 import org.apache.camel.spi.RecoverableAggregationRepository;
+import org.apache.camel.support.ExchangeCodec;
 import org.apache.camel.support.service.ServiceSupport;
 import org.apache.camel.utils.cassandra.CassandraSessionHolder;
 import org.slf4j.Logger;
@@ -64,7 +65,7 @@ public class CassandraAggregationRepository extends ServiceSupport implements Re
 
     private static final Logger LOGGER = LoggerFactory.getLogger(CassandraAggregationRepository.class);
 
-    private final CassandraCamelCodec exchangeCodec = new CassandraCamelCodec();
+    private final CassandraCamelCodec cassandraCamelCodec = new CassandraCamelCodec();
 
     @Metadata(description = "Cassandra session", required = true)
     private CassandraSessionHolder sessionHolder;
@@ -114,6 +115,11 @@ public class CassandraAggregationRepository extends ServiceSupport implements Re
     @Metadata(label = "advanced", security = "insecure:serialization",
               description = "Whether headers on the Exchange that are Java objects and Serializable should be included and saved to the repository")
     private boolean allowSerializedHeaders;
+    @Metadata(label = "advanced",
+              description = "To use a custom codec for storing the exchanges. By default Java serialization is used."
+                            + " Use org.apache.camel.support.BinaryExchangeCodec for a more compact and faster format,"
+                            + " which can also read exchanges that have been stored using Java serialization.")
+    private ExchangeCodec exchangeCodec;
 
     /**
      * Default deserialization filter. Denies {@code java.net.**} and otherwise allows {@code java.**} and
@@ -162,6 +168,9 @@ public class CassandraAggregationRepository extends ServiceSupport implements Re
 
     @Override
     protected void doStart() throws Exception {
+        if (exchangeCodec != null) {
+            cassandraCamelCodec.setExchangeCodec(exchangeCodec);
+        }
         sessionHolder.start();
         initInsertStatement();
         initSelectStatement();
@@ -193,7 +202,7 @@ public class CassandraAggregationRepository extends ServiceSupport implements Re
         final Object[] idValues = getPKValues(key);
         LOGGER.debug("Inserting key {} exchange {}", idValues, exchange);
         try {
-            ByteBuffer marshalledExchange = exchangeCodec.marshallExchange(exchange, allowSerializedHeaders);
+            ByteBuffer marshalledExchange = cassandraCamelCodec.marshallExchange(exchange, allowSerializedHeaders);
             Object[] cqlParams = concat(idValues, new Object[] { exchange.getExchangeId(), marshalledExchange });
             getSession().execute(insertStatement.bind(cqlParams));
             return exchange;
@@ -223,7 +232,7 @@ public class CassandraAggregationRepository extends ServiceSupport implements Re
         Exchange exchange = null;
         if (row != null) {
             try {
-                exchange = exchangeCodec.unmarshallExchange(camelContext, row.getByteBuffer(exchangeColumn),
+                exchange = cassandraCamelCodec.unmarshallExchange(camelContext, row.getByteBuffer(exchangeColumn),
                         deserializationFilter);
             } catch (IOException iOException) {
                 throw new CassandraAggregationException("Failed to read exchange", exchange, iOException);
@@ -477,6 +486,14 @@ public class CassandraAggregationRepository extends ServiceSupport implements Re
         this.allowSerializedHeaders = allowSerializedHeaders;
     }
 
+    public ExchangeCodec getExchangeCodec() {
+        return exchangeCodec;
+    }
+
+    public void setExchangeCodec(ExchangeCodec exchangeCodec) {
+        this.exchangeCodec = exchangeCodec;
+    }
+
     public String getDeserializationFilter() {
         return deserializationFilter;
     }
@@ -25,13 +25,34 @@ import org.apache.camel.Exchange;
 import org.apache.camel.ExchangePropertyKey;
 import org.apache.camel.support.DefaultExchange;
 import org.apache.camel.support.DefaultExchangeHolder;
-import org.apache.camel.util.ClassLoadingAwareObjectInputStream;
+import org.apache.camel.support.ExchangeCodec;
+import org.apache.camel.support.JavaSerializationExchangeCodec;
 
 /**
  * Marshall/unmarshall Exchange to/from a ByteBuffer. Inspired from JdbcCamelCodec.
+ * <p/>
+ * The exchange is stored using the {@link ExchangeCodec}, which by default is Java serialization.
  */
 public class CassandraCamelCodec {
 
+    private ExchangeCodec exchangeCodec;
+
+    public CassandraCamelCodec() {
+        this(new JavaSerializationExchangeCodec());
+    }
+
+    public CassandraCamelCodec(ExchangeCodec exchangeCodec) {
+        this.exchangeCodec = exchangeCodec;
+    }
+
+    public ExchangeCodec getExchangeCodec() {
+        return exchangeCodec;
+    }
+
+    public void setExchangeCodec(ExchangeCodec exchangeCodec) {
+        this.exchangeCodec = exchangeCodec;
+    }
+
     public ByteBuffer marshallExchange(Exchange exchange, boolean allowSerializedHeaders)
             throws IOException {
         // use DefaultExchangeHolder to marshal to a serialized object
@@ -55,13 +76,15 @@ public class CassandraCamelCodec {
         if (exchange.getFromEndpoint() != null) {
             DefaultExchangeHolder.addProperty(pe, "CamelAggregatedFromEndpoint", exchange.getFromEndpoint().getEndpointUri());
         }
-        return ByteBuffer.wrap(serialize(pe));
+        ByteArrayOutputStream bytesOut = new ByteArrayOutputStream();
+        exchangeCodec.encode(pe, bytesOut);
+        return ByteBuffer.wrap(bytesOut.toByteArray());
     }
 
     public Exchange unmarshallExchange(CamelContext camelContext, ByteBuffer buffer, String deserializationFilter)
             throws IOException, ClassNotFoundException {
         DefaultExchangeHolder pe
-                = (DefaultExchangeHolder) deserialize(camelContext, new ByteBufferInputStream(buffer), deserializationFilter);
+                = exchangeCodec.decode(camelContext, new ByteBufferInputStream(buffer), deserializationFilter);
         Exchange answer = new DefaultExchange(camelContext);
         DefaultExchangeHolder.unmarshal(answer, pe);
         // restore the from endpoint
@@ -75,24 +98,6 @@ public class CassandraCamelCodec {
         return answer;
     }
 
-    private byte[] serialize(Object object) throws IOException {
-        ByteArrayOutputStream bytesOut = new ByteArrayOutputStream();
-        ObjectOutputStream objectOut = new ObjectOutputStream(bytesOut);
-        objectOut.writeObject(object);
-        objectOut.close();
-        return bytesOut.toByteArray();
-    }
-
-    private Object deserialize(CamelContext camelContext, InputStream bytes, String deserializationFilter)
-            throws IOException, ClassNotFoundException {
-        ClassLoader classLoader = camelContext.getApplicationContextClassLoader();
-        ObjectInputStream objectIn = new ClassLoadingAwareObjectInputStream(classLoader, bytes);
-        objectIn.setObjectInputFilter(ObjectInputFilter.Config.createFilter(deserializationFilter));
-        Object object = objectIn.readObject();
-        objectIn.close();
-        return object;
-    }
-
     private static class ByteBufferInputStream extends InputStream {
 
         private final ByteBuffer buffer;
@@ -106,7 +111,7 @@ public class CassandraCamelCodec {
             if (!buffer.hasRemaining()) {
                 return -1;
             }
-            return buffer.get();
+            return buffer.get() & 0xFF;
         }
 
         @Override
@@ -29,6 +29,7 @@ import org.apache.camel.api.management.ManagedAttribute;
 import org.apache.camel.api.management.ManagedOperation;
 import org.apache.camel.api.management.ManagedResource;
 import org.apache.camel.component.dynamicrouter.filter.DynamicRouterFilterService;
+import org.apache.camel.component.dynamicrouter.filter.IndexablePredicate;
 import org.apache.camel.component.dynamicrouter.filter.PrioritizedFilter;
 import org.apache.camel.component.dynamicrouter.filter.PrioritizedFilterStatistics;
 import org.apache.camel.support.CamelContextHelper;
@@ -65,7 +66,9 @@ public class DynamicRouterControlService extends ServiceSupport {
     }
 
     /**
-     * Tries to obtain the predicate from the expression of the provided language.
+     * Tries to obtain the predicate from the expression of the provided language. A simple language predicate that
+     * compares a header, an exchange property, or the body with literal values is returned as an
+     * {@link IndexablePredicate}.
      *
      * @param  camelContext       the camel context
      * @param  predExpression     the predicate expression
@@ -77,7 +80,15 @@ public class DynamicRouterControlService extends ServiceSupport {
             final String predExpression,
             final String expressionLanguage) {
         try {
-            return camelContext.resolveLanguage(expressionLanguage).createPredicate(predExpression);
+            Predicate predicate = camelContext.resolveLanguage(expressionLanguage).createPredicate(predExpression);
+            if ("simple".equals(expressionLanguage)) {
+                // recognize simple comparisons, so the filter can be indexed
+                IndexablePredicate indexable = IndexablePredicate.fromSimple(predExpression, predicate);
+                if (indexable != null) {
+                    return indexable;
+                }
+            }
+            return predicate;
         } catch (Exception e) {
             String message = String.format(ERROR_INVALID_PREDICATE_EXPRESSION, expressionLanguage, predExpression);
             throw new IllegalArgumentException(message, e);
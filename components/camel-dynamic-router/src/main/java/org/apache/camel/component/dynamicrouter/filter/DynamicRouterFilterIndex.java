@@ -0,0 +1,220 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.dynamicrouter.filter;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.component.dynamicrouter.filter.IndexablePredicate.Operator;
+import org.apache.camel.component.dynamicrouter.filter.IndexablePredicate.Source;
+import org.apache.camel.component.dynamicrouter.routing.DynamicRouterConstants;
+
+/**
+ * An index over the {@link PrioritizedFilter}s of a channel, so that the filters with an {@link IndexablePredicate}
+ * are found by looking up the value of the exchange in a hash index (equality and in) or a trie (starts with), and
+ * only the other (opaque) filters are evaluated one by one.
+ * <p>
+ * The candidate filters from the indexes are merged with the opaque filters in priority order, and the predicate of
+ * each candidate is evaluated before it is selected, so the result is the same as evaluating every filter in priority
+ * order.
+ */
+public class DynamicRouterFilterIndex {
+
+    /**
+     * The header or exchange property name (or the body) that is indexed.
+     */
+    private record IndexKey(Source source, String name) {
+    }
+
+    private final Map<IndexKey, Map<String, Set<PrioritizedFilter>>> valueIndex = new ConcurrentHashMap<>();
+    private final Map<IndexKey, PrefixTrie> prefixIndex = new ConcurrentHashMap<>();
+    private final Set<PrioritizedFilter> opaqueFilters
+            = new ConcurrentSkipListSet<>(DynamicRouterConstants.FILTER_COMPARATOR);
+
+    /**
+     * Adds the filter to the index.
+     *
+     * @param filter the filter
+     */
+    public void add(final PrioritizedFilter filter) {
+        if (filter.predicate() instanceof IndexablePredicate indexable) {
+            IndexKey key = new IndexKey(indexable.getSource(), indexable.getName());
+            if (indexable.getOperator() == Operator.STARTS_WITH) {
+                prefixIndex.computeIfAbsent(key, k -> new PrefixTrie()).add(indexable.getValues().get(0), filter);
+            } else {
+                Map<String, Set<PrioritizedFilter>> values = valueIndex.computeIfAbsent(key, k -> new ConcurrentHashMap<>());
+                for (String value : indexable.getValues()) {
+                    values.computeIfAbsent(value, v -> ConcurrentHashMap.newKeySet()).add(filter);
+                }
+            }
+        } else {
+            opaqueFilters.add(filter);
+        }
+    }
+
+    /**
+     * Removes the filter from the index.
+     *
+     * @param filter the filter
+     */
+    public void remove(final PrioritizedFilter filter) {
+        if (filter.predicate() instanceof IndexablePredicate indexable) {
+            IndexKey key = new IndexKey(indexable.getSource(), indexable.getName());
+            if (indexable.getOperator() == Operator.STARTS_WITH) {
+                PrefixTrie trie = prefixIndex.get(key);
+                if (trie != null) {
+                    trie.remove(indexable.getValues().get(0), filter);
+                }
+            } else {
+                Map<String, Set<PrioritizedFilter>> values = valueIndex.get(key);
+                if (values != null) {
+                    for (String value : indexable.getValues()) {
+                        values.computeIfPresent(value, (v, filters) -> filters.remove(filter) && filters.isEmpty()
+                                ? null : filters);
+                    }
+                }
+            }
+        } else {
+            opaqueFilters.remove(filter);
+        }
+    }
+
+    /**
+     * Whether any filter has an {@link IndexablePredicate}, so there is a benefit of using the index.
+     */
+    public boolean hasIndexedFilters() {
+        return !valueIndex.isEmpty() || !prefixIndex.isEmpty();
+    }
+
+    /**
+     * Gets the filters that match the exchange, in priority order.
+     *
+     * @param  exchange       the exchange
+     * @param  firstMatchOnly to only return the first match
+     * @return                the matching filters
+     */
+    public List<PrioritizedFilter> matchingFilters(final Exchange exchange, final boolean firstMatchOnly) {
+        TreeSet<PrioritizedFilter> candidates = new TreeSet<>(DynamicRouterConstants.FILTER_COMPARATOR);
+        valueIndex.forEach((key, values) -> {
+            if (!values.isEmpty()) {
+                String value = valueOf(exchange, key);
+                if (value != null) {
+                    Set<PrioritizedFilter> filters = values.get(value);
+                    if (filters != null) {
+                        candidates.addAll(filters);
+                    }
+                }
+            }
+        });
+        prefixIndex.forEach((key, trie) -> {
+            String value = valueOf(exchange, key);
+            if (value != null) {
+                trie.collect(value, candidates);
+            }
+        });
+
+        // merge the candidates with the opaque filters in priority order
+        List<PrioritizedFilter> answer = new ArrayList<>();
+        Iterator<PrioritizedFilter> indexed = candidates.iterator();
+        Iterator<PrioritizedFilter> opaque = opaqueFilters.iterator();
+        PrioritizedFilter nextIndexed = indexed.hasNext() ? indexed.next() : null;
+        PrioritizedFilter nextOpaque = opaque.hasNext() ? opaque.next() : null;
+        while (nextIndexed != null || nextOpaque != null) {
+            PrioritizedFilter filter;
+            if (nextOpaque == null
+                    || nextIndexed != null && DynamicRouterConstants.FILTER_COMPARATOR.compare(nextIndexed, nextOpaque) < 0) {
+                filter = nextIndexed;
+                nextIndexed = indexed.hasNext() ? indexed.next() : null;
+            } else {
+                filter = nextOpaque;
+                nextOpaque = opaque.hasNext() ? opaque.next() : null;
+            }
+            if (filter.predicate().matches(exchange)) {
+                answer.add(filter);
+                if (firstMatchOnly) {
+                    break;
+                }
+            }
+        }
+        return answer;
+    }
+
+    private static String valueOf(final Exchange exchange, final IndexKey key) {
+        return switch (key.source()) {
+            case HEADER -> exchange.getMessage().getHeader(key.name(), String.class);
+            case EXCHANGE_PROPERTY -> exchange.getProperty(key.name(), String.class);
+            case BODY -> exchange.getMessage().getBody(String.class);
+        };
+    }
+
+    /**
+     * A trie of the prefixes of the filters, where the filters of all the prefixes of a value are found by walking
+     * down the characters of the value.
+     */
+    private static final class PrefixTrie {
+
+        private final Node root = new Node();
+
+        synchronized void add(String prefix, PrioritizedFilter filter) {
+            Node node = root;
+            for (int i = 0; i < prefix.length(); i++) {
+                node = node.children.computeIfAbsent(prefix.charAt(i), c -> new Node());
+            }
+            node.filters.add(filter);
+        }
+
+        synchronized void remove(String prefix, PrioritizedFilter filter) {
+            remove(root, prefix, 0, filter);
+        }
+
+        private static boolean remove(Node node, String prefix, int index, PrioritizedFilter filter) {
+            if (index == prefix.length()) {
+                node.filters.remove(filter);
+            } else {
+                Node child = node.children.get(prefix.charAt(index));
+                if (child != null && remove(child, prefix, index + 1, filter)) {
+                    node.children.remove(prefix.charAt(index));
+                }
+            }
+            // prune the node when it is no longer used
+            return node.filters.isEmpty() && node.children.isEmpty();
+        }
+
+        void collect(String value, Set<PrioritizedFilter> candidates) {
+            Node node = root;
+            candidates.addAll(node.filters);
+            for (int i = 0; i < value.length() && node != null; i++) {
+                node = node.children.get(value.charAt(i));
+                if (node != null) {
+                    candidates.addAll(node.filters);
+                }
+            }
+        }
+    }
+
+    private static final class Node {
+        private final Map<Character, Node> children = new ConcurrentHashMap<>();
+        private final Set<PrioritizedFilter> filters = ConcurrentHashMap.newKeySet();
+    }
+}
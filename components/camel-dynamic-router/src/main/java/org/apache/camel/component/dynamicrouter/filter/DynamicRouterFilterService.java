@@ -61,6 +61,14 @@ public class DynamicRouterFilterService {
      */
     private final Map<String, List<PrioritizedFilterStatistics>> filterStatisticsMap = new ConcurrentHashMap<>();
 
+    /**
+     * {@link DynamicRouterFilterIndex}es, mapped by their channel.
+     * <p>
+     * Each index holds the filters for that routing channel, so that the filters with an {@link IndexablePredicate} are
+     * looked up instead of evaluated one by one.
+     */
+    private final Map<String, DynamicRouterFilterIndex> filterIndexMap = new ConcurrentHashMap<>();
+
     /**
      * Supplier for the {@link PrioritizedFilterFactory} instance.
      */
@@ -89,6 +97,7 @@ public class DynamicRouterFilterService {
     public void initializeChannelFilters(final String channel) {
         filterMap.computeIfAbsent(channel, c -> new ConcurrentSkipListSet<>(DynamicRouterConstants.FILTER_COMPARATOR));
         filterStatisticsMap.computeIfAbsent(channel, c -> Collections.synchronizedList(new ArrayList<>()));
+        filterIndexMap.computeIfAbsent(channel, c -> new DynamicRouterFilterIndex());
     }
 
     /**
@@ -176,7 +185,9 @@ public class DynamicRouterFilterService {
         if (okToAdd) {
             Set<PrioritizedFilter> filters = filterMap.computeIfAbsent(channel,
                     c -> new ConcurrentSkipListSet<>(DynamicRouterConstants.FILTER_COMPARATOR));
-            filters.add(filter);
+            if (filters.add(filter)) {
+                filterIndexMap.computeIfAbsent(channel, c -> new DynamicRouterFilterIndex()).add(filter);
+            }
             List<PrioritizedFilterStatistics> filterStatistics = filterStatisticsMap.computeIfAbsent(channel,
                     c -> Collections.synchronizedList(new ArrayList<>()));
             filterStatistics.add(filter.statistics());
@@ -216,7 +227,13 @@ public class DynamicRouterFilterService {
                         .findFirst()
                         .orElseThrow(() -> new IllegalArgumentException("No filter exists with ID: " + filterId))
                 : channel;
-        if (filterMap.get(routerChannel).removeIf(f -> filterId.equals(f.id()))) {
+        List<PrioritizedFilter> removed = new ArrayList<>();
+        filterMap.get(routerChannel).removeIf(f -> filterId.equals(f.id()) && removed.add(f));
+        if (!removed.isEmpty()) {
+            DynamicRouterFilterIndex index = filterIndexMap.get(routerChannel);
+            if (index != null) {
+                removed.forEach(index::remove);
+            }
             LOG.debug("Removed subscription: {}", filterId);
             return true;
         } else {
@@ -229,6 +246,10 @@ public class DynamicRouterFilterService {
      * Match the exchange against all {@link PrioritizedFilter}s for the specified channel to determine if any of them
      * are suitable to handle the exchange, then create a comma-delimited string of the filters' endpoints.
      * <p>
+     * When the channel has filters with an {@link IndexablePredicate}, then these filters are looked up in the
+     * {@link DynamicRouterFilterIndex} by the value of the exchange, and only the other filters are evaluated one by
+     * one. The filters are matched in priority order in both cases.
+     * <p>
      * <strong>SIDE-EFFECT</strong>: If there are no matching filters, this method will modify the {@link Exchange}!
      * Without a matching filter, a message would otherwise be dropped without any notification, including log messages.
      * Instead, if no matching filters can be found, this method will store the original message body in a header named
@@ -249,12 +270,20 @@ public class DynamicRouterFilterService {
             final boolean firstMatchOnly,
             final boolean warnDroppedMessage) {
         List<String> matchingEndpoints = new ArrayList<>();
-        for (PrioritizedFilter filter : filterMap.get(channel)) {
-            if (filter.predicate().matches(exchange)) {
+        DynamicRouterFilterIndex index = filterIndexMap.get(channel);
+        if (index != null && index.hasIndexedFilters()) {
+            for (PrioritizedFilter filter : index.matchingFilters(exchange, firstMatchOnly)) {
                 matchingEndpoints.add(filter.endpoint());
                 filter.statistics().incrementCount();
-                if (firstMatchOnly) {
-                    break;
+            }
+        } else {
+            for (PrioritizedFilter filter : filterMap.get(channel)) {
+                if (filter.predicate().matches(exchange)) {
+                    matchingEndpoints.add(filter.endpoint());
+                    filter.statistics().incrementCount();
+                    if (firstMatchOnly) {
+                        break;
+                    }
                 }
             }
         }
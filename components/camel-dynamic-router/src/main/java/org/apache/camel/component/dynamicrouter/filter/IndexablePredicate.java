@@ -0,0 +1,271 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.dynamicrouter.filter;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.Predicate;
+
+/**
+ * A {@link Predicate} that compares a header, an exchange property, or the message body with literal values, so that
+ * the {@link DynamicRouterFilterIndex} can find the matching filters by looking up the value of the exchange, instead
+ * of evaluating the predicate of every filter.
+ * <p>
+ * The supported operators are equality, in a list of values, and starts with a prefix. Predicates in the simple
+ * language of these forms are recognized by {@link #fromSimple(String, Predicate)}, such as:
+ * <ul>
+ * <li>{@code ${header.type} == 'order'}</li>
+ * <li>{@code ${exchangeProperty.region} in 'emea,apac'}</li>
+ * <li>{@code ${body} startsWith 'urgent'}</li>
+ * </ul>
+ */
+public final class IndexablePredicate implements Predicate {
+
+    /**
+     * The part of the exchange that the predicate compares.
+     */
+    public enum Source {
+        HEADER,
+        EXCHANGE_PROPERTY,
+        BODY
+    }
+
+    /**
+     * The comparison of the predicate.
+     */
+    public enum Operator {
+        EQUALS,
+        IN,
+        STARTS_WITH
+    }
+
+    private static final Pattern SIMPLE_PATTERN = Pattern.compile(
+            "\\$\\{(?:(?:in\\.)?(header|headers)|(exchangeProperty))(?:\\.([\\w\\-]+)|\\[([\\w\\-]+)])}"
+                                                                  + "|\\$\\{((?:in\\.)?body)}");
+    private static final Pattern OPERATOR_PATTERN = Pattern.compile("\\s*(==|in|startsWith|starts with)\\s*");
+    private static final Pattern LITERAL_PATTERN = Pattern.compile("'([^'$]*)'|\"([^\"$]*)\"");
+    private static final Pattern NOT_TEXT_PATTERN = Pattern.compile("-?\\d+(\\.\\d*)?[lLfFdD]?|true|false|null");
+
+    private final Source source;
+    private final String name;
+    private final Operator operator;
+    private final List<String> values;
+    private final Predicate delegate;
+
+    private IndexablePredicate(Source source, String name, Operator operator, List<String> values, Predicate delegate) {
+        this.source = source;
+        this.name = name;
+        this.operator = operator;
+        this.values = values;
+        this.delegate = delegate;
+    }
+
+    /**
+     * Creates a predicate that matches when the header is equal to the value.
+     */
+    public static IndexablePredicate headerEquals(String name, String value) {
+        return new IndexablePredicate(Source.HEADER, name, Operator.EQUALS, List.of(value), null);
+    }
+
+    /**
+     * Creates a predicate that matches when the header is equal to one of the values.
+     */
+    public static IndexablePredicate headerIn(String name, String... values) {
+        return new IndexablePredicate(Source.HEADER, name, Operator.IN, List.of(values), null);
+    }
+
+    /**
+     * Creates a predicate that matches when the header starts with the prefix.
+     */
+    public static IndexablePredicate headerStartsWith(String name, String prefix) {
+        return new IndexablePredicate(Source.HEADER, name, Operator.STARTS_WITH, List.of(prefix), null);
+    }
+
+    /**
+     * Creates a predicate that matches when the exchange property is equal to the value.
+     */
+    public static IndexablePredicate exchangePropertyEquals(String name, String value) {
+        return new IndexablePredicate(Source.EXCHANGE_PROPERTY, name, Operator.EQUALS, List.of(value), null);
+    }
+
+    /**
+     * Creates a predicate that matches when the exchange property is equal to one of the values.
+     */
+    public static IndexablePredicate exchangePropertyIn(String name, String... values) {
+        return new IndexablePredicate(Source.EXCHANGE_PROPERTY, name, Operator.IN, List.of(values), null);
+    }
+
+    /**
+     * Creates a predicate that matches when the exchange property starts with the prefix.
+     */
+    public static IndexablePredicate exchangePropertyStartsWith(String name, String prefix) {
+        return new IndexablePredicate(Source.EXCHANGE_PROPERTY, name, Operator.STARTS_WITH, List.of(prefix), null);
+    }
+
+    /**
+     * Creates a predicate that matches when the message body is equal to the value.
+     */
+    public static IndexablePredicate bodyEquals(String value) {
+        return new IndexablePredicate(Source.BODY, null, Operator.EQUALS, List.of(value), null);
+    }
+
+    /**
+     * Creates a predicate that matches when the message body is equal to one of the values.
+     */
+    public static IndexablePredicate bodyIn(String... values) {
+        return new IndexablePredicate(Source.BODY, null, Operator.IN, List.of(values), null);
+    }
+
+    /**
+     * Creates a predicate that matches when the message body starts with the prefix.
+     */
+    public static IndexablePredicate bodyStartsWith(String prefix) {
+        return new IndexablePredicate(Source.BODY, null, Operator.STARTS_WITH, List.of(prefix), null);
+    }
+
+    /**
+     * Recognizes a predicate in the simple language that compares a header, an exchange property, or the message body
+     * with literal values.
+     * <p>
+     * The returned predicate is matched with the predicate created by the simple language, so the index is only used
+     * to find the candidate filters, and the result is the same as with the simple language. Literals that are numbers,
+     * booleans or null are not recognized, as the simple language may convert the value to another type before
+     * comparing.
+     *
+     * @param  expression the simple language expression
+     * @param  predicate  the predicate created by the simple language from the expression
+     * @return            the indexable predicate, or <tt>null</tt> if the expression is not recognized
+     */
+    public static IndexablePredicate fromSimple(String expression, Predicate predicate) {
+        if (expression == null) {
+            return null;
+        }
+        String text = expression.trim();
+
+        Matcher attribute = SIMPLE_PATTERN.matcher(text);
+        if (!attribute.lookingAt()) {
+            return null;
+        }
+        Source source;
+        String name;
+        if (attribute.group(5) != null) {
+            source = Source.BODY;
+            name = null;
+        } else {
+            source = attribute.group(2) != null ? Source.EXCHANGE_PROPERTY : Source.HEADER;
+            name = attribute.group(3) != null ? attribute.group(3) : attribute.group(4);
+        }
+
+        Matcher op = OPERATOR_PATTERN.matcher(text);
+        op.region(attribute.end(), text.length());
+        if (!op.lookingAt()) {
+            return null;
+        }
+        Operator operator = switch (op.group(1)) {
+            case "==" -> Operator.EQUALS;
+            case "in" -> Operator.IN;
+            default -> Operator.STARTS_WITH;
+        };
+
+        Matcher literal = LITERAL_PATTERN.matcher(text);
+        literal.region(op.end(), text.length());
+        if (!literal.matches()) {
+            return null;
+        }
+        String value = literal.group(1) != null ? literal.group(1) : literal.group(2);
+
+        List<String> values;
+        if (operator == Operator.IN) {
+            // the simple language splits the values by comma, unless there are parentheses
+            if (value.indexOf('(') != -1 || value.indexOf(')') != -1) {
+                return null;
+            }
+            values = Arrays.asList(value.split(",", -1));
+        } else {
+            values = List.of(value);
+        }
+        if (operator != Operator.STARTS_WITH) {
+            for (String v : values) {
+                if (v.isEmpty() || NOT_TEXT_PATTERN.matcher(v).matches()) {
+                    return null;
+                }
+            }
+        }
+        return new IndexablePredicate(source, name, operator, values, predicate);
+    }
+
+    public Source getSource() {
+        return source;
+    }
+
+    /**
+     * The name of the header or exchange property, or <tt>null</tt> for the message body.
+     */
+    public String getName() {
+        return name;
+    }
+
+    public Operator getOperator() {
+        return operator;
+    }
+
+    public List<String> getValues() {
+        return values;
+    }
+
+    /**
+     * Gets the value of the exchange that this predicate compares.
+     *
+     * @param  exchange the exchange
+     * @return          the value as a string, or <tt>null</tt> if there is no value
+     */
+    public String valueOf(Exchange exchange) {
+        return switch (source) {
+            case HEADER -> exchange.getMessage().getHeader(name, String.class);
+            case EXCHANGE_PROPERTY -> exchange.getProperty(name, String.class);
+            case BODY -> exchange.getMessage().getBody(String.class);
+        };
+    }
+
+    @Override
+    public boolean matches(Exchange exchange) {
+        if (delegate != null) {
+            return delegate.matches(exchange);
+        }
+        String value = valueOf(exchange);
+        if (value == null) {
+            return false;
+        }
+        if (operator == Operator.STARTS_WITH) {
+            return value.startsWith(values.get(0));
+        }
+        return values.contains(value);
+    }
+
+    @Override
+    public String toString() {
+        if (delegate != null) {
+            return delegate.toString();
+        }
+        String left = source == Source.BODY ? "body" : (source == Source.HEADER ? "header." : "exchangeProperty.") + name;
+        return left + " " + operator + " " + values;
+    }
+}
@@ -19,6 +19,7 @@ package org.apache.camel.component.dynamicrouter.control;
 import org.apache.camel.CamelContext;
 import org.apache.camel.Predicate;
 import org.apache.camel.component.dynamicrouter.filter.DynamicRouterFilterService;
+import org.apache.camel.component.dynamicrouter.filter.IndexablePredicate;
 import org.apache.camel.spi.Language;
 import org.apache.camel.support.builder.PredicateBuilder;
 import org.apache.camel.test.infra.core.CamelContextExtension;
@@ -34,6 +35,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import static org.apache.camel.builder.PredicateBuilder.constant;
 import static org.apache.camel.component.dynamicrouter.control.DynamicRouterControlConstants.ERROR_PREDICATE_CLASS;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -105,6 +107,16 @@ class DynamicRouterControlServiceTest {
         assertEquals(ERROR_PREDICATE_CLASS, ex.getMessage());
     }
 
+    @Test
+    void obtainIndexablePredicateFromExpression() {
+        Predicate actualPredicate = DynamicRouterControlService
+                .obtainPredicateFromExpression(context, "${header.type} == 'order'", expressionLanguage);
+        IndexablePredicate indexable = assertInstanceOf(IndexablePredicate.class, actualPredicate);
+        assertEquals(IndexablePredicate.Source.HEADER, indexable.getSource());
+        assertEquals("type", indexable.getName());
+        assertEquals(IndexablePredicate.Operator.EQUALS, indexable.getOperator());
+    }
+
     @Test
     void obtainPredicateFromExpressionWithError() {
         String expression = "not a valid expression";
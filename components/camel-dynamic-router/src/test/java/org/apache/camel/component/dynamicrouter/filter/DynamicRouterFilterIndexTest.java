@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.dynamicrouter.filter;
+
+import java.util.List;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.Predicate;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.apache.camel.builder.PredicateBuilder.constant;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DynamicRouterFilterIndexTest {
+
+    static final String CHANNEL = "test";
+
+    CamelContext context;
+
+    DynamicRouterFilterService filterService;
+
+    @BeforeEach
+    void setup() {
+        context = new DefaultCamelContext();
+        context.start();
+        filterService = new DynamicRouterFilterService();
+        filterService.initializeChannelFilters(CHANNEL);
+    }
+
+    @AfterEach
+    void teardown() {
+        context.stop();
+    }
+
+    @Test
+    void testFromSimple() {
+        Predicate predicate = constant(true);
+
+        IndexablePredicate header = IndexablePredicate.fromSimple("${header.type} == 'order'", predicate);
+        assertNotNull(header);
+        assertEquals(IndexablePredicate.Source.HEADER, header.getSource());
+        assertEquals("type", header.getName());
+        assertEquals(List.of("order"), header.getValues());
+
+        IndexablePredicate property = IndexablePredicate.fromSimple("${exchangeProperty[region]} in 'emea,apac'", predicate);
+        assertNotNull(property);
+        assertEquals(IndexablePredicate.Source.EXCHANGE_PROPERTY, property.getSource());
+        assertEquals(IndexablePredicate.Operator.IN, property.getOperator());
+        assertEquals(List.of("emea", "apac"), property.getValues());
+
+        IndexablePredicate body = IndexablePredicate.fromSimple("${body} startsWith \"urgent\"", predicate);
+        assertNotNull(body);
+        assertEquals(IndexablePredicate.Source.BODY, body.getSource());
+        assertEquals(IndexablePredicate.Operator.STARTS_WITH, body.getOperator());
+
+        // not recognized, so the predicate is evaluated
+        assertNull(IndexablePredicate.fromSimple("${header.type} == 'order' && ${header.size} > 10", predicate));
+        assertNull(IndexablePredicate.fromSimple("${header.size} == '10'", predicate));
+        assertNull(IndexablePredicate.fromSimple("${header.type} == ${header.other}", predicate));
+        assertNull(IndexablePredicate.fromSimple("${header.type} contains 'order'", predicate));
+    }
+
+    @Test
+    void testPriorityOrderWithIndexedAndOpaqueFilters() {
+        add("a", 3, IndexablePredicate.headerEquals("type", "order"), "mock:a");
+        add("b", 1, constant(true), "mock:b");
+        add("c", 2, IndexablePredicate.headerIn("type", "order", "return"), "mock:c");
+        add("d", 4, IndexablePredicate.headerStartsWith("type", "ord"), "mock:d");
+        add("e", 0, IndexablePredicate.headerEquals("type", "return"), "mock:e");
+        add("f", 5, constant(false), "mock:f");
+
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getMessage().setHeader("type", "order");
+
+        assertEquals("mock:b,mock:c,mock:a,mock:d",
+                filterService.getMatchingEndpointsForExchangeByChannel(exchange, CHANNEL, false, false));
+        assertEquals("mock:b", filterService.getMatchingEndpointsForExchangeByChannel(exchange, CHANNEL, true, false));
+
+        exchange.getMessage().setHeader("type", "return");
+        assertEquals("mock:e", filterService.getMatchingEndpointsForExchangeByChannel(exchange, CHANNEL, true, false));
+        assertEquals(1, filterService.getFilterById("e", CHANNEL).statistics().getCount());
+    }
+
+    @Test
+    void testRemoveIndexedFilter() {
+        add("a", 1, IndexablePredicate.headerStartsWith("type", "ord"), "mock:a");
+        add("b", 2, IndexablePredicate.headerEquals("type", "order"), "mock:b");
+
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getMessage().setHeader("type", "order");
+        assertEquals("mock:a,mock:b",
+                filterService.getMatchingEndpointsForExchangeByChannel(exchange, CHANNEL, false, false));
+
+        assertTrue(filterService.removeFilterById("a", CHANNEL));
+        assertEquals("mock:b", filterService.getMatchingEndpointsForExchangeByChannel(exchange, CHANNEL, false, false));
+
+        assertTrue(filterService.removeFilterById("b", CHANNEL));
+        String result = filterService.getMatchingEndpointsForExchangeByChannel(exchange, CHANNEL, false, false);
+        assertFalse(result.contains("mock:"));
+    }
+
+    @Test
+    void testSimplePredicateIsEvaluated() {
+        String expression = "${header.type} == 'order'";
+        Predicate simple = context.resolveLanguage("simple").createPredicate(expression);
+        add("a", 1, IndexablePredicate.fromSimple(expression, simple), "mock:a");
+
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getMessage().setHeader("type", "order");
+        assertEquals("mock:a", filterService.getMatchingEndpointsForExchangeByChannel(exchange, CHANNEL, false, false));
+
+        exchange.getMessage().setHeader("type", "other");
+        String result = filterService.getMatchingEndpointsForExchangeByChannel(exchange, CHANNEL, false, false);
+        assertFalse(result.contains("mock:"));
+    }
+
+    private void add(String id, int priority, Predicate predicate, String endpoint) {
+        filterService.addFilterForChannel(id, priority, predicate, endpoint, CHANNEL, false);
+    }
+}
@@ -188,6 +188,8 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "sendemptymessagewhenidle":
         case "sendEmptyMessageWhenIdle": target.setSendEmptyMessageWhenIdle(property(camelContext, boolean.class, value)); return true;
         case "shuffle": target.setShuffle(property(camelContext, boolean.class, value)); return true;
+        case "skipunchangedfiles":
+        case "skipUnchangedFiles": target.setSkipUnchangedFiles(property(camelContext, boolean.class, value)); return true;
         case "sortby":
         case "sortBy": target.setSortBy(property(camelContext, java.lang.String.class, value)); return true;
         case "sorter": target.setSorter(property(camelContext, java.util.Comparator.class, value)); return true;
@@ -197,6 +199,8 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "startingDirectoryMustExist": target.setStartingDirectoryMustExist(property(camelContext, boolean.class, value)); return true;
         case "startingdirectorymusthaveaccess":
         case "startingDirectoryMustHaveAccess": target.setStartingDirectoryMustHaveAccess(property(camelContext, boolean.class, value)); return true;
+        case "streamingdirectorylisting":
+        case "streamingDirectoryListing": target.setStreamingDirectoryListing(property(camelContext, boolean.class, value)); return true;
         case "synchronous": target.setSynchronous(property(camelContext, boolean.class, value)); return true;
         case "tempfilename":
         case "tempFileName": target.setTempFileName(property(camelContext, java.lang.String.class, value)); return true;
@@ -378,6 +382,8 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "sendemptymessagewhenidle":
         case "sendEmptyMessageWhenIdle": return boolean.class;
         case "shuffle": return boolean.class;
+        case "skipunchangedfiles":
+        case "skipUnchangedFiles": return boolean.class;
         case "sortby":
         case "sortBy": return java.lang.String.class;
         case "sorter": return java.util.Comparator.class;
@@ -387,6 +393,8 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "startingDirectoryMustExist": return boolean.class;
         case "startingdirectorymusthaveaccess":
         case "startingDirectoryMustHaveAccess": return boolean.class;
+        case "streamingdirectorylisting":
+        case "streamingDirectoryListing": return boolean.class;
         case "synchronous": return boolean.class;
         case "tempfilename":
         case "tempFileName": return java.lang.String.class;
@@ -569,6 +577,8 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "sendemptymessagewhenidle":
         case "sendEmptyMessageWhenIdle": return target.isSendEmptyMessageWhenIdle();
         case "shuffle": return target.isShuffle();
+        case "skipunchangedfiles":
+        case "skipUnchangedFiles": return target.isSkipUnchangedFiles();
         case "sortby":
         case "sortBy": return target.getSortBy();
         case "sorter": return target.getSorter();
@@ -578,6 +588,8 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "startingDirectoryMustExist": return target.isStartingDirectoryMustExist();
         case "startingdirectorymusthaveaccess":
         case "startingDirectoryMustHaveAccess": return target.isStartingDirectoryMustHaveAccess();
+        case "streamingdirectorylisting":
+        case "streamingDirectoryListing": return target.isStreamingDirectoryListing();
         case "synchronous": return target.isSynchronous();
         case "tempfilename":
         case "tempFileName": return target.getTempFileName();
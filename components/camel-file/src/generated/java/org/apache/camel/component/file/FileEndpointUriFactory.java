@@ -24,7 +24,7 @@ public class FileEndpointUriFactory extends org.apache.camel.support.component.E
     private static final Set<String> ENDPOINT_IDENTITY_PROPERTY_NAMES;
     private static final Map<String, String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(101);
+        Set<String> props = new HashSet<>(103);
         props.add("allowNullBody");
         props.add("antExclude");
         props.add("antFilterCaseSensitive");
@@ -116,11 +116,13 @@ public class FileEndpointUriFactory extends org.apache.camel.support.component.E
         props.add("schedulerProperties");
         props.add("sendEmptyMessageWhenIdle");
         props.add("shuffle");
+        props.add("skipUnchangedFiles");
         props.add("sortBy");
         props.add("sorter");
         props.add("startScheduler");
         props.add("startingDirectoryMustExist");
         props.add("startingDirectoryMustHaveAccess");
+        props.add("streamingDirectoryListing");
         props.add("synchronous");
         props.add("tempFileName");
         props.add("tempPrefix");
@@ -19,8 +19,11 @@ package org.apache.camel.component.file;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -54,6 +57,7 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
     private ResumeStrategy resumeStrategy;
     private final String endpointPath;
     private Set<String> extendedAttributes;
+    private final FileSeenIndex seenIndex;
 
     public FileConsumer(FileEndpoint endpoint, Processor processor, GenericFileOperations<File> operations,
                         GenericFileProcessStrategy<File> processStrategy) {
@@ -64,6 +68,7 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
             List<String> attributes = Arrays.asList(endpoint.getExtendedAttributes().split(","));
             this.extendedAttributes = new HashSet<>(attributes);
         }
+        this.seenIndex = endpoint.isSkipUnchangedFiles() ? new FileSeenIndex() : null;
     }
 
     @Override
@@ -115,15 +120,8 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
             Supplier<GenericFile<File>> gf = Suppliers.memorize(
                     () -> asGenericFile(endpointPath, file, getEndpoint().getCharset(), getEndpoint().isProbeContentType()));
 
-            if (resumeStrategy != null) {
-                final ResumeAdapter adapter = setupResumeStrategy(gf.get());
-                if (adapter instanceof DirectoryEntriesResumeAdapter directoryEntriesResumeAdapter) {
-                    LOG.trace("Running the resume process for file {}", file);
-                    if (directoryEntriesResumeAdapter.resume(file)) {
-                        LOG.trace("Skipping file {} because it has been marked previously consumed", file);
-                        continue;
-                    }
-                }
+            if (resumeStrategy != null && isResumed(file, gf)) {
+                continue;
             }
 
             if (processEntry(dynamic, fileList, depth, file, gf, files)) {
@@ -133,6 +131,104 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
         return false;
     }
 
+    private boolean isResumed(File file, Supplier<GenericFile<File>> gf) {
+        final ResumeAdapter adapter = setupResumeStrategy(gf.get());
+        if (adapter instanceof DirectoryEntriesResumeAdapter directoryEntriesResumeAdapter) {
+            LOG.trace("Running the resume process for file {}", file);
+            if (directoryEntriesResumeAdapter.resume(file)) {
+                LOG.trace("Skipping file {} because it has been marked previously consumed", file);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean streamDirectory(Exchange dynamic, File directory, List<GenericFile<File>> fileList, int depth) {
+        depth++;
+
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("Streaming directory: {}, absolute path: {}", directory.getPath(), directory.getAbsolutePath());
+        }
+        if (!getEndpoint().isIncludeHiddenDirs() && directory.isHidden()) {
+            return true;
+        }
+
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory.toPath())) {
+            for (Path path : stream) {
+                // check if we can continue polling in files, so we stop listing as early as possible
+                if (!canPollMoreFiles(fileList)) {
+                    return false;
+                }
+                if (processStreamedEntry(dynamic, fileList, depth, path)) {
+                    return false;
+                }
+            }
+        } catch (IOException | DirectoryIteratorException e) {
+            // the directory may have been deleted or is not accessible
+            LOG.debug("Cannot list directory: {} due to: {}", directory.getPath(), e.getMessage());
+        }
+        return true;
+    }
+
+    private boolean processStreamedEntry(Exchange dynamic, List<GenericFile<File>> fileList, int depth, Path path) {
+        // read all the attributes we need in a single operation
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (IOException e) {
+            // the file may have been deleted since it was listed
+            LOG.trace("Cannot read attributes of file: {} due to: {}", path, e.getMessage());
+            return false;
+        }
+
+        final File file = path.toFile();
+        final boolean isDirectory = attributes.isDirectory();
+        final long length = attributes.size();
+        final long lastModified = attributes.lastModifiedTime().toMillis();
+
+        String key = null;
+        if (seenIndex != null && !isDirectory) {
+            key = file.getAbsolutePath();
+            if (seenIndex.isUnchanged(key, length, lastModified)) {
+                LOG.trace("Skipping unchanged file: {}", file);
+                return false;
+            }
+        }
+
+        Supplier<GenericFile<File>> gf = Suppliers.memorize(
+                () -> asGenericFile(endpointPath, file, getEndpoint().getCharset(), getEndpoint().isProbeContentType(),
+                        attributes));
+
+        if (resumeStrategy != null && isResumed(file, gf)) {
+            return false;
+        }
+
+        if (isDirectory) {
+            if (endpoint.isRecursive() && depth < endpoint.getMaxDepth()) {
+                boolean valid
+                        = isValidFile(dynamic, gf, file.getName(), file.getAbsolutePath(),
+                                getRelativeFilePath(endpointPath, null, null, file),
+                                true, null);
+                if (valid) {
+                    boolean canPollMore = streamDirectory(dynamic, file, fileList, depth);
+                    return !canPollMore;
+                }
+            }
+            return false;
+        }
+
+        // files that are in progress are skipped for now, but should not be indexed as they may be polled again,
+        // and as a done file can appear later, then files cannot be indexed when using done files
+        boolean index = key != null && endpoint.getDoneFileName() == null
+                && !endpoint.getInProgressRepository().contains(key);
+        int size = fileList.size();
+        processFileEntry(dynamic, fileList, depth, file, gf, null);
+        if (index && fileList.size() == size) {
+            seenIndex.add(key, length, lastModified);
+        }
+        return false;
+    }
+
     private boolean processEntry(
             Exchange dynamic,
             List<GenericFile<File>> fileList, int depth, File file, Supplier<GenericFile<File>> gf, File[] files) {
@@ -210,6 +306,18 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
             return true;
         }
 
+        if (getEndpoint().isStreamingDirectoryListing()) {
+            if (seenIndex != null) {
+                seenIndex.beginPoll();
+            }
+            boolean canPollMore = streamDirectory(dynamic, directory, fileList, depth);
+            if (canPollMore && seenIndex != null) {
+                // the entire directory has been listed, so we can remove files that no longer exist from the index
+                seenIndex.prune();
+            }
+            return canPollMore;
+        }
+
         return pollDirectory(dynamic, directory, fileList, depth);
     }
 
@@ -265,6 +373,15 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
 
     @Override
     protected boolean isMatched(Supplier<GenericFile<File>> file, String doneFileName, File[] files) {
+        if (files == null) {
+            // the directory is being streamed, so check the done file directly
+            if (new File(doneFileName).exists()) {
+                return true;
+            }
+            LOG.trace("Done file: {} does not exist", doneFileName);
+            return false;
+        }
+
         String onlyName = FileUtil.stripPath(doneFileName);
         // the done file name must be among the files
         for (File f : files) {
@@ -285,6 +402,32 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
      * @return                  wrapped as a GenericFile
      */
     public static GenericFile<File> asGenericFile(String endpointPath, File file, String charset, boolean probeContentType) {
+        GenericFile<File> answer = newGenericFile(endpointPath, file, charset, probeContentType, file.isDirectory());
+        // file length and last modified are loaded lazily
+        answer.setFileLengthSupplier(file::length);
+        answer.setLastModifiedSupplier(file::lastModified);
+        return answer;
+    }
+
+    /**
+     * Creates a new GenericFile<File> based on the given file, using the attributes that has already been read.
+     *
+     * @param  endpointPath     the starting directory the endpoint was configured with
+     * @param  file             the source file
+     * @param  probeContentType whether to probe the content type of the file or not
+     * @param  attributes       the attributes of the file
+     * @return                  wrapped as a GenericFile
+     */
+    public static GenericFile<File> asGenericFile(
+            String endpointPath, File file, String charset, boolean probeContentType, BasicFileAttributes attributes) {
+        GenericFile<File> answer = newGenericFile(endpointPath, file, charset, probeContentType, attributes.isDirectory());
+        answer.setFileLength(attributes.size());
+        answer.setLastModified(attributes.lastModifiedTime().toMillis());
+        return answer;
+    }
+
+    private static GenericFile<File> newGenericFile(
+            String endpointPath, File file, String charset, boolean probeContentType, boolean directory) {
         GenericFile<File> answer = new GenericFile<>(probeContentType);
         // use file specific binding
         answer.setBinding(new FileBinding());
@@ -293,7 +436,7 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
         answer.setEndpointPath(endpointPath);
         answer.setFile(file);
         answer.setFileNameOnly(file.getName());
-        answer.setDirectory(file.isDirectory());
+        answer.setDirectory(directory);
         // must use FileUtil.isAbsolute to have consistent check for whether the
         // file is
         // absolute or not. As windows do not consider \ paths as absolute where
@@ -306,10 +449,6 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
         answer.setAbsolute(FileUtil.isAbsolute(file));
         answer.setAbsoluteFilePath(file.getAbsolutePath());
 
-        // file length and last modified are loaded lazily
-        answer.setFileLengthSupplier(file::length);
-        answer.setLastModifiedSupplier(file::lastModified);
-
         // compute the file path as relative to the starting directory
         File path;
         String endpointNormalizedSep = FileUtil.normalizePath(endpointPath) + File.separator;
@@ -431,6 +570,15 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
         super.doStart();
     }
 
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+
+        if (seenIndex != null) {
+            seenIndex.clear();
+        }
+    }
+
     private void tryCreateDirectory(File file) throws FileNotFoundException {
         if (getEndpoint().isAutoCreate()) {
             doCreateStartDirectory(file);
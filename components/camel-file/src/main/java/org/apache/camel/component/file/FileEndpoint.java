@@ -81,6 +81,10 @@ public class FileEndpoint extends GenericFileEndpoint<File> {
     private boolean probeContentType;
     @UriParam(label = "consumer,advanced")
     private String extendedAttributes;
+    @UriParam(label = "consumer,advanced")
+    private boolean streamingDirectoryListing;
+    @UriParam(label = "consumer,advanced")
+    private boolean skipUnchangedFiles;
     @Deprecated
     @UriParam(label = "producer,advanced", defaultValue = "false")
     private boolean forceWrites;
@@ -123,6 +127,13 @@ public class FileEndpoint extends GenericFileEndpoint<File> {
             readLockCheck();
         }
 
+        if (isStreamingDirectoryListing() && isPreSort()) {
+            throw new IllegalArgumentException("You cannot set both streamingDirectoryListing=true and preSort options");
+        }
+        if (isSkipUnchangedFiles() && !isStreamingDirectoryListing()) {
+            throw new IllegalArgumentException("The skipUnchangedFiles option requires streamingDirectoryListing=true");
+        }
+
         // set max messages per poll
         result.setMaxMessagesPerPoll(getMaxMessagesPerPoll());
         result.setEagerLimitMaxMessagesPerPoll(isEagerMaxMessagesPerPoll());
@@ -403,6 +414,36 @@ public class FileEndpoint extends GenericFileEndpoint<File> {
         this.extendedAttributes = extendedAttributes;
     }
 
+    public boolean isStreamingDirectoryListing() {
+        return streamingDirectoryListing;
+    }
+
+    /**
+     * Whether to list the directories as a stream, instead of loading all the files of a directory into memory before
+     * they are polled. The attributes of each file are read in a single operation, and the listing stops as soon as
+     * maxMessagesPerPoll has been reached (when eagerMaxMessagesPerPoll is enabled). This is recommended for
+     * directories with a large number of files. This option cannot be used together with preSort.
+     */
+    public void setStreamingDirectoryListing(boolean streamingDirectoryListing) {
+        this.streamingDirectoryListing = streamingDirectoryListing;
+    }
+
+    public boolean isSkipUnchangedFiles() {
+        return skipUnchangedFiles;
+    }
+
+    /**
+     * Whether to keep an in-memory index of the files that were skipped during a poll (such as files that has already
+     * been consumed when using idempotent or noop, or files that did not match the filters), by their name, size and
+     * last modified timestamp. Files that are unchanged are then skipped on the following polls, without evaluating the
+     * filters or looking up the idempotent repository. Files that are changed are evaluated again. This option requires
+     * streamingDirectoryListing to be enabled, and should only be used when the filters of the endpoint give the same
+     * result for unchanged files.
+     */
+    public void setSkipUnchangedFiles(boolean skipUnchangedFiles) {
+        this.skipUnchangedFiles = skipUnchangedFiles;
+    }
+
     /**
      * Chmod value must be between 000 and 777; If there is a leading digit like in 0755 we will ignore it.
      */
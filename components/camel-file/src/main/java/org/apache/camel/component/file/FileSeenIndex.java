@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * An in-memory index of the files that has been skipped by the file consumer, keyed by their absolute path, and with
+ * their size and last modified timestamp, so the files can be skipped on the following polls while they are unchanged.
+ * <p/>
+ * The index is only used by the polling thread of the consumer, and therefore not thread-safe. Entries for files that
+ * are no longer in the directory are removed after a poll that has listed the entire directory.
+ */
+final class FileSeenIndex {
+
+    private final Map<String, Entry> entries = new HashMap<>();
+    private int generation;
+
+    /**
+     * Marks the beginning of a new poll.
+     */
+    void beginPoll() {
+        generation++;
+    }
+
+    /**
+     * Whether the file is in the index and is unchanged
+     */
+    boolean isUnchanged(String key, long size, long lastModified) {
+        Entry entry = entries.get(key);
+        if (entry != null && entry.size == size && entry.lastModified == lastModified) {
+            entry.generation = generation;
+            return true;
+        }
+        return false;
+    }
+
+    void add(String key, long size, long lastModified) {
+        entries.put(key, new Entry(size, lastModified, generation));
+    }
+
+    /**
+     * Removes the entries that have not been seen in the current poll, which must have listed the entire directory.
+     */
+    void prune() {
+        entries.values().removeIf(entry -> entry.generation != generation);
+    }
+
+    void clear() {
+        entries.clear();
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private static final class Entry {
+        private final long size;
+        private final long lastModified;
+        private int generation;
+
+        private Entry(long size, long lastModified, int generation) {
+            this.size = size;
+            this.lastModified = lastModified;
+            this.generation = generation;
+        }
+    }
+}
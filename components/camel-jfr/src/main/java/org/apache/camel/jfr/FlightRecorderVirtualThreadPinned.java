@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name(FlightRecorderVirtualThreadPinned.NAME)
+@Category("Camel Application")
+@Label("Virtual Thread Pinned")
+@Description("A virtual thread was pinned to its carrier thread while blocking")
+@StackTrace(false)
+public class FlightRecorderVirtualThreadPinned extends Event {
+
+    public static final String NAME = "org.apache.camel.VirtualThreadPinned";
+
+    @Label("Thread Name")
+    public final String threadName;
+    @Label("Pinned Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    public final long pinnedDuration;
+    @Label("Blocking Frame")
+    public final String frame;
+
+    public FlightRecorderVirtualThreadPinned(String threadName, long pinnedDuration, String frame) {
+        this.threadName = threadName;
+        this.pinnedDuration = pinnedDuration;
+        this.frame = frame;
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jfr;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingStream;
+import org.apache.camel.CamelContext;
+import org.apache.camel.spi.ContextServicePlugin;
+import org.apache.camel.util.concurrent.ThreadFactoryTypeAware;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reports when a virtual thread is pinned to its carrier thread while blocking (such as blocking inside a synchronized
+ * block or a native call), which prevents the carrier thread from running other virtual threads, and therefore limits
+ * the concurrency of routes running on virtual threads.
+ * <p/>
+ * The JDK {@code jdk.VirtualThreadPinned} events (JDK 21+) are streamed and emitted again as
+ * {@link FlightRecorderVirtualThreadPinned} events, and a WARN is logged the first time a virtual thread is pinned at
+ * a given frame.
+ * <p/>
+ * The monitor is only started when Camel creates a thread factory for virtual threads, which is when virtual threads
+ * are enabled globally with {@code camel.threads.virtual.enabled=true}, or a thread pool profile with the
+ * {@code virtualThreads} option is in use. The monitor can be turned off by setting
+ * {@code camel.jfr.virtualThreadPinned.enabled=false}, or started eager by setting it to {@code true}. The minimum time
+ * a virtual thread must be pinned to be reported can be set in millis with
+ * {@code camel.jfr.virtualThreadPinned.threshold} (is by default 20).
+ */
+public class VirtualThreadPinnedMonitor implements ContextServicePlugin {
+
+    public static final String ENABLED = "camel.jfr.virtualThreadPinned.enabled";
+    public static final String THRESHOLD = "camel.jfr.virtualThreadPinned.threshold";
+
+    private static final Logger LOG = LoggerFactory.getLogger(VirtualThreadPinnedMonitor.class);
+    private static final String JDK_EVENT = "jdk.VirtualThreadPinned";
+
+    private final Set<String> reported = ConcurrentHashMap.newKeySet();
+    private volatile long threshold;
+    private volatile boolean unloaded;
+    private RecordingStream stream;
+
+    @Override
+    public void load(CamelContext camelContext) {
+        if (Runtime.version().feature() < 21) {
+            return;
+        }
+        Boolean enabled = camelContext.getPropertiesComponent().resolveProperty(ENABLED)
+                .map(Boolean::parseBoolean).orElse(null);
+        if (Boolean.FALSE.equals(enabled)) {
+            return;
+        }
+        unloaded = false;
+        threshold = camelContext.getPropertiesComponent().resolveProperty(THRESHOLD)
+                .map(Long::parseLong).orElse(20L);
+
+        if (Boolean.TRUE.equals(enabled)) {
+            start();
+        } else {
+            // only start when virtual threads are in use
+            camelContext.getExecutorServiceManager().addThreadFactoryListener((source, factory) -> {
+                if (factory instanceof ThreadFactoryTypeAware factoryTypeAware && factoryTypeAware.isVirtual()) {
+                    start();
+                }
+                return factory;
+            });
+        }
+    }
+
+    @Override
+    public synchronized void unload(CamelContext camelContext) {
+        unloaded = true;
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+
+    /**
+     * Whether the JFR recording stream is running.
+     */
+    synchronized boolean isMonitoring() {
+        return stream != null;
+    }
+
+    private synchronized void start() {
+        if (stream != null || unloaded) {
+            return;
+        }
+        FlightRecorder.register(FlightRecorderVirtualThreadPinned.class);
+        stream = new RecordingStream();
+        stream.enable(JDK_EVENT).withThreshold(Duration.ofMillis(threshold)).withStackTrace();
+        stream.onEvent(JDK_EVENT, this::onPinned);
+        stream.startAsync();
+        LOG.debug("Monitoring virtual threads pinned for more than {} millis", threshold);
+    }
+
+    private void onPinned(RecordedEvent event) {
+        RecordedThread thread = event.getThread();
+        String threadName = thread != null ? thread.getJavaName() : null;
+        String frame = blockingFrame(event.getStackTrace());
+        Duration duration = event.getDuration();
+
+        FlightRecorderVirtualThreadPinned pinned
+                = new FlightRecorderVirtualThreadPinned(threadName, duration.toNanos(), frame);
+        pinned.commit();
+
+        if (frame != null && reported.add(frame)) {
+            LOG.warn("Virtual thread: {} was pinned to its carrier thread for {} millis at: {}."
+                     + " Blocking while pinned limits the concurrency of virtual threads.",
+                    threadName, duration.toMillis(), frame);
+        }
+    }
+
+    /**
+     * The first frame outside the JDK, which is where the application (or library) is blocking while pinned.
+     */
+    private static String blockingFrame(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return null;
+        }
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        RecordedFrame answer = null;
+        for (RecordedFrame frame : frames) {
+            if (frame.isJavaFrame() && !isJdkType(frame.getMethod().getType().getName())) {
+                answer = frame;
+                break;
+            }
+        }
+        if (answer == null && !frames.isEmpty()) {
+            answer = frames.get(0);
+        }
+        if (answer == null) {
+            return null;
+        }
+        return answer.getMethod().getType().getName() + "." + answer.getMethod().getName() + ":" + answer.getLineNumber();
+    }
+
+    private static boolean isJdkType(String name) {
+        return name.startsWith("java.") || name.startsWith("jdk.") || name.startsWith("sun.");
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jfr;
+
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.spi.ThreadPoolProfile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@EnabledForJreRange(min = JRE.JAVA_21)
+public class VirtualThreadPinnedMonitorTest {
+
+    private final VirtualThreadPinnedMonitor monitor = new VirtualThreadPinnedMonitor();
+    private CamelContext context;
+
+    @BeforeEach
+    public void setUp() {
+        context = new DefaultCamelContext();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        monitor.unload(context);
+        context.stop();
+    }
+
+    @Test
+    public void testNotStartedWithoutVirtualThreads() {
+        monitor.load(context);
+
+        ExecutorService executor = context.getExecutorServiceManager().newDefaultThreadPool(this, "platform");
+        context.getExecutorServiceManager().shutdownNow(executor);
+
+        assertFalse(monitor.isMonitoring());
+    }
+
+    @Test
+    public void testStartedWithVirtualThreadsProfile() {
+        monitor.load(context);
+        assertFalse(monitor.isMonitoring());
+
+        ExecutorService executor = context.getExecutorServiceManager().newThreadPool(this, "virtual", virtualProfile());
+        context.getExecutorServiceManager().shutdownNow(executor);
+
+        assertTrue(monitor.isMonitoring());
+
+        monitor.unload(context);
+        assertFalse(monitor.isMonitoring());
+    }
+
+    @Test
+    public void testEnabled() {
+        context.getPropertiesComponent().setInitialProperties(properties("true"));
+        monitor.load(context);
+
+        assertTrue(monitor.isMonitoring());
+    }
+
+    @Test
+    public void testDisabled() {
+        context.getPropertiesComponent().setInitialProperties(properties("false"));
+        monitor.load(context);
+
+        ExecutorService executor = context.getExecutorServiceManager().newThreadPool(this, "virtual", virtualProfile());
+        context.getExecutorServiceManager().shutdownNow(executor);
+
+        assertFalse(monitor.isMonitoring());
+    }
+
+    private static ThreadPoolProfile virtualProfile() {
+        ThreadPoolProfile profile = new ThreadPoolProfile("virtual");
+        profile.setVirtualThreads(true);
+        profile.setMaxQueueSize(10);
+        return profile;
+    }
+
+    private static Properties properties(String enabled) {
+        Properties answer = new Properties();
+        answer.setProperty(VirtualThreadPinnedMonitor.ENABLED, enabled);
+        return answer;
+    }
+}
@@ -162,6 +162,10 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "oauthTokenEndpointUri": getOrCreateConfiguration(target).setOauthTokenEndpointUri(property(camelContext, java.lang.String.class, value)); return true;
         case "offsetrepository":
         case "offsetRepository": getOrCreateConfiguration(target).setOffsetRepository(property(camelContext, org.apache.camel.spi.StateRepository.class, value)); return true;
+        case "parallelprocessingordering":
+        case "parallelProcessingOrdering": getOrCreateConfiguration(target).setParallelProcessingOrdering(property(camelContext, java.lang.String.class, value)); return true;
+        case "parallelprocessingthreads":
+        case "parallelProcessingThreads": getOrCreateConfiguration(target).setParallelProcessingThreads(property(camelContext, int.class, value)); return true;
         case "partitionassignor":
         case "partitionAssignor": getOrCreateConfiguration(target).setPartitionAssignor(property(camelContext, java.lang.String.class, value)); return true;
         case "partitionkey":
@@ -424,6 +428,10 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "oauthTokenEndpointUri": return java.lang.String.class;
         case "offsetrepository":
         case "offsetRepository": return org.apache.camel.spi.StateRepository.class;
+        case "parallelprocessingordering":
+        case "parallelProcessingOrdering": return java.lang.String.class;
+        case "parallelprocessingthreads":
+        case "parallelProcessingThreads": return int.class;
         case "partitionassignor":
         case "partitionAssignor": return java.lang.String.class;
         case "partitionkey":
@@ -682,6 +690,10 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "oauthTokenEndpointUri": return getOrCreateConfiguration(target).getOauthTokenEndpointUri();
         case "offsetrepository":
         case "offsetRepository": return getOrCreateConfiguration(target).getOffsetRepository();
+        case "parallelprocessingordering":
+        case "parallelProcessingOrdering": return getOrCreateConfiguration(target).getParallelProcessingOrdering();
+        case "parallelprocessingthreads":
+        case "parallelProcessingThreads": return getOrCreateConfiguration(target).getParallelProcessingThreads();
         case "partitionassignor":
         case "partitionAssignor": return getOrCreateConfiguration(target).getPartitionAssignor();
         case "partitionkey":
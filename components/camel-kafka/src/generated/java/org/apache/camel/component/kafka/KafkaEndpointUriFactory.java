@@ -24,7 +24,7 @@ public class KafkaEndpointUriFactory extends org.apache.camel.support.component.
     private static final Set<String> ENDPOINT_IDENTITY_PROPERTY_NAMES;
     private static final Map<String, String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(121);
+        Set<String> props = new HashSet<>(123);
         props.add("additionalProperties");
         props.add("allowManualCommit");
         props.add("autoCommitEnable");
@@ -89,6 +89,8 @@ public class KafkaEndpointUriFactory extends org.apache.camel.support.component.
         props.add("oauthScope");
         props.add("oauthTokenEndpointUri");
         props.add("offsetRepository");
+        props.add("parallelProcessingOrdering");
+        props.add("parallelProcessingThreads");
         props.add("partitionAssignor");
         props.add("partitionKey");
         props.add("partitioner");
@@ -403,6 +403,10 @@ public class KafkaConfiguration implements Cloneable, HeaderFilterStrategyAware
     private boolean batching;
     @UriParam(label = "consumer")
     private Integer batchingIntervalMs;
+    @UriParam(label = "consumer,advanced")
+    private int parallelProcessingThreads;
+    @UriParam(label = "consumer,advanced", defaultValue = "key", enums = "key,partition")
+    private String parallelProcessingOrdering = "key";
 
     @UriParam(label = "producer")
     private String transactionalId;
@@ -2272,6 +2276,40 @@ public class KafkaConfiguration implements Cloneable, HeaderFilterStrategyAware
         this.batchingIntervalMs = batchingIntervalMs;
     }
 
+    public int getParallelProcessingThreads() {
+        return parallelProcessingThreads;
+    }
+
+    /**
+     * Number of threads to use for processing the records of each poll in parallel. The default is 0, which processes
+     * the records one by one on the consumer thread.
+     *
+     * When enabled, then the records are processed concurrently while keeping the order of the records with the same
+     * key (or of the same partition), as configured by the parallelProcessingOrdering option. The offsets are only
+     * committed up to the highest record that has been processed without any gap before it. The records of the next
+     * poll are not processed until all the records of the current poll have been processed.
+     *
+     * This mode cannot be combined with batching or allowManualCommit.
+     */
+    public void setParallelProcessingThreads(int parallelProcessingThreads) {
+        this.parallelProcessingThreads = parallelProcessingThreads;
+    }
+
+    public String getParallelProcessingOrdering() {
+        return parallelProcessingOrdering;
+    }
+
+    /**
+     * When processing records in parallel (see the parallelProcessingThreads option), then the order to keep. With key
+     * ordering, then records with the same key are processed in order, and records with different keys (also from the
+     * same partition) can be processed at the same time. Records without a key are processed in the order of their
+     * partition. With partition ordering, then the records of each partition are processed in order, and only records
+     * from different partitions are processed at the same time.
+     */
+    public void setParallelProcessingOrdering(String parallelProcessingOrdering) {
+        this.parallelProcessingOrdering = parallelProcessingOrdering;
+    }
+
     public boolean isTransacted() {
         return transacted;
     }
@@ -57,6 +57,7 @@ public class KafkaConsumer extends DefaultConsumer
     private static final Logger LOG = LoggerFactory.getLogger(KafkaConsumer.class);
 
     protected ExecutorService executor;
+    protected ExecutorService parallelProcessingExecutor;
     private final KafkaEndpoint endpoint;
     private KafkaConsumerHealthCheck consumerHealthCheck;
     private HealthCheckRepository healthCheckRepository;
@@ -92,6 +93,13 @@ public class KafkaConsumer extends DefaultConsumer
         this.consumerListener = consumerListener;
     }
 
+    /**
+     * The thread pool for processing the records in parallel, or <tt>null</tt> if parallel processing is not enabled
+     */
+    public ExecutorService getParallelProcessingExecutor() {
+        return parallelProcessingExecutor;
+    }
+
     @Override
     public KafkaEndpoint getEndpoint() {
         return (KafkaEndpoint) super.getEndpoint();
@@ -145,6 +153,18 @@ public class KafkaConsumer extends DefaultConsumer
             }
         }
 
+        if (endpoint.getConfiguration().getParallelProcessingThreads() > 0) {
+            if (endpoint.getConfiguration().isBatching()) {
+                throw new IllegalArgumentException(
+                        "The parallelProcessingThreads option cannot be used together with batching");
+            }
+            if (endpoint.getConfiguration().isAllowManualCommit()) {
+                throw new IllegalArgumentException(
+                        "The parallelProcessingThreads option cannot be used together with allowManualCommit");
+            }
+            parallelProcessingExecutor = endpoint.createParallelProcessingExecutor(this);
+        }
+
         executor = endpoint.createExecutor(this);
 
         String topic = endpoint.getConfiguration().getTopic();
@@ -219,6 +239,12 @@ public class KafkaConsumer extends DefaultConsumer
         tasks.clear();
         executor = null;
 
+        if (parallelProcessingExecutor != null) {
+            // the fetcher tasks have completed their current poll so there is no more work for the workers
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdown(parallelProcessingExecutor);
+            parallelProcessingExecutor = null;
+        }
+
         if (stopOffsetRepo) {
             StateRepository<String, String> repo = endpoint.getConfiguration().getOffsetRepository();
             LOG.debug("Stopping OffsetRepository: {}", repo);
@@ -0,0 +1,230 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka.consumer.support.parallel;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.camel.component.kafka.KafkaConfiguration;
+import org.apache.camel.component.kafka.KafkaConsumer;
+import org.apache.camel.component.kafka.consumer.CommitManager;
+import org.apache.camel.component.kafka.consumer.errorhandler.KafkaConsumerListener;
+import org.apache.camel.component.kafka.consumer.support.AbstractKafkaRecordProcessorFacade;
+import org.apache.camel.component.kafka.consumer.support.ProcessingResult;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Processes the records of a poll in parallel on a pool of worker threads.
+ * <p/>
+ * The records are distributed into a number of lanes (one per worker thread) by the hash of their key (or by their
+ * partition), and each lane processes its records in order. This keeps the order of the records with the same key (or
+ * of the same partition), while records with different keys from a single partition can be processed at the same time.
+ * <p/>
+ * As the records are completed out of order, then the offset of each partition is only recorded up to the highest
+ * record that has been processed with no gap before it. The consumer thread waits until all the lanes are done and then
+ * commits the offsets, as the Kafka consumer must only be used from the consumer thread.
+ */
+public class KafkaRecordParallelProcessorFacade extends AbstractKafkaRecordProcessorFacade {
+    private static final Logger LOG = LoggerFactory.getLogger(KafkaRecordParallelProcessorFacade.class);
+
+    private final KafkaRecordParallelProcessor kafkaRecordProcessor;
+    private final ExecutorService executorService;
+    private final int lanes;
+    private final boolean keyOrdering;
+
+    public KafkaRecordParallelProcessorFacade(
+                                              KafkaConsumer camelKafkaConsumer, String threadId,
+                                              CommitManager commitManager, KafkaConsumerListener consumerListener) {
+        super(camelKafkaConsumer, threadId, commitManager, consumerListener);
+
+        KafkaConfiguration configuration = camelKafkaConsumer.getEndpoint().getConfiguration();
+        this.kafkaRecordProcessor = new KafkaRecordParallelProcessor(configuration, camelKafkaConsumer.getProcessor());
+        this.executorService = camelKafkaConsumer.getParallelProcessingExecutor();
+        this.lanes = configuration.getParallelProcessingThreads();
+        this.keyOrdering = !"partition".equalsIgnoreCase(configuration.getParallelProcessingOrdering());
+    }
+
+    @Override
+    public ProcessingResult processPolledRecords(ConsumerRecords<Object, Object> allRecords) {
+        logRecords(allRecords);
+
+        if (allRecords.isEmpty()) {
+            return ProcessingResult.newUnprocessed();
+        }
+
+        List<PartitionOffsetTracker> trackers = new ArrayList<>();
+        List<List<PendingRecord>> laneRecords = new ArrayList<>(lanes);
+        for (int i = 0; i < lanes; i++) {
+            laneRecords.add(new ArrayList<>());
+        }
+
+        Iterator<TopicPartition> partitionIterator = allRecords.partitions().iterator();
+        while (partitionIterator.hasNext()) {
+            TopicPartition partition = partitionIterator.next();
+            boolean partitionHasNext = partitionIterator.hasNext();
+
+            List<ConsumerRecord<Object, Object>> partitionRecords = allRecords.records(partition);
+            logRecordsInPartition(partitionRecords, partition);
+
+            PartitionOffsetTracker tracker = new PartitionOffsetTracker(partition, partitionRecords, commitManager);
+            trackers.add(tracker);
+            for (int i = 0; i < partitionRecords.size(); i++) {
+                ConsumerRecord<Object, Object> consumerRecord = partitionRecords.get(i);
+                boolean recordHasNext = i < partitionRecords.size() - 1;
+                laneRecords.get(laneOf(consumerRecord))
+                        .add(new PendingRecord(consumerRecord, partition, tracker, i, partitionHasNext, recordHasNext));
+            }
+        }
+
+        PollBatch batch = new PollBatch();
+        List<Future<?>> futures = new ArrayList<>(lanes);
+        for (List<PendingRecord> lane : laneRecords) {
+            if (!lane.isEmpty()) {
+                futures.add(executorService.submit(() -> processLane(lane, batch)));
+            }
+        }
+        awaitLanes(futures, batch);
+
+        // commit the offsets up to the highest record processed with no gap before it
+        for (PartitionOffsetTracker tracker : trackers) {
+            if (tracker.hasProgress()) {
+                LOG.debug("Committing offset {} on partition {}", tracker.getLastContiguousOffset(), tracker.getPartition());
+                commitManager.commit(tracker.getPartition());
+            }
+        }
+
+        ProcessingResult result = batch.getResult();
+        if (consumerListener != null && result.isFailed()) {
+            // the listener uses the Kafka consumer so it must be called from the consumer thread
+            consumerListener.afterProcess(result);
+        }
+        return result;
+    }
+
+    private void processLane(List<PendingRecord> lane, PollBatch batch) {
+        for (PendingRecord pending : lane) {
+            if (batch.isAborted() || isStopping()) {
+                LOG.debug("Skipping the remaining {} records in lane as processing is aborted", lane.size());
+                return;
+            }
+
+            ConsumerRecord<Object, Object> consumerRecord = pending.consumerRecord;
+            logRecord(consumerRecord);
+
+            ProcessingResult result = kafkaRecordProcessor.processExchange(camelKafkaConsumer, pending.partition,
+                    pending.partitionHasNext, pending.recordHasNext, consumerRecord);
+
+            LOG.debug("Processed record on partition {} with offset {}", consumerRecord.partition(),
+                    consumerRecord.offset());
+
+            if (!result.isBreakOnErrorHit()) {
+                pending.tracker.complete(pending.index);
+            }
+            // a consumer listener pauses the consumer on any failure, so we should stop as well
+            boolean abort = result.isBreakOnErrorHit() || result.isFailed() && consumerListener != null;
+            batch.update(result, abort);
+        }
+    }
+
+    private void awaitLanes(List<Future<?>> futures, PollBatch batch) {
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                LOG.info("Interrupted while waiting for records to be processed in parallel");
+                batch.abort();
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException e) {
+                LOG.warn("Error processing records in parallel due to: {}", e.getCause().getMessage(), e.getCause());
+            }
+        }
+    }
+
+    private int laneOf(ConsumerRecord<Object, Object> consumerRecord) {
+        Object key = consumerRecord.key();
+        int hash;
+        if (keyOrdering && key != null) {
+            // byte arrays do not have a hash code based on their content
+            hash = key instanceof byte[] bytes ? Arrays.hashCode(bytes) : key.hashCode();
+        } else {
+            hash = consumerRecord.partition();
+        }
+        hash ^= hash >>> 16;
+        return Math.floorMod(hash, lanes);
+    }
+
+    private static final class PendingRecord {
+        private final ConsumerRecord<Object, Object> consumerRecord;
+        private final TopicPartition partition;
+        private final PartitionOffsetTracker tracker;
+        private final int index;
+        private final boolean partitionHasNext;
+        private final boolean recordHasNext;
+
+        private PendingRecord(ConsumerRecord<Object, Object> consumerRecord, TopicPartition partition,
+                              PartitionOffsetTracker tracker, int index, boolean partitionHasNext, boolean recordHasNext) {
+            this.consumerRecord = consumerRecord;
+            this.partition = partition;
+            this.tracker = tracker;
+            this.index = index;
+            this.partitionHasNext = partitionHasNext;
+            this.recordHasNext = recordHasNext;
+        }
+    }
+
+    /**
+     * The state of processing the records of a single poll
+     */
+    private static final class PollBatch {
+        private final AtomicReference<ProcessingResult> abortResult = new AtomicReference<>();
+        private volatile ProcessingResult lastResult = ProcessingResult.newUnprocessed();
+        private volatile boolean aborted;
+
+        void update(ProcessingResult result, boolean abort) {
+            lastResult = result;
+            if (abort) {
+                // keep the first failure as the result of the poll
+                abortResult.compareAndSet(null, result);
+                aborted = true;
+            }
+        }
+
+        void abort() {
+            aborted = true;
+        }
+
+        boolean isAborted() {
+            return aborted;
+        }
+
+        ProcessingResult getResult() {
+            ProcessingResult answer = abortResult.get();
+            return answer != null ? answer : lastResult;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka.consumer.support.parallel;
+
+import java.util.List;
+
+import org.apache.camel.component.kafka.consumer.CommitManager;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+
+/**
+ * Tracks which records of a partition (from a single poll) have been processed, when the records are processed out of
+ * order. Only the offset of the highest record that has no unprocessed records before it is recorded in the commit
+ * manager, so a commit never skips a record that has not been processed yet.
+ */
+final class PartitionOffsetTracker {
+
+    private final TopicPartition partition;
+    private final CommitManager commitManager;
+    private final long[] offsets;
+    private final boolean[] completed;
+    // the number of records that have been processed in order from the first record
+    private int contiguous;
+
+    PartitionOffsetTracker(TopicPartition partition, List<ConsumerRecord<Object, Object>> records,
+                           CommitManager commitManager) {
+        this.partition = partition;
+        this.commitManager = commitManager;
+        this.offsets = new long[records.size()];
+        for (int i = 0; i < offsets.length; i++) {
+            offsets[i] = records.get(i).offset();
+        }
+        this.completed = new boolean[offsets.length];
+    }
+
+    TopicPartition getPartition() {
+        return partition;
+    }
+
+    /**
+     * Marks the record at the given index (in the records of the partition) as processed
+     *
+     * @param index the index of the record
+     */
+    synchronized void complete(int index) {
+        completed[index] = true;
+        int before = contiguous;
+        while (contiguous < completed.length && completed[contiguous]) {
+            contiguous++;
+        }
+        if (contiguous > before) {
+            // record while holding the lock so the recorded offset never goes backwards
+            commitManager.recordOffset(partition, offsets[contiguous - 1]);
+        }
+    }
+
+    /**
+     * Whether any records have been processed in order from the first record, and there is something to commit
+     */
+    synchronized boolean hasProgress() {
+        return contiguous > 0;
+    }
+
+    /**
+     * The offset of the highest record that has been processed with no unprocessed records before it, or -1 if the
+     * first record has not been processed yet
+     */
+    synchronized long getLastContiguousOffset() {
+        return contiguous > 0 ? offsets[contiguous - 1] : -1;
+    }
+}
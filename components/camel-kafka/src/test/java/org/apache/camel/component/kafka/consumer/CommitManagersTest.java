@@ -90,6 +90,16 @@ class CommitManagersTest {
         assertInstanceOf(AsyncCommitManager.class, cm);
     }
 
+    @Test
+    void autoCommitWithParallelProcessingUsesAsync() {
+        when(configuration.isAllowManualCommit()).thenReturn(false);
+        when(configuration.getParallelProcessingThreads()).thenReturn(4);
+
+        CommitManager cm = CommitManagers.createCommitManager(consumer, kafkaConsumer, "t1", "topic");
+
+        assertInstanceOf(AsyncCommitManager.class, cm);
+    }
+
     @Test
     void defaultConfigUsesNoop() {
         when(configuration.isAllowManualCommit()).thenReturn(false);
@@ -0,0 +1,204 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka.consumer.support.parallel;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.component.kafka.KafkaConfiguration;
+import org.apache.camel.component.kafka.KafkaConstants;
+import org.apache.camel.component.kafka.KafkaConsumer;
+import org.apache.camel.component.kafka.KafkaEndpoint;
+import org.apache.camel.component.kafka.consumer.CommitManager;
+import org.apache.camel.component.kafka.consumer.support.ProcessingResult;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.spi.ExceptionHandler;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class KafkaRecordParallelProcessorFacadeTest {
+
+    private static final String TOPIC = "test-topic";
+    private static final int THREADS = 4;
+
+    private final CamelContext context = new DefaultCamelContext();
+    private final KafkaConfiguration configuration = new KafkaConfiguration();
+    private final KafkaConsumer kafkaConsumer = mock(KafkaConsumer.class);
+    private final CommitManager commitManager = mock(CommitManager.class);
+    private final ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+
+    private final Map<Object, List<Long>> processed = new ConcurrentHashMap<>();
+    private final Map<Integer, AtomicInteger> activePerPartition = new ConcurrentHashMap<>();
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger maxActive = new AtomicInteger();
+    private final AtomicInteger maxActiveInPartition = new AtomicInteger();
+    private volatile long failOffset = -1;
+
+    @BeforeEach
+    void setup() {
+        configuration.setTopic(TOPIC);
+        configuration.setParallelProcessingThreads(THREADS);
+
+        KafkaEndpoint endpoint = mock(KafkaEndpoint.class);
+        when(kafkaConsumer.getEndpoint()).thenReturn(endpoint);
+        when(endpoint.getConfiguration()).thenReturn(configuration);
+        when(kafkaConsumer.getProcessor()).thenReturn(this::process);
+        when(kafkaConsumer.getParallelProcessingExecutor()).thenReturn(executorService);
+        when(kafkaConsumer.getExceptionHandler()).thenReturn(mock(ExceptionHandler.class));
+        when(kafkaConsumer.createExchange(false)).thenAnswer(invocation -> new DefaultExchange(context));
+    }
+
+    @AfterEach
+    void cleanup() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    void singlePartitionIsProcessedInParallelInKeyOrder() {
+        TopicPartition partition = new TopicPartition(TOPIC, 0);
+        ConsumerRecords<Object, Object> records = records(partition, 0, 40, 8);
+
+        ProcessingResult result = createFacade().processPolledRecords(records);
+
+        assertFalse(result.isFailed());
+        assertEquals(40, processed.values().stream().mapToInt(List::size).sum());
+        assertTrue(maxActive.get() > 1, "Records from a single partition should be processed in parallel");
+        assertTrue(maxActive.get() <= THREADS);
+        assertKeyOrder();
+
+        verify(commitManager).recordOffset(partition, 39L);
+        verify(commitManager).commit(partition);
+    }
+
+    @Test
+    void partitionOrdering() {
+        configuration.setParallelProcessingOrdering("partition");
+
+        TopicPartition partition0 = new TopicPartition(TOPIC, 0);
+        TopicPartition partition1 = new TopicPartition(TOPIC, 1);
+        Map<TopicPartition, List<ConsumerRecord<Object, Object>>> map = new LinkedHashMap<>();
+        map.put(partition0, recordList(partition0, 0, 20, 5));
+        map.put(partition1, recordList(partition1, 100, 20, 5));
+
+        ProcessingResult result = createFacade().processPolledRecords(new ConsumerRecords<>(map, Map.of()));
+
+        assertFalse(result.isFailed());
+        assertEquals(1, maxActiveInPartition.get(), "Records from the same partition should be processed one by one");
+        assertTrue(maxActive.get() > 1, "Records from different partitions should be processed in parallel");
+        verify(commitManager).recordOffset(partition0, 19L);
+        verify(commitManager).recordOffset(partition1, 119L);
+    }
+
+    @Test
+    void commitsOnlyUpToTheFirstFailureWhenBreakOnFirstError() {
+        configuration.setBreakOnFirstError(true);
+        failOffset = 5;
+
+        TopicPartition partition = new TopicPartition(TOPIC, 0);
+        ProcessingResult result = createFacade().processPolledRecords(records(partition, 0, 40, 8));
+
+        assertTrue(result.isBreakOnErrorHit());
+        assertEquals(5L, result.getOffset());
+
+        ArgumentCaptor<Long> offsets = ArgumentCaptor.forClass(Long.class);
+        verify(commitManager, atLeastOnce()).recordOffset(eq(partition), offsets.capture());
+        long highest = Collections.max(offsets.getAllValues());
+        assertEquals(4L, highest, "Should not record an offset beyond the failed record");
+        verify(commitManager).commit(partition);
+    }
+
+    @Test
+    void emptyPoll() {
+        ProcessingResult result = createFacade().processPolledRecords(new ConsumerRecords<>(Map.of(), Map.of()));
+
+        assertFalse(result.isFailed());
+        assertEquals(0, processed.size());
+    }
+
+    private KafkaRecordParallelProcessorFacade createFacade() {
+        return new KafkaRecordParallelProcessorFacade(kafkaConsumer, "0", commitManager, null);
+    }
+
+    private void process(Exchange exchange) throws Exception {
+        int partition = exchange.getMessage().getHeader(KafkaConstants.PARTITION, Integer.class);
+        long offset = exchange.getMessage().getHeader(KafkaConstants.OFFSET, Long.class);
+        Object key = exchange.getMessage().getHeader(KafkaConstants.KEY);
+
+        maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+        AtomicInteger inPartition = activePerPartition.computeIfAbsent(partition, p -> new AtomicInteger());
+        maxActiveInPartition.accumulateAndGet(inPartition.incrementAndGet(), Math::max);
+        try {
+            // simulate a slow downstream call
+            Thread.sleep(10);
+            processed.computeIfAbsent(key, k -> Collections.synchronizedList(new ArrayList<>())).add(offset);
+            if (offset == failOffset) {
+                throw new IllegalStateException("Forced error at offset " + offset);
+            }
+        } finally {
+            inPartition.decrementAndGet();
+            active.decrementAndGet();
+        }
+    }
+
+    private void assertKeyOrder() {
+        for (Map.Entry<Object, List<Long>> entry : processed.entrySet()) {
+            List<Long> offsets = entry.getValue();
+            for (int i = 1; i < offsets.size(); i++) {
+                assertTrue(offsets.get(i - 1) < offsets.get(i),
+                        "Records with key " + entry.getKey() + " processed out of order: " + offsets);
+            }
+        }
+    }
+
+    private static ConsumerRecords<Object, Object> records(TopicPartition partition, long offset, int count, int keys) {
+        return new ConsumerRecords<>(Map.of(partition, recordList(partition, offset, count, keys)), Map.of());
+    }
+
+    private static List<ConsumerRecord<Object, Object>> recordList(
+            TopicPartition partition, long offset, int count, int keys) {
+        List<ConsumerRecord<Object, Object>> list = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String key = "key-" + partition.partition() + "-" + i % keys;
+            list.add(new ConsumerRecord<>(partition.topic(), partition.partition(), offset + i, key, "value-" + i));
+        }
+        return list;
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka.consumer.support.parallel;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.camel.component.kafka.consumer.CommitManager;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class PartitionOffsetTrackerTest {
+
+    private final TopicPartition partition = new TopicPartition("test-topic", 0);
+    private final CommitManager commitManager = mock(CommitManager.class);
+
+    @Test
+    void recordsOnlyContiguousOffsets() {
+        // offsets may have gaps (such as from compaction or transaction markers)
+        PartitionOffsetTracker tracker = new PartitionOffsetTracker(partition, records(10, 11, 13, 14, 17), commitManager);
+        assertFalse(tracker.hasProgress());
+        assertEquals(-1, tracker.getLastContiguousOffset());
+
+        tracker.complete(2);
+        tracker.complete(3);
+        verify(commitManager, never()).recordOffset(eq(partition), anyLong());
+        assertFalse(tracker.hasProgress());
+
+        tracker.complete(0);
+        assertTrue(tracker.hasProgress());
+        assertEquals(10, tracker.getLastContiguousOffset());
+
+        tracker.complete(1);
+        assertEquals(14, tracker.getLastContiguousOffset());
+
+        tracker.complete(4);
+        assertEquals(17, tracker.getLastContiguousOffset());
+
+        InOrder inOrder = inOrder(commitManager);
+        inOrder.verify(commitManager).recordOffset(partition, 10L);
+        inOrder.verify(commitManager).recordOffset(partition, 14L);
+        inOrder.verify(commitManager).recordOffset(partition, 17L);
+    }
+
+    private static List<ConsumerRecord<Object, Object>> records(long... offsets) {
+        List<ConsumerRecord<Object, Object>> list = new ArrayList<>();
+        for (long offset : offsets) {
+            list.add(new ConsumerRecord<>("test-topic", 0, offset, null, "value"));
+        }
+        return list;
+    }
+}
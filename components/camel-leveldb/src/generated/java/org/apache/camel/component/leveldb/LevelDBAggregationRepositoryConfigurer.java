@@ -25,6 +25,10 @@ public class LevelDBAggregationRepositoryConfigurer extends org.apache.camel.sup
         switch (ignoreCase ? name.toLowerCase() : name) {
         case "allowserializedheaders":
         case "allowSerializedHeaders": target.setAllowSerializedHeaders(property(camelContext, boolean.class, value)); return true;
+        case "appendonly":
+        case "appendOnly": target.setAppendOnly(property(camelContext, boolean.class, value)); return true;
+        case "compactioninterval":
+        case "compactionInterval": target.setCompactionInterval(property(camelContext, int.class, value)); return true;
         case "deadletteruri":
         case "deadLetterUri": target.setDeadLetterUri(property(camelContext, java.lang.String.class, value)); return true;
         case "deserializationfilter":
@@ -52,6 +56,10 @@ public class LevelDBAggregationRepositoryConfigurer extends org.apache.camel.sup
         switch (ignoreCase ? name.toLowerCase() : name) {
         case "allowserializedheaders":
         case "allowSerializedHeaders": return boolean.class;
+        case "appendonly":
+        case "appendOnly": return boolean.class;
+        case "compactioninterval":
+        case "compactionInterval": return int.class;
         case "deadletteruri":
         case "deadLetterUri": return java.lang.String.class;
         case "deserializationfilter":
@@ -80,6 +88,10 @@ public class LevelDBAggregationRepositoryConfigurer extends org.apache.camel.sup
         switch (ignoreCase ? name.toLowerCase() : name) {
         case "allowserializedheaders":
         case "allowSerializedHeaders": return target.isAllowSerializedHeaders();
+        case "appendonly":
+        case "appendOnly": return target.isAppendOnly();
+        case "compactioninterval":
+        case "compactionInterval": return target.getCompactionInterval();
         case "deadletteruri":
         case "deadLetterUri": return target.getDeadLetterUri();
         case "deserializationfilter":
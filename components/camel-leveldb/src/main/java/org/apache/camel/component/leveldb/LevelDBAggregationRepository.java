@@ -18,14 +18,20 @@ package org.apache.camel.component.leveldb;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
+import org.apache.camel.ExchangePropertyKey;
 import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.spi.AppendOnlyAggregationRepository;
 import org.apache.camel.spi.Configurer;
 import org.apache.camel.spi.Metadata;
 import org.apache.camel.spi.RecoverableAggregationRepository;
@@ -47,12 +53,15 @@ import org.slf4j.LoggerFactory;
           annotations = { "interfaceName=org.apache.camel.spi.AggregationRepository" })
 @Configurer(metadataOnly = true)
 @Deprecated
-public class LevelDBAggregationRepository extends ServiceSupport implements RecoverableAggregationRepository {
+public class LevelDBAggregationRepository extends ServiceSupport
+        implements RecoverableAggregationRepository, AppendOnlyAggregationRepository {
 
     private static final Logger LOG = LoggerFactory.getLogger(LevelDBAggregationRepository.class);
 
     private LevelDBFile levelDBFile;
     private LevelDBCamelCodec codec;
+    // the sequence number of the last appended exchange per correlation key
+    private final Map<String, Integer> appendedSizes = new ConcurrentHashMap<>();
 
     @Metadata(description = "Name of file to use for storing data", required = true)
     private String persistentFileName;
@@ -97,6 +106,16 @@ public class LevelDBAggregationRepository extends ServiceSupport implements Reco
                             + " This parameter should be customized if you're using classes you trust to be deserialized.",
               defaultValue = DEFAULT_DESERIALIZATION_FILTER)
     private String deserializationFilter = DEFAULT_DESERIALIZATION_FILTER;
+    @Metadata(label = "advanced",
+              description = "Whether to store each incoming exchange as its own record, instead of replacing the aggregated"
+                            + " exchange. The exchanges are then only aggregated when the group is completed, which avoids"
+                            + " writing the growing aggregated exchange for every incoming exchange.")
+    private boolean appendOnly;
+    @Metadata(label = "advanced", defaultValue = "1000",
+              description = "When append only mode is enabled, the number of exchanges appended to a group after which the"
+                            + " group is compacted, by storing the aggregated exchange and removing the appended records."
+                            + " Use 0 to never compact.")
+    private int compactionInterval = 1000;
 
     /**
      * Creates an aggregation repository
@@ -195,6 +214,11 @@ public class LevelDBAggregationRepository extends ServiceSupport implements Reco
     public void remove(final CamelContext camelContext, final String key, final Exchange exchange) {
         LOG.debug("Removing key [{}]", key);
 
+        if (appendOnly) {
+            removeAppended(camelContext, key, exchange);
+            return;
+        }
+
         try {
             byte[] lDbKey = keyBuilder(repositoryName, key);
             final String exchangeId = exchange.getExchangeId();
@@ -225,6 +249,150 @@ public class LevelDBAggregationRepository extends ServiceSupport implements Reco
         }
     }
 
+    /**
+     * Removes the compacted and appended exchanges of the group, when append only mode is enabled.
+     */
+    private void removeAppended(final CamelContext camelContext, final String key, final Exchange exchange) {
+        try {
+            final String exchangeId = exchange.getExchangeId();
+            final byte[] exchangeBuffer = codec().marshallExchange(camelContext, exchange, allowSerializedHeaders);
+
+            WriteBatch batch = levelDBFile.getDb().createWriteBatch();
+            try {
+                batch.delete(keyBuilder(repositoryName, key));
+                for (byte[] appendedKey : appendedKeys(key)) {
+                    batch.delete(appendedKey);
+                }
+                LOG.trace("Removed key index {} with appended exchanges", key);
+
+                // add exchange to confirmed index
+                byte[] confirmedLDBKey = keyBuilder(getRepositoryNameCompleted(), exchangeId);
+                batch.put(confirmedLDBKey, exchangeBuffer);
+                LOG.trace("Added confirm index {} for repository {}", exchangeId, getRepositoryNameCompleted());
+
+                levelDBFile.getDb().write(batch, levelDBFile.getWriteOptions());
+            } finally {
+                batch.close();
+            }
+            appendedSizes.remove(key);
+
+        } catch (IOException e) {
+            throw new RuntimeCamelException("Error removing key " + key + " from repository " + repositoryName, e);
+        }
+    }
+
+    @Override
+    public int append(final CamelContext camelContext, final String key, final Exchange exchange) {
+        LOG.debug("Appending key [{}] -> {}", key, exchange);
+        try {
+            final byte[] exchangeBuffer = codec().marshallExchange(camelContext, exchange, allowSerializedHeaders);
+            int size = appendedSizes.compute(key, (k, v) -> (v != null ? v : loadAppendedSize(camelContext, k)) + 1);
+
+            LOG.trace("Appending key index {} with sequence {} for repository {}", key, size, repositoryName);
+            levelDBFile.getDb().put(appendedKeyBuilder(key, size), exchangeBuffer, levelDBFile.getWriteOptions());
+            return size;
+        } catch (IOException e) {
+            appendedSizes.remove(key);
+            throw new RuntimeCamelException("Error appending to repository " + repositoryName + " with key " + key, e);
+        }
+    }
+
+    @Override
+    public List<Exchange> getAppended(final CamelContext camelContext, final String key) {
+        final List<Exchange> answer = new ArrayList<>();
+
+        DBIterator it = levelDBFile.getDb().iterator();
+        try {
+            String prefix = getRepositoryNameAppended() + '\0' + key + '\0';
+            // the sequence numbers are zero padded so the exchanges are iterated in the order they were appended
+            for (it.seek(keyBuilder(getRepositoryNameAppended(), key + '\0')); it.hasNext(); it.next()) {
+                Map.Entry<byte[], byte[]> entry = it.peekNext();
+                if (!asString(entry.getKey()).startsWith(prefix)) {
+                    break;
+                }
+                answer.add(codec().unmarshallExchange(camelContext, entry.getValue(), deserializationFilter));
+            }
+        } catch (IOException | ClassNotFoundException e) {
+            throw new RuntimeCamelException(
+                    "Error getting appended exchanges with key " + key + " from repository " + repositoryName, e);
+        } finally {
+            // Make sure you close the iterator to avoid resource leaks.
+            IOHelper.close(it);
+        }
+
+        LOG.debug("Getting appended exchanges with key [{}] -> {}", key, answer.size());
+        return answer;
+    }
+
+    @Override
+    public void compact(final CamelContext camelContext, final String key, final Exchange aggregated, final int size) {
+        LOG.debug("Compacting key [{}] with {} exchanges", key, size);
+        try {
+            // the compacted exchange keeps track of the number of exchanges it contains (set on a copy to not
+            // change the exchange of the caller)
+            final Exchange compacted = aggregated.copy();
+            compacted.setProperty(ExchangePropertyKey.AGGREGATED_SIZE, size);
+            final byte[] exchangeBuffer = codec().marshallExchange(camelContext, compacted, allowSerializedHeaders);
+
+            WriteBatch batch = levelDBFile.getDb().createWriteBatch();
+            try {
+                batch.put(keyBuilder(repositoryName, key), exchangeBuffer);
+                for (byte[] appendedKey : appendedKeys(key)) {
+                    if (appendedSequence(appendedKey) <= size) {
+                        batch.delete(appendedKey);
+                    }
+                }
+                levelDBFile.getDb().write(batch, levelDBFile.getWriteOptions());
+            } finally {
+                batch.close();
+            }
+        } catch (IOException e) {
+            throw new RuntimeCamelException("Error compacting key " + key + " in repository " + repositoryName, e);
+        }
+    }
+
+    /**
+     * Loads the sequence number of the last exchange appended to the group, which is the number of exchanges the
+     * compacted exchange contains if nothing has been appended since the group was compacted.
+     */
+    private int loadAppendedSize(final CamelContext camelContext, final String key) {
+        List<byte[]> keys = appendedKeys(key);
+        if (!keys.isEmpty()) {
+            return appendedSequence(keys.get(keys.size() - 1));
+        }
+        Exchange compacted = get(camelContext, key);
+        return compacted != null ? compacted.getProperty(ExchangePropertyKey.AGGREGATED_SIZE, 0, Integer.class) : 0;
+    }
+
+    private List<byte[]> appendedKeys(final String key) {
+        final List<byte[]> answer = new ArrayList<>();
+
+        DBIterator it = levelDBFile.getDb().iterator();
+        try {
+            String prefix = getRepositoryNameAppended() + '\0' + key + '\0';
+            for (it.seek(keyBuilder(getRepositoryNameAppended(), key + '\0')); it.hasNext(); it.next()) {
+                byte[] appendedKey = it.peekNext().getKey();
+                if (!asString(appendedKey).startsWith(prefix)) {
+                    break;
+                }
+                answer.add(appendedKey);
+            }
+        } finally {
+            // Make sure you close the iterator to avoid resource leaks.
+            IOHelper.close(it);
+        }
+        return answer;
+    }
+
+    private static int appendedSequence(byte[] appendedKey) {
+        String value = asString(appendedKey);
+        return Integer.parseInt(value.substring(value.lastIndexOf('\0') + 1));
+    }
+
+    private byte[] appendedKeyBuilder(String key, int sequence) {
+        return keyBuilder(getRepositoryNameAppended(), key + '\0' + String.format("%010d", sequence));
+    }
+
     @Override
     public void confirm(final CamelContext camelContext, final String exchangeId) {
         LOG.debug("Confirming exchangeId [{}]", exchangeId);
@@ -273,9 +441,35 @@ public class LevelDBAggregationRepository extends ServiceSupport implements Reco
             IOHelper.close(it);
         }
 
+        if (appendOnly) {
+            // groups which have not been compacted yet only have appended exchanges
+            keys.addAll(getAppendedGroupKeys());
+        }
+
         return Collections.unmodifiableSet(keys);
     }
 
+    private Set<String> getAppendedGroupKeys() {
+        final Set<String> keys = new LinkedHashSet<>();
+
+        DBIterator it = levelDBFile.getDb().iterator();
+        try {
+            String prefix = getRepositoryNameAppended() + '\0';
+            for (it.seek(keyBuilder(getRepositoryNameAppended(), "")); it.hasNext(); it.next()) {
+                String keyBuffer = asString(it.peekNext().getKey());
+                if (!keyBuffer.startsWith(prefix)) {
+                    break;
+                }
+                // strip the sequence number of the appended exchange
+                keys.add(keyBuffer.substring(prefix.length(), keyBuffer.lastIndexOf('\0')));
+            }
+        } finally {
+            // Make sure you close the iterator to avoid resource leaks.
+            IOHelper.close(it);
+        }
+        return keys;
+    }
+
     @Override
     public Set<String> scan(CamelContext camelContext) {
         final Set<String> answer = new LinkedHashSet<>();
@@ -376,6 +570,10 @@ public class LevelDBAggregationRepository extends ServiceSupport implements Reco
         return repositoryName + "-completed";
     }
 
+    private String getRepositoryNameAppended() {
+        return repositoryName + "-appended";
+    }
+
     public void setRepositoryName(String repositoryName) {
         this.repositoryName = repositoryName;
     }
@@ -449,6 +647,24 @@ public class LevelDBAggregationRepository extends ServiceSupport implements Reco
         this.persistentFileName = persistentFileName;
     }
 
+    @Override
+    public boolean isAppendOnly() {
+        return appendOnly;
+    }
+
+    public void setAppendOnly(boolean appendOnly) {
+        this.appendOnly = appendOnly;
+    }
+
+    @Override
+    public int getCompactionInterval() {
+        return compactionInterval;
+    }
+
+    public void setCompactionInterval(int compactionInterval) {
+        this.compactionInterval = compactionInterval;
+    }
+
     public boolean isAllowSerializedHeaders() {
         return allowSerializedHeaders;
     }
@@ -482,6 +698,10 @@ public class LevelDBAggregationRepository extends ServiceSupport implements Reco
             LOG.info("On startup there are no existing aggregate exchanges (not completed) in repository: {}",
                     getRepositoryName());
         }
+        if (appendOnly) {
+            LOG.info("On startup there are {} appended exchanges in repository: {}",
+                    size(getRepositoryNameAppended()), getRepositoryNameAppended());
+        }
         if (completed > 0) {
             LOG.warn("On startup there are {} completed exchanges to be recovered in repository: {}",
                     completed, getRepositoryNameCompleted());
@@ -493,6 +713,7 @@ public class LevelDBAggregationRepository extends ServiceSupport implements Reco
 
     @Override
     protected void doStop() throws Exception {
+        appendedSizes.clear();
         ServiceHelper.stopService(levelDBFile);
     }
 
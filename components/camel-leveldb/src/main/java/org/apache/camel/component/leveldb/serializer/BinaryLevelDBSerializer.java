@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.leveldb.serializer;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.support.BinaryExchangeCodec;
+import org.apache.camel.support.ExchangeCodec;
+
+/**
+ * Serializer which stores the exchanges using an {@link ExchangeCodec}, which by default is the compact
+ * {@link BinaryExchangeCodec}. Exchanges that have been stored by the {@link DefaultLevelDBSerializer} can still be
+ * read, and the keys are stored the same way, so this serializer can be used with an existing LevelDB file.
+ */
+public class BinaryLevelDBSerializer extends DefaultLevelDBSerializer {
+
+    private final ExchangeCodec exchangeCodec;
+
+    public BinaryLevelDBSerializer() {
+        this(new BinaryExchangeCodec());
+    }
+
+    public BinaryLevelDBSerializer(ExchangeCodec exchangeCodec) {
+        this.exchangeCodec = exchangeCodec;
+    }
+
+    public ExchangeCodec getExchangeCodec() {
+        return exchangeCodec;
+    }
+
+    @Override
+    public byte[] serializeExchange(CamelContext camelContext, Exchange exchange, boolean allowSerializedHeaders)
+            throws IOException {
+        return serializeExchange(exchange, allowSerializedHeaders, h -> {
+            ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            exchangeCodec.encode(h, baos);
+            return baos.toByteArray();
+        });
+    }
+
+    @Override
+    public Exchange deserializeExchange(CamelContext camelContext, byte[] buffer) throws IOException {
+        return deserializeExchange(camelContext, buffer, (String) null);
+    }
+
+    @Override
+    public Exchange deserializeExchange(CamelContext camelContext, byte[] buffer, String deserializationFilter)
+            throws IOException {
+        return deserializeExchange(camelContext, buffer, b -> {
+            try {
+                return exchangeCodec.decode(camelContext, new ByteArrayInputStream(b), deserializationFilter);
+            } catch (ClassNotFoundException e) {
+                throw new IOException("Failed to deserialize exchange", e);
+            }
+        });
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.leveldb;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.test.junit6.params.Parameterized;
+import org.apache.camel.test.junit6.params.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import static org.apache.camel.test.junit6.TestSupport.deleteDirectory;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisabledOnOs({ OS.AIX, OS.OTHER })
+@Parameterized
+public class LevelDBAggregateAppendOnlyTest extends LevelDBTestSupport {
+
+    @Override
+    public void doPreSetup() {
+        deleteDirectory("target/data");
+    }
+
+    @Override
+    LevelDBAggregationRepository createRepo() {
+        LevelDBAggregationRepository repo = super.createRepo();
+        repo.setAppendOnly(true);
+        repo.setCompactionInterval(2);
+        return repo;
+    }
+
+    @Test
+    public void testLevelDBAggregateAppendOnly() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:aggregated");
+        mock.expectedBodiesReceived("ABCDE");
+        mock.expectedPropertyReceived(Exchange.AGGREGATED_SIZE, 5);
+
+        template.sendBodyAndHeader("direct:start", "A", "id", 123);
+        template.sendBodyAndHeader("direct:start", "B", "id", 123);
+        template.sendBodyAndHeader("direct:start", "C", "id", 123);
+
+        // the first two exchanges have been compacted
+        Exchange compacted = getRepo().get(context, "123");
+        assertEquals("AB", compacted.getIn().getBody(String.class));
+        assertEquals(2, compacted.getProperty(Exchange.AGGREGATED_SIZE));
+        assertEquals(1, getRepo().getAppended(context, "123").size());
+        assertEquals("C", getRepo().getAppended(context, "123").get(0).getIn().getBody(String.class));
+        assertTrue(getRepo().getKeys().contains("123"));
+
+        template.sendBodyAndHeader("direct:start", "D", "id", 123);
+        template.sendBodyAndHeader("direct:start", "E", "id", 123);
+
+        MockEndpoint.assertIsSatisfied(context, 30, TimeUnit.SECONDS);
+
+        // the group has been removed when completed
+        assertNull(getRepo().get(context, "123"));
+        assertTrue(getRepo().getAppended(context, "123").isEmpty());
+        assertTrue(getRepo().getKeys().isEmpty());
+    }
+
+    @Test
+    public void testCompactDoesNotChangeExchange() {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody("ABC");
+
+        getRepo().compact(context, "456", exchange, 3);
+
+        // the size is only stored with the compacted exchange
+        assertNull(exchange.getProperty(Exchange.AGGREGATED_SIZE));
+        Exchange compacted = getRepo().get(context, "456");
+        assertEquals("ABC", compacted.getIn().getBody(String.class));
+        assertEquals(3, compacted.getProperty(Exchange.AGGREGATED_SIZE));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start")
+                        .aggregate(header("id"), new StringAggregationStrategy())
+                        .completionSize(5).aggregationRepository(getRepo())
+                        .to("mock:aggregated");
+            }
+        };
+    }
+}
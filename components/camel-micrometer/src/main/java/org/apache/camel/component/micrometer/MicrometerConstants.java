@@ -53,6 +53,8 @@ public final class MicrometerConstants {
 
     public static final String DEFAULT_CAMEL_ROUTE_POLICY_METER_NAME = "camel.route.policy";
     public static final String DEFAULT_CAMEL_ROUTE_POLICY_LONGMETER_NAME = "camel.route.policy.long.task";
+    public static final String DEFAULT_CAMEL_ROUTE_POLICY_PROCESSING_TIME_PERCENTILE_METER_NAME
+            = "camel.route.policy.processing.time.percentile";
     public static final String DEFAULT_CAMEL_EXCHANGE_EVENT_METER_NAME = "camel.exchange.event.notifier";
     public static final String DEFAULT_CAMEL_ROUTES_ADDED = "camel.routes.added";
     public static final String DEFAULT_CAMEL_ROUTES_RUNNING = "camel.routes.running";
@@ -66,6 +68,7 @@ public final class MicrometerConstants {
     public static final String FAILED_TAG = "failed";
     public static final String CAMEL_CONTEXT_TAG = "camelContext";
     public static final String EVENT_TYPE_TAG = "eventType";
+    public static final String PERCENTILE_TAG = "percentile";
     public static final String METRICS_REGISTRY_NAME = "metricsRegistry";
 
     public static final String KIND = "kind";
@@ -16,12 +16,15 @@
  */
 package org.apache.camel.component.micrometer.routepolicy;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.LongTaskTimer;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tags;
@@ -31,6 +34,8 @@ import org.apache.camel.Exchange;
 import org.apache.camel.NonManagedService;
 import org.apache.camel.Route;
 import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.api.management.ManagedCamelContext;
+import org.apache.camel.api.management.mbean.ManagedPerformanceCounterMBean;
 import org.apache.camel.component.micrometer.MicrometerUtils;
 import org.apache.camel.spi.ManagementStrategy;
 import org.apache.camel.support.ExchangeHelper;
@@ -45,6 +50,7 @@ import static org.apache.camel.component.micrometer.MicrometerConstants.DEFAULT_
 import static org.apache.camel.component.micrometer.MicrometerConstants.KIND;
 import static org.apache.camel.component.micrometer.MicrometerConstants.KIND_ROUTE;
 import static org.apache.camel.component.micrometer.MicrometerConstants.METRICS_REGISTRY_NAME;
+import static org.apache.camel.component.micrometer.MicrometerConstants.PERCENTILE_TAG;
 
 /**
  * A {@link org.apache.camel.spi.RoutePolicy} which gathers statistics and reports them using {@link MeterRegistry}.
@@ -54,6 +60,7 @@ import static org.apache.camel.component.micrometer.MicrometerConstants.METRICS_
 public class MicrometerRoutePolicy extends RoutePolicySupport implements NonManagedService {
 
     private static final Logger LOG = LoggerFactory.getLogger(MicrometerRoutePolicy.class);
+    private static final double[] PERCENTILES = { 0.5, 0.95, 0.99, 0.999 };
 
     private final MicrometerRoutePolicyFactory factory;
     private MeterRegistry meterRegistry;
@@ -81,6 +88,7 @@ public class MicrometerRoutePolicy extends RoutePolicySupport implements NonMana
         private Counter failuresHandled;
         private Timer timer;
         private LongTaskTimer longTaskTimer;
+        private final List<Gauge> percentiles = new ArrayList<>();
 
         MetricsStatistics(MeterRegistry meterRegistry, CamelContext camelContext, Route route,
                           MicrometerRoutePolicyNamingStrategy namingStrategy,
@@ -93,6 +101,39 @@ public class MicrometerRoutePolicy extends RoutePolicySupport implements NonMana
             if (configuration.isAdditionalCounters()) {
                 initAdditionalCounters();
             }
+            if (configuration.isProcessingTimePercentiles()) {
+                initProcessingTimePercentiles();
+            }
+        }
+
+        private void initProcessingTimePercentiles() {
+            // use the histogram of the processing time from the Extended statistics level of JMX
+            ManagedCamelContext mcc = camelContext.getCamelContextExtension().getContextPlugin(ManagedCamelContext.class);
+            ManagedPerformanceCounterMBean counter = null;
+            if (mcc != null) {
+                counter = route != null ? mcc.getManagedRoute(route.getRouteId()) : mcc.getManagedCamelContext();
+            }
+            if (counter == null) {
+                LOG.debug("Cannot capture processing time percentiles for route: {} as JMX is not enabled",
+                        route != null ? route.getRouteId() : "");
+                return;
+            }
+            Tags tags = route != null ? namingStrategy.getTags(route) : namingStrategy.getTags(camelContext);
+            for (double p : PERCENTILES) {
+                Gauge gauge = Gauge.builder(namingStrategy.getProcessingTimePercentileName(route), counter,
+                        c -> {
+                            long value = c.processingTimePercentile(p * 100);
+                            return value < 0 ? Double.NaN : value;
+                        })
+                        .tags(tags.and(PERCENTILE_TAG, Double.toString(p)))
+                        // the counter is a JMX proxy which is not referenced elsewhere
+                        .strongReference(true)
+                        .baseUnit("milliseconds")
+                        .description(route != null
+                                ? "Route processing time percentile" : "CamelContext processing time percentile")
+                        .register(meterRegistry);
+                percentiles.add(gauge);
+            }
         }
 
         private void initAdditionalCounters() {
@@ -181,6 +222,10 @@ public class MicrometerRoutePolicy extends RoutePolicySupport implements NonMana
             if (longTaskTimer != null) {
                 meterRegistry.remove(longTaskTimer);
             }
+            for (Gauge gauge : percentiles) {
+                meterRegistry.remove(gauge);
+            }
+            percentiles.clear();
         }
 
         private void updateAdditionalCounters(Exchange exchange) {
@@ -33,6 +33,7 @@ public class MicrometerRoutePolicyConfiguration {
     private boolean externalRedeliveries = true;
     private boolean failuresHandled = true;
     private boolean longTask;
+    private boolean processingTimePercentiles;
     private Consumer<Timer.Builder> timerInitiator;
     private Consumer<LongTaskTimer.Builder> longTaskInitiator;
 
@@ -116,6 +117,14 @@ public class MicrometerRoutePolicyConfiguration {
         this.longTask = longTask;
     }
 
+    public boolean isProcessingTimePercentiles() {
+        return processingTimePercentiles;
+    }
+
+    public void setProcessingTimePercentiles(boolean processingTimePercentiles) {
+        this.processingTimePercentiles = processingTimePercentiles;
+    }
+
     public Consumer<Timer.Builder> getTimerInitiator() {
         return timerInitiator;
     }
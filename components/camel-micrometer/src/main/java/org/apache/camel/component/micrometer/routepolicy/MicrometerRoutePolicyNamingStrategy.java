@@ -83,6 +83,10 @@ public interface MicrometerRoutePolicyNamingStrategy {
         return formatName(DEFAULT_CAMEL_ROUTE_POLICY_LONGMETER_NAME);
     }
 
+    default String getProcessingTimePercentileName(Route route) {
+        return formatName(DEFAULT_CAMEL_ROUTE_POLICY_PROCESSING_TIME_PERCENTILE_METER_NAME);
+    }
+
     default Tags getTags(Route route) {
         return Tags.of(
                 CAMEL_CONTEXT_TAG, route.getCamelContext().getName(),
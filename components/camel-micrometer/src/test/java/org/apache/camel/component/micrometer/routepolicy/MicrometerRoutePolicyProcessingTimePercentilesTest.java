@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.micrometer.routepolicy;
+
+import java.lang.ref.WeakReference;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.Gauge;
+import org.apache.camel.CamelContext;
+import org.apache.camel.ManagementStatisticsLevel;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.apache.camel.component.micrometer.MicrometerConstants.DEFAULT_CAMEL_ROUTE_POLICY_PROCESSING_TIME_PERCENTILE_METER_NAME;
+import static org.apache.camel.component.micrometer.MicrometerConstants.PERCENTILE_TAG;
+import static org.apache.camel.component.micrometer.MicrometerConstants.ROUTE_ID_TAG;
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MicrometerRoutePolicyProcessingTimePercentilesTest extends AbstractMicrometerRoutePolicyTest {
+
+    @Override
+    protected boolean useJmx() {
+        return true;
+    }
+
+    @Override
+    protected MicrometerRoutePolicyFactory createMicrometerRoutePolicyFactory() {
+        MicrometerRoutePolicyFactory factory = super.createMicrometerRoutePolicyFactory();
+        factory.getPolicyConfiguration().setProcessingTimePercentiles(true);
+        return factory;
+    }
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.getManagementStrategy().getManagementAgent().setStatisticsLevel(ManagementStatisticsLevel.Extended);
+        return context;
+    }
+
+    @Test
+    public void testProcessingTimePercentiles() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(10);
+        for (int i = 0; i < 10; i++) {
+            template.sendBody("direct:foo", "Hello " + i);
+        }
+        MockEndpoint.assertIsSatisfied(context);
+
+        Collection<Gauge> gauges = meterRegistry.find(DEFAULT_CAMEL_ROUTE_POLICY_PROCESSING_TIME_PERCENTILE_METER_NAME)
+                .tag(ROUTE_ID_TAG, "foo").gauges();
+        assertEquals(4, gauges.size());
+
+        double p50 = meterRegistry.get(DEFAULT_CAMEL_ROUTE_POLICY_PROCESSING_TIME_PERCENTILE_METER_NAME)
+                .tags(ROUTE_ID_TAG, "foo", PERCENTILE_TAG, "0.5").gauge().value();
+        double p999 = meterRegistry.get(DEFAULT_CAMEL_ROUTE_POLICY_PROCESSING_TIME_PERCENTILE_METER_NAME)
+                .tags(ROUTE_ID_TAG, "foo", PERCENTILE_TAG, "0.999").gauge().value();
+        assertTrue(p50 >= 5, "p50 should be >= 5, was: " + p50);
+        assertTrue(p50 <= p999, "p50 should be <= p999, was p50=" + p50 + " p999=" + p999);
+    }
+
+    @Test
+    public void testProcessingTimePercentilesAfterGarbageCollection() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(10);
+        for (int i = 0; i < 10; i++) {
+            template.sendBody("direct:foo", "Hello " + i);
+        }
+        MockEndpoint.assertIsSatisfied(context);
+
+        // the gauges must keep the JMX proxy they read from
+        WeakReference<Object> ref = new WeakReference<>(new Object());
+        await().atMost(10, TimeUnit.SECONDS).until(() -> {
+            System.gc();
+            return ref.get() == null;
+        });
+
+        double p50 = meterRegistry.get(DEFAULT_CAMEL_ROUTE_POLICY_PROCESSING_TIME_PERCENTILE_METER_NAME)
+                .tags(ROUTE_ID_TAG, "foo", PERCENTILE_TAG, "0.5").gauge().value();
+        assertFalse(Double.isNaN(p50), "p50 should not be NaN after garbage collection");
+        assertTrue(p50 >= 5, "p50 should be >= 5, was: " + p50);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:foo").routeId("foo")
+                        .delay(5)
+                        .to("mock:result");
+            }
+        };
+    }
+}
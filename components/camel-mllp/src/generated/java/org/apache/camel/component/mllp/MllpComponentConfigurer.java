@@ -96,6 +96,8 @@ public class MllpComponentConfigurer extends PropertyConfigurerSupport implement
         case "useGlobalSslContextParameters": target.setUseGlobalSslContextParameters(property(camelContext, boolean.class, value)); return true;
         case "validatepayload":
         case "validatePayload": getOrCreateConfiguration(target).setValidatePayload(property(camelContext, boolean.class, value)); return true;
+        case "virtualthreads":
+        case "virtualThreads": getOrCreateConfiguration(target).setVirtualThreads(property(camelContext, boolean.class, value)); return true;
         default: return false;
         }
     }
@@ -169,6 +171,8 @@ public class MllpComponentConfigurer extends PropertyConfigurerSupport implement
         case "useGlobalSslContextParameters": return boolean.class;
         case "validatepayload":
         case "validatePayload": return boolean.class;
+        case "virtualthreads":
+        case "virtualThreads": return boolean.class;
         default: return null;
         }
     }
@@ -243,6 +247,8 @@ public class MllpComponentConfigurer extends PropertyConfigurerSupport implement
         case "useGlobalSslContextParameters": return target.isUseGlobalSslContextParameters();
         case "validatepayload":
         case "validatePayload": return getOrCreateConfiguration(target).isValidatePayload();
+        case "virtualthreads":
+        case "virtualThreads": return getOrCreateConfiguration(target).isVirtualThreads();
         default: return null;
         }
     }
@@ -80,6 +80,8 @@ public class MllpEndpointConfigurer extends PropertyConfigurerSupport implements
         case "tcpNoDelay": target.getConfiguration().setTcpNoDelay(property(camelContext, java.lang.Boolean.class, value)); return true;
         case "validatepayload":
         case "validatePayload": target.getConfiguration().setValidatePayload(property(camelContext, boolean.class, value)); return true;
+        case "virtualthreads":
+        case "virtualThreads": target.getConfiguration().setVirtualThreads(property(camelContext, boolean.class, value)); return true;
         default: return false;
         }
     }
@@ -144,6 +146,8 @@ public class MllpEndpointConfigurer extends PropertyConfigurerSupport implements
         case "tcpNoDelay": return java.lang.Boolean.class;
         case "validatepayload":
         case "validatePayload": return boolean.class;
+        case "virtualthreads":
+        case "virtualThreads": return boolean.class;
         default: return null;
         }
     }
@@ -209,6 +213,8 @@ public class MllpEndpointConfigurer extends PropertyConfigurerSupport implements
         case "tcpNoDelay": return target.getConfiguration().getTcpNoDelay();
         case "validatepayload":
         case "validatePayload": return target.getConfiguration().isValidatePayload();
+        case "virtualthreads":
+        case "virtualThreads": return target.getConfiguration().isVirtualThreads();
         default: return null;
         }
     }
@@ -24,7 +24,7 @@ public class MllpEndpointUriFactory extends org.apache.camel.support.component.E
     private static final Set<String> ENDPOINT_IDENTITY_PROPERTY_NAMES;
     private static final Map<String, String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(31);
+        Set<String> props = new HashSet<>(32);
         props.add("acceptTimeout");
         props.add("autoAck");
         props.add("backlog");
@@ -56,6 +56,7 @@ public class MllpEndpointUriFactory extends org.apache.camel.support.component.E
         props.add("stringPayload");
         props.add("tcpNoDelay");
         props.add("validatePayload");
+        props.add("virtualThreads");
         PROPERTY_NAMES = Collections.unmodifiableSet(props);
         SECRET_PROPERTY_NAMES = Collections.emptySet();
         ENDPOINT_IDENTITY_PROPERTY_NAMES = Collections.emptySet();
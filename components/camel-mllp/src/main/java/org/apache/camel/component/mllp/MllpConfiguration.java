@@ -79,6 +79,9 @@ public class MllpConfiguration implements Cloneable {
     @UriParam(label = "advanced,consumer", defaultValue = "false")
     Boolean reuseAddress = false;
 
+    @UriParam(label = "advanced,consumer", defaultValue = "false")
+    boolean virtualThreads;
+
     @UriParam(label = "advanced", defaultValue = "8192")
     Integer receiveBufferSize = 8192;
 
@@ -149,6 +152,7 @@ public class MllpConfiguration implements Cloneable {
             target.validatePayload = source.validatePayload;
             target.charsetName = source.charsetName;
             target.maxConcurrentConsumers = source.maxConcurrentConsumers;
+            target.virtualThreads = source.virtualThreads;
             target.sslContextParameters = source.sslContextParameters;
         }
     }
@@ -318,6 +322,22 @@ public class MllpConfiguration implements Cloneable {
         this.maxConcurrentConsumers = maxConcurrentConsumers;
     }
 
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * TCP Server Only - Whether to handle each MLLP Consumer connection on its own virtual thread (requires Java 21 or
+     * newer), instead of a platform thread from a thread pool. The maximum number of connections is still limited by
+     * maxConcurrentConsumers, which can be set much higher with virtual threads (such as 10000), as a connection waiting
+     * for data does not occupy a platform thread.
+     *
+     * @param virtualThreads true to use virtual threads for the MLLP Consumer connections
+     */
+    public void setVirtualThreads(boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
     public boolean hasIdleTimeout() {
         return idleTimeout != null && idleTimeout > 0;
     }
@@ -597,6 +617,7 @@ public class MllpConfiguration implements Cloneable {
                 connectTimeout,
                 receiveTimeout,
                 maxConcurrentConsumers,
+                virtualThreads,
                 idleTimeout,
                 idleTimeoutStrategy,
                 readTimeout,
@@ -641,6 +662,7 @@ public class MllpConfiguration implements Cloneable {
                 && requireEndOfData == rhs.requireEndOfData
                 && stringPayload == rhs.stringPayload
                 && validatePayload == rhs.validatePayload
+                && virtualThreads == rhs.virtualThreads
                 && idleTimeoutStrategy == rhs.idleTimeoutStrategy
                 && minBufferSize == rhs.minBufferSize
                 && maxBufferSize == rhs.maxBufferSize
@@ -668,6 +690,7 @@ public class MllpConfiguration implements Cloneable {
                + ", connectTimeout=" + connectTimeout
                + ", receiveTimeout=" + receiveTimeout
                + ", maxConcurrentConsumers=" + maxConcurrentConsumers
+               + ", virtualThreads=" + virtualThreads
                + ", idleTimeout=" + idleTimeout
                + ", idleTimeoutStrategy=" + idleTimeoutStrategy
                + ", readTimeout=" + readTimeout
@@ -310,6 +310,10 @@ public class MllpEndpoint extends DefaultEndpoint implements EndpointServiceLoca
         configuration.setMaxConcurrentConsumers(maxConcurrentConsumers);
     }
 
+    public void setVirtualThreads(boolean virtualThreads) {
+        configuration.setVirtualThreads(virtualThreads);
+    }
+
     public void setIdleTimeoutStrategy(MllpIdleTimeoutStrategy strategy) {
         configuration.setIdleTimeoutStrategy(strategy);
     }
@@ -55,6 +55,7 @@ import org.apache.camel.processor.mllp.Hl7AcknowledgementGenerationException;
 import org.apache.camel.spi.ThreadPoolProfile;
 import org.apache.camel.support.DefaultConsumer;
 import org.apache.camel.support.ExchangeHelper;
+import org.apache.camel.util.concurrent.ThreadPoolRejectedPolicy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -151,21 +152,14 @@ public class MllpTcpServerConsumer extends DefaultConsumer {
 
     @Override
     protected void doStart() throws Exception {
-        // Create executor services using Camel's ExecutorServiceManager for virtual threads support
-        validationExecutor = getEndpoint().getCamelContext().getExecutorServiceManager()
-                .newCachedThreadPool(this, "MllpValidation");
-
-        // Create a custom profile with maxQueueSize=0 to use SynchronousQueue for direct handoff.
-        // This is required because MLLP needs immediate task scheduling to process incoming messages
-        // and send acknowledgments before the producer times out.
-        ThreadPoolProfile consumerProfile = new ThreadPoolProfile("MllpConsumer");
-        consumerProfile.setPoolSize(1);
-        consumerProfile.setMaxPoolSize(getConfiguration().getMaxConcurrentConsumers());
-        consumerProfile.setMaxQueueSize(0);
-        consumerProfile.setKeepAliveTime((long) getConfiguration().getAcceptTimeout());
-        consumerProfile.setTimeUnit(TimeUnit.MILLISECONDS);
-        consumerExecutor = getEndpoint().getCamelContext().getExecutorServiceManager()
-                .newThreadPool(this, "MllpConsumer", consumerProfile);
+        if (getConfiguration().isVirtualThreads() && Runtime.version().feature() >= 21) {
+            createVirtualThreadExecutors();
+        } else {
+            if (getConfiguration().isVirtualThreads()) {
+                log.warn("doStart() - virtual threads requires Java 21 or newer - using platform threads");
+            }
+            createExecutors();
+        }
 
         if (bindThread == null || !bindThread.isAlive()) {
             bindThread = new TcpServerBindThread(this, getEndpoint().getSslContextParameters());
@@ -186,6 +180,44 @@ public class MllpTcpServerConsumer extends DefaultConsumer {
         super.doStart();
     }
 
+    private void createExecutors() {
+        // Create executor services using Camel's ExecutorServiceManager for virtual threads support
+        validationExecutor = getEndpoint().getCamelContext().getExecutorServiceManager()
+                .newCachedThreadPool(this, "MllpValidation");
+
+        // Create a custom profile with maxQueueSize=0 to use SynchronousQueue for direct handoff.
+        // This is required because MLLP needs immediate task scheduling to process incoming messages
+        // and send acknowledgments before the producer times out.
+        ThreadPoolProfile consumerProfile = new ThreadPoolProfile("MllpConsumer");
+        consumerProfile.setPoolSize(1);
+        consumerProfile.setMaxPoolSize(getConfiguration().getMaxConcurrentConsumers());
+        consumerProfile.setMaxQueueSize(0);
+        consumerProfile.setKeepAliveTime((long) getConfiguration().getAcceptTimeout());
+        consumerProfile.setTimeUnit(TimeUnit.MILLISECONDS);
+        consumerExecutor = getEndpoint().getCamelContext().getExecutorServiceManager()
+                .newThreadPool(this, "MllpConsumer", consumerProfile);
+    }
+
+    private void createVirtualThreadExecutors() {
+        // Each validation and each connection runs on its own virtual thread, so there is no pool to hand off to.
+        ThreadPoolProfile validationProfile = new ThreadPoolProfile("MllpValidation");
+        validationProfile.setVirtualThreads(true);
+        validationProfile.setMaxQueueSize(0);
+        validationExecutor = getEndpoint().getCamelContext().getExecutorServiceManager()
+                .newThreadPool(this, "MllpValidation", validationProfile);
+
+        // The number of connections is limited by maxConcurrentConsumers, and a connection above the limit is
+        // rejected immediately (and the socket reset) as with the platform thread pool.
+        ThreadPoolProfile consumerProfile = new ThreadPoolProfile("MllpConsumer");
+        consumerProfile.setVirtualThreads(true);
+        consumerProfile.setMaxQueueSize(getConfiguration().getMaxConcurrentConsumers());
+        consumerProfile.setKeepAliveTime(0L);
+        consumerProfile.setTimeUnit(TimeUnit.MILLISECONDS);
+        consumerProfile.setRejectedPolicy(ThreadPoolRejectedPolicy.Abort);
+        consumerExecutor = getEndpoint().getCamelContext().getExecutorServiceManager()
+                .newThreadPool(this, "MllpConsumer", consumerProfile);
+    }
+
     @Override
     protected void doShutdown() throws Exception {
         super.doShutdown();
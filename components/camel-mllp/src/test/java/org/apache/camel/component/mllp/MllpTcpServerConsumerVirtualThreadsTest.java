@@ -0,0 +1,191 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.mllp;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.test.AvailablePortFinder;
+import org.apache.camel.test.junit.rule.mllp.MllpClientResource;
+import org.apache.camel.test.junit.rule.mllp.MllpJUnitResourceException;
+import org.apache.camel.test.junit.rule.mllp.MllpJUnitResourceTimeoutException;
+import org.apache.camel.test.junit6.CamelTestSupport;
+import org.apache.camel.test.mllp.Hl7TestMessageGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledIfSystemProperty;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Tests that the MLLP consumer handles many concurrent client connections when each connection runs on its own virtual
+ * thread, and that the connections above maxConcurrentConsumers are reset.
+ */
+@EnabledForJreRange(min = JRE.JAVA_21)
+@DisabledIfSystemProperty(named = "ci.env.name", matches = ".*", disabledReason = "Slow test")
+public class MllpTcpServerConsumerVirtualThreadsTest extends CamelTestSupport {
+
+    // Number of concurrent client connections - much more than the default pool of platform threads
+    private static final int CONCURRENT_CLIENTS = 200;
+
+    private static final int PROCESSING_DELAY_MS = 150;
+
+    private static final int ACKNOWLEDGEMENT_TIMEOUT_MS = 10000;
+
+    @RegisterExtension
+    AvailablePortFinder.Port mllpPortField = AvailablePortFinder.find();
+
+    String mllpHost = "localhost";
+
+    final List<MllpClientResource> clients = new ArrayList<>();
+
+    @SuppressWarnings("deprecation")
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        DefaultCamelContext context = (DefaultCamelContext) super.createCamelContext();
+        context.setUseMDCLogging(true);
+        context.getCamelContextExtension().setName(this.getClass().getSimpleName());
+        return context;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            public void configure() {
+                fromF("mllp://%s:%d?validatePayload=true&virtualThreads=true&maxConcurrentConsumers=%d",
+                        mllpHost, mllpPortField.getPort(), CONCURRENT_CLIENTS)
+                        .routeId("mllp-consumer-route")
+                        .delay(PROCESSING_DELAY_MS)
+                        .convertBodyTo(String.class)
+                        .to("mock:received");
+            }
+        };
+    }
+
+    @AfterEach
+    public void closeClients() {
+        clients.forEach(MllpClientResource::close);
+        clients.clear();
+    }
+
+    @Test
+    public void testConcurrentConnections() throws Exception {
+        getMockEndpoint("mock:received").expectedMessageCount(CONCURRENT_CLIENTS);
+
+        connectClients(CONCURRENT_CLIENTS);
+
+        MockEndpoint.assertIsSatisfied(context, 10, TimeUnit.SECONDS);
+        assertEquals(CONCURRENT_CLIENTS, getMockEndpoint("mock:received").getReceivedCounter());
+    }
+
+    @Test
+    public void testConnectionAboveMaxConcurrentConsumersIsReset() throws Exception {
+        connectClients(CONCURRENT_CLIENTS);
+
+        // all the consumers are in use, as the connections are still open
+        MllpClientResource extraClient = newClient();
+        assertConnectionReset(extraClient, CONCURRENT_CLIENTS + 1);
+
+        // when a connection is closed, then another client can connect
+        clients.remove(0).close();
+        await().atMost(10, TimeUnit.SECONDS).untilAsserted(() -> {
+            MllpClientResource client = newClient();
+            try {
+                client.connect();
+                String ack = client.sendMessageAndWaitForAcknowledgement(
+                        Hl7TestMessageGenerator.generateMessage(CONCURRENT_CLIENTS + 2), ACKNOWLEDGEMENT_TIMEOUT_MS);
+                assertTrue(ack.contains("MSA|AA|"), "Unexpected acknowledgement: " + ack);
+            } finally {
+                client.close();
+            }
+        });
+    }
+
+    /**
+     * Opens the given number of client connections concurrently, where each client sends a message and waits for the
+     * acknowledgement, and keeps the connection open.
+     */
+    private void connectClients(int count) throws Exception {
+        ExecutorService clientExecutor = Executors.newFixedThreadPool(count);
+        try {
+            List<Future<String>> futures = new ArrayList<>();
+            for (int i = 1; i <= count; i++) {
+                final int messageNum = i;
+                MllpClientResource client = newClient();
+                clients.add(client);
+                futures.add(clientExecutor.submit(() -> {
+                    client.connect();
+                    return client.sendMessageAndWaitForAcknowledgement(
+                            Hl7TestMessageGenerator.generateMessage(messageNum), ACKNOWLEDGEMENT_TIMEOUT_MS);
+                }));
+            }
+
+            List<String> failures = new ArrayList<>();
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    String ack = futures.get(i).get(ACKNOWLEDGEMENT_TIMEOUT_MS * 2, TimeUnit.MILLISECONDS);
+                    if (ack == null || !ack.contains("MSA|AA|")) {
+                        failures.add("Client " + (i + 1) + ": unexpected ack: " + ack);
+                    }
+                } catch (Exception e) {
+                    failures.add("Client " + (i + 1) + ": " + e.getClass().getSimpleName() + " - " + e.getMessage());
+                }
+            }
+            if (!failures.isEmpty()) {
+                fail("Expected all " + count + " clients to be acknowledged, but " + failures.size() + " failed:\n"
+                     + String.join("\n", failures));
+            }
+        } finally {
+            clientExecutor.shutdown();
+            clientExecutor.awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+
+    private void assertConnectionReset(MllpClientResource client, int messageNum) {
+        try {
+            client.connect();
+            String ack = client.sendMessageAndWaitForAcknowledgement(
+                    Hl7TestMessageGenerator.generateMessage(messageNum), ACKNOWLEDGEMENT_TIMEOUT_MS);
+            // the connection has been closed before the acknowledgement was sent
+            assertEquals("", ack, "Connection above maxConcurrentConsumers should be reset");
+        } catch (MllpJUnitResourceTimeoutException e) {
+            fail("Connection above maxConcurrentConsumers should be reset, but timed out waiting for an acknowledgement");
+        } catch (MllpJUnitResourceException e) {
+            // expected as the connection is reset
+        } finally {
+            client.close();
+        }
+    }
+
+    private MllpClientResource newClient() {
+        return new MllpClientResource(mllpHost, mllpPortField.getPort());
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.seda;
+
+import java.util.concurrent.RejectedExecutionException;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.Processor;
+import org.apache.camel.support.UnitOfWorkHelper;
+import org.apache.camel.util.concurrent.DeadlineBlockingQueue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Implementation of {@link BlockingQueueFactory} producing {@link DeadlineBlockingQueue}, which orders the exchanges by
+ * the priority and deadline from the configured headers, instead of a hand-written comparator.
+ * <p/>
+ * Exchanges with a higher priority are consumed first, and exchanges with the same priority are consumed earliest
+ * deadline first. An exchange whose deadline has expired before it is consumed is not routed, and is given to the
+ * onExpired processor, or is failed with a {@link RejectedExecutionException}, after which the exchange is done, so a
+ * producer waiting for the reply is not kept waiting.
+ */
+public class DeadlineBlockingQueueFactory implements BlockingQueueFactory<Exchange> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DeadlineBlockingQueueFactory.class);
+
+    private String priorityHeader;
+    private String deadlineHeader;
+    private long starvationTimeout = 10000;
+    private Processor onExpired;
+
+    public String getPriorityHeader() {
+        return priorityHeader;
+    }
+
+    /**
+     * Name of the header with the priority of the exchange, where exchanges with a higher priority are consumed first.
+     * An exchange without the header has priority 0.
+     */
+    public void setPriorityHeader(String priorityHeader) {
+        this.priorityHeader = priorityHeader;
+    }
+
+    public String getDeadlineHeader() {
+        return deadlineHeader;
+    }
+
+    /**
+     * Name of the header with the deadline of the exchange, as an absolute time in millis (or a date).
+     */
+    public void setDeadlineHeader(String deadlineHeader) {
+        this.deadlineHeader = deadlineHeader;
+    }
+
+    public long getStarvationTimeout() {
+        return starvationTimeout;
+    }
+
+    /**
+     * The time in millis after which the exchange which has waited the longest is consumed first, regardless of its
+     * priority and deadline. Use 0 to disable. Is by default 10000.
+     */
+    public void setStarvationTimeout(long starvationTimeout) {
+        this.starvationTimeout = starvationTimeout;
+    }
+
+    public Processor getOnExpired() {
+        return onExpired;
+    }
+
+    /**
+     * Processor which is called with the exchanges whose deadline has expired.
+     */
+    public void setOnExpired(Processor onExpired) {
+        this.onExpired = onExpired;
+    }
+
+    @Override
+    public DeadlineBlockingQueue<Exchange> create() {
+        return create(Integer.MAX_VALUE);
+    }
+
+    @Override
+    public DeadlineBlockingQueue<Exchange> create(int capacity) {
+        return new DeadlineBlockingQueue<>(capacity, this::priorityOf, this::deadlineOf, starvationTimeout, this::expire);
+    }
+
+    private int priorityOf(Exchange exchange) {
+        Integer answer = priorityHeader != null ? exchange.getMessage().getHeader(priorityHeader, Integer.class) : null;
+        return answer != null ? answer : 0;
+    }
+
+    private long deadlineOf(Exchange exchange) {
+        Long answer = deadlineHeader != null ? exchange.getMessage().getHeader(deadlineHeader, Long.class) : null;
+        return answer != null ? answer : DeadlineBlockingQueue.NO_DEADLINE;
+    }
+
+    private void expire(Exchange exchange) {
+        LOG.debug("Deadline has expired for exchangeId: {}", exchange.getExchangeId());
+        if (onExpired != null) {
+            try {
+                onExpired.process(exchange);
+            } catch (Exception e) {
+                exchange.setException(e);
+            }
+        } else {
+            exchange.setException(new RejectedExecutionException("Deadline has expired"));
+        }
+        // the exchange is not consumed, so it must be done here
+        UnitOfWorkHelper.doneSynchronizations(exchange, exchange.getExchangeExtension().handoverCompletions());
+    }
+}
@@ -0,0 +1,473 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.seda;
+
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A bounded lock-free multi producer and multi consumer {@link BlockingQueue} that is backed by a ring buffer.
+ * <p/>
+ * Each slot in the ring has a sequence number that tells whether the slot is free to write, or holds an element ready
+ * to be taken, so producers and consumers only compete by a compare and set on the tail and head positions. Adding and
+ * taking elements does not lock, and a lock is only used to park threads that have to wait because the queue is empty
+ * or full. {@link #drainTo(Collection, int)} and {@link #offerAll(Collection)} claim a range of slots with a single
+ * compare and set, which makes them cheap for consumers and producers that work in batches.
+ * <p/>
+ * The capacity is rounded up to the nearest power of two (and is at least 2). Elements that are removed with
+ * {@link #remove(Object)} keep using their slot (and are counted in the size) until a consumer passes the slot. The
+ * iterator is weakly consistent and works on a snapshot of the queue.
+ */
+public class RingBufferBlockingQueue<E> extends AbstractQueue<E> implements BlockingQueue<E> {
+
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private final AtomicReferenceArray<E> buffer;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final int capacity;
+    // the position of the next element to take
+    private final AtomicLong head = new AtomicLong();
+    // the position of the next element to add
+    private final AtomicLong tail = new AtomicLong();
+    // only used for parking threads waiting on an empty or full queue
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private final AtomicInteger waitingConsumers = new AtomicInteger();
+    private final AtomicInteger waitingProducers = new AtomicInteger();
+
+    /**
+     * Creates a queue.
+     *
+     * @param capacity the capacity, is rounded up to the nearest power of two
+     */
+    public RingBufferBlockingQueue(int capacity) {
+        if (capacity <= 0 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Capacity must be between 1 and " + MAX_CAPACITY + ", was: " + capacity);
+        }
+        // a slot holding an element must have another sequence number than a free slot in the next round,
+        // which requires at least two slots
+        this.capacity = capacity <= 2 ? 2 : Integer.highestOneBit(capacity - 1) << 1;
+        this.mask = this.capacity - 1;
+        this.buffer = new AtomicReferenceArray<>(this.capacity);
+        this.sequences = new AtomicLongArray(this.capacity);
+        for (int i = 0; i < this.capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * The capacity of the queue
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public boolean offer(E e) {
+        Objects.requireNonNull(e);
+        if (tryOffer(e)) {
+            signalNotEmpty();
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean offer(E e, long timeout, TimeUnit unit) throws InterruptedException {
+        Objects.requireNonNull(e);
+        if (!tryOffer(e)) {
+            long nanos = unit.toNanos(timeout);
+            waitingProducers.incrementAndGet();
+            try {
+                lock.lockInterruptibly();
+                try {
+                    while (!tryOffer(e)) {
+                        if (nanos <= 0L) {
+                            return false;
+                        }
+                        nanos = notFull.awaitNanos(nanos);
+                    }
+                } finally {
+                    lock.unlock();
+                }
+            } finally {
+                waitingProducers.decrementAndGet();
+            }
+        }
+        signalNotEmpty();
+        return true;
+    }
+
+    @Override
+    public void put(E e) throws InterruptedException {
+        Objects.requireNonNull(e);
+        if (!tryOffer(e)) {
+            waitingProducers.incrementAndGet();
+            try {
+                lock.lockInterruptibly();
+                try {
+                    while (!tryOffer(e)) {
+                        notFull.await();
+                    }
+                } finally {
+                    lock.unlock();
+                }
+            } finally {
+                waitingProducers.decrementAndGet();
+            }
+        }
+        signalNotEmpty();
+    }
+
+    /**
+     * Adds as many of the given elements as there is room for, without waiting. The elements are added in the order of
+     * the collection, and the slots for as many elements as possible are claimed at once.
+     *
+     * @param  elements the elements to add
+     * @return          the number of elements added, which is less than the number of elements when the queue is full
+     */
+    public int offerAll(Collection<? extends E> elements) {
+        Object[] array = elements.toArray();
+        for (Object e : array) {
+            Objects.requireNonNull(e);
+        }
+        int added = 0;
+        while (added < array.length) {
+            long pos = tail.get();
+            int limit = Math.min(array.length - added, capacity);
+            int free = 0;
+            while (free < limit && sequences.get(index(pos + free)) == pos + free) {
+                free++;
+            }
+            if (free == 0) {
+                if (sequences.get(index(pos)) < pos) {
+                    // the queue is full
+                    break;
+                }
+                // another producer claimed the slot, so try again
+                continue;
+            }
+            if (tail.compareAndSet(pos, pos + free)) {
+                for (int i = 0; i < free; i++) {
+                    int index = index(pos + i);
+                    buffer.lazySet(index, elementAt(array, added + i));
+                    sequences.set(index, pos + i + 1);
+                }
+                added += free;
+            }
+        }
+        if (added > 0) {
+            signalNotEmpty();
+        }
+        return added;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        if (c == this) {
+            throw new IllegalArgumentException();
+        }
+        int added = offerAll(c);
+        if (added < c.size()) {
+            throw new IllegalStateException("Queue full");
+        }
+        return added > 0;
+    }
+
+    @Override
+    public E poll() {
+        E e = tryPoll();
+        if (e != null) {
+            signalNotFull();
+        }
+        return e;
+    }
+
+    @Override
+    public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+        E e = tryPoll();
+        if (e == null) {
+            long nanos = unit.toNanos(timeout);
+            waitingConsumers.incrementAndGet();
+            try {
+                lock.lockInterruptibly();
+                try {
+                    while ((e = tryPoll()) == null) {
+                        if (nanos <= 0L) {
+                            return null;
+                        }
+                        nanos = notEmpty.awaitNanos(nanos);
+                    }
+                } finally {
+                    lock.unlock();
+                }
+            } finally {
+                waitingConsumers.decrementAndGet();
+            }
+        }
+        signalNotFull();
+        return e;
+    }
+
+    @Override
+    public E take() throws InterruptedException {
+        E e = tryPoll();
+        if (e == null) {
+            waitingConsumers.incrementAndGet();
+            try {
+                lock.lockInterruptibly();
+                try {
+                    while ((e = tryPoll()) == null) {
+                        notEmpty.await();
+                    }
+                } finally {
+                    lock.unlock();
+                }
+            } finally {
+                waitingConsumers.decrementAndGet();
+            }
+        }
+        signalNotFull();
+        return e;
+    }
+
+    @Override
+    public E peek() {
+        long pos = head.get();
+        long end = tail.get();
+        for (; pos < end; pos++) {
+            E e = publishedElement(pos);
+            if (e != null && head.get() <= pos) {
+                return e;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> c) {
+        return drainTo(c, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> c, int maxElements) {
+        Objects.requireNonNull(c);
+        if (c == this) {
+            throw new IllegalArgumentException();
+        }
+        int drained = 0;
+        while (drained < maxElements) {
+            long pos = head.get();
+            int limit = Math.min(maxElements - drained, capacity);
+            int available = 0;
+            while (available < limit && sequences.get(index(pos + available)) == pos + available + 1) {
+                available++;
+            }
+            if (available == 0) {
+                break;
+            }
+            if (head.compareAndSet(pos, pos + available)) {
+                for (int i = 0; i < available; i++) {
+                    int index = index(pos + i);
+                    E e = buffer.getAndSet(index, null);
+                    sequences.set(index, pos + i + capacity);
+                    // the element is null if it was removed
+                    if (e != null) {
+                        c.add(e);
+                        drained++;
+                    }
+                }
+                signalNotFull();
+            }
+        }
+        return drained;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (o == null) {
+            return false;
+        }
+        long end = tail.get();
+        for (long pos = head.get(); pos < end; pos++) {
+            int index = index(pos);
+            E e = publishedElement(pos);
+            // clear the slot, and let the consumer that takes the slot skip it
+            if (e != null && o.equals(e) && buffer.compareAndSet(index, e, null)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        long h = head.get();
+        long t = tail.get();
+        return (int) Math.max(0, Math.min(t - h, capacity));
+    }
+
+    @Override
+    public int remainingCapacity() {
+        return capacity - size();
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        List<E> snapshot = new ArrayList<>();
+        long end = tail.get();
+        for (long pos = head.get(); pos < end; pos++) {
+            E e = publishedElement(pos);
+            if (e != null) {
+                snapshot.add(e);
+            }
+        }
+        return new Itr(snapshot.iterator());
+    }
+
+    private boolean tryOffer(E e) {
+        long pos = tail.get();
+        while (true) {
+            int index = index(pos);
+            long diff = sequences.get(index) - pos;
+            if (diff == 0) {
+                if (tail.compareAndSet(pos, pos + 1)) {
+                    buffer.lazySet(index, e);
+                    sequences.set(index, pos + 1);
+                    return true;
+                }
+            } else if (diff < 0) {
+                // the slot has not been taken since the previous round, so the queue is full
+                return false;
+            }
+            pos = tail.get();
+        }
+    }
+
+    private E tryPoll() {
+        long pos = head.get();
+        while (true) {
+            int index = index(pos);
+            long diff = sequences.get(index) - (pos + 1);
+            if (diff == 0) {
+                if (head.compareAndSet(pos, pos + 1)) {
+                    E e = buffer.getAndSet(index, null);
+                    sequences.set(index, pos + capacity);
+                    // the element is null if it was removed, so then take the next element
+                    if (e != null) {
+                        return e;
+                    }
+                }
+            } else if (diff < 0) {
+                // nothing has been added to the slot, so the queue is empty
+                return null;
+            }
+            pos = head.get();
+        }
+    }
+
+    /**
+     * Gets the element at the given position, or null if the slot does not hold an element for this position
+     */
+    private E publishedElement(long pos) {
+        int index = index(pos);
+        if (sequences.get(index) != pos + 1) {
+            return null;
+        }
+        E e = buffer.get(index);
+        // the slot may have been taken and reused while reading the element
+        return sequences.get(index) == pos + 1 ? e : null;
+    }
+
+    private int index(long pos) {
+        return (int) pos & mask;
+    }
+
+    @SuppressWarnings("unchecked")
+    private E elementAt(Object[] array, int index) {
+        return (E) array[index];
+    }
+
+    private void signalNotEmpty() {
+        if (waitingConsumers.get() > 0) {
+            lock.lock();
+            try {
+                notEmpty.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void signalNotFull() {
+        if (waitingProducers.get() > 0) {
+            lock.lock();
+            try {
+                notFull.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private final class Itr implements Iterator<E> {
+        private final Iterator<E> snapshot;
+        private E last;
+
+        Itr(Iterator<E> snapshot) {
+            this.snapshot = snapshot;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return snapshot.hasNext();
+        }
+
+        @Override
+        public E next() {
+            if (!snapshot.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            last = snapshot.next();
+            return last;
+        }
+
+        @Override
+        public void remove() {
+            if (last == null) {
+                throw new IllegalStateException();
+            }
+            RingBufferBlockingQueue.this.remove(last);
+            last = null;
+        }
+    }
+}
@@ -16,6 +16,7 @@
  */
 package org.apache.camel.component.seda;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CountDownLatch;
@@ -27,6 +28,7 @@ import org.apache.camel.AsyncCallback;
 import org.apache.camel.AsyncProcessor;
 import org.apache.camel.Exchange;
 import org.apache.camel.ExchangeExtension;
+import org.apache.camel.ExchangePropertyKey;
 import org.apache.camel.Processor;
 import org.apache.camel.ShutdownRunningTask;
 import org.apache.camel.Suspendable;
@@ -49,6 +51,8 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
     private static final Logger LOG = LoggerFactory.getLogger(SedaConsumer.class);
 
     private final AtomicInteger taskCount = new AtomicInteger();
+    // the exchanges taken from the queue in a batch that have not been processed yet
+    private final AtomicInteger pendingBatchSize = new AtomicInteger();
     private volatile CountDownLatch latch;
     private volatile boolean shutdownPending;
     private volatile boolean forceShutdown;
@@ -64,6 +68,13 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
         return pollTimeout;
     }
 
+    /**
+     * The maximum number of exchanges to take from the queue at once, where 1 means batching is not in use.
+     */
+    protected int getBatchSize() {
+        return getEndpoint().getBatchSize();
+    }
+
     protected boolean isShutdownPending() {
         return shutdownPending;
     }
@@ -87,11 +98,11 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
     @Override
     public int getPendingExchangesSize() {
         // the route is shutting down, so either we should purge the queue,
-        // or return how many exchanges are still on the queue
+        // or return how many exchanges are still on the queue (or taken in a batch and not processed yet)
         if (getEndpoint().isPurgeWhenStopping()) {
             getEndpoint().purgeQueue();
         }
-        return getEndpoint().getQueue().size();
+        return getEndpoint().getQueue().size() + pendingBatchSize.get();
     }
 
     @Override
@@ -155,6 +166,8 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
 
     protected void doRun() {
         BlockingQueue<Exchange> queue = getEndpoint().getQueue();
+        int batchSize = getBatchSize();
+        List<Exchange> batch = batchSize > 1 ? new ArrayList<>(batchSize) : null;
         // loop while we are allowed, or if we are stopping loop until the queue is empty
         while (queue != null && isRunAllowed()) {
 
@@ -204,7 +217,13 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
                     LOG.trace("Polled queue {} with timeout {} ms. -> {}", ObjectHelper.getIdentityHashCode(queue), pollTimeout,
                             exchange);
                 }
-                if (exchange != null) {
+                if (exchange != null && batch != null) {
+                    // take the rest of the batch from the queue while we are awake
+                    batch.add(exchange);
+                    queue.drainTo(batch, batchSize - 1);
+                    exchange = null;
+                    processPolledBatch(batch);
+                } else if (exchange != null) {
                     try {
                         // process the exchange (subclasses can override to dispatch to another thread)
                         processPolledExchange(exchange);
@@ -251,6 +270,54 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
         // nothing by default
     }
 
+    /**
+     * Process a batch of polled exchanges one after the other, with the batch exchange properties set on each of the
+     * exchanges. If the consumer is no longer allowed to run, then the exchanges that have not been processed are put
+     * back on the queue.
+     *
+     * @param batch the exchanges to process, the list is cleared when done
+     */
+    protected void processPolledBatch(List<Exchange> batch) {
+        int total = batch.size();
+        LOG.trace("Processing batch of {} exchanges", total);
+        pendingBatchSize.addAndGet(total);
+        int processed = 0;
+        try {
+            for (int i = 0; i < total; i++) {
+                if (!isRunAllowed()) {
+                    requeueBatch(batch.subList(i, total));
+                    break;
+                }
+                Exchange exchange = batch.get(i);
+                // the exchange is inflight when being processed
+                processed++;
+                pendingBatchSize.decrementAndGet();
+                exchange.setProperty(ExchangePropertyKey.BATCH_INDEX, i);
+                exchange.setProperty(ExchangePropertyKey.BATCH_SIZE, total);
+                exchange.setProperty(ExchangePropertyKey.BATCH_COMPLETE, i == total - 1);
+                try {
+                    processPolledExchange(exchange);
+                } catch (Exception e) {
+                    getExceptionHandler().handleException("Error processing exchange", exchange, e);
+                }
+            }
+        } finally {
+            pendingBatchSize.addAndGet(processed - total);
+            batch.clear();
+        }
+    }
+
+    private void requeueBatch(List<Exchange> rest) {
+        LOG.debug("Consumer is not allowed to run, so putting {} exchanges from the batch back on the queue", rest.size());
+        BlockingQueue<Exchange> queue = getEndpoint().getQueue();
+        for (Exchange exchange : rest) {
+            if (!queue.offer(exchange)) {
+                getExceptionHandler().handleException("Cannot put exchange back on the queue as the queue is full",
+                        exchange, new IllegalStateException("Queue full"));
+            }
+        }
+    }
+
     /**
      * Process a polled exchange. Subclasses can override to dispatch to another thread.
      *
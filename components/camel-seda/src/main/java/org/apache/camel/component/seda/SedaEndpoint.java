@@ -107,6 +107,13 @@ public class SedaEndpoint extends DefaultEndpoint implements AsyncEndpoint, Brow
                             + "The concurrentConsumers option becomes a limit on max concurrent tasks (0 = unlimited). "
                             + "Requires virtual threads to be enabled via camel.threads.virtual.enabled=true.")
     private boolean virtualThreadPerTask;
+    @UriParam(label = "consumer,advanced", defaultValue = "1",
+              description = "The maximum number of messages a consumer thread takes from the queue at once, which are then processed"
+                            + " one after the other as a batch. Taking messages in batches means the consumer threads hand over the queue"
+                            + " lock less often, which can increase throughput at high message rates. Each message has the batch exchange"
+                            + " properties (CamelBatchIndex, CamelBatchSize and CamelBatchComplete) set. This option is not in use"
+                            + " when virtualThreadPerTask is enabled. The default value 1 takes one message at a time.")
+    private int batchSize = 1;
 
     @UriParam(label = "producer", defaultValue = "IfReplyExpected",
               description = "Option to specify whether the caller should wait for the async task to complete or not before continuing. The"
@@ -140,6 +147,12 @@ public class SedaEndpoint extends DefaultEndpoint implements AsyncEndpoint, Brow
               description = "Whether the producer should discard the message (do not add the message to the queue), when sending to a queue"
                             + " with no active consumers. Only one of the options discardIfNoConsumers and failIfNoConsumers can be enabled at the same time.")
     private boolean discardIfNoConsumers;
+    @UriParam(label = "producer,advanced",
+              description = "Whether the producer should add the exchanges to the queue in one bulk operation, when the message body is a"
+                            + " List of exchanges (such as the result of aggregating with groupExchanges). Each exchange in the list is then"
+                            + " added to the queue as a message of its own. This is only in use when the producer does not wait for the"
+                            + " task to complete.")
+    private boolean bulkOffer;
 
     private BlockingQueueFactory<Exchange> queueFactory;
     private volatile QueueReference ref;
@@ -553,6 +566,36 @@ public class SedaEndpoint extends DefaultEndpoint implements AsyncEndpoint, Brow
         this.virtualThreadPerTask = virtualThreadPerTask;
     }
 
+    @ManagedAttribute
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * The maximum number of messages a consumer thread takes from the queue at once, which are then processed one after
+     * the other as a batch. Taking messages in batches means the consumer threads hand over the queue lock less often,
+     * which can increase throughput at high message rates. Each message has the batch exchange properties
+     * (CamelBatchIndex, CamelBatchSize and CamelBatchComplete) set. This option is not in use when virtualThreadPerTask
+     * is enabled. The default value 1 takes one message at a time.
+     */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    @ManagedAttribute
+    public boolean isBulkOffer() {
+        return bulkOffer;
+    }
+
+    /**
+     * Whether the producer should add the exchanges to the queue in one bulk operation, when the message body is a List
+     * of exchanges (such as the result of aggregating with groupExchanges). Each exchange in the list is then added to
+     * the queue as a message of its own. This is only in use when the producer does not wait for the task to complete.
+     */
+    public void setBulkOffer(boolean bulkOffer) {
+        this.bulkOffer = bulkOffer;
+    }
+
     @ManagedAttribute
     public boolean isPurgeWhenStopping() {
         return purgeWhenStopping;
@@ -17,6 +17,8 @@
 package org.apache.camel.component.seda;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
@@ -41,6 +43,7 @@ public class SedaProducer extends DefaultAsyncProducer {
     private final boolean blockWhenFull;
     private final boolean discardWhenFull;
     private final long offerTimeout;
+    private final boolean bulkOffer;
 
     public SedaProducer(SedaEndpoint endpoint, WaitForTaskToComplete waitForTaskToComplete,
                         long timeout, boolean blockWhenFull, boolean discardWhenFull, long offerTimeout) {
@@ -51,6 +54,7 @@ public class SedaProducer extends DefaultAsyncProducer {
         this.blockWhenFull = blockWhenFull;
         this.discardWhenFull = discardWhenFull;
         this.offerTimeout = offerTimeout;
+        this.bulkOffer = endpoint.isBulkOffer();
     }
 
     @Override
@@ -147,7 +151,12 @@ public class SedaProducer extends DefaultAsyncProducer {
         } else {
             // no wait, eg its a InOnly then just add to queue and return
             try {
-                addToQueue(exchange, true);
+                List<Exchange> exchanges = bulkOffer ? groupedExchanges(exchange) : null;
+                if (exchanges != null) {
+                    addAllToQueue(exchange, exchanges);
+                } else {
+                    addToQueue(exchange, true);
+                }
             } catch (SedaConsumerNotAvailableException | IOException e) {
                 exchange.setException(e);
                 callback.done(true);
@@ -190,6 +199,60 @@ public class SedaProducer extends DefaultAsyncProducer {
      * @param copy     whether to create a copy of the exchange to use for adding to the queue
      */
     protected void addToQueue(Exchange exchange, boolean copy) throws SedaConsumerNotAvailableException, IOException {
+        BlockingQueue<Exchange> queue = resolveQueue(exchange);
+        if (queue == null) {
+            return;
+        }
+
+        Exchange target = exchange;
+
+        // handover the completion so its the copy which performs that, as we do not wait
+        if (copy) {
+            target = prepareQueueCopy(exchange);
+        }
+
+        offerToQueue(queue, target);
+    }
+
+    /**
+     * Strategy method for adding the grouped exchanges to the queue.
+     * <p>
+     * A copy of each of the exchanges is added to the queue. If the queue is a {@link RingBufferBlockingQueue} then the
+     * exchanges are added in one bulk operation, otherwise they are added one by one. The exchanges that cannot be
+     * added at once because the queue is full are then added the same way as a single exchange.
+     *
+     * @param exchange  the exchange with the grouped exchanges as message body
+     * @param exchanges the grouped exchanges to add to the queue
+     */
+    protected void addAllToQueue(Exchange exchange, List<Exchange> exchanges)
+            throws SedaConsumerNotAvailableException, IOException {
+        BlockingQueue<Exchange> queue = resolveQueue(exchange);
+        if (queue == null) {
+            return;
+        }
+
+        List<Exchange> targets = new ArrayList<>(exchanges.size());
+        for (Exchange grouped : exchanges) {
+            targets.add(prepareQueueCopy(grouped));
+        }
+
+        LOG.trace("Adding {} Exchanges to queue", targets.size());
+        if (queue instanceof RingBufferBlockingQueue<Exchange> ring) {
+            int added = ring.offerAll(targets);
+            if (added == targets.size()) {
+                return;
+            }
+            targets = targets.subList(added, targets.size());
+        }
+        for (Exchange target : targets) {
+            offerToQueue(queue, target);
+        }
+    }
+
+    /**
+     * Gets the queue to add the exchange to, or null if the exchange should be discarded as there are no consumers
+     */
+    private BlockingQueue<Exchange> resolveQueue(Exchange exchange) throws SedaConsumerNotAvailableException {
         BlockingQueue<Exchange> queue = null;
         QueueReference queueReference = endpoint.getQueueReference();
         if (queueReference != null) {
@@ -205,24 +268,25 @@ public class SedaProducer extends DefaultAsyncProducer {
                 throw new SedaConsumerNotAvailableException("No consumers available on endpoint: " + endpoint, exchange);
             } else if (endpoint.isDiscardIfNoConsumers()) {
                 LOG.debug("Discard message as no active consumers on endpoint: {}", endpoint);
-                return;
+                return null;
             }
         }
+        return queue;
+    }
 
-        Exchange target = exchange;
-
-        // handover the completion so its the copy which performs that, as we do not wait
-        if (copy) {
-            target = prepareCopy(exchange, true);
-            // if the body is stream caching based we need to make a deep copy
-            if (target.getMessage().getBody() instanceof StreamCache sc) {
-                StreamCache newBody = sc.copy(target);
-                if (newBody != null) {
-                    target.getMessage().setBody(newBody);
-                }
+    private Exchange prepareQueueCopy(Exchange exchange) throws IOException {
+        Exchange target = prepareCopy(exchange, true);
+        // if the body is stream caching based we need to make a deep copy
+        if (target.getMessage().getBody() instanceof StreamCache sc) {
+            StreamCache newBody = sc.copy(target);
+            if (newBody != null) {
+                target.getMessage().setBody(newBody);
             }
         }
+        return target;
+    }
 
+    private void offerToQueue(BlockingQueue<Exchange> queue, Exchange target) {
         LOG.trace("Adding Exchange to queue: {}", target);
         if (discardWhenFull) {
             try {
@@ -259,4 +323,21 @@ public class SedaProducer extends DefaultAsyncProducer {
         }
     }
 
+    /**
+     * Gets the grouped exchanges if the message body is a non empty list of exchanges, otherwise null
+     */
+    private static List<Exchange> groupedExchanges(Exchange exchange) {
+        if (exchange.getMessage().getBody() instanceof List<?> list && !list.isEmpty()) {
+            List<Exchange> answer = new ArrayList<>(list.size());
+            for (Object element : list) {
+                if (!(element instanceof Exchange grouped)) {
+                    return null;
+                }
+                answer.add(grouped);
+            }
+            return answer;
+        }
+        return null;
+    }
+
 }
@@ -96,6 +96,12 @@ public class ThreadPerTaskSedaConsumer extends SedaConsumer {
         }
     }
 
+    @Override
+    protected int getBatchSize() {
+        // each exchange is dispatched to its own task, which holds a permit from the concurrency limiter
+        return 1;
+    }
+
     @Override
     protected boolean beforePoll() throws InterruptedException {
         // Acquire permit if using concurrency limiter (blocks if at limit)
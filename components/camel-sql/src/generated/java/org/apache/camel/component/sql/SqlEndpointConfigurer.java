@@ -40,6 +40,10 @@ public class SqlEndpointConfigurer extends PropertyConfigurerSupport implements
         case "breakBatchOnConsumeFail": target.setBreakBatchOnConsumeFail(property(camelContext, boolean.class, value)); return true;
         case "bridgeerrorhandler":
         case "bridgeErrorHandler": target.setBridgeErrorHandler(property(camelContext, boolean.class, value)); return true;
+        case "coalescingbatchsize":
+        case "coalescingBatchSize": target.setCoalescingBatchSize(property(camelContext, int.class, value)); return true;
+        case "coalescinglingertime":
+        case "coalescingLingerTime": target.setCoalescingLingerTime(property(camelContext, long.class, value)); return true;
         case "datasource":
         case "dataSource": target.setDataSource(property(camelContext, javax.sql.DataSource.class, value)); return true;
         case "delay": target.setDelay(property(camelContext, long.class, value)); return true;
@@ -54,6 +58,14 @@ public class SqlEndpointConfigurer extends PropertyConfigurerSupport implements
         case "greedy": target.setGreedy(property(camelContext, boolean.class, value)); return true;
         case "initialdelay":
         case "initialDelay": target.setInitialDelay(property(camelContext, long.class, value)); return true;
+        case "keysetcolumn":
+        case "keysetColumn": target.setKeysetColumn(property(camelContext, java.lang.String.class, value)); return true;
+        case "keysetpagesize":
+        case "keysetPageSize": target.setKeysetPageSize(property(camelContext, int.class, value)); return true;
+        case "keysetpartitions":
+        case "keysetPartitions": target.setKeysetPartitions(property(camelContext, int.class, value)); return true;
+        case "keysetstaterepository":
+        case "keysetStateRepository": target.setKeysetStateRepository(property(camelContext, org.apache.camel.spi.StateRepository.class, value)); return true;
         case "lazystartproducer":
         case "lazyStartProducer": target.setLazyStartProducer(property(camelContext, boolean.class, value)); return true;
         case "maxmessagesperpoll":
@@ -140,6 +152,10 @@ public class SqlEndpointConfigurer extends PropertyConfigurerSupport implements
         case "breakBatchOnConsumeFail": return boolean.class;
         case "bridgeerrorhandler":
         case "bridgeErrorHandler": return boolean.class;
+        case "coalescingbatchsize":
+        case "coalescingBatchSize": return int.class;
+        case "coalescinglingertime":
+        case "coalescingLingerTime": return long.class;
         case "datasource":
         case "dataSource": return javax.sql.DataSource.class;
         case "delay": return long.class;
@@ -154,6 +170,14 @@ public class SqlEndpointConfigurer extends PropertyConfigurerSupport implements
         case "greedy": return boolean.class;
         case "initialdelay":
         case "initialDelay": return long.class;
+        case "keysetcolumn":
+        case "keysetColumn": return java.lang.String.class;
+        case "keysetpagesize":
+        case "keysetPageSize": return int.class;
+        case "keysetpartitions":
+        case "keysetPartitions": return int.class;
+        case "keysetstaterepository":
+        case "keysetStateRepository": return org.apache.camel.spi.StateRepository.class;
         case "lazystartproducer":
         case "lazyStartProducer": return boolean.class;
         case "maxmessagesperpoll":
@@ -236,6 +260,10 @@ public class SqlEndpointConfigurer extends PropertyConfigurerSupport implements
         case "breakBatchOnConsumeFail": return target.isBreakBatchOnConsumeFail();
         case "bridgeerrorhandler":
         case "bridgeErrorHandler": return target.isBridgeErrorHandler();
+        case "coalescingbatchsize":
+        case "coalescingBatchSize": return target.getCoalescingBatchSize();
+        case "coalescinglingertime":
+        case "coalescingLingerTime": return target.getCoalescingLingerTime();
         case "datasource":
         case "dataSource": return target.getDataSource();
         case "delay": return target.getDelay();
@@ -250,6 +278,14 @@ public class SqlEndpointConfigurer extends PropertyConfigurerSupport implements
         case "greedy": return target.isGreedy();
         case "initialdelay":
         case "initialDelay": return target.getInitialDelay();
+        case "keysetcolumn":
+        case "keysetColumn": return target.getKeysetColumn();
+        case "keysetpagesize":
+        case "keysetPageSize": return target.getKeysetPageSize();
+        case "keysetpartitions":
+        case "keysetPartitions": return target.getKeysetPartitions();
+        case "keysetstaterepository":
+        case "keysetStateRepository": return target.getKeysetStateRepository();
         case "lazystartproducer":
         case "lazyStartProducer": return target.isLazyStartProducer();
         case "maxmessagesperpoll":
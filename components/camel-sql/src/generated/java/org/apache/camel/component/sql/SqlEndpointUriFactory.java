@@ -24,7 +24,7 @@ public class SqlEndpointUriFactory extends org.apache.camel.support.component.En
     private static final Set<String> ENDPOINT_IDENTITY_PROPERTY_NAMES;
     private static final Map<String, String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(49);
+        Set<String> props = new HashSet<>(55);
         props.add("allowNamedParameters");
         props.add("alwaysPopulateStatement");
         props.add("backoffErrorThreshold");
@@ -34,6 +34,8 @@ public class SqlEndpointUriFactory extends org.apache.camel.support.component.En
         props.add("batchAutoCommitDisabled");
         props.add("breakBatchOnConsumeFail");
         props.add("bridgeErrorHandler");
+        props.add("coalescingBatchSize");
+        props.add("coalescingLingerTime");
         props.add("dataSource");
         props.add("delay");
         props.add("exceptionHandler");
@@ -42,6 +44,10 @@ public class SqlEndpointUriFactory extends org.apache.camel.support.component.En
         props.add("fetchSize");
         props.add("greedy");
         props.add("initialDelay");
+        props.add("keysetColumn");
+        props.add("keysetPageSize");
+        props.add("keysetPartitions");
+        props.add("keysetStateRepository");
         props.add("lazyStartProducer");
         props.add("maxMessagesPerPoll");
         props.add("noop");
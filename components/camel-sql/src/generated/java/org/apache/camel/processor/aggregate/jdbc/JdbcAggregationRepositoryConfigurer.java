@@ -25,12 +25,18 @@ public class JdbcAggregationRepositoryConfigurer extends org.apache.camel.suppor
         switch (ignoreCase ? name.toLowerCase() : name) {
         case "allowserializedheaders":
         case "allowSerializedHeaders": target.setAllowSerializedHeaders(property(camelContext, boolean.class, value)); return true;
+        case "appendonly":
+        case "appendOnly": target.setAppendOnly(property(camelContext, boolean.class, value)); return true;
+        case "compactioninterval":
+        case "compactionInterval": target.setCompactionInterval(property(camelContext, int.class, value)); return true;
         case "datasource":
         case "dataSource": target.setDataSource(property(camelContext, javax.sql.DataSource.class, value)); return true;
         case "deadletteruri":
         case "deadLetterUri": target.setDeadLetterUri(property(camelContext, java.lang.String.class, value)); return true;
         case "deserializationfilter":
         case "deserializationFilter": target.setDeserializationFilter(property(camelContext, java.lang.String.class, value)); return true;
+        case "exchangecodec":
+        case "exchangeCodec": target.setExchangeCodec(property(camelContext, org.apache.camel.support.ExchangeCodec.class, value)); return true;
         case "headerstostoreastext":
         case "headersToStoreAsText": target.setHeadersToStoreAsText(property(camelContext, java.util.List.class, value)); return true;
         case "jdbcoptimisticlockingexceptionmapper":
@@ -60,12 +66,18 @@ public class JdbcAggregationRepositoryConfigurer extends org.apache.camel.suppor
         switch (ignoreCase ? name.toLowerCase() : name) {
         case "allowserializedheaders":
         case "allowSerializedHeaders": return boolean.class;
+        case "appendonly":
+        case "appendOnly": return boolean.class;
+        case "compactioninterval":
+        case "compactionInterval": return int.class;
         case "datasource":
         case "dataSource": return javax.sql.DataSource.class;
         case "deadletteruri":
         case "deadLetterUri": return java.lang.String.class;
         case "deserializationfilter":
         case "deserializationFilter": return java.lang.String.class;
+        case "exchangecodec":
+        case "exchangeCodec": return org.apache.camel.support.ExchangeCodec.class;
         case "headerstostoreastext":
         case "headersToStoreAsText": return java.util.List.class;
         case "jdbcoptimisticlockingexceptionmapper":
@@ -96,12 +108,18 @@ public class JdbcAggregationRepositoryConfigurer extends org.apache.camel.suppor
         switch (ignoreCase ? name.toLowerCase() : name) {
         case "allowserializedheaders":
         case "allowSerializedHeaders": return target.isAllowSerializedHeaders();
+        case "appendonly":
+        case "appendOnly": return target.isAppendOnly();
+        case "compactioninterval":
+        case "compactionInterval": return target.getCompactionInterval();
         case "datasource":
         case "dataSource": return target.getDataSource();
         case "deadletteruri":
         case "deadLetterUri": return target.getDeadLetterUri();
         case "deserializationfilter":
         case "deserializationFilter": return target.getDeserializationFilter();
+        case "exchangecodec":
+        case "exchangeCodec": return target.getExchangeCodec();
         case "headerstostoreastext":
         case "headersToStoreAsText": return target.getHeadersToStoreAsText();
         case "jdbcoptimisticlockingexceptionmapper":
@@ -19,19 +19,28 @@ package org.apache.camel.component.sql;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Queue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
+import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
 import org.apache.camel.ExchangePropertyKey;
 import org.apache.camel.Message;
 import org.apache.camel.Processor;
 import org.apache.camel.RollbackExchangeException;
 import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.spi.StateRepository;
 import org.apache.camel.support.ResourceHelper;
 import org.apache.camel.support.ScheduledBatchPollingConsumer;
+import org.apache.camel.support.processor.state.MemoryStateRepository;
+import org.apache.camel.support.service.ServiceHelper;
 import org.apache.camel.util.CastUtils;
 import org.apache.camel.util.ObjectHelper;
 import org.slf4j.Logger;
@@ -39,6 +48,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.dao.DataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.PreparedStatementCallback;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 
@@ -48,6 +58,9 @@ public class SqlConsumer extends ScheduledBatchPollingConsumer {
 
     private static final Logger LOG = LoggerFactory.getLogger(SqlConsumer.class);
 
+    // the header used as named parameter for the last consumed key in keyset mode
+    private static final String KEYSET_LAST_KEY = "CamelSqlKeysetLastKey";
+
     private final String query;
     private String resolvedQuery;
     private final JdbcTemplate jdbcTemplate;
@@ -65,6 +78,12 @@ public class SqlConsumer extends ScheduledBatchPollingConsumer {
     private boolean breakBatchOnConsumeFail;
     private int parametersCount;
     private boolean alwaysPopulateStatement;
+    private String keysetColumn;
+    private int keysetPageSize = 1000;
+    private int keysetPartitions = 1;
+    private StateRepository<String, String> keysetStateRepository;
+    private volatile Object[] keysetLastKeys;
+    private ExecutorService keysetExecutorService;
 
     private static final class DataHolder {
         private Exchange exchange;
@@ -121,6 +140,63 @@ public class SqlConsumer extends ScheduledBatchPollingConsumer {
             String placeholder = getEndpoint().isUsePlaceholder() ? getEndpoint().getPlaceholder() : null;
             resolvedQuery = SqlHelper.resolveQuery(getEndpoint().getCamelContext(), query, placeholder);
         }
+
+        if (keysetColumn != null) {
+            doStartKeyset();
+        }
+    }
+
+    private void doStartKeyset() throws Exception {
+        if (!keysetColumn.matches("[a-zA-Z_][a-zA-Z0-9_]*")) {
+            throw new IllegalArgumentException("Invalid keysetColumn: " + keysetColumn);
+        }
+        if (!getEndpoint().isAllowNamedParameters()) {
+            throw new IllegalArgumentException("Cannot use keysetColumn when allowNamedParameters is disabled");
+        }
+        if (getEndpoint().getOutputType() != SqlOutputType.SelectList) {
+            throw new IllegalArgumentException("Cannot use keysetColumn with outputType=" + getEndpoint().getOutputType());
+        }
+        if (keysetPageSize <= 0) {
+            throw new IllegalArgumentException("keysetPageSize must be a positive number, was: " + keysetPageSize);
+        }
+        if (keysetPartitions <= 0) {
+            throw new IllegalArgumentException("keysetPartitions must be a positive number, was: " + keysetPartitions);
+        }
+        if (keysetPartitions > 1 && getEndpoint().isTransacted()) {
+            throw new IllegalArgumentException("Cannot use keysetPartitions together with transacted");
+        }
+
+        if (keysetStateRepository == null) {
+            keysetStateRepository = new MemoryStateRepository();
+        }
+        ServiceHelper.startService(keysetStateRepository);
+
+        // restore the last consumed key of each partition
+        Object[] lastKeys = new Object[keysetPartitions];
+        for (int partition = 0; partition < keysetPartitions; partition++) {
+            String state = keysetStateRepository.getState(keysetStateKey(partition));
+            if (state != null) {
+                lastKeys[partition] = restoreKeysetKey(state);
+                LOG.debug("Resuming keyset partition {} after key: {}", partition, state);
+            }
+        }
+        keysetLastKeys = lastKeys;
+
+        if (keysetPartitions > 1) {
+            keysetExecutorService = getEndpoint().getCamelContext().getExecutorServiceManager()
+                    .newFixedThreadPool(this, "SqlKeysetConsumer", keysetPartitions);
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+
+        if (keysetExecutorService != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdown(keysetExecutorService);
+            keysetExecutorService = null;
+        }
+        ServiceHelper.stopService(keysetStateRepository);
     }
 
     @Override
@@ -129,6 +205,10 @@ public class SqlConsumer extends ScheduledBatchPollingConsumer {
         shutdownRunningTask = null;
         pendingExchanges = 0;
 
+        if (keysetColumn != null) {
+            return pollKeyset();
+        }
+
         final Exchange dummy = createExchange(false);
         final String preparedQuery
                 = sqlPrepareStatementStrategy.prepareQuery(resolvedQuery, getEndpoint().isAllowNamedParameters(), dummy);
@@ -212,6 +292,313 @@ public class SqlConsumer extends ScheduledBatchPollingConsumer {
         return messagePolled;
     }
 
+    /**
+     * Polls the next page of each partition, when keysetColumn is in use.
+     */
+    private int pollKeyset() throws Exception {
+        if (keysetExecutorService == null) {
+            return pollKeysetPartition(0);
+        }
+
+        List<Future<Integer>> futures = new ArrayList<>(keysetPartitions);
+        for (int partition = 0; partition < keysetPartitions; partition++) {
+            final int index = partition;
+            futures.add(keysetExecutorService.submit(() -> pollKeysetPartition(index)));
+        }
+
+        int total = 0;
+        Exception cause = null;
+        for (Future<Integer> future : futures) {
+            // wait for all the partitions so a failed partition does not overlap with the next poll
+            try {
+                total += future.get();
+            } catch (ExecutionException e) {
+                if (cause == null) {
+                    cause = e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+                }
+            }
+        }
+        if (cause != null) {
+            throw cause;
+        }
+        return total;
+    }
+
+    private int pollKeysetPartition(int partition) throws Exception {
+        final Object lastKey = keysetLastKeys[partition];
+        final String keysetQuery = createKeysetQuery(partition, lastKey != null);
+
+        final Exchange dummy = createExchange(false);
+        if (lastKey != null) {
+            dummy.getIn().setHeader(KEYSET_LAST_KEY, lastKey);
+        }
+        final String preparedQuery = sqlPrepareStatementStrategy.prepareQuery(keysetQuery, true, dummy);
+        final List<Object> keys = new ArrayList<>();
+        final List<Object> rows = new ArrayList<>();
+
+        LOG.trace("poll partition {}: {}", partition, preparedQuery);
+        try {
+            jdbcTemplate.execute(preparedQuery, new PreparedStatementCallback<Void>() {
+                @Override
+                public Void doInPreparedStatement(PreparedStatement ps) throws SQLException, DataAccessException {
+                    ps.setMaxRows(keysetPageSize);
+                    if (getEndpoint().getFetchSize() > 0) {
+                        ps.setFetchSize(getEndpoint().getFetchSize());
+                    }
+
+                    int expected = ps.getParameterMetaData().getParameterCount();
+                    if (alwaysPopulateStatement || expected > 0) {
+                        Iterator<?> i = sqlPrepareStatementStrategy.createPopulateIterator(keysetQuery, preparedQuery,
+                                expected, dummy, null);
+                        sqlPrepareStatementStrategy.populateStatement(ps, i, expected);
+                    }
+
+                    LOG.debug("Executing query: {}", preparedQuery);
+                    ResultSet rs = ps.executeQuery();
+                    try {
+                        RowMapper<?> rowMapper = createKeysetRowMapper();
+                        while (rs.next()) {
+                            keys.add(rs.getObject(keysetColumn));
+                            rows.add(rowMapper.mapRow(rs, rows.size()));
+                        }
+                    } finally {
+                        closeResultSet(rs);
+                    }
+                    return null;
+                }
+            });
+        } finally {
+            releaseExchange(dummy, false);
+        }
+
+        // okay we have some response from SQL so lets mark the consumer as ready
+        forceConsumerAsReady();
+
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        int processed = processKeysetPage(rows);
+        if (processed > 0) {
+            // only advance past the rows that have been processed, as the page is stopped at the first row
+            // which failed (unless handled by onConsumeFailed), so that row is polled again
+            Object key = keys.get(processed - 1);
+            keysetLastKeys[partition] = key;
+            keysetStateRepository.setState(keysetStateKey(partition), storeKeysetKey(key));
+            LOG.debug("Keyset partition {} consumed {} rows up to key: {}", partition, processed, key);
+        }
+        return processed;
+    }
+
+    /**
+     * Processes a page of rows, and executes the onConsume query as a JDBC batch for the page. The page is stopped at
+     * the first row which failed, unless onConsumeFailed is configured to handle the failed rows.
+     *
+     * @return the number of rows that have been processed
+     */
+    private int processKeysetPage(List<Object> rows) throws Exception {
+        List<Object> items = useIterator ? rows : List.<Object> of(rows);
+        int total = items.size();
+        List<Exchange> consumed = new ArrayList<>(total);
+        List<Object> consumedData = new ArrayList<>(total);
+
+        int index = 0;
+        try {
+            for (; index < total && isBatchAllowed(); index++) {
+                Object data = items.get(index);
+                Exchange exchange = createExchange(data);
+                exchange.setProperty(ExchangePropertyKey.BATCH_INDEX, index);
+                exchange.setProperty(ExchangePropertyKey.BATCH_SIZE, total);
+                exchange.setProperty(ExchangePropertyKey.BATCH_COMPLETE, index == total - 1);
+
+                try {
+                    getProcessor().process(exchange);
+                } catch (Exception e) {
+                    exchange.setException(e);
+                }
+
+                if (getEndpoint().isTransacted() && exchange.isFailed()) {
+                    // break out as we are transacted and should rollback
+                    Exception cause = exchange.getException();
+                    releaseExchange(exchange, false);
+                    if (cause != null) {
+                        throw cause;
+                    } else {
+                        throw new RollbackExchangeException("Rollback transaction due error processing exchange", null);
+                    }
+                }
+
+                if (exchange.isFailed() && onConsumeFailed == null) {
+                    // stop the page so the keyset is not advanced past the failed row, which is then polled again
+                    // (as the default consumer selects the row again when onConsume has not been executed)
+                    LOG.debug("Stopping keyset page at failed row {} of {}", index, total);
+                    releaseExchange(exchange, false);
+                    break;
+                }
+
+                if (!exchange.isFailed() && onConsume != null) {
+                    // execute on consume as a batch when the page has been processed
+                    consumed.add(exchange);
+                    consumedData.add(data);
+                    continue;
+                }
+
+                try {
+                    if (exchange.isFailed() && onConsumeFailed != null) {
+                        commit(exchange, data, onConsumeFailed);
+                    }
+                } catch (Exception e) {
+                    if (breakBatchOnConsumeFail) {
+                        throw e;
+                    } else {
+                        handleException("Error executing onConsumeFailed query " + onConsumeFailed, e);
+                    }
+                } finally {
+                    releaseExchange(exchange, false);
+                }
+            }
+
+            if (!consumed.isEmpty()) {
+                try {
+                    commitKeysetPage(consumed, consumedData);
+                } catch (Exception e) {
+                    if (breakBatchOnConsumeFail) {
+                        throw e;
+                    } else {
+                        handleException("Error executing onConsume query " + onConsume, e);
+                    }
+                }
+            }
+        } finally {
+            for (Exchange exchange : consumed) {
+                releaseExchange(exchange, false);
+            }
+        }
+
+        try {
+            if (onConsumeBatchComplete != null) {
+                int updateCount
+                        = sqlProcessingStrategy.commitBatchComplete(getEndpoint(), jdbcTemplate, onConsumeBatchComplete);
+                LOG.debug("onConsumeBatchComplete update count {}", updateCount);
+            }
+        } catch (Exception e) {
+            if (breakBatchOnConsumeFail) {
+                throw e;
+            } else {
+                handleException("Error executing onConsumeBatchComplete query " + onConsumeBatchComplete, e);
+            }
+        }
+
+        // when not using iterator then the page is a single exchange
+        return useIterator ? index : index * rows.size();
+    }
+
+    private void commit(Exchange exchange, Object data, String sql) throws Exception {
+        int updateCount = sqlProcessingStrategy.commit(getEndpoint(), exchange, data, jdbcTemplate, sql);
+        if (expectedUpdateCount > -1 && updateCount != expectedUpdateCount) {
+            String msg = "Expected update count " + expectedUpdateCount + " but was " + updateCount
+                         + " executing query: " + sql;
+            throw new SQLException(msg);
+        }
+    }
+
+    /**
+     * Executes the onConsume query for the processed rows of the page as a JDBC batch. A custom
+     * {@link SqlProcessingStrategy} is called for each row instead.
+     */
+    private void commitKeysetPage(final List<Exchange> exchanges, final List<Object> data) throws Exception {
+        if (!(sqlProcessingStrategy instanceof DefaultSqlProcessingStrategy)) {
+            for (int i = 0; i < exchanges.size(); i++) {
+                commit(exchanges.get(i), data.get(i), onConsume);
+            }
+            return;
+        }
+
+        final String preparedQuery
+                = sqlPrepareStatementStrategy.prepareQuery(onConsume, getEndpoint().isAllowNamedParameters(), exchanges.get(0));
+        int[] updateCounts = jdbcTemplate.execute(preparedQuery, new PreparedStatementCallback<int[]>() {
+            @Override
+            public int[] doInPreparedStatement(PreparedStatement ps) throws SQLException, DataAccessException {
+                int expected = ps.getParameterMetaData().getParameterCount();
+                for (int i = 0; i < exchanges.size(); i++) {
+                    Iterator<?> iterator = sqlPrepareStatementStrategy.createPopulateIterator(onConsume, preparedQuery,
+                            expected, exchanges.get(i), data.get(i));
+                    if (iterator != null) {
+                        sqlPrepareStatementStrategy.populateStatement(ps, iterator, expected);
+                    }
+                    ps.addBatch();
+                }
+                LOG.trace("Execute batch query {} with {} rows", onConsume, exchanges.size());
+                return ps.executeBatch();
+            }
+        });
+
+        if (expectedUpdateCount > -1 && updateCounts != null) {
+            for (int updateCount : updateCounts) {
+                // some drivers do not return the update count of each statement in the batch
+                if (updateCount != Statement.SUCCESS_NO_INFO && updateCount != expectedUpdateCount) {
+                    String msg = "Expected update count " + expectedUpdateCount + " but was " + updateCount
+                                 + " executing query: " + onConsume;
+                    throw new SQLException(msg);
+                }
+            }
+        }
+    }
+
+    private RowMapper<?> createKeysetRowMapper() {
+        RowMapperFactory factory = getEndpoint().getRowMapperFactory();
+        if (getEndpoint().getOutputClass() != null) {
+            Class<?> outputClazz
+                    = getEndpoint().getCamelContext().getClassResolver().resolveClass(getEndpoint().getOutputClass());
+            return factory.newBeanRowMapper(outputClazz);
+        }
+        return factory.newColumnRowMapper();
+    }
+
+    /**
+     * Creates the query to select the next page of the partition, by wrapping the query in a sub select so the keyset
+     * predicates can be added regardless of the query.
+     */
+    private String createKeysetQuery(int partition, boolean hasLastKey) {
+        String column = "keyset." + keysetColumn;
+        StringBuilder sb = new StringBuilder(resolvedQuery.length() + 128);
+        sb.append("SELECT * FROM (").append(resolvedQuery).append(") keyset");
+        String separator = " WHERE ";
+        if (hasLastKey) {
+            sb.append(separator).append(column).append(" > :#").append(KEYSET_LAST_KEY);
+            separator = " AND ";
+        }
+        if (keysetPartitions > 1) {
+            sb.append(separator).append("MOD(").append(column).append(", ").append(keysetPartitions).append(") = ")
+                    .append(partition);
+        }
+        sb.append(" ORDER BY ").append(column);
+        return sb.toString();
+    }
+
+    private String keysetStateKey(int partition) {
+        // include the number of partitions as the rows of a partition change when the number of partitions is changed
+        return getRouteId() + "/" + keysetColumn + "/" + partition + "/" + keysetPartitions;
+    }
+
+    private static String storeKeysetKey(Object key) {
+        // store the type of the key, so the key is restored as the same type to be compared as such
+        return key.getClass().getName() + ":" + key;
+    }
+
+    private Object restoreKeysetKey(String state) throws Exception {
+        int pos = state.indexOf(':');
+        if (pos == -1) {
+            return state;
+        }
+        CamelContext camelContext = getEndpoint().getCamelContext();
+        Class<?> type = camelContext.getClassResolver().resolveClass(state.substring(0, pos));
+        if (type == null) {
+            return state;
+        }
+        return camelContext.getTypeConverter().mandatoryConvertTo(type, state.substring(pos + 1));
+    }
+
     private void addListToQueue(Object data, Queue<DataHolder> answer) {
         if (data instanceof List) {
             // create a list of exchange objects with the data
@@ -436,4 +823,48 @@ public class SqlConsumer extends ScheduledBatchPollingConsumer {
     public void setAlwaysPopulateStatement(boolean alwaysPopulateStatement) {
         this.alwaysPopulateStatement = alwaysPopulateStatement;
     }
+
+    public String getKeysetColumn() {
+        return keysetColumn;
+    }
+
+    /**
+     * Sets the column to use for keyset pagination.
+     */
+    public void setKeysetColumn(String keysetColumn) {
+        this.keysetColumn = keysetColumn;
+    }
+
+    public int getKeysetPageSize() {
+        return keysetPageSize;
+    }
+
+    /**
+     * Sets the maximum number of rows in each page, when using keyset pagination.
+     */
+    public void setKeysetPageSize(int keysetPageSize) {
+        this.keysetPageSize = keysetPageSize;
+    }
+
+    public int getKeysetPartitions() {
+        return keysetPartitions;
+    }
+
+    /**
+     * Sets the number of partitions which are polled concurrently, when using keyset pagination.
+     */
+    public void setKeysetPartitions(int keysetPartitions) {
+        this.keysetPartitions = keysetPartitions;
+    }
+
+    public StateRepository<String, String> getKeysetStateRepository() {
+        return keysetStateRepository;
+    }
+
+    /**
+     * Sets the state repository to store the last consumed key of each partition, when using keyset pagination.
+     */
+    public void setKeysetStateRepository(StateRepository<String, String> keysetStateRepository) {
+        this.keysetStateRepository = keysetStateRepository;
+    }
 }
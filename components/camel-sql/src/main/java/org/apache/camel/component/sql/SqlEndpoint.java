@@ -22,6 +22,7 @@ import org.apache.camel.Consumer;
 import org.apache.camel.Processor;
 import org.apache.camel.Producer;
 import org.apache.camel.spi.Metadata;
+import org.apache.camel.spi.StateRepository;
 import org.apache.camel.spi.UriEndpoint;
 import org.apache.camel.spi.UriParam;
 import org.apache.camel.spi.UriPath;
@@ -40,6 +41,33 @@ public class SqlEndpoint extends DefaultSqlEndpoint {
     @UriParam(label = "producer", defaultValue = "true",
               description = "Whether to optimize batch by turning off auto-commit which can dramatic improve performance, and instead execute as a manual commit after the entire batch operation is complete")
     private boolean batchAutoCommitDisabled = true;
+    @UriParam(label = "producer,advanced",
+              description = "To coalesce exchanges that are sent concurrently to this endpoint into a single JDBC batch of up to this number of exchanges."
+                            + " Each exchange is still completed on its own with its own update count (or exception)."
+                            + " This is only used for update statements (insert, update or delete), and not when batch, useMessageBodyForSql or outputType=StreamList is in use,"
+                            + " nor for exchanges that are transacted or use a custom query, data source or generated keys."
+                            + " Use 0 or 1 to turn this off.")
+    private int coalescingBatchSize;
+    @UriParam(label = "producer,advanced", defaultValue = "10",
+              description = "The maximum time in millis to wait for more exchanges to coalesce into a JDBC batch, when coalescingBatchSize is in use.")
+    private long coalescingLingerTime = 10;
+    @UriParam(label = "consumer",
+              description = "To consume the rows in pages using keyset pagination on the given column, which must be unique and increasing, such as the primary key."
+                            + " Each poll selects the next page of rows with a greater value than the last consumed row, ordered by the column,"
+                            + " instead of selecting all the rows. The onConsume query is executed as a JDBC batch for each page."
+                            + " Use greedy=true to drain the table without waiting for the next poll.")
+    private String keysetColumn;
+    @UriParam(label = "consumer", defaultValue = "1000",
+              description = "The maximum number of rows in each page, when keysetColumn is in use.")
+    private int keysetPageSize = 1000;
+    @UriParam(label = "consumer", defaultValue = "1",
+              description = "The number of partitions to split the rows into, which are polled concurrently, when keysetColumn is in use."
+                            + " The rows are assigned to a partition using MOD on the keyset column, which must therefore be numeric.")
+    private int keysetPartitions = 1;
+    @UriParam(label = "consumer,advanced",
+              description = "To use a state repository to store the last consumed key of each partition, when keysetColumn is in use."
+                            + " By default the last consumed keys are kept in memory, and the rows are consumed from the beginning when the route is restarted.")
+    private StateRepository<String, String> keysetStateRepository;
 
     public SqlEndpoint() {
     }
@@ -65,6 +93,10 @@ public class SqlEndpoint extends DefaultSqlEndpoint {
         consumer.setRouteEmptyResultSet(isRouteEmptyResultSet());
         consumer.setParametersCount(getParametersCount());
         consumer.setAlwaysPopulateStatement(isAlwaysPopulateStatement());
+        consumer.setKeysetColumn(getKeysetColumn());
+        consumer.setKeysetPageSize(getKeysetPageSize());
+        consumer.setKeysetPartitions(getKeysetPartitions());
+        consumer.setKeysetStateRepository(getKeysetStateRepository());
         configureConsumer(consumer);
         return consumer;
     }
@@ -77,6 +109,8 @@ public class SqlEndpoint extends DefaultSqlEndpoint {
                 this, query, getJdbcTemplate(), prepareStrategy, isBatch(),
                 isAlwaysPopulateStatement(), isUseMessageBodyForSql());
         result.setParametersCount(getParametersCount());
+        result.setMaxBatchSize(coalescingBatchSize);
+        result.setLingerTime(coalescingLingerTime);
         return result;
     }
 
@@ -109,4 +143,81 @@ public class SqlEndpoint extends DefaultSqlEndpoint {
     public void setBatchAutoCommitDisabled(boolean batchAutoCommitDisabled) {
         this.batchAutoCommitDisabled = batchAutoCommitDisabled;
     }
+
+    public int getCoalescingBatchSize() {
+        return coalescingBatchSize;
+    }
+
+    /**
+     * To coalesce exchanges that are sent concurrently to this endpoint into a single JDBC batch of up to this number
+     * of exchanges. Each exchange is still completed on its own with its own update count (or exception). This is only
+     * used for update statements (insert, update or delete), and not when batch, useMessageBodyForSql or
+     * outputType=StreamList is in use, nor for exchanges that are transacted or use a custom query, data source or
+     * generated keys. Use 0 or 1 to turn this off.
+     */
+    public void setCoalescingBatchSize(int coalescingBatchSize) {
+        this.coalescingBatchSize = coalescingBatchSize;
+    }
+
+    public long getCoalescingLingerTime() {
+        return coalescingLingerTime;
+    }
+
+    /**
+     * The maximum time in millis to wait for more exchanges to coalesce into a JDBC batch, when coalescingBatchSize is
+     * in use.
+     */
+    public void setCoalescingLingerTime(long coalescingLingerTime) {
+        this.coalescingLingerTime = coalescingLingerTime;
+    }
+
+    public String getKeysetColumn() {
+        return keysetColumn;
+    }
+
+    /**
+     * To consume the rows in pages using keyset pagination on the given column, which must be unique and increasing,
+     * such as the primary key. Each poll selects the next page of rows with a greater value than the last consumed row,
+     * ordered by the column, instead of selecting all the rows. The onConsume query is executed as a JDBC batch for
+     * each page. Use greedy=true to drain the table without waiting for the next poll.
+     */
+    public void setKeysetColumn(String keysetColumn) {
+        this.keysetColumn = keysetColumn;
+    }
+
+    public int getKeysetPageSize() {
+        return keysetPageSize;
+    }
+
+    /**
+     * The maximum number of rows in each page, when keysetColumn is in use.
+     */
+    public void setKeysetPageSize(int keysetPageSize) {
+        this.keysetPageSize = keysetPageSize;
+    }
+
+    public int getKeysetPartitions() {
+        return keysetPartitions;
+    }
+
+    /**
+     * The number of partitions to split the rows into, which are polled concurrently, when keysetColumn is in use. The
+     * rows are assigned to a partition using MOD on the keyset column, which must therefore be numeric.
+     */
+    public void setKeysetPartitions(int keysetPartitions) {
+        this.keysetPartitions = keysetPartitions;
+    }
+
+    public StateRepository<String, String> getKeysetStateRepository() {
+        return keysetStateRepository;
+    }
+
+    /**
+     * To use a state repository to store the last consumed key of each partition, when keysetColumn is in use. By
+     * default the last consumed keys are kept in memory, and the rows are consumed from the beginning when the route is
+     * restarted.
+     */
+    public void setKeysetStateRepository(StateRepository<String, String> keysetStateRepository) {
+        this.keysetStateRepository = keysetStateRepository;
+    }
 }
@@ -67,6 +67,35 @@ public final class SqlHelper {
         return answer;
     }
 
+    /**
+     * Whether the query is an update statement (insert, update, delete, merge or upsert), which does not return a
+     * result set.
+     */
+    public static boolean isUpdateStatement(String query) {
+        if (query == null) {
+            return false;
+        }
+        String trim = query.trim();
+        // skip leading parenthesis and block comments
+        while (!trim.isEmpty()) {
+            if (trim.startsWith("(")) {
+                trim = trim.substring(1).trim();
+            } else if (trim.startsWith("/*") && trim.indexOf("*/") != -1) {
+                trim = trim.substring(trim.indexOf("*/") + 2).trim();
+            } else {
+                break;
+            }
+        }
+        int end = 0;
+        while (end < trim.length() && Character.isLetter(trim.charAt(end))) {
+            end++;
+        }
+        String keyword = trim.substring(0, end);
+        return "insert".equalsIgnoreCase(keyword) || "update".equalsIgnoreCase(keyword)
+                || "delete".equalsIgnoreCase(keyword) || "merge".equalsIgnoreCase(keyword)
+                || "upsert".equalsIgnoreCase(keyword);
+    }
+
     public static Object lookupParameter(String nextParam, Exchange exchange, Object batchBody) {
         Object body = batchBody != null ? batchBody : exchange.getMessage().getBody();
         Map<?, ?> bodyMap = safeMap(exchange.getContext().getTypeConverter().tryConvertTo(Map.class, exchange, body));
@@ -22,14 +22,17 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import javax.sql.DataSource;
 
 import org.apache.camel.Exchange;
-import org.apache.camel.support.DefaultProducer;
+import org.apache.camel.support.BatchingProducer;
 import org.apache.camel.support.ResourceHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -41,7 +44,7 @@ import static org.springframework.jdbc.support.JdbcUtils.closeConnection;
 import static org.springframework.jdbc.support.JdbcUtils.closeResultSet;
 import static org.springframework.jdbc.support.JdbcUtils.closeStatement;
 
-public class SqlProducer extends DefaultProducer {
+public class SqlProducer extends BatchingProducer {
 
     private static final Logger LOG = LoggerFactory.getLogger(SqlProducer.class);
 
@@ -56,6 +59,7 @@ public class SqlProducer extends DefaultProducer {
     private final boolean useMessageBodyForSql;
     private final boolean manualCommit;
     private int parametersCount;
+    private boolean updateQuery;
 
     public SqlProducer(SqlEndpoint endpoint, String query, JdbcTemplate jdbcTemplate,
                        SqlPrepareStatementStrategy sqlPrepareStatementStrategy,
@@ -82,6 +86,7 @@ public class SqlProducer extends DefaultProducer {
         if (ResourceHelper.isClasspathUri(query)) {
             String placeholder = getEndpoint().isUsePlaceholder() ? getEndpoint().getPlaceholder() : null;
             resolvedQuery = SqlHelper.resolveQuery(getEndpoint().getCamelContext(), query, placeholder);
+            updateQuery = SqlHelper.isUpdateStatement(resolvedQuery);
         }
     }
 
@@ -92,6 +97,7 @@ public class SqlProducer extends DefaultProducer {
         if (!ResourceHelper.isClasspathUri(query)) {
             String placeholder = getEndpoint().isUsePlaceholder() ? getEndpoint().getPlaceholder() : null;
             resolvedQuery = SqlHelper.resolveQuery(getEndpoint().getCamelContext(), query, placeholder);
+            updateQuery = SqlHelper.isUpdateStatement(resolvedQuery);
         }
     }
 
@@ -147,6 +153,110 @@ public class SqlProducer extends DefaultProducer {
         }
     }
 
+    @Override
+    protected boolean isBatchable(Exchange exchange) {
+        // only plain update statements using the endpoint query and data source can be coalesced into a JDBC batch,
+        // as queries returning a result set (such as select) cannot be executed as a batch
+        if (!updateQuery || batch || useMessageBodyForSql || exchange.isTransacted()
+                || getEndpoint().getOutputType() == SqlOutputType.StreamList) {
+            return false;
+        }
+        return exchange.getIn().getHeader(SqlConstants.SQL_QUERY) == null
+                && exchange.getMessage().getHeader(SqlConstants.SQL_DATA_SOURCE) == null
+                && !exchange.getIn().getHeader(SqlConstants.SQL_RETRIEVE_GENERATED_KEYS, false, Boolean.class);
+    }
+
+    @Override
+    protected void processBatch(List<Exchange> exchanges) throws Exception {
+        // the prepared query can vary by exchange (such as IN queries) so group the exchanges by their query
+        Map<String, List<Exchange>> groups = new LinkedHashMap<>();
+        for (Exchange exchange : exchanges) {
+            try {
+                String preparedQuery
+                        = sqlPrepareStatementStrategy.prepareQuery(resolvedQuery, getEndpoint().isAllowNamedParameters(),
+                                exchange);
+                groups.computeIfAbsent(preparedQuery, k -> new ArrayList<>()).add(exchange);
+            } catch (Exception e) {
+                exchange.setException(e);
+            }
+        }
+
+        for (Map.Entry<String, List<Exchange>> group : groups.entrySet()) {
+            List<Exchange> list = group.getValue();
+            if (list.size() == 1) {
+                processSingle(list.get(0));
+                continue;
+            }
+            try {
+                int[] updateCounts = processCoalesced(list, resolvedQuery, group.getKey());
+                for (int i = 0; i < list.size(); i++) {
+                    Exchange exchange = list.get(i);
+                    exchange.getIn().setHeader(SqlConstants.SQL_UPDATE_COUNT, updateCounts[i]);
+                    if (getEndpoint().getOutputHeader() != null) {
+                        exchange.getIn().setHeader(getEndpoint().getOutputHeader(), null);
+                    }
+                }
+            } catch (Exception e) {
+                if (manualCommit) {
+                    // the batch was rolled back, so execute each exchange on its own to find the ones failing
+                    LOG.debug("Error executing coalesced batch of {} exchanges due to: {}. Executing exchanges one by one.",
+                            list.size(), e.getMessage());
+                    for (Exchange exchange : list) {
+                        processSingle(exchange);
+                    }
+                } else {
+                    // some of the statements may already be committed so we cannot retry them
+                    for (Exchange exchange : list) {
+                        exchange.setException(e);
+                    }
+                }
+            }
+        }
+    }
+
+    private void processSingle(Exchange exchange) {
+        try {
+            process(exchange);
+        } catch (Exception e) {
+            exchange.setException(e);
+        }
+    }
+
+    private int[] processCoalesced(List<Exchange> exchanges, String sql, String preparedQuery) {
+        LOG.trace("jdbcTemplate.execute coalesced batch of {} exchanges: {}", exchanges.size(), preparedQuery);
+        return jdbcTemplate.execute((PreparedStatementCreator) con -> con.prepareStatement(preparedQuery),
+                (PreparedStatementCallback<int[]>) ps -> {
+                    for (Exchange exchange : exchanges) {
+                        populateStatement(ps, exchange, sql, preparedQuery);
+                        ps.addBatch();
+                    }
+                    boolean restoreAutoCommit = true;
+                    if (manualCommit) {
+                        // execute the batch as a single transaction, so it can be retried if it fails
+                        restoreAutoCommit = ps.getConnection().getAutoCommit();
+                        ps.getConnection().setAutoCommit(false);
+                    }
+                    try {
+                        int[] updateCounts = ps.executeBatch();
+                        if (manualCommit) {
+                            ps.getConnection().commit();
+                        }
+                        return updateCounts;
+                    } catch (Exception e) {
+                        if (manualCommit) {
+                            ps.getConnection().rollback();
+                        }
+                        throw e;
+                    } finally {
+                        if (manualCommit && restoreAutoCommit) {
+                            // restore auto commit on connection as it may be used
+                            // in another kind of query (connection pooling)
+                            ps.getConnection().setAutoCommit(true);
+                        }
+                    }
+                });
+    }
+
     private Object processInternal(
             Exchange exchange, PreparedStatementCreator statementCreator,
             String sql, String preparedQuery, Boolean shouldRetrieveGeneratedKeys) {
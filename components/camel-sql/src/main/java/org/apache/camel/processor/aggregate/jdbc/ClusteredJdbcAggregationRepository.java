@@ -224,4 +224,12 @@ public class ClusteredJdbcAggregationRepository extends JdbcAggregationRepositor
         this.recoveryByInstance = recoveryByInstance;
     }
 
+    @Override
+    protected void doInit() throws Exception {
+        if (isAppendOnly()) {
+            throw new IllegalArgumentException("Append only mode is not supported by ClusteredJdbcAggregationRepository");
+        }
+        super.doInit();
+    }
+
 }
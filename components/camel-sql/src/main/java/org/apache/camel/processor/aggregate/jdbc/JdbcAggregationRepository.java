@@ -22,6 +22,7 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Types;
+import java.util.ArrayList;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -32,11 +33,14 @@ import javax.sql.DataSource;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
+import org.apache.camel.ExchangePropertyKey;
 import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.spi.AppendOnlyAggregationRepository;
 import org.apache.camel.spi.Configurer;
 import org.apache.camel.spi.Metadata;
 import org.apache.camel.spi.OptimisticLockingAggregationRepository;
 import org.apache.camel.spi.RecoverableAggregationRepository;
+import org.apache.camel.support.ExchangeCodec;
 import org.apache.camel.support.service.ServiceSupport;
 import org.apache.camel.util.ObjectHelper;
 import org.slf4j.Logger;
@@ -67,7 +71,7 @@ import org.springframework.transaction.support.TransactionTemplate;
           annotations = { "interfaceName=org.apache.camel.spi.AggregationRepository" })
 @Configurer(metadataOnly = true)
 public class JdbcAggregationRepository extends ServiceSupport
-        implements RecoverableAggregationRepository, OptimisticLockingAggregationRepository {
+        implements RecoverableAggregationRepository, OptimisticLockingAggregationRepository, AppendOnlyAggregationRepository {
 
     protected static final String EXCHANGE = "exchange";
     protected static final String ID = "id";
@@ -133,6 +137,21 @@ public class JdbcAggregationRepository extends ServiceSupport
             = new DefaultJdbcOptimisticLockingExceptionMapper();
     @Metadata(label = "advanced", description = "To use a custom LobHandler")
     private LobHandler lobHandler = new DefaultLobHandler();
+    @Metadata(label = "advanced",
+              description = "To use a custom codec for storing the exchanges. By default Java serialization is used."
+                            + " Use org.apache.camel.support.BinaryExchangeCodec for a more compact and faster format,"
+                            + " which can also read exchanges that have been stored using Java serialization.")
+    private ExchangeCodec exchangeCodec;
+    @Metadata(label = "advanced",
+              description = "Whether to store each incoming exchange as its own row in the appended table, instead of updating"
+                            + " the aggregated exchange. The exchanges are then only aggregated when the group is completed,"
+                            + " which avoids writing the growing aggregated exchange for every incoming exchange.")
+    private boolean appendOnly;
+    @Metadata(label = "advanced", defaultValue = "1000",
+              description = "When append only mode is enabled, the number of exchanges appended to a group after which the"
+                            + " group is compacted, by storing the aggregated exchange and removing the appended rows."
+                            + " Use 0 to never compact.")
+    private int compactionInterval = 1000;
 
     /**
      * Creates an aggregation repository
@@ -413,6 +432,10 @@ public class JdbcAggregationRepository extends ServiceSupport
                     Exchange result
                             = jdbcCamelCodec.unmarshallExchange(camelContext, marshalledExchange, deserializationFilter);
                     result.setProperty(VERSION_PROPERTY, version);
+                    if (appendOnly && repositoryName.equals(getRepositoryName())) {
+                        // in append only mode the version is the number of exchanges the compacted exchange contains
+                        result.setProperty(ExchangePropertyKey.AGGREGATED_SIZE, (int) version);
+                    }
                     return result;
 
                 } catch (EmptyResultDataAccessException ex) {
@@ -430,6 +453,10 @@ public class JdbcAggregationRepository extends ServiceSupport
 
     @Override
     public void remove(final CamelContext camelContext, final String correlationId, final Exchange exchange) {
+        if (appendOnly) {
+            removeAppended(camelContext, correlationId, exchange);
+            return;
+        }
         transactionTemplate.execute(new TransactionCallbackWithoutResult() {
             protected void doInTransactionWithoutResult(TransactionStatus status) {
                 final String confirmKey = exchange.getExchangeId();
@@ -457,6 +484,134 @@ public class JdbcAggregationRepository extends ServiceSupport
         });
     }
 
+    /**
+     * Removes the compacted and appended exchanges of the group, when append only mode is enabled.
+     */
+    private void removeAppended(final CamelContext camelContext, final String correlationId, final Exchange exchange) {
+        transactionTemplate.execute(new TransactionCallbackWithoutResult() {
+            protected void doInTransactionWithoutResult(TransactionStatus status) {
+                final String confirmKey = exchange.getExchangeId();
+                try {
+                    LOG.debug("Removing key {}", correlationId);
+                    String table = getRepositoryName();
+                    String appended = getRepositoryNameAppended();
+                    verifyTableName(table);
+                    verifyTableName(appended);
+                    int deleteCount = jdbcTemplate.update(
+                            "DELETE FROM " + table + " WHERE " + ID + " = ?", correlationId); // NOSONAR
+                    deleteCount += jdbcTemplate.update(
+                            "DELETE FROM " + appended + " WHERE " + ID + " = ?", correlationId); // NOSONAR
+                    if (deleteCount == 0) {
+                        // the group has already been removed
+                        throw new OptimisticLockingException();
+                    }
+
+                    insert(camelContext, confirmKey, exchange, getRepositoryNameCompleted(), 1L);
+                    LOG.debug("Removed key {}", correlationId);
+
+                } catch (OptimisticLockingException e) {
+                    throw e;
+                } catch (Exception e) {
+                    throw new RuntimeException("Error removing key " + correlationId + " from repository " + repositoryName, e);
+                }
+            }
+        });
+    }
+
+    @Override
+    public int append(final CamelContext camelContext, final String correlationId, final Exchange exchange) {
+        return transactionTemplate.execute(new TransactionCallback<Integer>() {
+            public Integer doInTransaction(TransactionStatus status) {
+                try {
+                    String table = getRepositoryName();
+                    String appended = getRepositoryNameAppended();
+                    verifyTableName(table);
+                    verifyTableName(appended);
+
+                    // the version of the appended rows is the position of the exchange in the group
+                    Long last = jdbcTemplate.queryForObject(
+                            "SELECT MAX(" + VERSION + ") FROM " + appended + " WHERE " + ID + " = ?", Long.class, // NOSONAR
+                            correlationId);
+                    if (last == null) {
+                        // nothing appended since the group was compacted (if ever)
+                        List<Long> compacted = jdbcTemplate.queryForList(
+                                "SELECT " + VERSION + " FROM " + table + " WHERE " + ID + " = ?", Long.class, // NOSONAR
+                                correlationId);
+                        last = compacted.isEmpty() ? 0L : compacted.get(0);
+                    }
+                    long version = last + 1;
+
+                    LOG.debug("Appending record with key {} and version {}", correlationId, version);
+                    insert(camelContext, correlationId, exchange, appended, version);
+                    return (int) version;
+
+                } catch (Exception e) {
+                    throw new RuntimeException(
+                            "Error appending to repository " + repositoryName + " with key " + correlationId, e);
+                }
+            }
+        });
+    }
+
+    @Override
+    public List<Exchange> getAppended(final CamelContext camelContext, final String correlationId) {
+        return transactionTemplateReadOnly.execute(new TransactionCallback<List<Exchange>>() {
+            public List<Exchange> doInTransaction(TransactionStatus status) {
+                String appended = getRepositoryNameAppended();
+                verifyTableName(appended);
+                List<byte[]> rows = jdbcTemplate.query(
+                        "SELECT " + EXCHANGE + " FROM " + appended + " WHERE " + ID + " = ? ORDER BY " + VERSION, // NOSONAR
+                        new RowMapper<byte[]>() {
+                            public byte[] mapRow(ResultSet rs, int rowNum) throws SQLException {
+                                return getLobHandler().getBlobAsBytes(rs, EXCHANGE);
+                            }
+                        }, correlationId);
+
+                List<Exchange> answer = new ArrayList<>(rows.size());
+                try {
+                    for (byte[] data : rows) {
+                        answer.add(jdbcCamelCodec.unmarshallExchange(camelContext, data, deserializationFilter));
+                    }
+                } catch (IOException | ClassNotFoundException e) {
+                    // Rollback the transaction
+                    throw new RuntimeException(
+                            "Error getting appended exchanges with key " + correlationId + " from repository "
+                                               + repositoryName,
+                            e);
+                }
+                LOG.debug("Getting appended exchanges with key {} -> {}", correlationId, answer.size());
+                return answer;
+            }
+        });
+    }
+
+    @Override
+    public void compact(
+            final CamelContext camelContext, final String correlationId, final Exchange aggregated, final int size) {
+        transactionTemplate.execute(new TransactionCallbackWithoutResult() {
+            protected void doInTransactionWithoutResult(TransactionStatus status) {
+                try {
+                    LOG.debug("Compacting key {} with {} exchanges", correlationId, size);
+                    String table = getRepositoryName();
+                    String appended = getRepositoryNameAppended();
+                    verifyTableName(table);
+                    verifyTableName(appended);
+
+                    // the version of the compacted exchange is the number of exchanges it contains
+                    jdbcTemplate.update("DELETE FROM " + table + " WHERE " + ID + " = ?", correlationId); // NOSONAR
+                    insert(camelContext, correlationId, aggregated, table, (long) size);
+                    jdbcTemplate.update(
+                            "DELETE FROM " + appended + " WHERE " + ID + " = ? AND " + VERSION + " <= ?", // NOSONAR
+                            correlationId, size);
+
+                } catch (Exception e) {
+                    throw new RuntimeException(
+                            "Error compacting key " + correlationId + " in repository " + repositoryName, e);
+                }
+            }
+        });
+    }
+
     @Override
     public void confirm(final CamelContext camelContext, final String exchangeId) {
         confirmWithResult(camelContext, exchangeId);
@@ -483,7 +638,12 @@ public class JdbcAggregationRepository extends ServiceSupport
 
     @Override
     public Set<String> getKeys() {
-        return getKeys(getRepositoryName());
+        Set<String> keys = getKeys(getRepositoryName());
+        if (appendOnly) {
+            // groups which have not been compacted yet only have appended rows
+            keys.addAll(getKeys(getRepositoryNameAppended()));
+        }
+        return keys;
     }
 
     @Override
@@ -501,7 +661,7 @@ public class JdbcAggregationRepository extends ServiceSupport
         return transactionTemplateReadOnly.execute(new TransactionCallback<LinkedHashSet<String>>() {
             public LinkedHashSet<String> doInTransaction(TransactionStatus status) {
                 verifyTableName(repositoryName);
-                List<String> keys = jdbcTemplate.query("SELECT " + ID + " FROM " + repositoryName, // NOSONAR
+                List<String> keys = jdbcTemplate.query("SELECT DISTINCT " + ID + " FROM " + repositoryName, // NOSONAR
                         new RowMapper<String>() {
                             public String mapRow(ResultSet rs, int rowNum) throws SQLException {
                                 String id = rs.getString(ID);
@@ -680,6 +840,46 @@ public class JdbcAggregationRepository extends ServiceSupport
         this.lobHandler = lobHandler;
     }
 
+    public ExchangeCodec getExchangeCodec() {
+        return exchangeCodec;
+    }
+
+    /**
+     * To use a custom codec for storing the exchanges. By default Java serialization is used. Use
+     * {@link org.apache.camel.support.BinaryExchangeCodec} for a more compact and faster format, which can also read
+     * exchanges that have been stored using Java serialization.
+     */
+    public void setExchangeCodec(ExchangeCodec exchangeCodec) {
+        this.exchangeCodec = exchangeCodec;
+    }
+
+    @Override
+    public boolean isAppendOnly() {
+        return appendOnly;
+    }
+
+    /**
+     * Whether to store each incoming exchange as its own row in the appended table, instead of updating the aggregated
+     * exchange. The exchanges are then only aggregated when the group is completed, which avoids writing the growing
+     * aggregated exchange for every incoming exchange.
+     */
+    public void setAppendOnly(boolean appendOnly) {
+        this.appendOnly = appendOnly;
+    }
+
+    @Override
+    public int getCompactionInterval() {
+        return compactionInterval;
+    }
+
+    /**
+     * When append only mode is enabled, the number of exchanges appended to a group after which the group is
+     * compacted, by storing the aggregated exchange and removing the appended rows. Use 0 to never compact.
+     */
+    public void setCompactionInterval(int compactionInterval) {
+        this.compactionInterval = compactionInterval;
+    }
+
     public JdbcOptimisticLockingExceptionMapper getJdbcOptimisticLockingExceptionMapper() {
         return jdbcOptimisticLockingExceptionMapper;
     }
@@ -697,6 +897,10 @@ public class JdbcAggregationRepository extends ServiceSupport
         return getRepositoryName() + "_completed";
     }
 
+    public String getRepositoryNameAppended() {
+        return getRepositoryName() + "_appended";
+    }
+
     public String getDeserializationFilter() {
         return deserializationFilter;
     }
@@ -726,6 +930,10 @@ public class JdbcAggregationRepository extends ServiceSupport
         transactionTemplateReadOnly = new TransactionTemplate(transactionManager);
         transactionTemplateReadOnly.setPropagationBehavior(propagationBehavior);
         transactionTemplateReadOnly.setReadOnly(true);
+
+        if (exchangeCodec != null) {
+            jdbcCamelCodec.setExchangeCodec(exchangeCodec);
+        }
     }
 
     private int rowCount(final String repository) {
@@ -748,6 +956,11 @@ public class JdbcAggregationRepository extends ServiceSupport
             LOG.info("On startup there are no existing aggregate exchanges (not completed) in repository: {}",
                     getRepositoryName());
         }
+        if (appendOnly) {
+            final int appended = rowCount(getRepositoryNameAppended());
+            LOG.info("On startup there are {} appended exchanges in repository: {}", appended,
+                    getRepositoryNameAppended());
+        }
         if (completed > 0) {
             LOG.warn("On startup there are {} completed exchanges to be recovered in repository: {}", completed,
                     getRepositoryNameCompleted());
@@ -24,14 +24,39 @@ import org.apache.camel.Exchange;
 import org.apache.camel.ExchangePropertyKey;
 import org.apache.camel.support.DefaultExchange;
 import org.apache.camel.support.DefaultExchangeHolder;
-import org.apache.camel.util.ClassLoadingAwareObjectInputStream;
-import org.apache.camel.util.IOHelper;
+import org.apache.camel.support.ExchangeCodec;
+import org.apache.camel.support.JavaSerializationExchangeCodec;
 
 /**
  * Adapted from HawtDBCamelCodec
+ * <p/>
+ * The exchange is stored using the {@link ExchangeCodec}, which by default is Java serialization. Use
+ * {@link org.apache.camel.support.BinaryExchangeCodec} for a more compact format, which can also read exchanges stored
+ * using Java serialization.
  */
 public class JdbcCamelCodec {
 
+    private ExchangeCodec exchangeCodec;
+
+    public JdbcCamelCodec() {
+        this(new JavaSerializationExchangeCodec());
+    }
+
+    public JdbcCamelCodec(ExchangeCodec exchangeCodec) {
+        this.exchangeCodec = exchangeCodec;
+    }
+
+    public ExchangeCodec getExchangeCodec() {
+        return exchangeCodec;
+    }
+
+    /**
+     * The codec to use for encoding and decoding the exchange.
+     */
+    public void setExchangeCodec(ExchangeCodec exchangeCodec) {
+        this.exchangeCodec = exchangeCodec;
+    }
+
     public byte[] marshallExchange(Exchange exchange, boolean allowSerializedHeaders)
             throws IOException {
         ByteArrayOutputStream bytesOut = new ByteArrayOutputStream();
@@ -64,7 +89,7 @@ public class JdbcCamelCodec {
         if (exchange.getFromEndpoint() != null) {
             DefaultExchangeHolder.addProperty(pe, "CamelAggregatedFromEndpoint", exchange.getFromEndpoint().getEndpointUri());
         }
-        encode(pe, outputStream);
+        exchangeCodec.encode(pe, outputStream);
     }
 
     public Exchange unmarshallExchange(CamelContext camelContext, byte[] buffer, String deserializationFilter)
@@ -74,7 +99,7 @@ public class JdbcCamelCodec {
 
     public Exchange unmarshallExchange(CamelContext camelContext, InputStream inputStream, String deserializationFilter)
             throws IOException, ClassNotFoundException {
-        DefaultExchangeHolder pe = decode(camelContext, inputStream, deserializationFilter);
+        DefaultExchangeHolder pe = exchangeCodec.decode(camelContext, inputStream, deserializationFilter);
         Exchange answer = new DefaultExchange(camelContext);
         DefaultExchangeHolder.unmarshal(answer, pe);
         // restore the from endpoint
@@ -88,25 +113,4 @@ public class JdbcCamelCodec {
         return answer;
     }
 
-    private void encode(Object object, OutputStream bytesOut) throws IOException {
-        try (ObjectOutputStream objectOut = new ObjectOutputStream(bytesOut)) {
-            objectOut.writeObject(object);
-        }
-    }
-
-    private DefaultExchangeHolder decode(CamelContext camelContext, InputStream bytesIn, String deserializationFilter)
-            throws IOException, ClassNotFoundException {
-        ObjectInputStream objectIn = null;
-        Object obj = null;
-        try {
-            objectIn = new ClassLoadingAwareObjectInputStream(camelContext.getApplicationContextClassLoader(), bytesIn);
-            objectIn.setObjectInputFilter(ObjectInputFilter.Config.createFilter(deserializationFilter));
-            obj = objectIn.readObject();
-        } finally {
-            IOHelper.close(objectIn);
-        }
-
-        return (DefaultExchangeHolder) obj;
-    }
-
 }
@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.sql;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.BindToRegistry;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.support.processor.state.MemoryStateRepository;
+import org.apache.camel.test.junit6.CamelTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class SqlConsumerKeysetTest extends CamelTestSupport {
+
+    @BindToRegistry("keysetState")
+    private final MemoryStateRepository keysetState = new MemoryStateRepository();
+
+    private final AtomicInteger attempts = new AtomicInteger();
+    private EmbeddedDatabase db;
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void doPreSetup() throws Exception {
+        db = new EmbeddedDatabaseBuilder()
+                .setName(getClass().getSimpleName())
+                .setType(EmbeddedDatabaseType.H2)
+                .addScript("sql/createAndPopulateDatabase.sql").build();
+
+        jdbcTemplate = new JdbcTemplate(db);
+        jdbcTemplate.execute("create table orders (id integer primary key, status varchar(10))");
+        for (int i = 1; i <= 10; i++) {
+            jdbcTemplate.update("insert into orders values (?, 'NEW')", i);
+        }
+    }
+
+    @Override
+    public void doPostTearDown() throws Exception {
+        if (db != null) {
+            db.shutdown();
+        }
+    }
+
+    @Test
+    public void testKeysetPages() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:projects");
+        mock.expectedMessageCount(3);
+        mock.setAssertPeriod(200);
+
+        context.getRouteController().startRoute("projects");
+
+        MockEndpoint.assertIsSatisfied(context);
+
+        // the rows are consumed in order, two rows per page
+        assertEquals(1, mock.getReceivedExchanges().get(0).getIn().getBody(Map.class).get("ID"));
+        assertEquals(2, mock.getReceivedExchanges().get(1).getIn().getBody(Map.class).get("ID"));
+        assertEquals(3, mock.getReceivedExchanges().get(2).getIn().getBody(Map.class).get("ID"));
+        assertEquals(2, mock.getReceivedExchanges().get(0).getProperty(Exchange.BATCH_SIZE));
+        assertEquals(1, mock.getReceivedExchanges().get(2).getProperty(Exchange.BATCH_SIZE));
+
+        // the onConsume query has been executed for all the rows
+        assertEquals(3, jdbcTemplate.queryForObject("select count(*) from projects where license = 'DONE'", Integer.class));
+        assertEquals("java.lang.Integer:3", keysetState.getState("projects/id/0/1"));
+    }
+
+    @Test
+    public void testKeysetResume() throws Exception {
+        keysetState.setState("projects/id/0/1", "java.lang.Integer:2");
+
+        MockEndpoint mock = getMockEndpoint("mock:projects");
+        mock.expectedMessageCount(1);
+        mock.setAssertPeriod(200);
+
+        context.getRouteController().startRoute("projects");
+
+        MockEndpoint.assertIsSatisfied(context);
+
+        assertEquals(3, mock.getReceivedExchanges().get(0).getIn().getBody(Map.class).get("ID"));
+    }
+
+    @Test
+    public void testKeysetFailedRowPolledAgain() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:failing");
+        mock.expectedMessageCount(10);
+        mock.setAssertPeriod(200);
+
+        context.getRouteController().startRoute("failing");
+
+        MockEndpoint.assertIsSatisfied(context);
+
+        // the page is stopped at the failed row, so the row is polled again and not skipped
+        assertEquals(2, attempts.get());
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i + 1, mock.getReceivedExchanges().get(i).getIn().getBody(Map.class).get("ID"));
+        }
+        assertEquals(10, jdbcTemplate.queryForObject("select count(*) from orders where status = 'DONE'", Integer.class));
+    }
+
+    @Test
+    public void testKeysetPartitions() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:orders");
+        mock.expectedMessageCount(10);
+        mock.setAssertPeriod(200);
+
+        context.getRouteController().startRoute("orders");
+
+        MockEndpoint.assertIsSatisfied(context);
+
+        assertEquals(10, jdbcTemplate.queryForObject("select count(*) from orders where status = 'DONE'", Integer.class));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                getContext().getComponent("sql", SqlComponent.class).setDataSource(db);
+
+                from("sql:select * from projects?keysetColumn=id&keysetPageSize=2&keysetStateRepository=#keysetState"
+                     + "&initialDelay=0&delay=50&greedy=true&onConsume=update projects set license = 'DONE' where id = :#id")
+                        .routeId("projects").autoStartup(false)
+                        .to("mock:projects");
+
+                from("sql:select * from orders where status = 'NEW'?keysetColumn=id&keysetPageSize=3&keysetPartitions=2"
+                     + "&initialDelay=0&delay=50&greedy=true&onConsume=update orders set status = 'DONE' where id = :#id")
+                        .routeId("orders").autoStartup(false)
+                        .to("mock:orders");
+
+                from("sql:select * from orders where status = 'NEW'?keysetColumn=id&keysetPageSize=3"
+                     + "&initialDelay=0&delay=50&greedy=true&onConsume=update orders set status = 'DONE' where id = :#id")
+                        .routeId("failing").autoStartup(false)
+                        .process(exchange -> {
+                            // fail the first time the row with id 2 is processed
+                            if (Integer.valueOf(2).equals(exchange.getIn().getBody(Map.class).get("ID"))
+                                    && attempts.incrementAndGet() == 1) {
+                                throw new IllegalStateException("Forced");
+                            }
+                        })
+                        .to("mock:failing");
+            }
+        };
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.sql;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.test.junit6.CamelTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class SqlProducerCoalescingTest extends CamelTestSupport {
+
+    private final AtomicInteger connections = new AtomicInteger();
+    private EmbeddedDatabase db;
+
+    @Override
+    public void doPreSetup() throws Exception {
+        db = new EmbeddedDatabaseBuilder()
+                .setName(getClass().getSimpleName())
+                .setType(EmbeddedDatabaseType.H2)
+                .addScript("sql/createAndPopulateDatabase.sql").build();
+    }
+
+    @Override
+    public void doPostTearDown() throws Exception {
+        if (db != null) {
+            db.shutdown();
+        }
+    }
+
+    @Test
+    public void testCoalesceInserts() throws Exception {
+        List<Exchange> exchanges = sendConcurrently(10, 10);
+
+        for (Exchange exchange : exchanges) {
+            assertNull(exchange.getException());
+            assertEquals(1, exchange.getMessage().getHeader(SqlConstants.SQL_UPDATE_COUNT));
+        }
+        // all the inserts are executed as a single JDBC batch
+        assertEquals(1, connections.get());
+        assertEquals(13, new JdbcTemplate(db).queryForObject("select count(*) from projects", Integer.class));
+    }
+
+    @Test
+    public void testCoalesceInsertsWithFailure() throws Exception {
+        // id 3 already exists so the first insert fails
+        List<Exchange> exchanges = sendConcurrently(2, 3);
+
+        assertNotNull(exchanges.get(0).getException());
+        for (int i = 1; i < exchanges.size(); i++) {
+            assertNull(exchanges.get(i).getException());
+            assertEquals(1, exchanges.get(i).getMessage().getHeader(SqlConstants.SQL_UPDATE_COUNT));
+        }
+        // the batch is rolled back and the inserts are then executed one by one
+        assertEquals(4, connections.get());
+        assertEquals(5, new JdbcTemplate(db).queryForObject("select count(*) from projects", Integer.class));
+    }
+
+    @Test
+    public void testSelectNotCoalesced() throws Exception {
+        List<CompletableFuture<Exchange>> futures = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            int id = i;
+            futures.add(template.asyncSend("direct:select", e -> e.getIn().setHeader("id", id)));
+        }
+
+        for (int i = 0; i < futures.size(); i++) {
+            Exchange exchange = futures.get(i).get(10, TimeUnit.SECONDS);
+            assertNull(exchange.getException());
+            List<?> rows = exchange.getMessage().getBody(List.class);
+            assertEquals(1, rows.size());
+            assertEquals(i + 1, ((Map<?, ?>) rows.get(0)).get("ID"));
+        }
+        // selects cannot be executed as a JDBC batch, so each select is executed on its own
+        assertEquals(3, connections.get());
+    }
+
+    private List<Exchange> sendConcurrently(int firstId, int count) throws Exception {
+        List<CompletableFuture<Exchange>> futures = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Map<String, Object> row = new HashMap<>();
+            row.put("id", firstId + i + 1);
+            row.put("project", "Project" + i);
+            row.put("lic", "ASF");
+            futures.add(template.asyncSend("direct:insert", e -> e.getIn().setBody(row)));
+        }
+        List<Exchange> answer = new ArrayList<>();
+        for (CompletableFuture<Exchange> future : futures) {
+            answer.add(future.get(10, TimeUnit.SECONDS));
+        }
+        return answer;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            public void configure() {
+                getContext().getComponent("sql", SqlComponent.class).setDataSource(new DelegatingDataSource(db) {
+                    @Override
+                    public Connection getConnection() throws SQLException {
+                        connections.incrementAndGet();
+                        return super.getConnection();
+                    }
+                });
+
+                from("direct:insert")
+                        .to("sql:insert into projects (id, project, license) values (:#id, :#project, :#lic)"
+                            + "?coalescingBatchSize=10&coalescingLingerTime=2000");
+
+                from("direct:select")
+                        .to("sql:select * from projects where id = :#id?coalescingBatchSize=10&coalescingLingerTime=2000");
+            }
+        };
+    }
+}
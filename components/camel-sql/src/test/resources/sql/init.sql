@@ -26,4 +26,11 @@ CREATE TABLE aggregationRepo1_completed (
     exchange blob NOT NULL,
     version bigint NOT NULL,
     constraint aggregationRepo1_completed_pk PRIMARY KEY (id)
-);
\ No newline at end of file
+);
+
+CREATE TABLE aggregationRepo1_appended (
+    id varchar(255) NOT NULL,
+    exchange blob NOT NULL,
+    version bigint NOT NULL,
+    constraint aggregationRepo1_appended_pk PRIMARY KEY (id, version)
+);
@@ -1824,4 +1824,41 @@ public interface CamelContext extends CamelContextLifecycle, RuntimeConfiguratio
      */
     StartupSummaryLevel getStartupSummaryLevel();
 
+    /**
+     * Whether to start the routes in parallel, which can reduce the startup time when there are many routes with slow
+     * endpoints (such as connecting to a remote system when starting).
+     *
+     * The routes are started in parallel on a thread pool, as soon as the routes they depend on have been started. A
+     * route depends on the routes with a lower startup order (when using startupOrder), the routes consuming from the
+     * endpoints the route sends to (such as direct and seda), and the first route using the same endpoint.
+     *
+     * Notice that the routes are warmed up concurrently, which means custom lifecycle strategies, event notifiers and
+     * route policies are called concurrently from multiple threads and must be thread-safe. Only the JMX management
+     * lifecycle strategy is made safe for this.
+     *
+     * @since 4.22
+     */
+    void setParallelRouteStartup(Boolean parallelRouteStartup);
+
+    /**
+     * Whether to start the routes in parallel.
+     *
+     * @since 4.22
+     */
+    Boolean isParallelRouteStartup();
+
+    /**
+     * The number of threads used for starting the routes in parallel (when parallel route startup is enabled).
+     *
+     * @since 4.22
+     */
+    void setParallelRouteStartupPoolSize(int parallelRouteStartupPoolSize);
+
+    /**
+     * The number of threads used for starting the routes in parallel (when parallel route startup is enabled).
+     *
+     * @since 4.22
+     */
+    int getParallelRouteStartupPoolSize();
+
 }
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spi;
+
+import java.util.List;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+
+/**
+ * A specialized {@link org.apache.camel.spi.AggregationRepository} which can store each incoming {@link Exchange} as
+ * its own record under the correlation key, instead of storing the aggregated exchange.
+ * <p/>
+ * When append only mode is enabled, the aggregator appends the incoming exchanges, and only aggregates them using the
+ * {@link org.apache.camel.AggregationStrategy} when the group is completed, or when the aggregator is restarted. This
+ * means the cost of storing an exchange does not grow with the number of exchanges already in the group. To keep the
+ * number of records per group bounded, the aggregator compacts the group every {@link #getCompactionInterval()}
+ * exchanges, by storing the aggregated exchange and removing the appended exchanges it contains.
+ * <p/>
+ * In append only mode, {@link #get(CamelContext, String)} returns the aggregated exchange from the last compaction (if
+ * any) with the {@link Exchange#AGGREGATED_SIZE} property set to the number of exchanges it contains,
+ * {@link #getKeys()} returns the keys of all the groups (compacted or not), and
+ * {@link #remove(CamelContext, String, Exchange)} removes both the compacted and appended exchanges of the group.
+ * {@link #add(CamelContext, String, Exchange)} is not used.
+ */
+public interface AppendOnlyAggregationRepository extends AggregationRepository {
+
+    /**
+     * Whether append only mode is enabled.
+     *
+     * @return <tt>true</tt> if the aggregator should append the incoming exchanges, <tt>false</tt> to store the
+     *         aggregated exchange as usual
+     */
+    boolean isAppendOnly();
+
+    /**
+     * The number of exchanges appended to a group, after which the aggregator compacts the group.
+     *
+     * @return the interval, or 0 to never compact
+     */
+    int getCompactionInterval();
+
+    /**
+     * Appends the incoming exchange to the group with the given correlation key.
+     *
+     * @param  camelContext the current CamelContext
+     * @param  key          the correlation key
+     * @param  exchange     the incoming exchange
+     * @return              the number of exchanges in the group, including the appended exchange
+     */
+    int append(CamelContext camelContext, String key, Exchange exchange);
+
+    /**
+     * Gets the exchanges which have been appended to the group since it was last compacted.
+     *
+     * @param  camelContext the current CamelContext
+     * @param  key          the correlation key
+     * @return              the appended exchanges in the order they were appended, or an empty list if none
+     */
+    List<Exchange> getAppended(CamelContext camelContext, String key);
+
+    /**
+     * Compacts the group by storing the aggregated exchange, and removing the appended exchanges it contains.
+     *
+     * @param camelContext the current CamelContext
+     * @param key          the correlation key
+     * @param aggregated   the aggregated exchange
+     * @param size         the number of exchanges in the group that the aggregated exchange contains
+     */
+    void compact(CamelContext camelContext, String key, Exchange aggregated, int size);
+
+}
@@ -120,6 +120,22 @@ public interface StartupStepRecorder extends StaticService {
      */
     StartupStep beginStep(Class<?> type, String name, String description);
 
+    /**
+     * Beings a new step, as a sub step of the given parent step which was started by another thread, such as when
+     * routes are started in parallel. The steps which are started by the current thread, until this step is ended,
+     * are sub steps of this step.
+     * <p>
+     * Important must call {@link #endStep(StartupStep)} (from the current thread) to end the step.
+     *
+     * @param parent      the parent step
+     * @param type        the source
+     * @param name        name of the step
+     * @param description description of the step
+     */
+    default StartupStep beginStep(StartupStep parent, Class<?> type, String name, String description) {
+        return beginStep(type, name, description);
+    }
+
     /**
      * Ends the step
      */
@@ -17,6 +17,7 @@
 package org.apache.camel.spi;
 
 import java.io.File;
+import java.nio.ByteBuffer;
 import java.util.Collection;
 
 import org.apache.camel.Exchange;
@@ -41,8 +42,10 @@ import org.jspecify.annotations.Nullable;
  * preventing out-of-memory errors for large payloads.</li>
  * <li>{@link #setBufferSize(int)} — the internal read-buffer size when copying bytes to the spool file.</li>
  * <li>{@link #setSpoolDirectory(java.io.File)} — the directory where spool files are written.</li>
+ * <li>{@link #setSpoolOffHeapMaxSize(long)} — a budget of off-heap (direct) memory that streams are spooled to before
+ * spooling to disk.</li>
  * </ul>
- * Statistics about in-memory vs. on-disk cache usage are available via {@link #getStatistics()}.
+ * Statistics about in-memory vs. off-heap vs. on-disk cache usage are available via {@link #getStatistics()}.
  *
  * @see StreamCache
  */
@@ -83,6 +86,21 @@ public interface StreamCachingStrategy extends StaticService {
          */
         long getCacheSpoolAverageSize();
 
+        /**
+         * Gets the counter for number of off-heap {@link StreamCache} created.
+         */
+        long getCacheOffHeapCounter();
+
+        /**
+         * Gets the total accumulated number of bytes which has been stream cached for off-heap stream caches.
+         */
+        long getCacheOffHeapSize();
+
+        /**
+         * Gets the average number of bytes per cached stream for off-heap stream caches.
+         */
+        long getCacheOffHeapAverageSize();
+
         /**
          * Reset the counters
          */
@@ -266,6 +284,37 @@ public interface StreamCachingStrategy extends StaticService {
 
     boolean isAnySpoolRules();
 
+    /**
+     * Sets the maximum number of bytes of off-heap (direct) memory that can be used for spooling streams, when they
+     * overflow the spool threshold. Streams are spooled off-heap while there is budget left, and are otherwise spooled
+     * to disk (if spool is enabled) or kept in the heap.
+     * <p/>
+     * The memory is allocated in blocks that are pooled and reused between stream caches, and is released back to the
+     * pool when the exchange is done. This option is default <tt>0</tt> which means off-heap spooling is disabled.
+     */
+    void setSpoolOffHeapMaxSize(long maxSize);
+
+    long getSpoolOffHeapMaxSize();
+
+    /**
+     * Gets the number of bytes of the off-heap budget that are currently in use by stream caches.
+     */
+    long getSpoolOffHeapUsedSize();
+
+    /**
+     * Acquires a block of off-heap memory to spool to.
+     *
+     * @return the block (cleared and ready for writing), or <tt>null</tt> if off-heap spooling is disabled or the
+     *         budget is exhausted
+     */
+    @Nullable
+    ByteBuffer acquireOffHeapBlock();
+
+    /**
+     * Releases a block of off-heap memory that was acquired by {@link #acquireOffHeapBlock()} back to the pool.
+     */
+    void releaseOffHeapBlock(ByteBuffer block);
+
     /**
      * Gets the utilization statistics.
      */
@@ -57,6 +57,7 @@ public class ThreadPoolProfile implements Serializable, Cloneable {
     private @Nullable Integer maxQueueSize;
     private @Nullable Boolean allowCoreThreadTimeOut;
     private @Nullable ThreadPoolRejectedPolicy rejectedPolicy;
+    private @Nullable Boolean virtualThreads;
 
     /**
      * Creates a new thread pool profile, with no id set.
@@ -251,6 +252,30 @@ public class ThreadPoolProfile implements Serializable, Cloneable {
         this.rejectedPolicy = rejectedPolicy;
     }
 
+    /**
+     * Gets whether to run each task on its own virtual thread
+     *
+     * @return <tt>true</tt> to use virtual threads
+     */
+    public @Nullable Boolean getVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * Sets whether to run each task on its own virtual thread (requires JDK 21+), instead of using a pool of platform
+     * threads. The number of tasks running concurrently is then limited by a semaphore with the max queue size as
+     * number of permits, instead of by the pool size, and the rejected policy applies when no permit is available
+     * within the keep alive time.
+     * <p/>
+     * This is independent of enabling virtual threads globally with the system property
+     * {@code camel.threads.virtual.enabled}, so virtual threads can be used for the thread pools of selected EIPs only.
+     *
+     * @param virtualThreads <tt>true</tt> to use virtual threads
+     */
+    public void setVirtualThreads(@Nullable Boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
     /**
      * Overwrites each attribute that is null with the attribute from defaultProfile
      *
@@ -281,11 +306,15 @@ public class ThreadPoolProfile implements Serializable, Cloneable {
         if (rejectedPolicy == null) {
             rejectedPolicy = defaultProfile.getRejectedPolicy();
         }
+        if (virtualThreads == null) {
+            virtualThreads = defaultProfile.getVirtualThreads();
+        }
     }
 
     public boolean isEmpty() {
         return poolSize == null && maxPoolSize == null && keepAliveTime == null && timeUnit == null
-                && maxQueueSize == null && allowCoreThreadTimeOut == null && rejectedPolicy == null;
+                && maxQueueSize == null && allowCoreThreadTimeOut == null && rejectedPolicy == null
+                && virtualThreads == null;
     }
 
     @Override
@@ -301,7 +330,8 @@ public class ThreadPoolProfile implements Serializable, Cloneable {
     public String toString() {
         return "ThreadPoolProfile[" + id + " (" + defaultProfile + ") size:" + poolSize + "-" + maxPoolSize
                + ", keepAlive:" + keepAliveTime + " " + timeUnit + ", maxQueue:" + maxQueueSize
-               + ", allowCoreThreadTimeOut:" + allowCoreThreadTimeOut + ", rejectedPolicy:" + rejectedPolicy + "]";
+               + ", allowCoreThreadTimeOut:" + allowCoreThreadTimeOut + ", rejectedPolicy:" + rejectedPolicy
+               + ", virtualThreads:" + virtualThreads + "]";
     }
 
 }
@@ -16,6 +16,7 @@
  */
 package org.apache.camel.spi;
 
+import java.util.Collections;
 import java.util.Map;
 import java.util.function.LongConsumer;
 import java.util.function.LongSupplier;
@@ -86,6 +87,17 @@ public interface TypeConverterRegistry extends StaticService, CamelContextAware
          */
         void reset();
 
+        /**
+         * Gets the type conversions that have been used the most, and the number of conversions.
+         *
+         * @param  limit maximum number of type conversions to return
+         * @return       the number of conversions per type conversion (from -> to), ordered by the most conversions
+         *               first, or an empty map if statistics is not enabled
+         */
+        default Map<TypeConvertible<?, ?>, Long> getTopConversions(int limit) {
+            return Collections.emptyMap();
+        }
+
         default void computeIfEnabled(LongSupplier supplier, LongConsumer consumer) {
             consumer.accept(supplier.getAsLong());
         }
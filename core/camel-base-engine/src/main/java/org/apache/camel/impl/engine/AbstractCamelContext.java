@@ -310,6 +310,8 @@ public abstract class AbstractCamelContext extends BaseService
     private final ContextClock clock = new ContextClock();
     private SSLContextParameters sslContextParameters;
     private StartupSummaryLevel startupSummaryLevel = StartupSummaryLevel.Default;
+    private Boolean parallelRouteStartup = Boolean.FALSE;
+    private int parallelRouteStartupPoolSize = 10;
 
     /**
      * Creates the {@link CamelContext} using {@link org.apache.camel.support.DefaultRegistry} as registry.
@@ -4460,6 +4462,26 @@ public abstract class AbstractCamelContext extends BaseService
         this.startupSummaryLevel = startupSummaryLevel;
     }
 
+    @Override
+    public Boolean isParallelRouteStartup() {
+        return parallelRouteStartup != null && parallelRouteStartup;
+    }
+
+    @Override
+    public void setParallelRouteStartup(Boolean parallelRouteStartup) {
+        this.parallelRouteStartup = parallelRouteStartup;
+    }
+
+    @Override
+    public int getParallelRouteStartupPoolSize() {
+        return parallelRouteStartupPoolSize;
+    }
+
+    @Override
+    public void setParallelRouteStartupPoolSize(int parallelRouteStartupPoolSize) {
+        this.parallelRouteStartupPoolSize = parallelRouteStartupPoolSize;
+    }
+
     protected Map<String, RouteService> getRouteServices() {
         return routeServices;
     }
@@ -200,7 +200,8 @@ public class BaseExecutorServiceManager extends ServiceSupport implements Execut
         ThreadPoolProfile defaultProfile = getDefaultThreadPoolProfile();
         profile.addDefaults(defaultProfile);
 
-        ThreadFactory threadFactory = createThreadFactory(source, sanitizedName, true);
+        boolean virtual = Boolean.TRUE.equals(profile.getVirtualThreads());
+        ThreadFactory threadFactory = createThreadFactory(source, sanitizedName, true, virtual);
         ExecutorService executorService = threadPoolFactory.newThreadPool(profile, threadFactory);
         onThreadPoolCreated(executorService, source, profile.getId());
         if (LOG.isDebugEnabled()) {
@@ -611,7 +612,11 @@ public class BaseExecutorServiceManager extends ServiceSupport implements Execut
     }
 
     protected ThreadFactory createThreadFactory(Object source, String name, boolean daemon) {
-        ThreadFactory factory = new CamelThreadFactory(threadNamePattern, name, daemon);
+        return createThreadFactory(source, name, daemon, false);
+    }
+
+    protected ThreadFactory createThreadFactory(Object source, String name, boolean daemon, boolean virtual) {
+        ThreadFactory factory = new CamelThreadFactory(threadNamePattern, name, daemon, virtual);
         for (ThreadFactoryListener listener : threadFactoryListeners) {
             factory = listener.onNewThreadFactory(source, factory);
         }
@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.util.Map;
+
+import org.apache.camel.ExchangeConstantProvider;
+import org.apache.camel.spi.HeadersMapFactory;
+import org.apache.camel.util.CaseInsensitiveMap;
+import org.apache.camel.util.CompactCaseInsensitiveMap;
+
+/**
+ * Compact {@link HeadersMapFactory} which uses the {@link org.apache.camel.util.CompactCaseInsensitiveMap
+ * CompactCaseInsensitiveMap}. The headers are case insensitive like with the {@link DefaultHeadersMapFactory}, and are
+ * stored in an open-addressing hash table which is copied without hashing the keys again. This is beneficial when
+ * messages are copied often, such as with the multicast, split, recipient list and wire tap EIPs.
+ */
+public class CompactHeadersMapFactory implements HeadersMapFactory {
+
+    static {
+        CaseInsensitiveMap.registerKnownKeys(ExchangeConstantProvider.values());
+    }
+
+    @Override
+    public Map<String, Object> newMap() {
+        return new CompactCaseInsensitiveMap();
+    }
+
+    @Override
+    public Map<String, Object> newMap(Map<String, Object> map) {
+        return new CompactCaseInsensitiveMap(map);
+    }
+
+    @Override
+    public boolean isInstanceOf(Map<String, Object> map) {
+        return map instanceof CompactCaseInsensitiveMap;
+    }
+
+    @Override
+    public boolean isCaseInsensitive() {
+        return true;
+    }
+}
@@ -132,15 +132,22 @@ public class DefaultInflightRepository extends ServiceSupport implements Infligh
         if (!inflightExchangeEnabled) {
             return Collections.emptyList();
         }
+        return browse(inflight.values().stream(), fromRouteId, limit, sortByLongestDuration);
+    }
 
-        Stream<Exchange> values;
-        if (fromRouteId == null) {
-            // all values
-            values = inflight.values().stream();
-        } else {
+    @Override
+    public InflightExchange oldest(String fromRouteId) {
+        if (!inflightExchangeEnabled) {
+            return null;
+        }
+        return oldest(inflight.values().stream(), fromRouteId);
+    }
+
+    static Collection<InflightExchange> browse(
+            Stream<Exchange> values, String fromRouteId, int limit, boolean sortByLongestDuration) {
+        if (fromRouteId != null) {
             // only if route match
-            values = inflight.values().stream()
-                    .filter(e -> fromRouteId.equals(e.getFromRouteId()));
+            values = values.filter(e -> fromRouteId.equals(e.getFromRouteId()));
         }
 
         if (sortByLongestDuration) {
@@ -163,21 +170,10 @@ public class DefaultInflightRepository extends ServiceSupport implements Infligh
         return values.map(InflightExchangeEntry::new).collect(Collectors.toUnmodifiableList());
     }
 
-    @Override
-    public InflightExchange oldest(String fromRouteId) {
-        if (!inflightExchangeEnabled) {
-            return null;
-        }
-
-        Stream<Exchange> values;
-
-        if (fromRouteId == null) {
-            // all values
-            values = inflight.values().stream();
-        } else {
+    static InflightExchange oldest(Stream<Exchange> values, String fromRouteId) {
+        if (fromRouteId != null) {
             // only if route match
-            values = inflight.values().stream()
-                    .filter(e -> fromRouteId.equals(e.getFromRouteId()));
+            values = values.filter(e -> fromRouteId.equals(e.getFromRouteId()));
         }
 
         // sort by duration and grab the first
@@ -210,11 +206,11 @@ public class DefaultInflightRepository extends ServiceSupport implements Infligh
         return exchange.getClock().elapsed();
     }
 
-    private static final class InflightExchangeEntry implements InflightExchange {
+    static final class InflightExchangeEntry implements InflightExchange {
 
         private final Exchange exchange;
 
-        private InflightExchangeEntry(Exchange exchange) {
+        InflightExchangeEntry(Exchange exchange) {
             this.exchange = exchange;
         }
 
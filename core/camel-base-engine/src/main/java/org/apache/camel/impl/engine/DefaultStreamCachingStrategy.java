@@ -19,11 +19,14 @@ package org.apache.camel.impl.engine;
 import java.io.File;
 import java.lang.management.ManagementFactory;
 import java.lang.management.MemoryMXBean;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -35,6 +38,7 @@ import org.apache.camel.Message;
 import org.apache.camel.StreamCache;
 import org.apache.camel.TypeConverter;
 import org.apache.camel.WrappedFile;
+import org.apache.camel.converter.stream.OffHeapInputStreamCache;
 import org.apache.camel.spi.StreamCachingStrategy;
 import org.apache.camel.support.TempDirHelper;
 import org.apache.camel.support.service.ServiceSupport;
@@ -54,6 +58,9 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
 
     private static final Logger LOG = LoggerFactory.getLogger(DefaultStreamCachingStrategy.class);
 
+    // size of the pooled blocks used for off-heap spooling
+    private static final int OFF_HEAP_BLOCK_SIZE = 64 * 1024;
+
     private CamelContext camelContext;
     private boolean enabled;
     private String allowClassNames;
@@ -73,6 +80,9 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
     private final UtilizationStatistics statistics = new UtilizationStatistics();
     private final Set<SpoolRule> spoolRules = new LinkedHashSet<>();
     private boolean anySpoolRules;
+    private long spoolOffHeapMaxSize;
+    private final AtomicLong offHeapUsedSize = new AtomicLong();
+    private final Queue<ByteBuffer> offHeapBlocks = new ConcurrentLinkedQueue<>();
 
     @Override
     public CamelContext getCamelContext() {
@@ -217,6 +227,46 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         this.anySpoolRules = anySpoolTasks;
     }
 
+    @Override
+    public long getSpoolOffHeapMaxSize() {
+        return spoolOffHeapMaxSize;
+    }
+
+    @Override
+    public void setSpoolOffHeapMaxSize(long spoolOffHeapMaxSize) {
+        this.spoolOffHeapMaxSize = spoolOffHeapMaxSize;
+    }
+
+    @Override
+    public long getSpoolOffHeapUsedSize() {
+        return offHeapUsedSize.get();
+    }
+
+    @Override
+    public ByteBuffer acquireOffHeapBlock() {
+        // reserve the budget before taking a block, so the budget is never exceeded
+        long used;
+        do {
+            used = offHeapUsedSize.get();
+            if (used + OFF_HEAP_BLOCK_SIZE > spoolOffHeapMaxSize) {
+                return null;
+            }
+        } while (!offHeapUsedSize.compareAndSet(used, used + OFF_HEAP_BLOCK_SIZE));
+
+        ByteBuffer block = offHeapBlocks.poll();
+        if (block == null) {
+            block = ByteBuffer.allocateDirect(OFF_HEAP_BLOCK_SIZE);
+        }
+        return block;
+    }
+
+    @Override
+    public void releaseOffHeapBlock(ByteBuffer block) {
+        block.clear();
+        offHeapBlocks.offer(block);
+        offHeapUsedSize.addAndGet(-block.capacity());
+    }
+
     @Override
     public Statistics getStatistics() {
         return statistics;
@@ -350,7 +400,9 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
 
     private void computeStatistics(StreamCache cache) {
         try {
-            if (cache.inMemory()) {
+            if (cache instanceof OffHeapInputStreamCache) {
+                statistics.updateOffHeap(cache.length());
+            } else if (cache.inMemory()) {
                 statistics.updateMemory(cache.length());
             } else {
                 statistics.updateSpool(cache.length());
@@ -406,8 +458,16 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
                     "SpoolHeapMemoryWatermarkThreshold must not be higher than 99, was: " + spoolUsedHeapMemoryThreshold);
         }
 
+        boolean offHeap = spoolOffHeapMaxSize > 0;
+        if (offHeap && spoolOffHeapMaxSize < OFF_HEAP_BLOCK_SIZE) {
+            LOG.warn(
+                    "SpoolOffHeapMaxSize: {} is lower than the off-heap block size: {}, and off-heap spooling will not be used",
+                    spoolOffHeapMaxSize, OFF_HEAP_BLOCK_SIZE);
+        }
+
         // if we can overflow to disk then make sure directory exists / is created
-        if (spoolEnabled && (spoolThreshold > 0 || spoolUsedHeapMemoryThreshold > 0 || !spoolRules.isEmpty())) {
+        boolean overflow = spoolThreshold > 0 || spoolUsedHeapMemoryThreshold > 0 || !spoolRules.isEmpty();
+        if (spoolEnabled && overflow) {
             if (spoolDirectory == null && spoolDirectoryName == null) {
                 throw new IllegalArgumentException("SpoolDirectory must be configured when using SpoolThreshold > 0");
             }
@@ -438,6 +498,9 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
                     LOG.debug("Created spool directory: {}", spoolDirectory);
                 }
             }
+        }
+        // the spool rules are also in use when overflowing to off-heap memory only
+        if ((spoolEnabled || offHeap) && overflow) {
             if (spoolThreshold > 0) {
                 spoolRules.add(new FixedThresholdSpoolRule());
             }
@@ -452,7 +515,10 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
 
         LOG.debug("StreamCaching configuration {}", this);
 
-        if (spoolDirectory != null) {
+        if (offHeap) {
+            LOG.info("StreamCaching in use with off-heap spool max size: {} bytes and rules: {}", spoolOffHeapMaxSize,
+                    spoolRules);
+        } else if (spoolDirectory != null) {
             LOG.info("StreamCaching in use with spool directory: {} and rules: {}", spoolDirectory.getPath(), spoolRules);
         } else if (!spoolRules.isEmpty()) {
             LOG.info("StreamCaching in use with rules: {}", spoolRules);
@@ -474,6 +540,8 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         }
 
         statistics.reset();
+        // blocks in use are released by their stream caches, and are then pooled again if we are restarted
+        offHeapBlocks.clear();
     }
 
     private boolean isSpoolRemovable() {
@@ -488,6 +556,7 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
                + ", spoolCipher=" + spoolCipher
                + ", spoolThreshold=" + spoolThreshold
                + ", spoolUsedHeapMemoryThreshold=" + spoolUsedHeapMemoryThreshold
+               + ", spoolOffHeapMaxSize=" + spoolOffHeapMaxSize
                + ", bufferSize=" + bufferSize
                + ", anySpoolRules=" + anySpoolRules + "]";
     }
@@ -568,6 +637,9 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         private final AtomicLong spoolCounter = new AtomicLong();
         private final AtomicLong spoolSize = new AtomicLong();
         private final AtomicLong spoolAverageSize = new AtomicLong();
+        private final AtomicLong offHeapCounter = new AtomicLong();
+        private final AtomicLong offHeapSize = new AtomicLong();
+        private final AtomicLong offHeapAverageSize = new AtomicLong();
 
         void updateMemory(long size) {
             lock.lock();
@@ -583,7 +655,16 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
             try {
                 spoolAverageSize.set(spoolSize.addAndGet(size) / spoolCounter.incrementAndGet());
             } finally {
-                lock.lock();
+                lock.unlock();
+            }
+        }
+
+        void updateOffHeap(long size) {
+            lock.lock();
+            try {
+                offHeapAverageSize.set(offHeapSize.addAndGet(size) / offHeapCounter.incrementAndGet());
+            } finally {
+                lock.unlock();
             }
         }
 
@@ -617,6 +698,21 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
             return spoolAverageSize.get();
         }
 
+        @Override
+        public long getCacheOffHeapCounter() {
+            return offHeapCounter.get();
+        }
+
+        @Override
+        public long getCacheOffHeapSize() {
+            return offHeapSize.get();
+        }
+
+        @Override
+        public long getCacheOffHeapAverageSize() {
+            return offHeapAverageSize.get();
+        }
+
         @Override
         public void reset() {
             lock.lock();
@@ -627,6 +723,9 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
                 spoolCounter.set(0);
                 spoolSize.set(0);
                 spoolAverageSize.set(0);
+                offHeapCounter.set(0);
+                offHeapSize.set(0);
+                offHeapAverageSize.set(0);
             } finally {
                 lock.unlock();
             }
@@ -645,8 +744,10 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         @Override
         public String toString() {
             return String.format(
-                    "[memoryCounter=%s, memorySize=%s, memoryAverageSize=%s, spoolCounter=%s, spoolSize=%s, spoolAverageSize=%s]",
-                    memoryCounter, memorySize, memoryAverageSize, spoolCounter, spoolSize, spoolAverageSize);
+                    "[memoryCounter=%s, memorySize=%s, memoryAverageSize=%s, spoolCounter=%s, spoolSize=%s, spoolAverageSize=%s"
+                                 + ", offHeapCounter=%s, offHeapSize=%s, offHeapAverageSize=%s]",
+                    memoryCounter, memorySize, memoryAverageSize, spoolCounter, spoolSize, spoolAverageSize,
+                    offHeapCounter, offHeapSize, offHeapAverageSize);
         }
     }
 
@@ -300,7 +300,12 @@ final class InternalRouteStartupManager {
     }
 
     void doWarmUpRoutes(AbstractCamelContext camelContext, Map<Integer, DefaultRouteStartupOrder> inputs, boolean autoStartup)
-            throws FailedToStartRouteException {
+            throws Exception {
+        if (isParallelStartup(camelContext, inputs)) {
+            doParallelWarmUpRoutes(camelContext, inputs, autoStartup);
+            return;
+        }
+
         // now prepare the routes by starting its services before we start the
         // input
         for (Map.Entry<Integer, DefaultRouteStartupOrder> entry : inputs.entrySet()) {
@@ -329,6 +334,39 @@ final class InternalRouteStartupManager {
         }
     }
 
+    private boolean isParallelStartup(AbstractCamelContext camelContext, Map<Integer, DefaultRouteStartupOrder> inputs) {
+        return camelContext.isParallelRouteStartup() && camelContext.getParallelRouteStartupPoolSize() > 1
+                && inputs.size() > 1;
+    }
+
+    private void doParallelWarmUpRoutes(
+            AbstractCamelContext camelContext, Map<Integer, DefaultRouteStartupOrder> inputs, boolean autoStartup)
+            throws Exception {
+        // setup the routes first, so the endpoints of the routes are known
+        for (DefaultRouteStartupOrder order : inputs.values()) {
+            RouteService routeService = order.getRouteService();
+            try {
+                setupRoute.set(routeService.getRoute());
+                routeService.setUp();
+            } finally {
+                setupRoute.remove();
+            }
+        }
+
+        // and then warm up the routes in parallel
+        RouteStartupGraph graph = new RouteStartupGraph(inputs.values());
+        graph.start(camelContext, camelContext.getParallelRouteStartupPoolSize(), "Warmup", order -> {
+            RouteService routeService = order.getRouteService();
+            try {
+                LOG.debug("Warming up route id: {} having autoStartup={}", routeService.getId(), autoStartup);
+                setupRoute.set(routeService.getRoute());
+                routeService.warmUp();
+            } finally {
+                setupRoute.remove();
+            }
+        });
+    }
+
     void doResumeRouteConsumers(
             AbstractCamelContext camelContext, Map<Integer, DefaultRouteStartupOrder> inputs, boolean addingRoutes)
             throws Exception {
@@ -349,6 +387,11 @@ final class InternalRouteStartupManager {
             AbstractCamelContext camelContext,
             Map<Integer, DefaultRouteStartupOrder> inputs, boolean resumeOnly, boolean addingRoute)
             throws Exception {
+        if (!resumeOnly && isParallelStartup(camelContext, inputs)) {
+            doParallelStartRouteConsumers(camelContext, inputs, addingRoute);
+            return;
+        }
+
         List<Endpoint> routeInputs = new ArrayList<>();
 
         for (Map.Entry<Integer, DefaultRouteStartupOrder> entry : inputs.entrySet()) {
@@ -375,30 +418,7 @@ final class InternalRouteStartupManager {
             if (consumer != null) {
                 Endpoint endpoint = consumer.getEndpoint();
 
-                // check multiple consumer violation, with the other routes to be started
-                if (!doCheckMultipleConsumerSupportClash(endpoint, routeInputs)) {
-                    throw new FailedToStartRouteException(
-                            routeService.getId(), "Multiple consumers for the same endpoint is not allowed: " + endpoint);
-                }
-
-                // check for multiple consumer violations with existing routes
-                // which have already been started, or is currently starting
-                List<Endpoint> existingEndpoints = new ArrayList<>();
-                for (Route existingRoute : camelContext.getRoutes()) {
-                    if (route.getId().equals(existingRoute.getId())) {
-                        // skip ourselves
-                        continue;
-                    }
-                    Endpoint existing = existingRoute.getEndpoint();
-                    ServiceStatus status = camelContext.getRouteStatus(existingRoute.getId());
-                    if (status != null && (status.isStarted() || status.isStarting())) {
-                        existingEndpoints.add(existing);
-                    }
-                }
-                if (!doCheckMultipleConsumerSupportClash(endpoint, existingEndpoints)) {
-                    throw new FailedToStartRouteException(
-                            routeService.getId(), "Multiple consumers for the same endpoint is not allowed: " + endpoint);
-                }
+                doCheckMultipleConsumers(camelContext, routeService, endpoint, routeInputs);
 
                 // start the consumer on the route
                 LOG.debug("Route: {} >>> {}", route.getId(), route);
@@ -417,61 +437,150 @@ final class InternalRouteStartupManager {
                     routeLogger.log("Route: " + route.getId() + " resumed and consuming from: " + uri,
                             getRouteLoggerLogLevel(camelContext));
                 } else {
-                    // when starting we should invoke the lifecycle strategies
-                    for (LifecycleStrategy strategy : camelContext.getLifecycleStrategies()) {
-                        strategy.onServiceAdd(camelContext.getCamelContextReference(), consumer, route);
-                    }
-                    try {
-                        camelContext.startService(consumer);
-                        route.getProperties().remove("route.start.exception");
-                    } catch (Exception e) {
-                        route.getProperties().put("route.start.exception", e);
-                        throw e;
-                    }
-
-                    // use basic endpoint uri to not log verbose details or potential sensitive data
-                    String uri = endpoint.getEndpointBaseUri();
-                    uri = URISupport.sanitizeUri(uri);
-                    routeLogger.log("Route: " + route.getId() + " started and consuming from: " + uri,
-                            getRouteLoggerLogLevel(camelContext));
+                    doStartRouteConsumer(camelContext, route, consumer);
                 }
 
                 routeInputs.add(endpoint);
 
-                // add to the order which they was started, so we know how to
-                // stop them in reverse order
-                // but only add if we haven't already registered it before (we
-                // dont want to double add when restarting)
-                boolean found = false;
-                for (RouteStartupOrder other : camelContext.getCamelContextExtension().getRouteStartupOrder()) {
-                    if (other.getRoute().getId().equals(route.getId())) {
-                        found = true;
-                        break;
-                    }
-                }
-                if (!found) {
-                    camelContext.getCamelContextExtension().getRouteStartupOrder().add(entry.getValue());
-                }
+                doAddRouteStartupOrder(camelContext, entry.getValue());
             }
 
             if (resumeOnly) {
                 routeService.resume();
             } else {
-                // and start the route service (no need to start children as
-                // they are already warmed up)
-                try {
-                    routeService.start();
-                    route.getProperties().remove("route.start.exception");
-                } catch (Exception e) {
-                    route.getProperties().put("route.start.exception", e);
-                    throw e;
-                }
+                doStartRouteService(route, routeService);
             }
 
             camelContext.getCamelContextExtension().getStartupStepRecorder().endStep(step);
         }
     }
 
+    private void doParallelStartRouteConsumers(
+            AbstractCamelContext camelContext, Map<Integer, DefaultRouteStartupOrder> inputs, boolean addingRoute)
+            throws Exception {
+        List<Endpoint> routeInputs = new ArrayList<>();
+        Map<Integer, DefaultRouteStartupOrder> toStart = new TreeMap<>();
+
+        // check for multiple consumer violations before starting any of the routes
+        for (Map.Entry<Integer, DefaultRouteStartupOrder> entry : inputs.entrySet()) {
+            RouteService routeService = entry.getValue().getRouteService();
+            if (addingRoute && !routeService.isAutoStartup()) {
+                routeLogger.log(
+                        "Skipping starting of route " + routeService.getId() + " as it's configured with autoStartup=false",
+                        getRouteLoggerLogLevel(camelContext));
+                continue;
+            }
+            Consumer consumer = routeService.getInput();
+            if (consumer != null) {
+                doCheckMultipleConsumers(camelContext, routeService, consumer.getEndpoint(), routeInputs);
+                routeInputs.add(consumer.getEndpoint());
+            }
+            toStart.put(entry.getKey(), entry.getValue());
+        }
+
+        // start the consumers in parallel
+        RouteStartupGraph graph = new RouteStartupGraph(toStart.values());
+        try {
+            graph.start(camelContext, camelContext.getParallelRouteStartupPoolSize(), "Start", order -> {
+                Route route = order.getRoute();
+                RouteService routeService = order.getRouteService();
+                Consumer consumer = routeService.getInput();
+                if (consumer != null) {
+                    LOG.debug("Route: {} >>> {}", route.getId(), route);
+                    LOG.debug("Starting consumer (order: {}) on route: {}", order.getStartupOrder(), route.getId());
+                    doStartRouteConsumer(camelContext, route, consumer);
+                }
+                doStartRouteService(route, routeService);
+            });
+        } finally {
+            // add the started consumers in the startup order (not the order they were started)
+            // so they are stopped in reverse order
+            for (DefaultRouteStartupOrder order : toStart.values()) {
+                if (ServiceHelper.isStarted(order.getRouteService().getInput())) {
+                    doAddRouteStartupOrder(camelContext, order);
+                }
+            }
+        }
+    }
+
+    private void doCheckMultipleConsumers(
+            AbstractCamelContext camelContext, RouteService routeService, Endpoint endpoint, List<Endpoint> routeInputs)
+            throws FailedToStartRouteException {
+        // check multiple consumer violation, with the other routes to be started
+        if (!doCheckMultipleConsumerSupportClash(endpoint, routeInputs)) {
+            throw new FailedToStartRouteException(
+                    routeService.getId(), "Multiple consumers for the same endpoint is not allowed: " + endpoint);
+        }
+
+        // check for multiple consumer violations with existing routes
+        // which have already been started, or is currently starting
+        List<Endpoint> existingEndpoints = new ArrayList<>();
+        for (Route existingRoute : camelContext.getRoutes()) {
+            if (routeService.getId().equals(existingRoute.getId())) {
+                // skip ourselves
+                continue;
+            }
+            Endpoint existing = existingRoute.getEndpoint();
+            ServiceStatus status = camelContext.getRouteStatus(existingRoute.getId());
+            if (status != null && (status.isStarted() || status.isStarting())) {
+                existingEndpoints.add(existing);
+            }
+        }
+        if (!doCheckMultipleConsumerSupportClash(endpoint, existingEndpoints)) {
+            throw new FailedToStartRouteException(
+                    routeService.getId(), "Multiple consumers for the same endpoint is not allowed: " + endpoint);
+        }
+    }
+
+    private void doStartRouteConsumer(AbstractCamelContext camelContext, Route route, Consumer consumer) throws Exception {
+        // when starting we should invoke the lifecycle strategies
+        for (LifecycleStrategy strategy : camelContext.getLifecycleStrategies()) {
+            strategy.onServiceAdd(camelContext.getCamelContextReference(), consumer, route);
+        }
+        try {
+            camelContext.startService(consumer);
+            route.getProperties().remove("route.start.exception");
+        } catch (Exception e) {
+            route.getProperties().put("route.start.exception", e);
+            throw e;
+        }
+
+        // use basic endpoint uri to not log verbose details or potential sensitive data
+        String uri = consumer.getEndpoint().getEndpointBaseUri();
+        uri = URISupport.sanitizeUri(uri);
+        routeLogger.log("Route: " + route.getId() + " started and consuming from: " + uri,
+                getRouteLoggerLogLevel(camelContext));
+    }
+
+    private static void doStartRouteService(Route route, RouteService routeService) throws Exception {
+        // and start the route service (no need to start children as
+        // they are already warmed up)
+        try {
+            routeService.start();
+            route.getProperties().remove("route.start.exception");
+        } catch (Exception e) {
+            route.getProperties().put("route.start.exception", e);
+            throw e;
+        }
+    }
+
+    private static void doAddRouteStartupOrder(AbstractCamelContext camelContext, DefaultRouteStartupOrder order) {
+        // add to the order which they was started, so we know how to
+        // stop them in reverse order
+        // but only add if we haven't already registered it before (we
+        // dont want to double add when restarting)
+        boolean found = false;
+        for (RouteStartupOrder other : camelContext.getCamelContextExtension().getRouteStartupOrder()) {
+            if (other.getRoute().getId().equals(order.getRoute().getId())) {
+                found = true;
+                break;
+            }
+        }
+        if (!found) {
+            camelContext.getCamelContextExtension().getRouteStartupOrder().add(order);
+        }
+    }
+
     private boolean doCheckMultipleConsumerSupportClash(Endpoint endpoint, List<Endpoint> routeInputs) {
         // is multiple consumers supported
         boolean multipleConsumersSupported = false;
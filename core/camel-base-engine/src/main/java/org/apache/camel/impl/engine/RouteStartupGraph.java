@@ -0,0 +1,290 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.Endpoint;
+import org.apache.camel.Route;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.StartupStep;
+import org.apache.camel.spi.StartupStepRecorder;
+import org.apache.camel.support.service.ServiceHelper;
+import org.apache.camel.util.function.ThrowingConsumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The dependencies between the routes to be started, which is used by {@link InternalRouteStartupManager} to start
+ * the routes in parallel.
+ * <p/>
+ * A route is started after the routes it depends on, which are:
+ * <ul>
+ * <li>the routes with a lower startup order, when either of the routes has a startup order configured</li>
+ * <li>the routes consuming from an endpoint this route sends to (such as direct or seda)</li>
+ * <li>the first route (in startup order) using an endpoint this route uses as well, which is not yet started, as the
+ * endpoint is started together with that route</li>
+ * </ul>
+ * A dependency which would cause a cycle (such as two routes sending to each other) is ignored, and the startup order
+ * always takes precedence.
+ */
+final class RouteStartupGraph {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RouteStartupGraph.class);
+
+    private final List<Node> nodes = new ArrayList<>();
+
+    /**
+     * Creates the graph of the routes, which must be set up, so the endpoints of the routes are known.
+     *
+     * @param routes the routes sorted by startup order
+     */
+    RouteStartupGraph(Collection<DefaultRouteStartupOrder> routes) {
+        for (DefaultRouteStartupOrder order : routes) {
+            nodes.add(new Node(order));
+        }
+
+        // the routes with a startup order must be started after all the routes before, and before all the routes after
+        Node lastOrdered = null;
+        List<Node> unordered = new ArrayList<>();
+        for (Node node : nodes) {
+            if (lastOrdered != null) {
+                node.addDependency(lastOrdered);
+            }
+            if (node.order.getRoute().getStartupOrder() != null) {
+                unordered.forEach(node::addDependency);
+                unordered.clear();
+                lastOrdered = node;
+            } else {
+                unordered.add(node);
+            }
+        }
+
+        // the routes consuming from an endpoint must be started before the routes sending to the endpoint
+        Map<Endpoint, Node> consumers = new HashMap<>();
+        for (Node node : nodes) {
+            consumers.putIfAbsent(node.order.getRoute().getEndpoint(), node);
+        }
+        for (Node node : nodes) {
+            for (Endpoint endpoint : node.endpoints) {
+                Node consumer = consumers.get(endpoint);
+                if (consumer != null) {
+                    addDependency(node, consumer);
+                }
+            }
+        }
+
+        // the endpoints which are not started yet are started by the first route using the endpoint
+        Map<Endpoint, Node> owners = new HashMap<>();
+        for (Node node : nodes) {
+            Set<Endpoint> endpoints = new LinkedHashSet<>();
+            endpoints.add(node.order.getRoute().getEndpoint());
+            endpoints.addAll(node.endpoints);
+            for (Endpoint endpoint : endpoints) {
+                if (endpoint.isSingleton() && !ServiceHelper.isStarted(endpoint)) {
+                    Node owner = owners.putIfAbsent(endpoint, node);
+                    if (owner != null) {
+                        addDependency(node, owner);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Starts the routes (by the given task) on a thread pool with the given number of threads, where a route is started
+     * as soon as the routes it depends on have been started.
+     * <p/>
+     * Each route is recorded as a startup step with the route it was waiting for (the critical path) in the
+     * description. If a route fails to start, then no more routes are started, and the exception is thrown when the
+     * routes currently starting are done.
+     *
+     * @param camelContext the camel context
+     * @param poolSize     the number of threads
+     * @param phase        the phase, such as Warmup
+     * @param task         the task to start a route
+     */
+    void start(
+            AbstractCamelContext camelContext, int poolSize, String phase,
+            ThrowingConsumer<DefaultRouteStartupOrder, Exception> task)
+            throws Exception {
+        StartupStepRecorder recorder = camelContext.getCamelContextExtension().getStartupStepRecorder();
+        StartupStep step = recorder.beginStep(Route.class, null, "Parallel " + phase + " Routes");
+
+        int threads = Math.max(1, Math.min(poolSize, nodes.size()));
+        ExecutorService executor
+                = camelContext.getExecutorServiceManager().newFixedThreadPool(this, "RouteStartup", threads);
+        CompletionService<Node> completion = new ExecutorCompletionService<>(executor);
+        long start = System.nanoTime();
+        Exception failure = null;
+        int running = 0;
+        try {
+            for (Node node : nodes) {
+                if (node.pending == 0) {
+                    completion.submit(createTask(node, recorder, step, phase, task));
+                    running++;
+                }
+            }
+            while (running > 0) {
+                Future<Node> future = completion.take();
+                running--;
+                Node done;
+                try {
+                    done = future.get();
+                } catch (ExecutionException e) {
+                    if (failure == null) {
+                        failure = e.getCause() instanceof Exception cause ? cause : new RuntimeCamelException(e.getCause());
+                    }
+                    continue;
+                }
+                if (failure == null) {
+                    for (Node dependent : done.dependents) {
+                        if (--dependent.pending == 0) {
+                            // the route was waiting for this route, which is then on its critical path
+                            dependent.critical = done;
+                            completion.submit(createTask(dependent, recorder, step, phase, task));
+                            running++;
+                        }
+                    }
+                }
+            }
+        } finally {
+            camelContext.getExecutorServiceManager().shutdownNow(executor);
+            recorder.endStep(step);
+        }
+        if (failure != null) {
+            throw failure;
+        }
+
+        if (LOG.isDebugEnabled()) {
+            long taken = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            LOG.debug("{} {} routes in parallel using {} threads took {} millis (critical path: {})", phase, nodes.size(),
+                    threads, taken, getCriticalPath());
+        }
+    }
+
+    /**
+     * Gets the critical path of the last started route, which is the routes it was waiting for, and how long each of
+     * these routes took to start.
+     */
+    String getCriticalPath() {
+        Node last = null;
+        for (Node node : nodes) {
+            if (last == null || node.end > last.end) {
+                last = node;
+            }
+        }
+        Deque<String> path = new ArrayDeque<>();
+        for (Node node = last; node != null; node = node.critical) {
+            path.offerFirst(node.order.getRoute().getRouteId() + " (" + TimeUnit.NANOSECONDS.toMillis(node.end - node.begin)
+                            + " ms)");
+        }
+        StringJoiner sj = new StringJoiner(" -> ");
+        path.forEach(sj::add);
+        return sj.toString();
+    }
+
+    private static Callable<Node> createTask(
+            Node node, StartupStepRecorder recorder, StartupStep parent, String phase,
+            ThrowingConsumer<DefaultRouteStartupOrder, Exception> task) {
+        final String routeId = node.order.getRoute().getRouteId();
+        final String description = node.critical != null
+                ? phase + " Route (after " + node.critical.order.getRoute().getRouteId() + ")"
+                : phase + " Route";
+        return () -> {
+            StartupStep step = recorder.beginStep(parent, Route.class, routeId, description);
+            node.begin = System.nanoTime();
+            try {
+                task.accept(node.order);
+            } finally {
+                node.end = System.nanoTime();
+                recorder.endStep(step);
+            }
+            return node;
+        };
+    }
+
+    private static void addDependency(Node node, Node dependency) {
+        if (node == dependency) {
+            return;
+        }
+        if (dependency.dependsOn(node)) {
+            LOG.debug("Ignoring dependency from route: {} to route: {} as it would cause a cycle",
+                    node.order.getRoute().getRouteId(), dependency.order.getRoute().getRouteId());
+        } else {
+            node.addDependency(dependency);
+        }
+    }
+
+    private static final class Node {
+        private final DefaultRouteStartupOrder order;
+        private final Set<Endpoint> endpoints;
+        private final Set<Node> dependencies = new LinkedHashSet<>();
+        private final List<Node> dependents = new ArrayList<>();
+        private int pending;
+        private Node critical;
+        private long begin;
+        private long end;
+
+        Node(DefaultRouteStartupOrder order) {
+            this.order = order;
+            this.endpoints = order.getRouteService().gatherEndpoints();
+        }
+
+        void addDependency(Node dependency) {
+            if (dependencies.add(dependency)) {
+                dependency.dependents.add(this);
+                pending++;
+            }
+        }
+
+        /**
+         * Whether this node depends on the given node (directly or indirectly).
+         */
+        boolean dependsOn(Node node) {
+            Set<Node> visited = new HashSet<>();
+            Deque<Node> stack = new ArrayDeque<>(dependencies);
+            while (!stack.isEmpty()) {
+                Node next = stack.pop();
+                if (next == node) {
+                    return true;
+                }
+                if (visited.add(next)) {
+                    stack.addAll(next.dependencies);
+                }
+            }
+            return false;
+        }
+    }
+}
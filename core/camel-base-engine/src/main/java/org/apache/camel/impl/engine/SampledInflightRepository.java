@@ -0,0 +1,228 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.spi.InflightRepository;
+import org.apache.camel.support.service.ServiceSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link org.apache.camel.spi.InflightRepository} which is designed for high throughput when browsing the inflight
+ * exchanges is enabled.
+ * <p/>
+ * The inflight exchanges are counted using striped counters like the {@link DefaultInflightRepository}, but instead of
+ * keeping the exchanges in a map keyed by exchange id, they are kept in a fixed size table of slots, where the slot is
+ * found from the identity hash code of the exchange (using a few probes). Adding and removing an exchange is therefore
+ * a compare-and-set of a slot, without hashing the exchange id, allocating map entries or resizing any map. The view of
+ * the inflight exchanges is only built when browsing.
+ * <p/>
+ * If all the probed slots of an exchange are in use, then the exchange is counted but not tracked, which means the
+ * browse view (and the oldest inflight exchange) is a sample of the inflight exchanges, when there are many inflight
+ * exchanges compared to the capacity of the table.
+ */
+public class SampledInflightRepository extends ServiceSupport implements InflightRepository {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SampledInflightRepository.class);
+
+    private static final int PROBES = 4;
+
+    private final LongAdder size = new LongAdder();
+    private final LongAdder untracked = new LongAdder();
+    private final ConcurrentMap<String, LongAdder> routeCount = new ConcurrentHashMap<>();
+    private int capacity = 4096;
+    private volatile AtomicReferenceArray<Exchange> slots;
+    private boolean inflightBrowseEnabled;
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Number of slots for tracking the inflight exchanges for browsing, which is rounded up to the nearest power of
+     * two. The default capacity is 4096.
+     */
+    public void setCapacity(int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * Number of exchanges that have not been tracked for browsing, because their slots were in use.
+     */
+    public long getUntrackedCounter() {
+        return untracked.sum();
+    }
+
+    @Override
+    public void add(Exchange exchange) {
+        size.increment();
+
+        if (inflightBrowseEnabled) {
+            AtomicReferenceArray<Exchange> table = slots;
+            int mask = table.length() - 1;
+            int hash = hash(exchange);
+            for (int i = 0; i < PROBES; i++) {
+                int slot = (hash + i) & mask;
+                if (table.get(slot) == null && table.compareAndSet(slot, null, exchange)) {
+                    return;
+                }
+            }
+            untracked.increment();
+        }
+    }
+
+    @Override
+    public void remove(Exchange exchange) {
+        size.decrement();
+
+        // also remove if browsing has been turned off in the meantime
+        AtomicReferenceArray<Exchange> table = slots;
+        if (table != null) {
+            int mask = table.length() - 1;
+            int hash = hash(exchange);
+            for (int i = 0; i < PROBES; i++) {
+                int slot = (hash + i) & mask;
+                if (table.get(slot) == exchange) {
+                    table.compareAndSet(slot, exchange, null);
+                    return;
+                }
+            }
+        }
+    }
+
+    private static int hash(Exchange exchange) {
+        int h = System.identityHashCode(exchange);
+        return h ^ (h >>> 16);
+    }
+
+    @Override
+    public void add(Exchange exchange, String routeId) {
+        LongAdder existing = routeCount.get(routeId);
+        if (existing != null) {
+            existing.increment();
+        }
+    }
+
+    @Override
+    public void remove(Exchange exchange, String routeId) {
+        LongAdder existing = routeCount.get(routeId);
+        if (existing != null) {
+            existing.decrement();
+        }
+    }
+
+    @Override
+    public int size() {
+        return size.intValue();
+    }
+
+    @Override
+    public void addRoute(String routeId) {
+        routeCount.putIfAbsent(routeId, new LongAdder());
+    }
+
+    @Override
+    public void removeRoute(String routeId) {
+        routeCount.remove(routeId);
+    }
+
+    @Override
+    public int size(String routeId) {
+        LongAdder existing = routeCount.get(routeId);
+        return existing != null ? existing.intValue() : 0;
+    }
+
+    @Override
+    public boolean isInflightBrowseEnabled() {
+        return inflightBrowseEnabled;
+    }
+
+    @Override
+    public void setInflightBrowseEnabled(boolean inflightBrowseEnabled) {
+        if (inflightBrowseEnabled && slots == null) {
+            int size = capacity <= 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+            slots = new AtomicReferenceArray<>(size);
+        }
+        this.inflightBrowseEnabled = inflightBrowseEnabled;
+    }
+
+    @Override
+    public Collection<InflightExchange> browse() {
+        return browse(null, -1, false);
+    }
+
+    @Override
+    public Collection<InflightExchange> browse(String fromRouteId) {
+        return browse(fromRouteId, -1, false);
+    }
+
+    @Override
+    public Collection<InflightExchange> browse(int limit, boolean sortByLongestDuration) {
+        return browse(null, limit, sortByLongestDuration);
+    }
+
+    @Override
+    public Collection<InflightExchange> browse(String fromRouteId, int limit, boolean sortByLongestDuration) {
+        if (!inflightBrowseEnabled) {
+            return Collections.emptyList();
+        }
+        return DefaultInflightRepository.browse(trackedExchanges(), fromRouteId, limit, sortByLongestDuration);
+    }
+
+    @Override
+    public InflightExchange oldest(String fromRouteId) {
+        if (!inflightBrowseEnabled) {
+            return null;
+        }
+        return DefaultInflightRepository.oldest(trackedExchanges(), fromRouteId);
+    }
+
+    private Stream<Exchange> trackedExchanges() {
+        AtomicReferenceArray<Exchange> table = slots;
+        // take a snapshot of the slots, as exchanges may be removed while browsing
+        Exchange[] snapshot = IntStream.range(0, table.length())
+                .mapToObj(table::get)
+                .filter(e -> e != null)
+                .toArray(Exchange[]::new);
+        return Stream.of(snapshot);
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        int count = size();
+        if (count > 0) {
+            LOG.warn("Shutting down while there are still {} inflight exchanges.", count);
+        } else {
+            LOG.debug("Shutting down with no inflight exchanges.");
+        }
+        if (untracked.sum() > 0) {
+            LOG.debug("There were {} inflight exchanges which were not tracked for browsing.", untracked.sum());
+        }
+        routeCount.clear();
+    }
+
+}
@@ -0,0 +1,637 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.StaticService;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.ReactiveExecutor;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.ObjectHelper;
+import org.apache.camel.util.concurrent.ContextValue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link ReactiveExecutor} where tasks that are waiting in the queue of a busy thread can be stolen and executed by
+ * other threads.
+ * <p/>
+ * Like the {@link DefaultReactiveExecutor} each thread has its own worker with a queue of tasks that are executed in
+ * order on the thread that scheduled them. When a worker starts a task while there are other tasks waiting in its
+ * queue, then the waiting tasks can be stolen by a number of stealing threads (by default one per core). This avoids
+ * that a slow task blocks all the other tasks (from other exchanges) that are queued behind it on the same thread.
+ * <p/>
+ * The tasks are grouped into flows, where a new flow is started by a task that is scheduled when no task is running
+ * on the thread, or by a main task ({@link #scheduleMain(Runnable)}), such as when an exchange starts routing. All the
+ * other tasks belong to the flow of the task that scheduled them. To keep the ordering of the tasks for each exchange,
+ * a flow is only stolen when none of its tasks is running, and then all of its waiting tasks are stolen together and
+ * run in order by the stealing thread. Tasks from different flows are never assumed to depend on each other, and the
+ * tasks of one flow never run at the same time. Only tasks scheduled using {@link #schedule(Runnable)} can be stolen,
+ * as the other kinds of tasks must run on the current thread, and a flow with such a task waiting is not stolen.
+ * <p/>
+ * The stealing threads are parked while there is nothing to steal, and are woken up when a busy worker starts running
+ * a task from another flow while it has tasks waiting.
+ */
+@ManagedResource(description = "Managed WorkStealingReactiveExecutor")
+public class WorkStealingReactiveExecutor extends ServiceSupport
+        implements ReactiveExecutor, StaticService, CamelContextAware {
+
+    private static final Logger LOG = LoggerFactory.getLogger(WorkStealingReactiveExecutor.class);
+
+    // how long to wait for the stealing threads to terminate when stopping
+    private static final long STOP_TIMEOUT_MILLIS = 10000;
+    // the flow ids are unique per worker by using the worker number as the high bits
+    private static final int WORKER_ID_SHIFT = 40;
+
+    private CamelContext camelContext;
+    private int stealingThreads;
+
+    // use for statistics so we have insights at runtime
+    private boolean statisticsEnabled;
+    private final AtomicInteger createdWorkers = new AtomicInteger();
+    private final LongAdder runningWorkers = new LongAdder();
+    private final LongAdder pendingTasks = new LongAdder();
+    private final LongAdder steals = new LongAdder();
+    private final LongAdder stolenTasks = new LongAdder();
+
+    // workers that are running a task while there are other tasks waiting in their queue
+    private final Set<Worker> victims = ConcurrentHashMap.newKeySet();
+    private final Queue<Thread> idleStealers = new ConcurrentLinkedQueue<>();
+    private final List<Thread> stealers = new ArrayList<>();
+    // each start has its own token, so stealing threads from a previous start cannot keep running
+    private AtomicBoolean stealing;
+
+    private final ContextValue<Worker> workers = ContextValue.newThreadLocal("CamelWorkStealingReactiveWorker", () -> {
+        int number = createdWorkers.incrementAndGet();
+        return new Worker(number, WorkStealingReactiveExecutor.this);
+    });
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    @Override
+    public void schedule(Runnable runnable) {
+        workers.get().schedule(runnable, false, false, false);
+    }
+
+    @Override
+    public void scheduleMain(Runnable runnable) {
+        workers.get().schedule(runnable, true, true, false);
+    }
+
+    @Override
+    public void scheduleSync(Runnable runnable) {
+        workers.get().schedule(runnable, false, true, true);
+    }
+
+    @Override
+    public void scheduleQueue(Runnable runnable) {
+        workers.get().scheduleQueue(runnable);
+    }
+
+    @Override
+    public boolean executeFromQueue() {
+        return workers.get().executeFromQueue();
+    }
+
+    @Override
+    @ManagedAttribute(description = "Whether statistics is enabled")
+    public boolean isStatisticsEnabled() {
+        return statisticsEnabled;
+    }
+
+    @Override
+    public void setStatisticsEnabled(boolean statisticsEnabled) {
+        this.statisticsEnabled = statisticsEnabled;
+    }
+
+    @ManagedAttribute(description = "Number of threads that steal tasks from busy workers")
+    public int getStealingThreads() {
+        return stealingThreads;
+    }
+
+    /**
+     * Number of threads that steal tasks from busy workers. The default uses the number of available processors.
+     */
+    public void setStealingThreads(int stealingThreads) {
+        this.stealingThreads = stealingThreads;
+    }
+
+    @ManagedAttribute(description = "Number of created workers")
+    public int getCreatedWorkers() {
+        return createdWorkers.get();
+    }
+
+    @ManagedAttribute(description = "Number of running workers")
+    public int getRunningWorkers() {
+        return runningWorkers.intValue();
+    }
+
+    @ManagedAttribute(description = "Number of pending tasks")
+    public int getPendingTasks() {
+        return pendingTasks.intValue();
+    }
+
+    @ManagedAttribute(description = "Number of times tasks were stolen from a busy worker")
+    public long getSteals() {
+        return steals.longValue();
+    }
+
+    @ManagedAttribute(description = "Number of tasks that were stolen from busy workers")
+    public long getStolenTasks() {
+        return stolenTasks.longValue();
+    }
+
+    @ManagedAttribute(description = "Number of busy workers that have tasks waiting in their queue")
+    public int getBusyWorkers() {
+        return victims.size();
+    }
+
+    @ManagedAttribute(description = "Largest number of tasks waiting in the queue of a busy worker")
+    public int getLargestQueueDepth() {
+        int answer = 0;
+        for (Worker worker : victims) {
+            answer = Math.max(answer, worker.queueDepth());
+        }
+        return answer;
+    }
+
+    @ManagedOperation(description = "The number of tasks waiting in the queue of each busy worker")
+    public String queueDepths() {
+        StringJoiner sj = new StringJoiner(", ");
+        for (Worker worker : victims) {
+            sj.add("worker-" + worker.number + "=" + worker.queueDepth());
+        }
+        return sj.toString();
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        ObjectHelper.notNull(camelContext, "CamelContext", this);
+        if (stealingThreads <= 0) {
+            stealingThreads = Runtime.getRuntime().availableProcessors();
+        }
+        final AtomicBoolean active = new AtomicBoolean(true);
+        stealing = active;
+        // the stealing threads are not managed by the executor service manager, as the reactive executor
+        // must be able to run tasks until the very end when CamelContext is stopping
+        for (int i = 0; i < stealingThreads; i++) {
+            Thread thread = camelContext.getExecutorServiceManager().newThread("ReactiveExecutorStealer",
+                    () -> steal(active));
+            stealers.add(thread);
+            thread.start();
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (LOG.isDebugEnabled() && statisticsEnabled) {
+            LOG.debug(
+                    "Stopping WorkStealingReactiveExecutor [createdWorkers: {}, runningWorkers: {}, pendingTasks: {}, steals: {}, stolenTasks: {}]",
+                    getCreatedWorkers(), getRunningWorkers(), getPendingTasks(), getSteals(), getStolenTasks());
+        }
+        if (stealing != null) {
+            stealing.set(false);
+        }
+        for (Thread thread : stealers) {
+            LockSupport.unpark(thread);
+        }
+        // wait for the stealing threads to complete the tasks they have stolen
+        long deadline = System.currentTimeMillis() + STOP_TIMEOUT_MILLIS;
+        for (Thread thread : stealers) {
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining > 0) {
+                thread.join(remaining);
+            }
+            if (thread.isAlive()) {
+                LOG.warn("Stealing thread {} is still running a stolen task after {} millis. It stops when the task is done.",
+                        thread.getName(), STOP_TIMEOUT_MILLIS);
+            }
+        }
+        stealers.clear();
+        idleStealers.clear();
+    }
+
+    @Override
+    protected void doShutdown() throws Exception {
+        workers.remove();
+    }
+
+    /**
+     * Wakes up an idle stealing thread as the worker has tasks waiting that may be stolen
+     */
+    private void signal(Worker worker) {
+        victims.add(worker);
+        Thread thread = idleStealers.poll();
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    /**
+     * The loop of a stealing thread, which is parked until it is signalled that there may be tasks to steal
+     */
+    private void steal(AtomicBoolean active) {
+        final Thread thread = Thread.currentThread();
+        final Worker own = workers.get();
+        while (active.get() && !thread.isInterrupted()) {
+            // register as idle before looking for work, so we do not miss a signal
+            idleStealers.add(thread);
+            boolean found = false;
+            for (Worker victim : victims) {
+                List<Task> stolen = victim.steal();
+                if (stolen != null) {
+                    idleStealers.remove(thread);
+                    if (statisticsEnabled) {
+                        steals.increment();
+                        stolenTasks.add(stolen.size());
+                    }
+                    if (victim.hasWaitingTasks()) {
+                        // there may be other flows to steal from the worker
+                        signal(victim);
+                    }
+                    own.runStolen(stolen);
+                    found = true;
+                    break;
+                }
+            }
+            if (!found && active.get()) {
+                LockSupport.park(this);
+                idleStealers.remove(thread);
+            }
+        }
+        idleStealers.remove(thread);
+    }
+
+    private static final class Task {
+        private final Runnable runnable;
+        // the id of the flow this task belongs to
+        private final long flow;
+        private final boolean stealable;
+
+        private Task(Runnable runnable, long flow, boolean stealable) {
+            this.runnable = runnable;
+            this.flow = flow;
+            this.stealable = stealable;
+        }
+    }
+
+    private static final class Worker {
+
+        private final int number;
+        private final WorkStealingReactiveExecutor executor;
+        private final Lock lock = new ReentrantLock();
+        private Deque<Task> queue = new ArrayDeque<>();
+        private Deque<Deque<Task>> back;
+        private volatile boolean running;
+        // the following are guarded by the lock
+        private int depth;
+        private long sequence;
+        private long currentFlow;
+        private boolean victim;
+
+        Worker(int number, WorkStealingReactiveExecutor executor) {
+            this.number = number;
+            this.executor = executor;
+            this.sequence = (long) number << WORKER_ID_SHIFT;
+        }
+
+        void schedule(Runnable runnable, boolean first, boolean main, boolean sync) {
+            if (LOG.isTraceEnabled()) {
+                LOG.trace("Schedule [first={}, main={}, sync={}]: {}", first, main, sync, runnable);
+            }
+            lock.lock();
+            try {
+                // a task scheduled when no task is running, or a main task, starts a new flow
+                long flow = depth == 0 || main ? ++sequence : currentFlow;
+                Task task = new Task(runnable, flow, !first && !main && !sync);
+                if (main) {
+                    executeMainFlow();
+                }
+                if (first) {
+                    queue.addFirst(task);
+                } else {
+                    queue.addLast(task);
+                }
+            } finally {
+                lock.unlock();
+            }
+
+            incrementPendingTasks();
+            tryExecuteReactiveWork(runnable, sync);
+        }
+
+        void scheduleQueue(Runnable runnable) {
+            if (LOG.isTraceEnabled()) {
+                LOG.trace("ScheduleQueue: {}", runnable);
+            }
+            lock.lock();
+            try {
+                queue.add(new Task(runnable, depth == 0 ? ++sequence : currentFlow, false));
+            } finally {
+                lock.unlock();
+            }
+            incrementPendingTasks();
+        }
+
+        private void executeMainFlow() {
+            if (!queue.isEmpty()) {
+                if (back == null) {
+                    back = new ArrayDeque<>();
+                }
+                back.push(queue);
+                queue = new ArrayDeque<>();
+            }
+        }
+
+        void runStolen(List<Task> tasks) {
+            lock.lock();
+            try {
+                queue.addAll(tasks);
+            } finally {
+                lock.unlock();
+            }
+            tryExecuteReactiveWork(null, true);
+        }
+
+        private void tryExecuteReactiveWork(Runnable runnable, boolean sync) {
+            if (!running || sync) {
+                running = true;
+                incrementRunningWorkers();
+                long savedFlow;
+                lock.lock();
+                try {
+                    depth++;
+                    savedFlow = currentFlow;
+                } finally {
+                    lock.unlock();
+                }
+                try {
+                    executeReactiveWork();
+                } finally {
+                    boolean done;
+                    lock.lock();
+                    try {
+                        depth--;
+                        // restore as the outer task is still running
+                        currentFlow = savedFlow;
+                        done = depth == 0 && victim;
+                        if (done) {
+                            victim = false;
+                        }
+                    } finally {
+                        lock.unlock();
+                    }
+                    if (done) {
+                        executor.victims.remove(this);
+                    }
+                    running = false;
+                    decrementRunningWorkers();
+                }
+            } else {
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("Queuing reactive work: {}", runnable);
+                }
+            }
+        }
+
+        private void executeReactiveWork() {
+            for (;;) {
+                final Task polled;
+                boolean signal = false;
+                lock.lock();
+                try {
+                    Task task = queue.pollFirst();
+                    while (task == null && back != null && !back.isEmpty()) {
+                        queue = back.pollFirst();
+                        task = queue.pollFirst();
+                    }
+                    polled = task;
+                    if (polled != null) {
+                        // other tasks are waiting while running this task, so the tasks from the other flows can be
+                        // stolen, which can change when starting a task from another flow
+                        if (depth == 1 && hasWaitingTasksLocked() && (!victim || polled.flow != currentFlow)) {
+                            victim = true;
+                            signal = true;
+                        }
+                        currentFlow = polled.flow;
+                    }
+                } finally {
+                    lock.unlock();
+                }
+                if (polled == null) {
+                    break;
+                }
+                if (signal) {
+                    executor.signal(this);
+                }
+                doRun(polled.runnable);
+            }
+        }
+
+        /**
+         * Steals all the waiting tasks of the first flow that can be stolen, which is a flow that is not running, and
+         * where all its waiting tasks can be stolen.
+         *
+         * @return the stolen tasks (in the order they would have been run), or <tt>null</tt> if no tasks can be stolen
+         */
+        List<Task> steal() {
+            // the lock is only held briefly by the worker, and never while running a task
+            lock.lock();
+            try {
+                if (depth != 1) {
+                    // a nested flow is running
+                    return null;
+                }
+                Set<Long> skip = null;
+                // the waiting tasks are in the queue, and then in the queues of the flows that were interrupted by
+                // a main flow
+                List<Deque<Task>> queues = new ArrayList<>();
+                queues.add(queue);
+                if (back != null) {
+                    queues.addAll(back);
+                }
+                for (Deque<Task> q : queues) {
+                    for (Task task : q) {
+                        long flow = task.flow;
+                        if (flow == currentFlow || skip != null && skip.contains(flow)) {
+                            continue;
+                        }
+                        List<Task> answer = stealFlow(queues, flow);
+                        if (answer != null) {
+                            return answer;
+                        }
+                        if (skip == null) {
+                            skip = new HashSet<>();
+                        }
+                        skip.add(flow);
+                    }
+                }
+                return null;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private static List<Task> stealFlow(List<Deque<Task>> queues, long flow) {
+            List<Task> answer = new ArrayList<>();
+            for (Deque<Task> q : queues) {
+                for (Task task : q) {
+                    if (task.flow == flow) {
+                        if (!task.stealable) {
+                            // cannot break up the flow
+                            return null;
+                        }
+                        answer.add(task);
+                    }
+                }
+            }
+            for (Deque<Task> q : queues) {
+                q.removeIf(task -> task.flow == flow);
+            }
+            return answer;
+        }
+
+        boolean hasWaitingTasks() {
+            lock.lock();
+            try {
+                return hasWaitingTasksLocked();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private boolean hasWaitingTasksLocked() {
+            if (!queue.isEmpty()) {
+                return true;
+            }
+            if (back != null) {
+                for (Deque<Task> q : back) {
+                    if (!q.isEmpty()) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        int queueDepth() {
+            lock.lock();
+            try {
+                int answer = queue.size();
+                if (back != null) {
+                    for (Deque<Task> q : back) {
+                        answer += q.size();
+                    }
+                }
+                return answer;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void doRun(Runnable polled) {
+            try {
+                decrementPendingTasks();
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("Worker #{} running: {}", number, polled);
+                }
+                polled.run();
+            } catch (Exception t) {
+                LOG.warn("Error executing reactive work due to {}. This exception is ignored.",
+                        t.getMessage(), t);
+            }
+        }
+
+        private void decrementRunningWorkers() {
+            if (executor.statisticsEnabled) {
+                executor.runningWorkers.decrement();
+            }
+        }
+
+        private void incrementRunningWorkers() {
+            if (executor.statisticsEnabled) {
+                executor.runningWorkers.increment();
+            }
+        }
+
+        private void incrementPendingTasks() {
+            if (executor.statisticsEnabled) {
+                executor.pendingTasks.increment();
+            }
+        }
+
+        private void decrementPendingTasks() {
+            if (executor.statisticsEnabled) {
+                executor.pendingTasks.decrement();
+            }
+        }
+
+        boolean executeFromQueue() {
+            final Task polled;
+            lock.lock();
+            try {
+                polled = queue.pollFirst();
+            } finally {
+                lock.unlock();
+            }
+            if (polled == null) {
+                return false;
+            }
+            try {
+                decrementPendingTasks();
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("Running: {}", polled.runnable);
+                }
+                polled.runnable.run();
+            } catch (Exception t) {
+                // should not happen
+                LOG.warn("Error executing reactive work due to {}. This exception is ignored.", t.getMessage(), t);
+            }
+            return true;
+        }
+
+    }
+
+}
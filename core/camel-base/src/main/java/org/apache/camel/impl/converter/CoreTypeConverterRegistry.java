@@ -71,10 +71,13 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
     // Why 256: as of Camel 4, we have about 230 type converters. Therefore, set the capacity to a few more to provide
     // space for others added during runtime
     private final Map<TypeConvertible<?, ?>, TypeConverter> converters = new ConcurrentHashMap<>(256);
+    // lookup table by the exact from/to types in front of the converters (including misses) which does not allocate
+    private final TypeConverterTable table;
 
     protected CoreTypeConverterRegistry(boolean statisticsEnabled) {
+        this.table = new TypeConverterTable(statisticsEnabled);
         if (statisticsEnabled) {
-            statistics = new TypeConverterStatistics();
+            statistics = new TypeConverterStatistics(table, MISS_CONVERTER);
         } else {
             statistics = new NoopTypeConverterStatistics();
         }
@@ -384,9 +387,20 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
 
         // attempt bulk first which is the fastest (also taking into account primitives)
         final Class<?> aClass = type.isPrimitive() ? ObjectHelper.convertPrimitiveTypeToWrapperType(type) : type;
+
+        // the lookup table is the fastest as it does not need to create a key
+        // (this includes previous attempts that missed, which returns MISS_VALUE)
+        final TypeConverter cached = table.get(value.getClass(), aClass);
+        if (cached != null) {
+            final Object ret = cached.convertTo(type, exchange, value);
+            if (ret != null) {
+                return ret;
+            }
+        }
+
         final TypeConvertible<?, ?> typeConvertible = new TypeConvertible<>(value.getClass(), aClass);
 
-        final Object ret = tryCachedConverters(type, exchange, value, typeConvertible);
+        final Object ret = tryCachedConverters(type, exchange, value, typeConvertible, cached);
         if (ret != null) {
             return ret;
         }
@@ -399,28 +413,32 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
 
         final TypeConverter assignableConverter = tryAssignableFrom(typeConvertible, converters);
         if (assignableConverter != null) {
-            converters.put(typeConvertible, assignableConverter);
+            putConverter(typeConvertible, assignableConverter);
             return assignableConverter.convertTo(type, exchange, value);
         }
 
         // This is the last resort: if nothing else works, try to find something that converts from an Object to the target type
         final TypeConverter objConverter = converters.get(new TypeConvertible<>(Object.class, type));
         if (objConverter != null) {
-            converters.put(typeConvertible, objConverter);
+            putConverter(typeConvertible, objConverter);
             return objConverter.convertTo(type, exchange, value);
         }
 
         if (!tryConvert) {
-            converters.put(typeConvertible, MISS_CONVERTER);
+            putConverter(typeConvertible, MISS_CONVERTER);
         }
 
         // Could not find suitable conversion, so return Void to indicate not found
         return TypeConverter.MISS_VALUE;
     }
 
-    private Object tryCachedConverters(Class<?> type, Exchange exchange, Object value, TypeConvertible<?, ?> typeConvertible) {
+    private Object tryCachedConverters(
+            Class<?> type, Exchange exchange, Object value, TypeConvertible<?, ?> typeConvertible, TypeConverter cached) {
         final TypeConverter typeConverter = converters.get(typeConvertible);
-        if (typeConverter != null) {
+        // skip if the lookup table already found and tried this converter
+        if (typeConverter != null && typeConverter != cached) {
+            // remember in the lookup table for the next time
+            table.put(typeConvertible.getFrom(), typeConvertible.getTo(), typeConverter);
             final Object ret = typeConverter.convertTo(type, exchange, value);
             if (ret != null) {
                 return ret;
@@ -431,7 +449,7 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
         if (superConverterTc != null) {
             final Object ret = superConverterTc.convertTo(type, exchange, value);
             if (ret != null) {
-                converters.put(typeConvertible, superConverterTc);
+                putConverter(typeConvertible, superConverterTc);
                 return ret;
             }
         }
@@ -456,7 +474,7 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
             }
 
             if (rc != null) {
-                converters.put(typeConvertible, tc);
+                putConverter(typeConvertible, tc);
                 // if fallback can promote then let it be promoted to a first class type converter
                 if (fallback.isCanPromote()) {
                     // add it as a known type converter since we found a fallback that could do it
@@ -480,13 +498,18 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
         }
     }
 
+    private void putConverter(TypeConvertible<?, ?> typeConvertible, TypeConverter typeConverter) {
+        converters.put(typeConvertible, typeConverter);
+        table.put(typeConvertible.getFrom(), typeConvertible.getTo(), typeConverter);
+    }
+
     public TypeConverter getTypeConverter(Class<?> toType, Class<?> fromType) {
         return converters.get(new TypeConvertible<>(fromType, toType));
     }
 
     @Override
     public void addConverter(TypeConvertible<?, ?> typeConvertible, TypeConverter typeConverter) {
-        converters.put(typeConvertible, typeConverter);
+        putConverter(typeConvertible, typeConverter);
     }
 
     @Override
@@ -506,7 +529,7 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
 
         if (converter == MISS_CONVERTER) {
             // we have previously attempted to convert but missed, so add this converter
-            converters.put(typeConvertible, typeConverter);
+            putConverter(typeConvertible, typeConverter);
             return;
         }
 
@@ -523,7 +546,7 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
             }
 
             if (add) {
-                converters.put(typeConvertible, typeConverter);
+                putConverter(typeConvertible, typeConverter);
             }
         }
     }
@@ -548,6 +571,7 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
     public boolean removeTypeConverter(Class<?> toType, Class<?> fromType) {
         LOG.trace("Removing type converter from: {} to: {}", fromType, toType);
         final TypeConverter removed = converters.remove(new TypeConvertible<>(fromType, toType));
+        table.remove(fromType, toType);
         return removed != null;
     }
 
@@ -589,7 +613,7 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
             // converter not found, try to lookup then
             converter = lookup(toType, fromType);
             if (converter != null) {
-                converters.put(typeConvertible, converter);
+                putConverter(typeConvertible, converter);
             }
         }
         return converter;
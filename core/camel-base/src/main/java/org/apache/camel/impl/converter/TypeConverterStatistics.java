@@ -18,6 +18,7 @@
 package org.apache.camel.impl.converter;
 
 import java.util.Map;
+import java.util.StringJoiner;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.LongAdder;
 
@@ -31,12 +32,20 @@ import org.slf4j.LoggerFactory;
  */
 final class TypeConverterStatistics implements ConverterStatistics {
     private static final Logger LOG = LoggerFactory.getLogger(TypeConverterStatistics.class);
+    private static final int TOP_CONVERSIONS = 10;
 
     private final LongAdder noopCounter = new LongAdder();
     private final LongAdder attemptCounter = new LongAdder();
     private final LongAdder missCounter = new LongAdder();
     private final LongAdder hitCounter = new LongAdder();
     private final LongAdder failedCounter = new LongAdder();
+    private final TypeConverterTable table;
+    private final TypeConverter missConverter;
+
+    TypeConverterStatistics(TypeConverterTable table, TypeConverter missConverter) {
+        this.table = table;
+        this.missConverter = missConverter;
+    }
 
     @Override
     public long getNoopCounter() {
@@ -100,6 +109,12 @@ final class TypeConverterStatistics implements ConverterStatistics {
         hitCounter.reset();
         missCounter.reset();
         failedCounter.reset();
+        table.resetCounters();
+    }
+
+    @Override
+    public Map<TypeConvertible<?, ?>, Long> getTopConversions(int limit) {
+        return table.getTopConversions(limit, missConverter);
     }
 
     /**
@@ -129,5 +144,14 @@ final class TypeConverterStatistics implements ConverterStatistics {
                 "TypeConverterStatistics utilization[noop={}, attempts={}, hits={}, misses={}, failures={}] mappings[total={}, misses={}]",
                 getNoopCounter(), getAttemptCounter(), getHitCounter(), getMissCounter(), getFailedCounter(), converters.size(),
                 misses);
+
+        if (LOG.isInfoEnabled()) {
+            Map<TypeConvertible<?, ?>, Long> top = getTopConversions(TOP_CONVERSIONS);
+            if (!top.isEmpty()) {
+                StringJoiner sj = new StringJoiner(", ");
+                top.forEach((k, v) -> sj.add(k.getFrom().getName() + "->" + k.getTo().getName() + "=" + v));
+                LOG.info("TypeConverterStatistics top conversions[{}]", sj);
+            }
+        }
     }
 }
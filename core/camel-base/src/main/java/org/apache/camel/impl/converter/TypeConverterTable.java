@@ -0,0 +1,231 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.converter;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.camel.TypeConverter;
+import org.apache.camel.spi.TypeConvertible;
+
+/**
+ * A lookup table of type converters by the exact from and to types, which is used by {@link CoreTypeConverterRegistry}
+ * in front of its map of type converters.
+ * <p/>
+ * Each class is given a numeric id, and the table is a two level array that is indexed by the id of the from type and
+ * then the id of the to type. This allows looking up type converters without creating a key and hashing the two
+ * classes, so lookups do not allocate any objects. The number of classes that can be given an id is bounded, and
+ * conversions between other classes are not stored in the table.
+ * <p/>
+ * When statistics is enabled then the number of conversions for each entry is counted, which can be used to find the
+ * most used type conversions.
+ */
+final class TypeConverterTable {
+
+    private static final int INITIAL_CAPACITY = 64;
+    static final int MAX_CLASSES = 1024;
+
+    private final AtomicInteger nextId = new AtomicInteger();
+    private final ClassValue<Integer> ids = new ClassValue<>() {
+        @Override
+        protected Integer computeValue(Class<?> type) {
+            int id = nextId.getAndIncrement();
+            return id < MAX_CLASSES ? id : -1;
+        }
+    };
+    private final Lock lock = new ReentrantLock();
+    private final boolean statisticsEnabled;
+    private volatile AtomicReferenceArray<Entry>[] rows;
+
+    TypeConverterTable(boolean statisticsEnabled) {
+        this.statisticsEnabled = statisticsEnabled;
+        this.rows = newRows(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Gets the type converter for the exact from and to types
+     *
+     * @return the type converter, or <tt>null</tt> if not in the table
+     */
+    TypeConverter get(Class<?> from, Class<?> to) {
+        int fromId = ids.get(from);
+        int toId = ids.get(to);
+        if (fromId < 0 || toId < 0) {
+            return null;
+        }
+        AtomicReferenceArray<Entry>[] current = rows;
+        if (fromId >= current.length) {
+            return null;
+        }
+        AtomicReferenceArray<Entry> row = current[fromId];
+        if (row == null || toId >= row.length()) {
+            return null;
+        }
+        Entry entry = row.get(toId);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.counter != null) {
+            entry.counter.increment();
+        }
+        return entry.converter;
+    }
+
+    /**
+     * Puts the type converter for the exact from and to types
+     */
+    void put(Class<?> from, Class<?> to, TypeConverter converter) {
+        int fromId = ids.get(from);
+        int toId = ids.get(to);
+        if (fromId < 0 || toId < 0) {
+            return;
+        }
+        lock.lock();
+        try {
+            AtomicReferenceArray<Entry>[] current = rows;
+            if (fromId >= current.length) {
+                current = copyOf(current, capacityFor(fromId));
+                rows = current;
+            }
+            AtomicReferenceArray<Entry> row = current[fromId];
+            if (row == null || toId >= row.length()) {
+                AtomicReferenceArray<Entry> grown = new AtomicReferenceArray<>(capacityFor(toId));
+                if (row != null) {
+                    for (int i = 0; i < row.length(); i++) {
+                        grown.set(i, row.get(i));
+                    }
+                }
+                row = grown;
+                current[fromId] = row;
+                // publish the new row
+                rows = current;
+            }
+            Entry existing = row.get(toId);
+            if (existing == null || existing.converter != converter) {
+                row.set(toId, new Entry(from, to, converter, statisticsEnabled ? new LongAdder() : null));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the type converter for the exact from and to types
+     */
+    void remove(Class<?> from, Class<?> to) {
+        int fromId = ids.get(from);
+        int toId = ids.get(to);
+        if (fromId < 0 || toId < 0) {
+            return;
+        }
+        lock.lock();
+        try {
+            AtomicReferenceArray<Entry>[] current = rows;
+            if (fromId < current.length) {
+                AtomicReferenceArray<Entry> row = current[fromId];
+                if (row != null && toId < row.length()) {
+                    row.set(toId, null);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the type conversions with the most conversions (requires statistics enabled)
+     *
+     * @param  limit         maximum number of type conversions
+     * @param  missConverter the type converter that represents a miss, which are not included
+     * @return               the number of conversions per type conversion, ordered by the most conversions first
+     */
+    Map<TypeConvertible<?, ?>, Long> getTopConversions(int limit, TypeConverter missConverter) {
+        List<Entry> entries = new ArrayList<>();
+        for (AtomicReferenceArray<Entry> row : rows) {
+            if (row != null) {
+                for (int i = 0; i < row.length(); i++) {
+                    Entry entry = row.get(i);
+                    if (entry != null && entry.counter != null && entry.converter != missConverter
+                            && entry.counter.sum() > 0) {
+                        entries.add(entry);
+                    }
+                }
+            }
+        }
+        entries.sort(Comparator.comparingLong((Entry e) -> e.counter.sum()).reversed());
+
+        Map<TypeConvertible<?, ?>, Long> answer = new LinkedHashMap<>();
+        for (int i = 0; i < entries.size() && i < limit; i++) {
+            Entry entry = entries.get(i);
+            answer.put(new TypeConvertible<>(entry.from, entry.to), entry.counter.sum());
+        }
+        return answer;
+    }
+
+    /**
+     * Resets the conversion counters
+     */
+    void resetCounters() {
+        for (AtomicReferenceArray<Entry> row : rows) {
+            if (row != null) {
+                for (int i = 0; i < row.length(); i++) {
+                    Entry entry = row.get(i);
+                    if (entry != null && entry.counter != null) {
+                        entry.counter.reset();
+                    }
+                }
+            }
+        }
+    }
+
+    private static int capacityFor(int id) {
+        return Math.min(MAX_CLASSES, Math.max(INITIAL_CAPACITY, Integer.highestOneBit(id) << 1));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static AtomicReferenceArray<Entry>[] newRows(int capacity) {
+        return new AtomicReferenceArray[capacity];
+    }
+
+    private static AtomicReferenceArray<Entry>[] copyOf(AtomicReferenceArray<Entry>[] rows, int capacity) {
+        AtomicReferenceArray<Entry>[] answer = newRows(capacity);
+        System.arraycopy(rows, 0, answer, 0, rows.length);
+        return answer;
+    }
+
+    private static final class Entry {
+        private final Class<?> from;
+        private final Class<?> to;
+        private final TypeConverter converter;
+        private final LongAdder counter;
+
+        private Entry(Class<?> from, Class<?> to, TypeConverter converter, LongAdder counter) {
+            this.from = from;
+            this.to = to;
+            this.converter = converter;
+            this.counter = counter;
+        }
+    }
+}
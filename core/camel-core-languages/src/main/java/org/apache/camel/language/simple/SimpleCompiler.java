@@ -0,0 +1,262 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.language.simple;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
+import org.apache.camel.Predicate;
+import org.apache.camel.TypeConverter;
+import org.apache.camel.language.simple.ast.BinaryExpression;
+import org.apache.camel.language.simple.ast.BooleanExpression;
+import org.apache.camel.language.simple.ast.DoubleQuoteStart;
+import org.apache.camel.language.simple.ast.LiteralExpression;
+import org.apache.camel.language.simple.ast.LogicalExpression;
+import org.apache.camel.language.simple.ast.NumericExpression;
+import org.apache.camel.language.simple.ast.SimpleNode;
+import org.apache.camel.language.simple.ast.SingleQuoteStart;
+import org.apache.camel.language.simple.types.BinaryOperatorType;
+import org.apache.camel.language.simple.types.LogicalOperatorType;
+import org.apache.camel.support.ExpressionToPredicateAdapter;
+import org.apache.camel.support.ObjectHelper;
+import org.apache.camel.support.builder.PredicateBuilder;
+
+/**
+ * Compiles the AST of a simple predicate into a tree of {@link Predicate}s.
+ * <p/>
+ * The interpreter turns every node in the AST into an {@link Expression}, which result is converted to a boolean when
+ * used as a predicate, and logical operators create their predicates again on every evaluation. The compiler instead
+ * lowers the logical and binary operators into predicates that are created once, compares integral numbers without
+ * type coercion, and resolves the values of the in operator up front when they are constant.
+ * <p/>
+ * Any node that cannot be compiled (such as the is, regex and range operators, and unary, ternary and chain
+ * expressions) is evaluated by the interpreter, and the functions (such as ${header.foo}) are always the same
+ * expressions the interpreter uses, so the compiled predicates give the same results.
+ */
+public final class SimpleCompiler {
+
+    private SimpleCompiler() {
+    }
+
+    /**
+     * Compiles the AST nodes into predicates.
+     *
+     * @param  camelContext the camel context
+     * @param  expression   the original simple predicate
+     * @param  nodes        the nodes of the AST (from {@link SimplePredicateParser#parseTokens()})
+     * @return              the predicates, one for each node that results in a predicate
+     */
+    public static List<Predicate> compilePredicates(CamelContext camelContext, String expression, List<SimpleNode> nodes) {
+        List<Predicate> answer = new ArrayList<>(nodes.size());
+        for (SimpleNode node : nodes) {
+            Predicate predicate = compilePredicate(camelContext, expression, node);
+            if (predicate != null) {
+                answer.add(predicate);
+            }
+        }
+        return answer;
+    }
+
+    private static Predicate compilePredicate(CamelContext camelContext, String expression, SimpleNode node) {
+        if (node instanceof LogicalExpression logical && logical.getLeft() != null && logical.getRight() != null) {
+            Predicate left = compilePredicate(camelContext, expression, logical.getLeft());
+            Predicate right = compilePredicate(camelContext, expression, logical.getRight());
+            if (left != null && right != null) {
+                if (logical.getOperator() == LogicalOperatorType.AND) {
+                    return PredicateBuilder.and(left, right);
+                } else if (logical.getOperator() == LogicalOperatorType.OR) {
+                    return PredicateBuilder.or(left, right);
+                }
+            }
+        } else if (node instanceof BinaryExpression binary && binary.getLeft() != null && binary.getRight() != null) {
+            Predicate answer = compileBinaryPredicate(camelContext, expression, binary);
+            if (answer != null) {
+                return answer;
+            }
+        }
+
+        // fallback to use the interpreter
+        Expression exp = node.createExpression(camelContext, expression);
+        return exp != null ? ExpressionToPredicateAdapter.toPredicate(exp) : null;
+    }
+
+    private static Predicate compileBinaryPredicate(CamelContext camelContext, String expression, BinaryExpression binary) {
+        BinaryOperatorType operator = binary.getOperator();
+        Expression left = binary.getLeft().createExpression(camelContext, expression);
+
+        if (operator == BinaryOperatorType.IN || operator == BinaryOperatorType.NOT_IN) {
+            Object constant = constantValue(binary.getRight());
+            if (constant == null) {
+                return null;
+            }
+            List<Object> values = new ArrayList<>();
+            Iterator<?> it = ObjectHelper.createIterator(constant);
+            while (it.hasNext()) {
+                values.add(it.next());
+            }
+            return new InPredicate(left, values, operator == BinaryOperatorType.NOT_IN);
+        }
+
+        Expression right = binary.getRight().createExpression(camelContext, expression);
+        if (operator == BinaryOperatorType.GT || operator == BinaryOperatorType.GTE
+                || operator == BinaryOperatorType.LT || operator == BinaryOperatorType.LTE) {
+            return new ComparePredicate(left, right, operator, binary.getToken().getText());
+        }
+        return binary.createPredicate(left, right);
+    }
+
+    /**
+     * Gets the value of the node if its a constant.
+     *
+     * @return the constant value, or <tt>null</tt> if the node is not a constant (or a null constant)
+     */
+    private static Object constantValue(SimpleNode node) {
+        if (node instanceof NumericExpression numeric) {
+            return numeric.getNumber();
+        } else if (node instanceof BooleanExpression bool) {
+            return bool.getValue();
+        } else if (node.getClass() == LiteralExpression.class) {
+            // must be a plain literal and not a function (which extends literal)
+            return ((LiteralExpression) node).getText();
+        }
+
+        List<SimpleNode> children = null;
+        if (node instanceof SingleQuoteStart quote) {
+            children = quote.getBlock().getChildren();
+        } else if (node instanceof DoubleQuoteStart quote) {
+            children = quote.getBlock().getChildren();
+        }
+        if (children == null) {
+            return null;
+        }
+        StringBuilder sb = new StringBuilder();
+        for (SimpleNode child : children) {
+            if (child.getClass() != LiteralExpression.class) {
+                return null;
+            }
+            sb.append(((LiteralExpression) child).getText());
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Compares the left and right values, where integral numbers are compared directly.
+     */
+    private static final class ComparePredicate implements Predicate {
+
+        private final Expression left;
+        private final Expression right;
+        private final BinaryOperatorType operator;
+        private final String operatorText;
+
+        private ComparePredicate(Expression left, Expression right, BinaryOperatorType operator, String operatorText) {
+            this.left = left;
+            this.right = right;
+            this.operator = operator;
+            this.operatorText = operatorText;
+        }
+
+        @Override
+        public boolean matches(Exchange exchange) {
+            Object leftValue = left.evaluate(exchange, Object.class);
+            Object rightValue = right.evaluate(exchange, Object.class);
+            if (leftValue == null && rightValue == null) {
+                // they are equal, which is the same as PredicateBuilder where only greater than does not match
+                return operator != BinaryOperatorType.GT;
+            } else if (leftValue == null || rightValue == null) {
+                // only one of them is null so they are not equal
+                return false;
+            }
+
+            int num;
+            if (isIntegral(leftValue) && isIntegral(rightValue)) {
+                num = Long.compare(((Number) leftValue).longValue(), ((Number) rightValue).longValue());
+            } else {
+                num = ObjectHelper.typeCoerceCompare(exchange.getContext().getTypeConverter(), leftValue, rightValue);
+            }
+            return switch (operator) {
+                case GT -> num > 0;
+                case GTE -> num >= 0;
+                case LT -> num < 0;
+                default -> num <= 0;
+            };
+        }
+
+        private static boolean isIntegral(Object value) {
+            return value instanceof Integer || value instanceof Long;
+        }
+
+        @Override
+        public void init(CamelContext context) {
+            left.init(context);
+            right.init(context);
+        }
+
+        @Override
+        public String toString() {
+            return left + " " + operatorText + " " + right;
+        }
+    }
+
+    /**
+     * Matches if the left value is equal to one of the constant values.
+     */
+    private static final class InPredicate implements Predicate {
+
+        private final Expression left;
+        private final Object[] values;
+        private final boolean not;
+
+        private InPredicate(Expression left, List<Object> values, boolean not) {
+            this.left = left;
+            this.values = values.toArray();
+            this.not = not;
+        }
+
+        @Override
+        public boolean matches(Exchange exchange) {
+            Object leftValue = left.evaluate(exchange, Object.class);
+            if (leftValue != null) {
+                TypeConverter converter = exchange.getContext().getTypeConverter();
+                for (Object value : values) {
+                    // the values are converted to the same type as the left value (no match if not possible)
+                    Object rightValue = leftValue.getClass().isInstance(value)
+                            ? value : converter.tryConvertTo(leftValue.getClass(), exchange, value);
+                    if (rightValue != null && ObjectHelper.typeCoerceEquals(converter, leftValue, rightValue)) {
+                        return !not;
+                    }
+                }
+            }
+            return not;
+        }
+
+        @Override
+        public void init(CamelContext context) {
+            left.init(context);
+        }
+
+        @Override
+        public String toString() {
+            return left + (not ? " !in " : " in ") + Arrays.toString(values);
+        }
+    }
+}
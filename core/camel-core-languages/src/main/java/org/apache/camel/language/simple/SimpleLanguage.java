@@ -49,9 +49,11 @@ public class SimpleLanguage extends LanguageSupport implements StaticService {
 
     // a special prefix to avoid cache clash
     private static final String CACHE_KEY_PREFIX = "@SIMPLE@";
+    private static final String COMPILED_CACHE_KEY_PREFIX = "@SIMPLE-COMPILED@";
 
     boolean allowEscape = true;
     boolean skipFileFunctions;
+    boolean compiled;
 
     // use caches to avoid re-parsing the same expressions over and over again
     private Map<String, Expression> cacheExpression;
@@ -70,6 +72,18 @@ public class SimpleLanguage extends LanguageSupport implements StaticService {
         this.skipFileFunctions = skipFileFunctions;
     }
 
+    public boolean isCompiled() {
+        return compiled;
+    }
+
+    /**
+     * Whether to compile predicates, where the parsed predicate is lowered into a tree of predicates that avoids most
+     * of the overhead of interpreting the AST. Anything that cannot be compiled is interpreted as usual.
+     */
+    public void setCompiled(boolean compiled) {
+        this.compiled = compiled;
+    }
+
     @Override
     public void init() {
         // setup cache which requires CamelContext to be set first
@@ -112,9 +126,14 @@ public class SimpleLanguage extends LanguageSupport implements StaticService {
 
     @Override
     public Predicate createPredicate(String expression) {
+        return createPredicate(expression, compiled);
+    }
+
+    private Predicate createPredicate(String expression, boolean compiled) {
         ObjectHelper.notNull(expression, "expression");
 
-        String key = CACHE_KEY_PREFIX + expression;
+        String prefix = compiled ? COMPILED_CACHE_KEY_PREFIX : CACHE_KEY_PREFIX;
+        String key = prefix + expression;
         Predicate answer = cachePredicate != null ? cachePredicate.get(key) : null;
         if (answer == null) {
 
@@ -123,18 +142,18 @@ public class SimpleLanguage extends LanguageSupport implements StaticService {
                 // so create an embedded expression as result
                 // need to lazy eval as its a dynamic resource
                 final String text = expression;
-                return new SimplePredicate(text);
+                return new SimplePredicate(text, compiled);
             }
 
             if (isStaticResource(expression)) {
                 expression = loadResource(expression);
-                key = CACHE_KEY_PREFIX + expression;
+                key = prefix + expression;
             }
 
             // using the expression cache here with the predicate parser is okay
             SimplePredicateParser parser
                     = new SimplePredicateParser(getCamelContext(), expression, allowEscape, skipFileFunctions, cacheExpression);
-            answer = parser.parsePredicate();
+            answer = compiled ? parser.parseCompiledPredicate() : parser.parsePredicate();
 
             if (cachePredicate != null && answer != null) {
                 cachePredicate.put(key, answer);
@@ -147,13 +166,14 @@ public class SimpleLanguage extends LanguageSupport implements StaticService {
     @Override
     public Predicate createPredicate(String expression, Object[] properties) {
         boolean trim = property(boolean.class, properties, 1, true);
+        boolean compiled = property(boolean.class, properties, 5, this.compiled);
         if (trim && expression != null) {
             expression = expression.trim();
         }
         if (expression == null) {
             expression = "${null}";
         }
-        return createPredicate(expression);
+        return createPredicate(expression, compiled);
     }
 
     @Override
@@ -233,15 +253,17 @@ public class SimpleLanguage extends LanguageSupport implements StaticService {
 
     private class SimplePredicate implements Predicate {
         private final String text;
+        private final boolean compiled;
 
-        public SimplePredicate(String text) {
+        public SimplePredicate(String text, boolean compiled) {
             this.text = text;
+            this.compiled = compiled;
         }
 
         @Override
         public boolean matches(Exchange exchange) {
             String r = ScriptHelper.resolveOptionalExternalScript(getCamelContext(), exchange, text);
-            Predicate pred = SimpleLanguage.this.createPredicate(r);
+            Predicate pred = SimpleLanguage.this.createPredicate(r, compiled);
             pred.init(getCamelContext());
             return pred.matches(exchange);
         }
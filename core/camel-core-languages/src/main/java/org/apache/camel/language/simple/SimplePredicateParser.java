@@ -127,6 +127,27 @@ public class SimplePredicateParser extends BaseSimpleParser {
         }
     }
 
+    /**
+     * Parses the predicate and compiles the AST using the {@link SimpleCompiler}.
+     * <p/>
+     * Predicates with an init block are not compiled but parsed as regular predicates.
+     */
+    public Predicate parseCompiledPredicate() {
+        if (SimpleInitBlockTokenizer.hasInitBlock(expression)) {
+            return parsePredicate();
+        }
+        try {
+            parseTokens();
+            return andPredicates(SimpleCompiler.compilePredicates(camelContext, expression, nodes));
+        } catch (SimpleParserException e) {
+            // catch parser exception and turn that into a syntax exceptions
+            throw new SimpleIllegalSyntaxException(expression, e.getIndex(), e.getMessage(), e);
+        } catch (Exception e) {
+            // include exception in rethrown exception
+            throw new SimpleIllegalSyntaxException(expression, -1, e.getMessage(), e);
+        }
+    }
+
     public String parseCode() {
         try {
             parseTokens();
@@ -202,7 +223,10 @@ public class SimplePredicateParser extends BaseSimpleParser {
      */
     protected Predicate doParsePredicate() {
         // create and return as a Camel predicate
-        List<Predicate> predicates = createPredicates();
+        return andPredicates(createPredicates());
+    }
+
+    private static Predicate andPredicates(List<Predicate> predicates) {
         if (predicates.isEmpty()) {
             // return a false predicate as response as there was nothing to parse
             return PredicateBuilder.constant(false);
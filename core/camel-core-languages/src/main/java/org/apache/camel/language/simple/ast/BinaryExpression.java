@@ -89,55 +89,64 @@ public class BinaryExpression extends BaseSimpleNode {
         final Expression leftExp = left.createExpression(camelContext, expression);
         final Expression rightExp = right.createExpression(camelContext, expression);
 
+        Predicate predicate = createPredicate(leftExp, rightExp);
+        if (predicate != null) {
+            return createExpression(camelContext, leftExp, rightExp, predicate);
+        } else if (operator == BinaryOperatorType.IS || operator == BinaryOperatorType.NOT_IS) {
+            return createIsExpression(camelContext, expression, leftExp, rightExp);
+        } else if (operator == BinaryOperatorType.REGEX || operator == BinaryOperatorType.NOT_REGEX) {
+            return createRegexExpression(camelContext, leftExp, rightExp);
+        } else if (operator == BinaryOperatorType.IN || operator == BinaryOperatorType.NOT_IN) {
+            return createInExpression(camelContext, leftExp, rightExp);
+        } else if (operator == BinaryOperatorType.RANGE || operator == BinaryOperatorType.NOT_RANGE) {
+            return createRangeExpression(camelContext, expression, leftExp, rightExp);
+        }
+
+        throw new SimpleParserException("Unknown binary operator " + operator, token.getIndex());
+    }
+
+    /**
+     * Creates the {@link Predicate} for this binary operator with the given left and right hand side expressions.
+     *
+     * @return the predicate, or <tt>null</tt> if the operator needs to evaluate the right hand side before it can
+     *         create the predicate (such as the is, regex, in and range operators)
+     */
+    public Predicate createPredicate(Expression leftExp, Expression rightExp) {
         if (operator == BinaryOperatorType.EQ) {
-            return createExpression(camelContext, leftExp, rightExp, PredicateBuilder.isEqualTo(leftExp, rightExp));
+            return PredicateBuilder.isEqualTo(leftExp, rightExp);
         } else if (operator == BinaryOperatorType.EQ_IGNORE) {
-            return createExpression(camelContext, leftExp, rightExp, PredicateBuilder.isEqualToIgnoreCase(leftExp, rightExp));
+            return PredicateBuilder.isEqualToIgnoreCase(leftExp, rightExp);
         } else if (operator == BinaryOperatorType.GT) {
-            return createExpression(camelContext, leftExp, rightExp, PredicateBuilder.isGreaterThan(leftExp, rightExp));
+            return PredicateBuilder.isGreaterThan(leftExp, rightExp);
         } else if (operator == BinaryOperatorType.GTE) {
-            return createExpression(camelContext, leftExp, rightExp,
-                    PredicateBuilder.isGreaterThanOrEqualTo(leftExp, rightExp));
+            return PredicateBuilder.isGreaterThanOrEqualTo(leftExp, rightExp);
         } else if (operator == BinaryOperatorType.LT) {
-            return createExpression(camelContext, leftExp, rightExp, PredicateBuilder.isLessThan(leftExp, rightExp));
+            return PredicateBuilder.isLessThan(leftExp, rightExp);
         } else if (operator == BinaryOperatorType.LTE) {
-            return createExpression(camelContext, leftExp, rightExp, PredicateBuilder.isLessThanOrEqualTo(leftExp, rightExp));
+            return PredicateBuilder.isLessThanOrEqualTo(leftExp, rightExp);
         } else if (operator == BinaryOperatorType.NOT_EQ) {
-            return createExpression(camelContext, leftExp, rightExp, PredicateBuilder.isNotEqualTo(leftExp, rightExp));
+            return PredicateBuilder.isNotEqualTo(leftExp, rightExp);
         } else if (operator == BinaryOperatorType.NOT_EQ_IGNORE) {
-            return createExpression(camelContext, leftExp, rightExp,
-                    PredicateBuilder.not(PredicateBuilder.isEqualToIgnoreCase(leftExp, rightExp)));
+            return PredicateBuilder.not(PredicateBuilder.isEqualToIgnoreCase(leftExp, rightExp));
         } else if (operator == BinaryOperatorType.CONTAINS) {
-            return createExpression(camelContext, leftExp, rightExp, PredicateBuilder.contains(leftExp, rightExp));
+            return PredicateBuilder.contains(leftExp, rightExp);
         } else if (operator == BinaryOperatorType.NOT_CONTAINS) {
-            return createExpression(camelContext, leftExp, rightExp,
-                    PredicateBuilder.not(PredicateBuilder.contains(leftExp, rightExp)));
+            return PredicateBuilder.not(PredicateBuilder.contains(leftExp, rightExp));
         } else if (operator == BinaryOperatorType.CONTAINS_IGNORECASE) {
-            return createExpression(camelContext, leftExp, rightExp, PredicateBuilder.containsIgnoreCase(leftExp, rightExp));
+            return PredicateBuilder.containsIgnoreCase(leftExp, rightExp);
         } else if (operator == BinaryOperatorType.NOT_CONTAINS_IGNORECASE) {
-            return createExpression(camelContext, leftExp, rightExp,
-                    PredicateBuilder.not(PredicateBuilder.containsIgnoreCase(leftExp, rightExp)));
-        } else if (operator == BinaryOperatorType.IS || operator == BinaryOperatorType.NOT_IS) {
-            return createIsExpression(camelContext, expression, leftExp, rightExp);
-        } else if (operator == BinaryOperatorType.REGEX || operator == BinaryOperatorType.NOT_REGEX) {
-            return createRegexExpression(camelContext, leftExp, rightExp);
-        } else if (operator == BinaryOperatorType.IN || operator == BinaryOperatorType.NOT_IN) {
-            return createInExpression(camelContext, leftExp, rightExp);
-        } else if (operator == BinaryOperatorType.RANGE || operator == BinaryOperatorType.NOT_RANGE) {
-            return createRangeExpression(camelContext, expression, leftExp, rightExp);
+            return PredicateBuilder.not(PredicateBuilder.containsIgnoreCase(leftExp, rightExp));
         } else if (operator == BinaryOperatorType.STARTS_WITH) {
-            return createExpression(camelContext, leftExp, rightExp, PredicateBuilder.startsWith(leftExp, rightExp));
+            return PredicateBuilder.startsWith(leftExp, rightExp);
         } else if (operator == BinaryOperatorType.NOT_STARTS_WITH) {
-            return createExpression(camelContext, leftExp, rightExp,
-                    PredicateBuilder.not(PredicateBuilder.startsWith(leftExp, rightExp)));
+            return PredicateBuilder.not(PredicateBuilder.startsWith(leftExp, rightExp));
         } else if (operator == BinaryOperatorType.ENDS_WITH) {
-            return createExpression(camelContext, leftExp, rightExp, PredicateBuilder.endsWith(leftExp, rightExp));
+            return PredicateBuilder.endsWith(leftExp, rightExp);
         } else if (operator == BinaryOperatorType.NOT_ENDS_WITH) {
-            return createExpression(camelContext, leftExp, rightExp,
-                    PredicateBuilder.not(PredicateBuilder.endsWith(leftExp, rightExp)));
+            return PredicateBuilder.not(PredicateBuilder.endsWith(leftExp, rightExp));
         }
 
-        throw new SimpleParserException("Unknown binary operator " + operator, token.getIndex());
+        return null;
     }
 
     private Expression createIsExpression(
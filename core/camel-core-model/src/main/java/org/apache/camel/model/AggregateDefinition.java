@@ -115,6 +115,14 @@ public class AggregateDefinition extends OutputDefinition<AggregateDefinition>
                             + " This preserves transaction context for repositories that require single-thread transactional guarantees.")
     private String optimisticLockingSyncRetry;
     @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Integer",
+              description = "Number of lock stripes to use for guarding correlation keys. Exchanges with correlation keys"
+                            + " that map to different stripes are aggregated in parallel, which improves throughput with"
+                            + " many concurrent correlation groups. The default (0 or 1) uses a single lock."
+                            + " Not in use when optimistic locking is enabled, and cannot be used together with"
+                            + " completionFromBatchConsumer or completionOnNewCorrelationGroup.")
+    private String lockStripes;
+    @XmlAttribute
     @Metadata(label = "advanced", javaType = "java.util.concurrent.ExecutorService",
               description = "Reference to a custom thread pool to use for parallel processing"
                             + " and sending out aggregated exchanges.")
@@ -237,6 +245,7 @@ public class AggregateDefinition extends OutputDefinition<AggregateDefinition>
         this.parallelProcessing = source.parallelProcessing;
         this.optimisticLocking = source.optimisticLocking;
         this.optimisticLockingSyncRetry = source.optimisticLockingSyncRetry;
+        this.lockStripes = source.lockStripes;
         this.executorService = source.executorService;
         this.timeoutCheckerExecutorService = source.timeoutCheckerExecutorService;
         this.aggregateController = source.aggregateController;
@@ -515,6 +524,14 @@ public class AggregateDefinition extends OutputDefinition<AggregateDefinition>
         this.optimisticLockingSyncRetry = optimisticLockingSyncRetry;
     }
 
+    public String getLockStripes() {
+        return lockStripes;
+    }
+
+    public void setLockStripes(String lockStripes) {
+        this.lockStripes = lockStripes;
+    }
+
     public String getParallelProcessing() {
         return parallelProcessing;
     }
@@ -1052,6 +1069,32 @@ public class AggregateDefinition extends OutputDefinition<AggregateDefinition>
         return this;
     }
 
+    /**
+     * Number of lock stripes to use for guarding correlation keys. Exchanges with correlation keys that map to
+     * different stripes are aggregated in parallel, which improves throughput with many concurrent correlation groups.
+     * The default (0 or 1) uses a single lock.
+     * <p/>
+     * Not in use when optimistic locking is enabled, and cannot be used together with completionFromBatchConsumer or
+     * completionOnNewCorrelationGroup.
+     */
+    public AggregateDefinition lockStripes(int lockStripes) {
+        setLockStripes(Integer.toString(lockStripes));
+        return this;
+    }
+
+    /**
+     * Number of lock stripes to use for guarding correlation keys. Exchanges with correlation keys that map to
+     * different stripes are aggregated in parallel, which improves throughput with many concurrent correlation groups.
+     * The default (0 or 1) uses a single lock.
+     * <p/>
+     * Not in use when optimistic locking is enabled, and cannot be used together with completionFromBatchConsumer or
+     * completionOnNewCorrelationGroup.
+     */
+    public AggregateDefinition lockStripes(String lockStripes) {
+        setLockStripes(lockStripes);
+        return this;
+    }
+
     /**
      * Allows to configure retry settings when using optimistic locking.
      */
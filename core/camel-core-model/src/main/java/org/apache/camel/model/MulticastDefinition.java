@@ -97,6 +97,13 @@ public class MulticastDefinition extends OutputDefinition<MulticastDefinition>
                             + " then the timeout triggers and the multicast breaks out and continues.")
     private String timeout;
     @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Integer",
+              description = "The maximum number of multicast exchanges that can be inflight at the same time when using parallel processing."
+                            + " A multicast exchange is inflight until it has been aggregated, and the multicast does not create more multicast exchanges"
+                            + " until the number is below the limit again. This keeps the memory usage bounded when multicasting"
+                            + " to many destinations in parallel. By default there is no limit.")
+    private String maxInflight;
+    @XmlAttribute
     @Metadata(label = "advanced", javaType = "java.util.concurrent.ExecutorService",
               description = "Reference to a custom thread pool to use for parallel processing."
                             + " Setting this option implies parallel processing.")
@@ -129,6 +136,7 @@ public class MulticastDefinition extends OutputDefinition<MulticastDefinition>
         this.streaming = source.streaming;
         this.stopOnException = source.stopOnException;
         this.timeout = source.timeout;
+        this.maxInflight = source.maxInflight;
         this.executorService = source.executorService;
         this.onPrepare = source.onPrepare;
         this.shareUnitOfWork = source.shareUnitOfWork;
@@ -488,6 +496,33 @@ public class MulticastDefinition extends OutputDefinition<MulticastDefinition>
         return this;
     }
 
+    /**
+     * Sets the maximum number of multicast exchanges that can be inflight at the same time when using parallel
+     * processing. A multicast exchange is inflight from it has been created until it has been aggregated, and the
+     * multicast does not create more multicast exchanges until the number is below the limit again. This applies
+     * backpressure, which keeps the memory usage bounded when sending to many destinations in parallel.
+     *
+     * @param  maxInflight the maximum number of inflight multicast exchanges
+     * @return             the builder
+     */
+    public MulticastDefinition maxInflight(int maxInflight) {
+        return maxInflight(Integer.toString(maxInflight));
+    }
+
+    /**
+     * Sets the maximum number of multicast exchanges that can be inflight at the same time when using parallel
+     * processing. A multicast exchange is inflight from it has been created until it has been aggregated, and the
+     * multicast does not create more multicast exchanges until the number is below the limit again. This applies
+     * backpressure, which keeps the memory usage bounded when sending to many destinations in parallel.
+     *
+     * @param  maxInflight the maximum number of inflight multicast exchanges
+     * @return             the builder
+     */
+    public MulticastDefinition maxInflight(String maxInflight) {
+        setMaxInflight(maxInflight);
+        return this;
+    }
+
     /**
      * Shares the {@link org.apache.camel.spi.UnitOfWork} with the parent and each of the sub messages. Multicast will
      * by default not share unit of work between the parent exchange and each multicasted exchange. This means each sub
@@ -594,6 +629,14 @@ public class MulticastDefinition extends OutputDefinition<MulticastDefinition>
         this.timeout = timeout;
     }
 
+    public String getMaxInflight() {
+        return maxInflight;
+    }
+
+    public void setMaxInflight(String maxInflight) {
+        this.maxInflight = maxInflight;
+    }
+
     public String getShareUnitOfWork() {
         return shareUnitOfWork;
     }
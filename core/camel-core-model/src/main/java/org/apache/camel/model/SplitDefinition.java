@@ -104,6 +104,13 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
                             + " then the timeout triggers and the splitter breaks out and continues.")
     private String timeout;
     @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Integer",
+              description = "The maximum number of split messages that can be inflight at the same time when using parallel processing."
+                            + " A split message is inflight until it has been aggregated, and the splitter does not create more split messages"
+                            + " until the number is below the limit again. This keeps the memory usage bounded when splitting"
+                            + " large streams in parallel. By default there is no limit.")
+    private String maxInflight;
+    @XmlAttribute
     @Metadata(label = "advanced", javaType = "java.util.concurrent.ExecutorService",
               description = "Reference to a custom thread pool to use for parallel processing."
                             + " Setting this option implies parallel processing.")
@@ -155,6 +162,7 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
         this.streaming = source.streaming;
         this.stopOnException = source.stopOnException;
         this.timeout = source.timeout;
+        this.maxInflight = source.maxInflight;
         this.executorService = source.executorService;
         this.onPrepare = source.onPrepare;
         this.shareUnitOfWork = source.shareUnitOfWork;
@@ -590,6 +598,33 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
         return this;
     }
 
+    /**
+     * Sets the maximum number of split messages that can be inflight at the same time when using parallel processing. A
+     * split message is inflight from it has been created until it has been aggregated, and the splitter does not create
+     * more split messages until the number is below the limit again. This applies backpressure, which keeps the memory
+     * usage bounded when splitting large streams in parallel.
+     *
+     * @param  maxInflight the maximum number of inflight split messages
+     * @return             the builder
+     */
+    public SplitDefinition maxInflight(int maxInflight) {
+        return maxInflight(Integer.toString(maxInflight));
+    }
+
+    /**
+     * Sets the maximum number of split messages that can be inflight at the same time when using parallel processing. A
+     * split message is inflight from it has been created until it has been aggregated, and the splitter does not create
+     * more split messages until the number is below the limit again. This applies backpressure, which keeps the memory
+     * usage bounded when splitting large streams in parallel.
+     *
+     * @param  maxInflight the maximum number of inflight split messages
+     * @return             the builder
+     */
+    public SplitDefinition maxInflight(String maxInflight) {
+        setMaxInflight(maxInflight);
+        return this;
+    }
+
     /**
      * Shares the {@link org.apache.camel.spi.UnitOfWork} with the parent and each of the sub messages. Splitter will by
      * default not share unit of work between the parent exchange and each split exchange. This means each split
@@ -893,6 +928,14 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
         this.timeout = timeout;
     }
 
+    public String getMaxInflight() {
+        return maxInflight;
+    }
+
+    public void setMaxInflight(String maxInflight) {
+        this.maxInflight = maxInflight;
+    }
+
     public String getOnPrepare() {
         return onPrepare;
     }
@@ -69,6 +69,10 @@ public class ThreadPoolProfileDefinition extends OptionalIdentifiedDefinition<Th
               enums = "Abort,CallerRuns,Block",
               description = "Sets the handler for tasks which cannot be executed by the thread pool")
     private String rejectedPolicy;
+    @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Boolean",
+              description = "Whether to run each task on its own virtual thread (requires JDK 21+) instead of using a pool of platform threads. The number of concurrent tasks is then limited by the max queue size, instead of the pool size.")
+    private String virtualThreads;
 
     public ThreadPoolProfileDefinition() {
     }
@@ -147,6 +151,15 @@ public class ThreadPoolProfileDefinition extends OptionalIdentifiedDefinition<Th
         return this;
     }
 
+    public ThreadPoolProfileDefinition virtualThreads(boolean virtualThreads) {
+        return virtualThreads(Boolean.toString(virtualThreads));
+    }
+
+    public ThreadPoolProfileDefinition virtualThreads(String virtualThreads) {
+        setVirtualThreads(virtualThreads);
+        return this;
+    }
+
     public String getDefaultProfile() {
         return defaultProfile;
     }
@@ -211,4 +224,11 @@ public class ThreadPoolProfileDefinition extends OptionalIdentifiedDefinition<Th
         this.rejectedPolicy = rejectedPolicy;
     }
 
+    public String getVirtualThreads() {
+        return virtualThreads;
+    }
+
+    public void setVirtualThreads(String virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
 }
@@ -25,6 +25,7 @@ import jakarta.xml.bind.annotation.XmlAttribute;
 import jakarta.xml.bind.annotation.XmlRootElement;
 import jakarta.xml.bind.annotation.XmlTransient;
 
+import org.apache.camel.Processor;
 import org.apache.camel.spi.Metadata;
 import org.apache.camel.spi.annotations.DslArg;
 import org.apache.camel.util.concurrent.ThreadPoolRejectedPolicy;
@@ -42,6 +43,8 @@ public class ThreadsDefinition extends NoOutputDefinition<ThreadsDefinition>
 
     @XmlTransient
     private ExecutorService executorServiceBean;
+    @XmlTransient
+    private Processor onExpiredProcessor;
 
     @XmlAttribute
     @Metadata(label = "advanced", javaType = "java.util.concurrent.ExecutorService",
@@ -87,6 +90,22 @@ public class ThreadsDefinition extends NoOutputDefinition<ThreadsDefinition>
     @Metadata(label = "advanced", javaType = "java.lang.Boolean", defaultValue = "true",
               description = "Whether to use the caller thread as fallback when a task is rejected being added to the thread pool (when its full). This is only used as fallback if no rejectedPolicy has been configured, or the thread pool has no configured rejection handler.")
     private String callerRunsWhenRejected;
+    @XmlAttribute
+    @Metadata(label = "advanced",
+              description = "Name of the header with the priority of the message, where messages with a higher priority are processed first when the thread pool is busy. A message without the header has priority 0.")
+    private String priorityHeader;
+    @XmlAttribute
+    @Metadata(label = "advanced",
+              description = "Name of the header with the deadline of the message, as an absolute time in millis (or a date), where messages with the same priority are processed earliest deadline first when the thread pool is busy. A message whose deadline has expired before it is processed is not routed any further.")
+    private String deadlineHeader;
+    @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.time.Duration", defaultValue = "10000",
+              description = "The time after which the message which has waited the longest is processed first, regardless of its priority and deadline, to prevent messages with a low priority from waiting forever. Use 0 to disable. Only in use when priorityHeader or deadlineHeader is configured.")
+    private String starvationTimeout;
+    @XmlAttribute
+    @Metadata(label = "advanced", javaType = "org.apache.camel.Processor",
+              description = "Reference to a processor which is called with the messages whose deadline has expired, after which the message is not routed any further. If not set, then the message is failed with a RejectedExecutionException.")
+    private String onExpired;
 
     public ThreadsDefinition() {
         this.threadName = "Threads";
@@ -95,6 +114,7 @@ public class ThreadsDefinition extends NoOutputDefinition<ThreadsDefinition>
     protected ThreadsDefinition(ThreadsDefinition source) {
         super(source);
         this.executorServiceBean = source.executorServiceBean;
+        this.onExpiredProcessor = source.onExpiredProcessor;
         this.executorService = source.executorService;
         this.poolSize = source.poolSize;
         this.maxPoolSize = source.maxPoolSize;
@@ -105,6 +125,10 @@ public class ThreadsDefinition extends NoOutputDefinition<ThreadsDefinition>
         this.threadName = source.threadName;
         this.rejectedPolicy = source.rejectedPolicy;
         this.callerRunsWhenRejected = source.callerRunsWhenRejected;
+        this.priorityHeader = source.priorityHeader;
+        this.deadlineHeader = source.deadlineHeader;
+        this.starvationTimeout = source.starvationTimeout;
+        this.onExpired = source.onExpired;
     }
 
     @Override
@@ -340,6 +364,84 @@ public class ThreadsDefinition extends NoOutputDefinition<ThreadsDefinition>
         return this;
     }
 
+    /**
+     * Name of the header with the priority of the message. When the thread pool is busy, then messages with a higher
+     * priority are processed first. A message without the header has priority 0.
+     *
+     * @param  priorityHeader the name of the header
+     * @return                the builder
+     */
+    public ThreadsDefinition priorityHeader(String priorityHeader) {
+        setPriorityHeader(priorityHeader);
+        return this;
+    }
+
+    /**
+     * Name of the header with the deadline of the message, as an absolute time in millis (or a date). When the thread
+     * pool is busy, then messages with the same priority are processed earliest deadline first, and a message whose
+     * deadline has expired before it is processed is not routed any further.
+     *
+     * @param  deadlineHeader the name of the header
+     * @return                the builder
+     */
+    public ThreadsDefinition deadlineHeader(String deadlineHeader) {
+        setDeadlineHeader(deadlineHeader);
+        return this;
+    }
+
+    /**
+     * The time in millis after which the message which has waited the longest is processed first, regardless of its
+     * priority and deadline. This prevents messages with a low priority from waiting forever. Use 0 to disable.
+     * <p/>
+     * Is by default 10000 millis
+     *
+     * @param  starvationTimeout the timeout in millis
+     * @return                   the builder
+     */
+    public ThreadsDefinition starvationTimeout(long starvationTimeout) {
+        return starvationTimeout(Long.toString(starvationTimeout));
+    }
+
+    /**
+     * The time after which the message which has waited the longest is processed first, regardless of its priority and
+     * deadline. This prevents messages with a low priority from waiting forever. Use 0 to disable.
+     * <p/>
+     * Is by default 10000 millis
+     *
+     * @param  starvationTimeout the timeout
+     * @return                   the builder
+     */
+    public ThreadsDefinition starvationTimeout(String starvationTimeout) {
+        setStarvationTimeout(starvationTimeout);
+        return this;
+    }
+
+    /**
+     * Uses the {@link Processor} for the messages whose deadline has expired, after which the message is not routed any
+     * further. If not set, then the message is failed with a
+     * {@link java.util.concurrent.RejectedExecutionException}.
+     *
+     * @param  onExpired the processor
+     * @return           the builder
+     */
+    public ThreadsDefinition onExpired(Processor onExpired) {
+        this.onExpiredProcessor = onExpired;
+        return this;
+    }
+
+    /**
+     * Uses the {@link Processor} for the messages whose deadline has expired, after which the message is not routed any
+     * further. If not set, then the message is failed with a
+     * {@link java.util.concurrent.RejectedExecutionException}.
+     *
+     * @param  onExpired reference to the processor to lookup in the {@link org.apache.camel.spi.Registry}
+     * @return           the builder
+     */
+    public ThreadsDefinition onExpired(String onExpired) {
+        setOnExpired(onExpired);
+        return this;
+    }
+
     @Override
     public ExecutorService getExecutorServiceBean() {
         return executorServiceBean;
@@ -429,4 +531,40 @@ public class ThreadsDefinition extends NoOutputDefinition<ThreadsDefinition>
     public void setExecutorService(String executorService) {
         this.executorService = executorService;
     }
+
+    public String getPriorityHeader() {
+        return priorityHeader;
+    }
+
+    public void setPriorityHeader(String priorityHeader) {
+        this.priorityHeader = priorityHeader;
+    }
+
+    public String getDeadlineHeader() {
+        return deadlineHeader;
+    }
+
+    public void setDeadlineHeader(String deadlineHeader) {
+        this.deadlineHeader = deadlineHeader;
+    }
+
+    public String getStarvationTimeout() {
+        return starvationTimeout;
+    }
+
+    public void setStarvationTimeout(String starvationTimeout) {
+        this.starvationTimeout = starvationTimeout;
+    }
+
+    public String getOnExpired() {
+        return onExpired;
+    }
+
+    public void setOnExpired(String onExpired) {
+        this.onExpired = onExpired;
+    }
+
+    public Processor getOnExpiredProcessor() {
+        return onExpiredProcessor;
+    }
 }
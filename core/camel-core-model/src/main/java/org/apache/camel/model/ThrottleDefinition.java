@@ -47,8 +47,8 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
 
     @XmlAttribute
     @Metadata(javaType = "org.apache.camel.model.ThrottlingMode", defaultValue = "TotalRequests",
-              enums = "TotalRequests,ConcurrentRequests",
-              description = "Sets the throttling mode. TotalRequests limits the total number of requests within a time period. ConcurrentRequests uses a leaky-bucket algorithm to limit the number of concurrent requests being processed at the same time.")
+              enums = "TotalRequests,ConcurrentRequests,AdaptiveConcurrentRequests",
+              description = "Sets the throttling mode. TotalRequests limits the total number of requests within a time period. ConcurrentRequests uses a leaky-bucket algorithm to limit the number of concurrent requests being processed at the same time. AdaptiveConcurrentRequests limits the number of concurrent requests, where the limit is adjusted automatically from the observed latency and failures of the requests, up to the maximum number of concurrent requests.")
     private String mode;
     @XmlElement(name = "correlationExpression")
     @Metadata(description = "The correlation expression to use for throttle grouping. Exchanges with the same correlation key are throttled together.")
@@ -73,6 +73,14 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
     @Metadata(defaultValue = "1000", javaType = "java.time.Duration",
               description = "Sets the time period during which the maximum request count is valid for.")
     private String timePeriodMillis;
+    @XmlAttribute
+    @Metadata(label = "advanced", defaultValue = "0.9", javaType = "java.lang.Double",
+              description = "The ratio the concurrency limit is multiplied with, when a request fails or takes too long, in AdaptiveConcurrentRequests mode. A lower ratio backs off faster from an overloaded downstream system.")
+    private String adaptiveBackoffRatio;
+    @XmlAttribute
+    @Metadata(label = "advanced", defaultValue = "2.0", javaType = "java.lang.Double",
+              description = "How many times the minimum observed latency a request can take, before the downstream system is considered overloaded and the concurrency limit is reduced, in AdaptiveConcurrentRequests mode.")
+    private String adaptiveLatencyTolerance;
 
     public ThrottleDefinition() {
         totalRequestsMode();
@@ -89,6 +97,8 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
         this.callerRunsWhenRejected = source.callerRunsWhenRejected;
         this.rejectExecution = source.rejectExecution;
         this.timePeriodMillis = source.timePeriodMillis;
+        this.adaptiveBackoffRatio = source.adaptiveBackoffRatio;
+        this.adaptiveLatencyTolerance = source.adaptiveLatencyTolerance;
     }
 
     public ThrottleDefinition(Expression maximumRequestsPerPeriod) {
@@ -123,6 +133,11 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
         return this;
     }
 
+    public ThrottleDefinition adaptiveConcurrentRequestsMode() {
+        this.mode = ThrottlingMode.AdaptiveConcurrentRequests.name();
+        return this;
+    }
+
     @Override
     public String toString() {
         return "Throttle[" + description() + "]";
@@ -131,6 +146,8 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
     protected String description() {
         if (mode.equals(ThrottlingMode.TotalRequests.name())) {
             return getExpression() + " request per " + getTimePeriodMillis() + " millis";
+        } else if (mode.equals(ThrottlingMode.AdaptiveConcurrentRequests.name())) {
+            return getExpression() + " maximum adaptive concurrent requests";
         } else {
             return getExpression() + " maximum concurrent requests";
         }
@@ -169,6 +186,60 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
         return this;
     }
 
+    /**
+     * The ratio the concurrency limit is multiplied with, when a request fails or takes too long, in
+     * AdaptiveConcurrentRequests mode.
+     * <p/>
+     * Is by default <tt>0.9</tt>
+     *
+     * @param  adaptiveBackoffRatio the ratio, which must be between 0 and 1
+     * @return                      the builder
+     */
+    public ThrottleDefinition adaptiveBackoffRatio(double adaptiveBackoffRatio) {
+        return adaptiveBackoffRatio(Double.toString(adaptiveBackoffRatio));
+    }
+
+    /**
+     * The ratio the concurrency limit is multiplied with, when a request fails or takes too long, in
+     * AdaptiveConcurrentRequests mode.
+     * <p/>
+     * Is by default <tt>0.9</tt>
+     *
+     * @param  adaptiveBackoffRatio the ratio, which must be between 0 and 1
+     * @return                      the builder
+     */
+    public ThrottleDefinition adaptiveBackoffRatio(String adaptiveBackoffRatio) {
+        setAdaptiveBackoffRatio(adaptiveBackoffRatio);
+        return this;
+    }
+
+    /**
+     * How many times the minimum observed latency a request can take, before the downstream system is considered
+     * overloaded and the concurrency limit is reduced, in AdaptiveConcurrentRequests mode.
+     * <p/>
+     * Is by default <tt>2.0</tt>
+     *
+     * @param  adaptiveLatencyTolerance the tolerance, which must be 1 or higher
+     * @return                          the builder
+     */
+    public ThrottleDefinition adaptiveLatencyTolerance(double adaptiveLatencyTolerance) {
+        return adaptiveLatencyTolerance(Double.toString(adaptiveLatencyTolerance));
+    }
+
+    /**
+     * How many times the minimum observed latency a request can take, before the downstream system is considered
+     * overloaded and the concurrency limit is reduced, in AdaptiveConcurrentRequests mode.
+     * <p/>
+     * Is by default <tt>2.0</tt>
+     *
+     * @param  adaptiveLatencyTolerance the tolerance, which must be 1 or higher
+     * @return                          the builder
+     */
+    public ThrottleDefinition adaptiveLatencyTolerance(String adaptiveLatencyTolerance) {
+        setAdaptiveLatencyTolerance(adaptiveLatencyTolerance);
+        return this;
+    }
+
     /**
      * Sets the maximum number of requests
      *
@@ -327,8 +398,8 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
     /**
      * Sets the throttling mode to one of the available modes enumerated in ThrottlingMode
      *
-     * @param  mode The throttling mode as a string parameter. It currently accepts one of 'TotalRequests' or
-     *              `ConcurrentRequests`
+     * @param  mode The throttling mode as a string parameter. It currently accepts one of 'TotalRequests',
+     *              `ConcurrentRequests` or `AdaptiveConcurrentRequests`
      * @see         ThrottlingMode
      * @return      the builder
      */
@@ -340,8 +411,8 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
     /**
      * Sets the throttling mode to one of the available modes enumerated in ThrottlingMode
      *
-     * @param  mode The throttling mode as a string parameter. It currently accepts one of 'TotalRequests' or
-     *              `ConcurrentRequests`
+     * @param  mode The throttling mode as a string parameter. It currently accepts one of 'TotalRequests',
+     *              `ConcurrentRequests` or `AdaptiveConcurrentRequests`
      * @see         ThrottlingMode
      * @return      the builder
      */
@@ -363,7 +434,7 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
     }
 
     @Override
-    @Metadata(description = "The expression to set the maximum request count (for TotalRequests mode) or the maximum number of concurrent requests (for ConcurrentRequests mode).")
+    @Metadata(description = "The expression to set the maximum request count (for TotalRequests mode) or the maximum number of concurrent requests (for ConcurrentRequests and AdaptiveConcurrentRequests mode).")
     public void setExpression(ExpressionDefinition expression) {
         // override to include javadoc what the expression is used for
         super.setExpression(expression);
@@ -377,6 +448,22 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
         this.timePeriodMillis = timePeriodMillis;
     }
 
+    public String getAdaptiveBackoffRatio() {
+        return adaptiveBackoffRatio;
+    }
+
+    public void setAdaptiveBackoffRatio(String adaptiveBackoffRatio) {
+        this.adaptiveBackoffRatio = adaptiveBackoffRatio;
+    }
+
+    public String getAdaptiveLatencyTolerance() {
+        return adaptiveLatencyTolerance;
+    }
+
+    public void setAdaptiveLatencyTolerance(String adaptiveLatencyTolerance) {
+        this.adaptiveLatencyTolerance = adaptiveLatencyTolerance;
+    }
+
     public String getAsyncDelayed() {
         return asyncDelayed;
     }
@@ -46,6 +46,11 @@ public class SimpleExpression extends TypedExpressionDefinition {
     @Metadata(defaultValue = "false", javaType = "java.lang.Boolean", label = "advanced",
               description = "If the result is a nested simple expression should this expression be evaluated as well.")
     private String nested;
+    @XmlAttribute
+    @Metadata(defaultValue = "false", javaType = "java.lang.Boolean", label = "advanced",
+              description = "Whether to compile the predicate into a tree of predicates that avoids most of the overhead of interpreting the parsed predicate."
+                            + " Anything that cannot be compiled is interpreted as usual. This is only in use for predicates.")
+    private String compiled;
 
     public SimpleExpression() {
     }
@@ -55,6 +60,7 @@ public class SimpleExpression extends TypedExpressionDefinition {
         this.trimResult = source.trimResult;
         this.pretty = source.pretty;
         this.nested = source.nested;
+        this.compiled = source.compiled;
     }
 
     public SimpleExpression(String expression) {
@@ -70,6 +76,7 @@ public class SimpleExpression extends TypedExpressionDefinition {
         this.trimResult = builder.trimResult;
         this.pretty = builder.pretty;
         this.nested = builder.nested;
+        this.compiled = builder.compiled;
     }
 
     @Override
@@ -106,6 +113,14 @@ public class SimpleExpression extends TypedExpressionDefinition {
         this.nested = nested;
     }
 
+    public String getCompiled() {
+        return compiled;
+    }
+
+    public void setCompiled(String compiled) {
+        this.compiled = compiled;
+    }
+
     /**
      * {@code Builder} is a specific builder for {@link SimpleExpression}.
      */
@@ -115,6 +130,7 @@ public class SimpleExpression extends TypedExpressionDefinition {
         private String trimResult;
         private String pretty;
         private String nested;
+        private String compiled;
 
         /**
          * Whether to trim the returned values when this language are in use.
@@ -174,6 +190,24 @@ public class SimpleExpression extends TypedExpressionDefinition {
             return this;
         }
 
+        /**
+         * Whether to compile the predicate into a tree of predicates that avoids most of the overhead of interpreting
+         * the parsed predicate. Anything that cannot be compiled is interpreted as usual.
+         */
+        public Builder compiled(String compiled) {
+            this.compiled = compiled;
+            return this;
+        }
+
+        /**
+         * Whether to compile the predicate into a tree of predicates that avoids most of the overhead of interpreting
+         * the parsed predicate. Anything that cannot be compiled is interpreted as usual.
+         */
+        public Builder compiled(boolean compiled) {
+            this.compiled = Boolean.toString(compiled);
+            return this;
+        }
+
         @Override
         public SimpleExpression end() {
             return new SimpleExpression(this);
@@ -18,6 +18,7 @@ package org.apache.camel.processor;
 
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.apache.camel.AsyncCallback;
 import org.apache.camel.CamelContext;
@@ -43,6 +44,7 @@ public abstract class AbstractThrottler extends BaseProcessorSupport
     protected final boolean shutdownAsyncExecutor;
     protected final CamelContext camelContext;
     protected final Expression correlationExpression;
+    protected final LongAdder rejectedRequests = new LongAdder();
     protected String id;
     protected String routeId;
     protected String stepId;
@@ -159,6 +161,11 @@ public abstract class AbstractThrottler extends BaseProcessorSupport
         ASYNC_REJECTED
     }
 
+    @Override
+    public long getRejectedRequests() {
+        return rejectedRequests.sum();
+    }
+
     @Override
     public abstract String getMode();
 }
@@ -0,0 +1,262 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
+import org.apache.camel.RuntimeExchangeException;
+import org.apache.camel.spi.Synchronization;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A <a href="http://camel.apache.org/throttler.html">Throttler</a> which limits the number of message exchanges which
+ * can be sent to a processor concurrently, where the limit is adjusted automatically from the observed round-trip time
+ * and failures, using an AIMD (additive increase, multiplicative decrease) algorithm.
+ * <p/>
+ * The round-trip time is measured from when an exchange acquires a permit until the exchange is completed. The
+ * throttler keeps track of the minimum round-trip time, which is the latency of the downstream system when it is not
+ * overloaded. When an exchange completes within the latency tolerance of the minimum round-trip time, then the limit
+ * is increased, and when an exchange fails, or takes longer than that, then the limit is multiplied by the backoff
+ * ratio. The limit starts in slow start, where it increases by one for every completed exchange (doubling every round
+ * trip) until the first backoff, and then increases by one per round trip. The limit never exceeds the maximum
+ * requests expression, and never goes below one.
+ * <p/>
+ * This throttle implementation is thread-safe and is therefore safe to be used by multiple concurrent threads in a
+ * single route.
+ */
+public class AdaptiveConcurrentRequestsThrottler extends ConcurrentRequestsThrottler {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AdaptiveConcurrentRequestsThrottler.class);
+
+    private static final int INITIAL_LIMIT = 10;
+    // the number of samples after which the minimum round-trip time is refreshed
+    private static final int RTT_WINDOW = 1000;
+    // the weight of a new sample in the smoothed round-trip time
+    private static final double RTT_SMOOTHING = 0.1;
+
+    private double backoffRatio = 0.9;
+    private double latencyTolerance = 2.0;
+
+    public AdaptiveConcurrentRequestsThrottler(final CamelContext camelContext, final Expression maxRequestsExpression,
+                                               final ScheduledExecutorService asyncExecutor,
+                                               final boolean shutdownAsyncExecutor,
+                                               final boolean rejectExecution, Expression correlation) {
+        super(camelContext, maxRequestsExpression, asyncExecutor, shutdownAsyncExecutor, rejectExecution, correlation);
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("The backoffRatio must be between 0 and 1, was: " + backoffRatio);
+        }
+        if (latencyTolerance < 1) {
+            throw new IllegalArgumentException("The latencyTolerance must be 1 or higher, was: " + latencyTolerance);
+        }
+        super.doStart();
+    }
+
+    @Override
+    protected ThrottlingState createThrottlingState(String key) {
+        return new AdaptiveThrottlingState(key);
+    }
+
+    public double getBackoffRatio() {
+        return backoffRatio;
+    }
+
+    /**
+     * The ratio the limit is multiplied with when the downstream is overloaded. Is by default 0.9.
+     */
+    public void setBackoffRatio(double backoffRatio) {
+        this.backoffRatio = backoffRatio;
+    }
+
+    public double getLatencyTolerance() {
+        return latencyTolerance;
+    }
+
+    /**
+     * How many times the minimum round-trip time an exchange can take, before the downstream is considered as
+     * overloaded. Is by default 2.0.
+     */
+    public void setLatencyTolerance(double latencyTolerance) {
+        this.latencyTolerance = latencyTolerance;
+    }
+
+    /**
+     * The smoothed round-trip time in millis. If it is grouped throttling applied with correlationExpression then the
+     * highest within the groups is returned.
+     */
+    public double getRoundTripTime() {
+        return getThrottlingStates().values().stream()
+                .mapToDouble(s -> ((AdaptiveThrottlingState) s).getRoundTripTime())
+                .max().orElse(0);
+    }
+
+    /**
+     * The minimum round-trip time in millis, which the round-trip time is compared with. If it is grouped throttling
+     * applied with correlationExpression then the lowest within the groups is returned.
+     */
+    public double getMinRoundTripTime() {
+        return getThrottlingStates().values().stream()
+                .mapToDouble(s -> ((AdaptiveThrottlingState) s).getMinRoundTripTime())
+                .filter(rtt -> rtt > 0)
+                .min().orElse(0);
+    }
+
+    @Override
+    public String getMode() {
+        return "AdaptiveConcurrentRequests";
+    }
+
+    @Override
+    public String getTraceLabel() {
+        return "throttle[adaptive " + getMaximumRequestsExpression() + "]";
+    }
+
+    protected class AdaptiveThrottlingState extends ThrottlingState {
+        // the state below is guarded by the lock
+        private int maxLimit;
+        private double limit;
+        private boolean slowStart = true;
+        private long minRtt = Long.MAX_VALUE;
+        private long windowMinRtt = Long.MAX_VALUE;
+        private int windowSamples;
+        private long lastBackoff;
+        private volatile double smoothedRtt;
+        private volatile long minRttSnapshot;
+
+        AdaptiveThrottlingState(String key) {
+            super(key);
+        }
+
+        public double getRoundTripTime() {
+            return smoothedRtt / 1_000_000d;
+        }
+
+        public double getMinRoundTripTime() {
+            return minRttSnapshot / 1_000_000d;
+        }
+
+        /**
+         * Evaluates the maxConcurrentRequestsExpression as the upper bound of the limit.
+         */
+        @Override
+        public void calculateAndSetMaxConcurrentRequestsExpression(final Exchange exchange) throws Exception {
+            lock.lock();
+            try {
+                Integer newMax = getMaximumRequestsExpression().evaluate(exchange, Integer.class);
+
+                if (newMax != null && newMax <= 0) {
+                    throw new IllegalStateException(
+                            "The maximumConcurrentRequests must be a positive number, was: " + newMax);
+                }
+
+                if (newMax == null && maxLimit == 0) {
+                    throw new RuntimeExchangeException(
+                            "The maxConcurrentRequestsExpression was evaluated as null: " + getMaximumRequestsExpression(),
+                            exchange);
+                }
+
+                if (newMax != null && newMax != maxLimit) {
+                    if (maxLimit == 0) {
+                        limit = Math.min(INITIAL_LIMIT, newMax);
+                    }
+                    maxLimit = newMax;
+                    limit = Math.min(limit, maxLimit);
+                    changeThrottleRate((int) limit, exchange);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        protected void addSynchronization(final Exchange exchange) {
+            final long start = System.nanoTime();
+            exchange.getExchangeExtension().addOnCompletion(new Synchronization() {
+                @Override
+                public void onComplete(Exchange exchange) {
+                    release(exchange);
+                    onSample(exchange, start, false);
+                }
+
+                @Override
+                public void onFailure(Exchange exchange) {
+                    release(exchange);
+                    onSample(exchange, start, true);
+                }
+            });
+        }
+
+        /**
+         * Adjusts the limit from the round-trip time and outcome of a completed exchange.
+         */
+        protected void onSample(final Exchange exchange, final long start, final boolean failed) {
+            final long now = System.nanoTime();
+            final long rtt = now - start;
+
+            lock.lock();
+            try {
+                boolean overloaded = failed;
+                if (!failed) {
+                    updateRoundTripTime(rtt);
+                    overloaded = rtt > minRtt * latencyTolerance;
+                }
+
+                if (overloaded) {
+                    // only backoff once per round trip, as the exchanges which started before the last backoff
+                    // were admitted with the previous limit
+                    if (start - lastBackoff > 0 || lastBackoff == 0) {
+                        limit = Math.max(1, limit * backoffRatio);
+                        slowStart = false;
+                        lastBackoff = now;
+                        if (LOG.isDebugEnabled()) {
+                            LOG.debug("Throttle limit backoff to {} (rtt: {}ns, min rtt: {}ns, failed: {}), ExchangeId: {}",
+                                    (int) limit, rtt, minRtt, failed, exchange.getExchangeId());
+                        }
+                    }
+                } else if (getInflight() * 2 >= (int) limit) {
+                    // only increase when the limit is being used, otherwise the limit would grow without being tested
+                    limit = Math.min(maxLimit, slowStart ? limit + 1 : limit + 1 / limit);
+                }
+                changeThrottleRate((int) limit, exchange);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void updateRoundTripTime(long rtt) {
+            smoothedRtt = smoothedRtt == 0 ? rtt : smoothedRtt + RTT_SMOOTHING * (rtt - smoothedRtt);
+
+            // use the minimum of the previous and current window, so the minimum can rise again
+            // if the latency of the downstream system has changed permanently
+            minRtt = Math.min(minRtt, rtt);
+            windowMinRtt = Math.min(windowMinRtt, rtt);
+            if (++windowSamples >= RTT_WINDOW) {
+                minRtt = windowMinRtt;
+                windowMinRtt = Long.MAX_VALUE;
+                windowSamples = 0;
+            }
+            minRttSnapshot = minRtt;
+        }
+    }
+}
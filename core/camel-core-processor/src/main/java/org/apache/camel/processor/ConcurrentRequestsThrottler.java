@@ -107,11 +107,12 @@ public class ConcurrentRequestsThrottler extends AbstractThrottler {
         if (correlationExpression != null) {
             key = correlationExpression.evaluate(exchange, String.class);
         }
-        ThrottlingState throttlingState = states.computeIfAbsent(key, ThrottlingState::new);
+        ThrottlingState throttlingState = states.computeIfAbsent(key, this::createThrottlingState);
         throttlingState.calculateAndSetMaxConcurrentRequestsExpression(exchange);
 
         if (!throttlingState.tryAcquire(exchange)) {
             if (isRejectExecution()) {
+                rejectedRequests.increment();
                 throw new ThrottlerRejectedExecutionException(
                         "Exceeded the max throttle rate of " + throttlingState.getThrottleRate());
             } else {
@@ -216,9 +217,20 @@ public class ConcurrentRequestsThrottler extends AbstractThrottler {
         super.doShutdown();
     }
 
+    /**
+     * Creates the throttling state for the given correlation key.
+     */
+    protected ThrottlingState createThrottlingState(String key) {
+        return new ThrottlingState(key);
+    }
+
+    protected Map<String, ThrottlingState> getThrottlingStates() {
+        return states;
+    }
+
     protected class ThrottlingState {
         private final String key;
-        private final Lock lock = new ReentrantLock();
+        protected final Lock lock = new ReentrantLock();
         private final AtomicReference<ScheduledFuture<?>> cleanFuture = new AtomicReference<>();
         private volatile int throttleRate;
         private final WrappedSemaphore semaphore;
@@ -232,6 +244,13 @@ public class ConcurrentRequestsThrottler extends AbstractThrottler {
             return throttleRate;
         }
 
+        /**
+         * The number of permits which are currently in use.
+         */
+        public int getInflight() {
+            return throttleRate - semaphore.availablePermits();
+        }
+
         public void clean() {
             states.remove(key);
         }
@@ -249,7 +268,7 @@ public class ConcurrentRequestsThrottler extends AbstractThrottler {
             addSynchronization(exchange);
         }
 
-        private void addSynchronization(final Exchange exchange) {
+        protected void addSynchronization(final Exchange exchange) {
             exchange.getExchangeExtension().addOnCompletion(new Synchronization() {
                 @Override
                 public void onComplete(Exchange exchange) {
@@ -302,41 +321,48 @@ public class ConcurrentRequestsThrottler extends AbstractThrottler {
                 }
 
                 if (newThrottle != null) {
-                    if (newThrottle != throttleRate) {
-                        // decrease
-                        if (throttleRate > newThrottle) {
-                            int delta = throttleRate - newThrottle;
-
-                            // discard any permits that are needed to decrease throttling
-                            semaphore.reducePermits(delta);
-                            if (LOG.isDebugEnabled()) {
-                                LOG.debug("Throttle rate decreased from {} to {}, triggered by ExchangeId: {}", throttleRate,
-                                        newThrottle, exchange.getExchangeId());
-                            }
-
-                            // increase
-                        } else if (newThrottle > throttleRate) {
-                            int delta = newThrottle - throttleRate;
-                            semaphore.increasePermits(delta);
-                            if (throttleRate == 0) {
-                                if (LOG.isDebugEnabled()) {
-                                    LOG.debug("Initial throttle rate set to {}, triggered by ExchangeId: {}", newThrottle,
-                                            exchange.getExchangeId());
-                                }
-                            } else {
-                                if (LOG.isDebugEnabled()) {
-                                    LOG.debug("Throttle rate increase from {} to {}, triggered by ExchangeId: {}", throttleRate,
-                                            newThrottle, exchange.getExchangeId());
-                                }
-                            }
-                        }
-                        throttleRate = newThrottle;
-                    }
+                    changeThrottleRate(newThrottle, exchange);
                 }
             } finally {
                 lock.unlock();
             }
         }
+
+        /**
+         * Adjusts the number of permits to the given throttle rate. Must be called while holding the lock.
+         */
+        protected void changeThrottleRate(final int newThrottle, final Exchange exchange) {
+            if (newThrottle != throttleRate) {
+                // decrease
+                if (throttleRate > newThrottle) {
+                    int delta = throttleRate - newThrottle;
+
+                    // discard any permits that are needed to decrease throttling
+                    semaphore.reducePermits(delta);
+                    if (LOG.isDebugEnabled()) {
+                        LOG.debug("Throttle rate decreased from {} to {}, triggered by ExchangeId: {}", throttleRate,
+                                newThrottle, exchange.getExchangeId());
+                    }
+
+                    // increase
+                } else if (newThrottle > throttleRate) {
+                    int delta = newThrottle - throttleRate;
+                    semaphore.increasePermits(delta);
+                    if (throttleRate == 0) {
+                        if (LOG.isDebugEnabled()) {
+                            LOG.debug("Initial throttle rate set to {}, triggered by ExchangeId: {}", newThrottle,
+                                    exchange.getExchangeId());
+                        }
+                    } else {
+                        if (LOG.isDebugEnabled()) {
+                            LOG.debug("Throttle rate increase from {} to {}, triggered by ExchangeId: {}", throttleRate,
+                                    newThrottle, exchange.getExchangeId());
+                        }
+                    }
+                }
+                throttleRate = newThrottle;
+            }
+        }
     }
 
     // extend Semaphore so we can reduce permits if required
@@ -178,6 +178,7 @@ public class MulticastProcessor extends BaseProcessorSupport
     private final AggregationStrategy aggregationStrategy;
     private final boolean parallelProcessing;
     private boolean synchronous;
+    private int maxInflight;
     private final boolean streaming;
     private final boolean parallelAggregate;
     private final boolean stopOnException;
@@ -438,6 +439,9 @@ public class MulticastProcessor extends BaseProcessorSupport
         final AtomicInteger nbAggregated = new AtomicInteger();
         final AtomicBoolean allSent = new AtomicBoolean();
         final AtomicBoolean done = new AtomicBoolean();
+        final int window;
+        final AtomicInteger inflight = new AtomicInteger();
+        final AtomicBoolean paused = new AtomicBoolean();
         @Deprecated(since = "4.19.0")
         final Map<String, String> mdc;
         final ScheduledFuture<?> timeoutTask;
@@ -449,6 +453,8 @@ public class MulticastProcessor extends BaseProcessorSupport
             this.pairs = pairs;
             this.callback = callback;
             this.iterator = pairs.iterator();
+            // the window only applies in parallel mode, as otherwise only one sub exchange is inflight
+            this.window = isParallelProcessing() ? maxInflight : 0;
             if (timeout > 0) {
                 timeoutTask = schedule(aggregateExecutorService, this::timeout, timeout, TimeUnit.MILLISECONDS);
             } else {
@@ -486,10 +492,12 @@ public class MulticastProcessor extends BaseProcessorSupport
         protected void aggregate() {
             Lock lock = this.lock;
             if (lock.tryLock()) {
+                int aggregated = 0;
                 try {
                     Exchange exchange;
                     while (!done.get() && (exchange = completion.poll()) != null) {
                         doAggregate(result, exchange, original);
+                        aggregated++;
                         if (nbAggregated.incrementAndGet() >= nbExchangeSent.get() && allSent.get()) {
                             doDone(result.get(), true);
                         }
@@ -501,6 +509,34 @@ public class MulticastProcessor extends BaseProcessorSupport
                 } finally {
                     lock.unlock();
                 }
+                // resume sending outside the lock
+                releaseInflight(aggregated);
+            }
+        }
+
+        /**
+         * Schedules this task to send the next pair, or pauses sending when the window of inflight sub exchanges is
+         * full, until a sub exchange has been aggregated.
+         */
+        protected void scheduleNext() {
+            if (window <= 0 || inflight.get() < window) {
+                schedule(this);
+                return;
+            }
+            paused.set(true);
+            // a sub exchange may have been aggregated before we paused, and then we must resume ourselves
+            if (inflight.get() < window && paused.compareAndSet(true, false)) {
+                schedule(this);
+            }
+        }
+
+        /**
+         * Releases the given number of sub exchanges from the window of inflight sub exchanges, and resumes sending if
+         * it was paused.
+         */
+        protected void releaseInflight(int count) {
+            if (window > 0 && count > 0 && inflight.addAndGet(-count) < window && paused.compareAndSet(true, false)) {
+                schedule(this);
             }
         }
 
@@ -598,6 +634,10 @@ public class MulticastProcessor extends BaseProcessorSupport
                 if (!hasNext) {
                     allSent.set(true);
                 }
+                if (window > 0) {
+                    // the sub exchange is inflight until it has been aggregated
+                    inflight.incrementAndGet();
+                }
 
                 completion.submit(exchangeResult -> {
                     // compute time taken if sending to another endpoint
@@ -656,7 +696,7 @@ public class MulticastProcessor extends BaseProcessorSupport
                 });
                 // after submitting this pair then move on to the next pair (if in parallel mode)
                 if (hasNext && isParallelProcessing()) {
-                    schedule(this);
+                    scheduleNext();
                 }
             } catch (Exception e) {
                 original.setException(e);
@@ -1357,6 +1397,25 @@ public class MulticastProcessor extends BaseProcessorSupport
         return parallelProcessing;
     }
 
+    /**
+     * The maximum number of sub exchanges that are inflight at the same time when using parallel processing, where 0
+     * means no limit.
+     */
+    public int getMaxInflight() {
+        return maxInflight;
+    }
+
+    /**
+     * Sets the maximum number of sub exchanges that are inflight at the same time when using parallel processing. A sub
+     * exchange is inflight from it has been created until it has been aggregated, and no more sub exchanges are created
+     * (such as reading the next split message from a streaming iterator) while the limit is reached.
+     *
+     * @param maxInflight the maximum number of inflight sub exchanges, where 0 means no limit
+     */
+    public void setMaxInflight(int maxInflight) {
+        this.maxInflight = maxInflight;
+    }
+
     @Deprecated(since = "4.7.0")
     public boolean isParallelAggregate() {
         return parallelAggregate;
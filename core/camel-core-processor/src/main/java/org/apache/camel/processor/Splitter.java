@@ -263,7 +263,10 @@ public class Splitter extends MulticastProcessor {
             throw exchange.getException();
         }
 
-        Iterable<ProcessorExchangePair> answer = isStreaming()
+        // when the number of inflight split messages is limited, then split on demand (also in ordered mode)
+        // as otherwise all the split messages would be created up front
+        boolean onDemand = isStreaming() || isParallelProcessing() && getMaxInflight() > 0;
+        Iterable<ProcessorExchangePair> answer = onDemand
                 ? createProcessorExchangePairsIterable(exchange, value)
                 : createProcessorExchangePairsList(exchange, value);
         if (exchange.getException() != null) {
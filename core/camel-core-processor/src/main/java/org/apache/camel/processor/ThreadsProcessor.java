@@ -24,10 +24,14 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import org.apache.camel.AsyncCallback;
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
+import org.apache.camel.Processor;
 import org.apache.camel.spi.IdAware;
 import org.apache.camel.spi.RouteIdAware;
 import org.apache.camel.spi.StepIdAware;
+import org.apache.camel.support.service.ServiceHelper;
 import org.apache.camel.util.ObjectHelper;
+import org.apache.camel.util.concurrent.DeadlineBlockingQueue;
 import org.apache.camel.util.concurrent.Rejectable;
 import org.apache.camel.util.concurrent.ThreadPoolRejectedPolicy;
 import org.slf4j.Logger;
@@ -49,6 +53,12 @@ import org.slf4j.LoggerFactory;
  * <li>CallerRuns - The current exchange will be processed by the current thread. Which mean the current thread will not
  * be free to process a new exchange, as its processing the current exchange.</li>
  * </ul>
+ * <p/>
+ * When a priority or deadline expression is configured, then the exchanges are not submitted to the thread pool in
+ * the order they arrive. Instead, they are kept in a {@link DeadlineBlockingQueue}, and each task submitted to the
+ * thread pool continues routing the exchange with the highest priority, and the earliest deadline, at the time the
+ * task is run. Exchanges whose deadline has expired before they are continued are not routed any further, and are
+ * given to the onExpired processor, or are failed with a {@link RejectedExecutionException}.
  */
 public class ThreadsProcessor extends BaseProcessorSupport implements IdAware, RouteIdAware, StepIdAware {
 
@@ -62,11 +72,18 @@ public class ThreadsProcessor extends BaseProcessorSupport implements IdAware, R
     private final ThreadPoolRejectedPolicy rejectedPolicy;
     private final boolean shutdownExecutorService;
     private final AtomicBoolean shutdown = new AtomicBoolean(true);
+    private Expression priority;
+    private Expression deadline;
+    private long starvationTimeout = 10000;
+    private Processor onExpired;
+    private DeadlineBlockingQueue<ProcessCall> deadlineQueue;
+    private final DispatchCall dispatchCall = new DispatchCall();
 
     private final class ProcessCall implements Runnable, Rejectable {
         private final Exchange exchange;
         private final AsyncCallback callback;
         private final boolean done;
+        private volatile boolean expired;
 
         ProcessCall(Exchange exchange, AsyncCallback callback, boolean done) {
             this.exchange = exchange;
@@ -94,12 +111,58 @@ public class ThreadsProcessor extends BaseProcessorSupport implements IdAware, R
             callback.done(done);
         }
 
+        void expire() {
+            expired = true;
+            LOG.debug("Deadline has expired for exchangeId: {}", exchange.getExchangeId());
+            if (onExpired != null) {
+                try {
+                    onExpired.process(exchange);
+                } catch (Exception e) {
+                    exchange.setException(e);
+                }
+                if (exchange.getException() == null) {
+                    // the exchange should not continue routing
+                    exchange.setRouteStop(true);
+                }
+            } else {
+                exchange.setException(new RejectedExecutionException("Deadline has expired"));
+            }
+            callback.done(done);
+        }
+
         @Override
         public String toString() {
             return "ProcessCall[" + exchange + "]";
         }
     }
 
+    /**
+     * Task submitted to the thread pool, which continues routing the next exchange from the deadline queue.
+     */
+    private final class DispatchCall implements Runnable, Rejectable {
+
+        @Override
+        public void run() {
+            ProcessCall call = deadlineQueue.poll();
+            if (call != null) {
+                call.run();
+            }
+        }
+
+        @Override
+        public void reject() {
+            ProcessCall call = deadlineQueue.poll();
+            if (call != null) {
+                call.reject();
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "DispatchCall";
+        }
+    }
+
     public ThreadsProcessor(CamelContext camelContext, ExecutorService executorService, boolean shutdownExecutorService,
                             ThreadPoolRejectedPolicy rejectedPolicy) {
         ObjectHelper.notNull(camelContext, "camelContext");
@@ -126,6 +189,10 @@ public class ThreadsProcessor extends BaseProcessorSupport implements IdAware, R
             return true;
         }
 
+        if (deadlineQueue != null) {
+            return dispatch(new ProcessCall(exchange, callback, false));
+        }
+
         try {
             // process the call in asynchronous mode
             ProcessCall call = new ProcessCall(exchange, callback, false);
@@ -138,6 +205,46 @@ public class ThreadsProcessor extends BaseProcessorSupport implements IdAware, R
         }
     }
 
+    private boolean dispatch(ProcessCall call) {
+        try {
+            // the priority and deadline are evaluated when the call is queued
+            LOG.trace("Queuing task {}", call);
+            deadlineQueue.offer(call);
+        } catch (Exception e) {
+            // the priority or deadline could not be evaluated
+            call.exchange.setException(e);
+            call.callback.done(true);
+            return true;
+        }
+
+        try {
+            // the dispatch task continues routing whatever exchange is the next in the queue when it runs
+            executorService.submit(dispatchCall);
+        } catch (Exception e) {
+            if (deadlineQueue.remove(call)) {
+                return handleException(call.exchange, call.callback, e);
+            } else if (!call.expired) {
+                // the call has been taken by the dispatch task of another call, so reject that call instead
+                ProcessCall next = deadlineQueue.poll();
+                if (next != null) {
+                    next.reject();
+                }
+            }
+        }
+        // tell Camel routing engine we continue routing asynchronous
+        return false;
+    }
+
+    private int priorityOf(ProcessCall call) {
+        Integer answer = priority != null ? priority.evaluate(call.exchange, Integer.class) : null;
+        return answer != null ? answer : 0;
+    }
+
+    private long deadlineOf(ProcessCall call) {
+        Long answer = deadline != null ? deadline.evaluate(call.exchange, Long.class) : null;
+        return answer != null ? answer : DeadlineBlockingQueue.NO_DEADLINE;
+    }
+
     private boolean handleException(Exchange exchange, AsyncCallback callback, Exception e) {
         if (executorService instanceof ThreadPoolExecutor tpe) {
             // process the call in synchronous mode
@@ -194,14 +301,75 @@ public class ThreadsProcessor extends BaseProcessorSupport implements IdAware, R
         return rejectedPolicy;
     }
 
+    public Expression getPriority() {
+        return priority;
+    }
+
+    /**
+     * Expression for the priority of the exchange, where exchanges with a higher priority are continued first. An
+     * exchange without a priority has priority 0.
+     */
+    public void setPriority(Expression priority) {
+        this.priority = priority;
+    }
+
+    public Expression getDeadline() {
+        return deadline;
+    }
+
+    /**
+     * Expression for the deadline of the exchange, as an absolute time in millis (or a date), where exchanges with the
+     * same priority are continued earliest deadline first. An exchange whose deadline has expired is not continued.
+     */
+    public void setDeadline(Expression deadline) {
+        this.deadline = deadline;
+    }
+
+    public long getStarvationTimeout() {
+        return starvationTimeout;
+    }
+
+    /**
+     * The time in millis after which the exchange which has waited the longest is continued first, regardless of its
+     * priority and deadline. Use 0 to disable. Is by default 10000.
+     */
+    public void setStarvationTimeout(long starvationTimeout) {
+        this.starvationTimeout = starvationTimeout;
+    }
+
+    public Processor getOnExpired() {
+        return onExpired;
+    }
+
+    /**
+     * Processor which is called with the exchanges whose deadline has expired, after which the exchange is not routed
+     * any further. If not set, then the exchange is failed with a {@link RejectedExecutionException}.
+     */
+    public void setOnExpired(Processor onExpired) {
+        this.onExpired = onExpired;
+    }
+
+    /**
+     * Number of exchanges waiting in the deadline queue to be continued, when a priority or deadline is in use.
+     */
+    public int getPendingExchanges() {
+        return deadlineQueue != null ? deadlineQueue.size() : 0;
+    }
+
     @Override
     protected void doStart() throws Exception {
+        if ((priority != null || deadline != null) && deadlineQueue == null) {
+            deadlineQueue = new DeadlineBlockingQueue<>(
+                    Integer.MAX_VALUE, this::priorityOf, this::deadlineOf, starvationTimeout, ProcessCall::expire);
+        }
+        ServiceHelper.startService(onExpired);
         shutdown.set(false);
     }
 
     @Override
     protected void doStop() throws Exception {
         shutdown.set(true);
+        ServiceHelper.stopService(onExpired);
     }
 
     @Override
@@ -209,6 +377,13 @@ public class ThreadsProcessor extends BaseProcessorSupport implements IdAware, R
         if (shutdownExecutorService) {
             camelContext.getExecutorServiceManager().shutdownNow(executorService);
         }
+        if (deadlineQueue != null) {
+            // reject the exchanges which are still waiting to be continued
+            ProcessCall call;
+            while ((call = deadlineQueue.poll()) != null) {
+                call.reject();
+            }
+        }
         super.doShutdown();
     }
 
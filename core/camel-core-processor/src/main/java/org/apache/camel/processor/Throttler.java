@@ -49,6 +49,12 @@ public interface Throttler extends Processor {
      */
     int getCurrentMaximumRequests();
 
+    /**
+     * The number of requests which have been rejected because the maximum requests was exceeded (when rejectExecution
+     * is enabled)
+     */
+    long getRejectedRequests();
+
     /**
      * The mode of the throttler (different implementations).
      */
@@ -104,6 +104,7 @@ public class TotalRequestsThrottler extends AbstractThrottler {
 
             if (permit == null) {
                 if (isRejectExecution()) {
+                    rejectedRequests.increment();
                     throw new ThrottlerRejectedExecutionException(
                             "Exceeded the max throttle rate of "
                                                                   + throttlingState.getThrottleRate() + " within "
@@ -47,11 +47,13 @@ import org.apache.camel.NoSuchEndpointException;
 import org.apache.camel.Predicate;
 import org.apache.camel.Processor;
 import org.apache.camel.ProducerTemplate;
+import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.ShutdownRunningTask;
 import org.apache.camel.TimeoutMap;
 import org.apache.camel.Traceable;
 import org.apache.camel.processor.BaseProcessorSupport;
 import org.apache.camel.spi.AggregationRepository;
+import org.apache.camel.spi.AppendOnlyAggregationRepository;
 import org.apache.camel.spi.ExceptionHandler;
 import org.apache.camel.spi.IdAware;
 import org.apache.camel.spi.OptimisticLockingAggregationRepository;
@@ -66,6 +68,7 @@ import org.apache.camel.support.ExchangeHelper;
 import org.apache.camel.support.LRUCacheFactory;
 import org.apache.camel.support.LoggingExceptionHandler;
 import org.apache.camel.support.NoLock;
+import org.apache.camel.support.StripedLock;
 import org.apache.camel.support.service.ServiceHelper;
 import org.apache.camel.util.ObjectHelper;
 import org.apache.camel.util.StopWatch;
@@ -101,6 +104,8 @@ public class AggregateProcessor extends BaseProcessorSupport
 
     private static final Logger LOG = LoggerFactory.getLogger(AggregateProcessor.class);
     private volatile Lock lock;
+    private volatile StripedLock stripedLock;
+    private final AtomicBoolean completeAllGroupsRequested = new AtomicBoolean();
     private final AtomicBoolean aggregateRepositoryWarned = new AtomicBoolean();
     private final CamelContext camelContext;
     private final ReactiveExecutor reactiveExecutor;
@@ -124,6 +129,7 @@ public class AggregateProcessor extends BaseProcessorSupport
     private TimeoutMap<String, String> timeoutMap;
     private ExceptionHandler exceptionHandler;
     private AggregationRepository aggregationRepository;
+    private AppendOnlyAggregationRepository appendOnlyRepository;
     private Map<String, String> closedCorrelationKeys;
     private final Set<String> batchConsumerCorrelationKeys = new ConcurrentSkipListSet<>();
     private final Set<String> inProgressCompleteExchanges = ConcurrentHashMap.newKeySet();
@@ -234,6 +240,7 @@ public class AggregateProcessor extends BaseProcessorSupport
     private boolean parallelProcessing;
     private boolean optimisticLocking;
     private boolean optimisticLockingSyncRetry;
+    private int lockStripes;
 
     // different ways to have completion triggered
     private boolean eagerCheckCompletion;
@@ -441,13 +448,19 @@ public class AggregateProcessor extends BaseProcessorSupport
         removeFlagCompleteAllGroupsInclusive(copy);
 
         List<Exchange> aggregated = null;
-        lock.lock();
+        Lock keyLock = getLock(key);
+        keyLock.lock();
         try {
             aggregated = doAggregation(key, copy);
         } catch (CamelExchangeException e) {
             exchange.setException(e);
         } finally {
-            lock.unlock();
+            keyLock.unlock();
+        }
+
+        // when using lock stripes then completing all groups must be done after the stripe has been released
+        if (completeAllGroupsRequested.compareAndSet(true, false)) {
+            forceCompletionOfAllGroups();
         }
 
         // we are completed so do that work outside the lock
@@ -514,6 +527,10 @@ public class AggregateProcessor extends BaseProcessorSupport
      * @throws org.apache.camel.CamelExchangeException is thrown if error aggregating
      */
     private List<Exchange> doAggregation(String key, Exchange newExchange) throws CamelExchangeException {
+        if (appendOnlyRepository != null) {
+            return doAppendAggregation(key, newExchange);
+        }
+
         LOG.trace("onAggregation +++ start +++ with correlation key: {}", key);
 
         List<Exchange> list = new ArrayList<>();
@@ -613,7 +630,12 @@ public class AggregateProcessor extends BaseProcessorSupport
         // check for the special exchange property to force completion of all groups
         if (isCompleteAllGroups(answer)) {
             removeFlagCompleteAllGroups(answer);
-            forceCompletionOfAllGroups();
+            if (stripedLock != null) {
+                // cannot acquire all stripes while holding a stripe, so defer until the stripe is released
+                completeAllGroupsRequested.set(true);
+            } else {
+                forceCompletionOfAllGroups();
+            }
         } else if (isCompletionOnNewCorrelationGroup() && originalExchange == null) {
             // its a new group so force complete of all existing groups
             forceCompletionOfAllGroups();
@@ -653,6 +675,115 @@ public class AggregateProcessor extends BaseProcessorSupport
         return list;
     }
 
+    /**
+     * Aggregates the incoming exchange when the {@link AppendOnlyAggregationRepository} is in append only mode. The
+     * incoming exchange is appended to the repository, and the exchanges of the group are only aggregated using the
+     * {@link AggregationStrategy} when the group is completed or compacted.
+     *
+     * @param  key                                     the correlation key
+     * @param  newExchange                             the exchange
+     * @return                                         the aggregated exchange(s) which is complete, or empty if not yet
+     *                                                 complete
+     * @throws org.apache.camel.CamelExchangeException is thrown if error aggregating
+     */
+    private List<Exchange> doAppendAggregation(String key, Exchange newExchange) throws CamelExchangeException {
+        LOG.trace("onAggregation +++ start +++ with correlation key: {} in append only mode", key);
+
+        List<Exchange> list = new ArrayList<>();
+
+        // track the timeout before appending, so the timeout is stored together with the exchange
+        trackTimeout(key, newExchange);
+        int size = appendOnlyRepository.append(newExchange.getContext(), key, newExchange);
+
+        // the exchanges are not aggregated yet, so completion is checked on the incoming exchange
+        newExchange.setProperty(ExchangePropertyKey.AGGREGATED_SIZE, size);
+        newExchange.setProperty(ExchangePropertyKey.AGGREGATED_CORRELATION_KEY, key);
+        String complete = isCompleted(key, newExchange);
+        newExchange.removeProperty(ExchangePropertyKey.AGGREGATED_SIZE);
+        newExchange.removeProperty(ExchangePropertyKey.AGGREGATED_CORRELATION_KEY);
+
+        if (complete != null) {
+            Exchange answer;
+            boolean aggregateFailed = false;
+            try {
+                answer = doAggregateAppended(key);
+            } catch (CamelExchangeException e) {
+                if (!isDiscardOnAggregationFailure()) {
+                    throw e;
+                }
+                // discard the group due failure in aggregation strategy
+                LOG.debug(
+                        "Aggregation for correlation key {} discarding aggregated exchange due to failure in AggregationStrategy caused by: {}",
+                        key, e.getMessage());
+                complete = COMPLETED_BY_STRATEGY;
+                answer = newExchange;
+                aggregateFailed = true;
+            }
+            doAggregationComplete(complete, list, key, answer, answer, aggregateFailed);
+        } else {
+            int interval = appendOnlyRepository.getCompactionInterval();
+            if (interval > 0 && size % interval == 0) {
+                LOG.trace("Compacting {} exchanges with correlation key: {}", size, key);
+                Exchange aggregated = doAggregateAppended(key);
+                appendOnlyRepository.compact(newExchange.getContext(), key, aggregated, size);
+            }
+        }
+
+        LOG.trace("onAggregation +++  end  +++ with correlation key: {} in append only mode", key);
+        return list;
+    }
+
+    /**
+     * Aggregates the exchanges of the group which have been stored in the {@link AppendOnlyAggregationRepository},
+     * starting from the exchange from the last compaction (if any).
+     *
+     * @param  key                                     the correlation key
+     * @return                                         the aggregated exchange, or <tt>null</tt> if the group does not
+     *                                                 exist
+     * @throws org.apache.camel.CamelExchangeException is thrown if error aggregating
+     */
+    private Exchange doAggregateAppended(String key) throws CamelExchangeException {
+        Exchange answer = appendOnlyRepository.get(camelContext, key);
+        int size = answer != null ? answer.getProperty(ExchangePropertyKey.AGGREGATED_SIZE, 1, Integer.class) : 0;
+
+        for (Exchange exchange : appendOnlyRepository.getAppended(camelContext, key)) {
+            ExchangeHelper.prepareAggregation(answer, exchange);
+            Exchange aggregated;
+            try {
+                aggregated = onAggregation(answer, exchange);
+            } catch (Exception e) {
+                // must catch any exception from aggregation
+                throw new CamelExchangeException("Error occurred during aggregation", exchange, e);
+            }
+            if (aggregated == null) {
+                throw new CamelExchangeException(
+                        "AggregationStrategy " + aggregationStrategy + " returned null which is not allowed", exchange);
+            }
+            answer = aggregated;
+            size++;
+        }
+
+        if (answer != null) {
+            answer.setProperty(ExchangePropertyKey.AGGREGATED_SIZE, size);
+        }
+        return answer;
+    }
+
+    /**
+     * Gets the aggregated exchange with the given correlation key from the aggregation repository, which in append
+     * only mode is aggregated from the stored exchanges.
+     */
+    private Exchange getAggregatedExchange(String key) {
+        if (appendOnlyRepository != null) {
+            try {
+                return doAggregateAppended(key);
+            } catch (CamelExchangeException e) {
+                throw new RuntimeCamelException(e);
+            }
+        }
+        return aggregationRepository.get(camelContext, key);
+    }
+
     protected void doAggregationComplete(
             String complete, List<Exchange> list, String key,
             Exchange originalExchange, Exchange answer, boolean aggregateFailed) {
@@ -665,7 +796,7 @@ public class AggregateProcessor extends BaseProcessorSupport
                     batchAnswer = answer;
                     batchOriginalExchange = originalExchange;
                 } else {
-                    batchAnswer = aggregationRepository.get(camelContext, batchKey);
+                    batchAnswer = getAggregatedExchange(batchKey);
                     batchOriginalExchange = batchAnswer;
                 }
 
@@ -969,7 +1100,7 @@ public class AggregateProcessor extends BaseProcessorSupport
                 keys.size());
 
         for (String key : keys) {
-            Exchange exchange = aggregationRepository.get(camelContext, key);
+            Exchange exchange = getAggregatedExchange(key);
             if (exchange != null) {
                 // grab the timeout value
                 long timeout = exchange.getProperty(ExchangePropertyKey.AGGREGATED_TIMEOUT, 0L, long.class);
@@ -1153,6 +1284,19 @@ public class AggregateProcessor extends BaseProcessorSupport
         this.optimisticLocking = optimisticLocking;
     }
 
+    public int getLockStripes() {
+        return lockStripes;
+    }
+
+    /**
+     * Number of lock stripes to use, where each correlation key is guarded by the stripe its hash code maps to. This
+     * allows exchanges with different correlation keys to be aggregated in parallel. The default (0 or 1) uses a single
+     * lock. Not in use when optimistic locking is enabled.
+     */
+    public void setLockStripes(int lockStripes) {
+        this.lockStripes = lockStripes;
+    }
+
     public boolean isOptimisticLockingSyncRetry() {
         return optimisticLockingSyncRetry;
     }
@@ -1354,7 +1498,7 @@ public class AggregateProcessor extends BaseProcessorSupport
 
             // get the aggregated exchange
             boolean evictionStolen = false;
-            Exchange answer = aggregationRepository.get(camelContext, key);
+            Exchange answer = getAggregatedExchange(key);
             if (answer == null) {
                 evictionStolen = true;
             } else {
@@ -1405,7 +1549,7 @@ public class AggregateProcessor extends BaseProcessorSupport
                 try {
                     for (String key : keys) {
                         boolean stolenInterval = false;
-                        Exchange exchange = aggregationRepository.get(camelContext, key);
+                        Exchange exchange = getAggregatedExchange(key);
                         if (exchange == null) {
                             stolenInterval = true;
                         } else {
@@ -1610,6 +1754,31 @@ public class AggregateProcessor extends BaseProcessorSupport
                         "Optimistic locking cannot be enabled without using an AggregationRepository that implements OptimisticLockingAggregationRepository");
             }
             LOG.info("Optimistic locking is enabled");
+        } else if (lockStripes > 1) {
+            if (isCompletionFromBatchConsumer()) {
+                throw new IllegalArgumentException("Cannot use lockStripes together with completionFromBatchConsumer");
+            }
+            if (isCompletionOnNewCorrelationGroup()) {
+                throw new IllegalArgumentException("Cannot use lockStripes together with completionOnNewCorrelationGroup");
+            }
+        }
+
+        if (aggregationRepository instanceof AppendOnlyAggregationRepository appendOnly && appendOnly.isAppendOnly()) {
+            if (optimisticLocking) {
+                throw new IllegalArgumentException("Cannot use optimisticLocking together with an append only AggregationRepository");
+            }
+            if (preCompletion) {
+                throw new IllegalArgumentException(
+                        "Cannot use a PreCompletionAwareAggregationStrategy together with an append only AggregationRepository");
+            }
+            if (isCompletionOnNewCorrelationGroup()) {
+                throw new IllegalArgumentException(
+                        "Cannot use completionOnNewCorrelationGroup together with an append only AggregationRepository");
+            }
+            appendOnlyRepository = appendOnly;
+            LOG.info("Append only mode is enabled with compaction interval: {}", appendOnly.getCompactionInterval());
+        } else {
+            appendOnlyRepository = null;
         }
 
         ServiceHelper.startService(aggregationStrategy, processor, aggregationRepository);
@@ -1695,11 +1864,25 @@ public class AggregateProcessor extends BaseProcessorSupport
                         .newSingleThreadScheduledExecutor(this, AGGREGATE_OPTIMISTIC_LOCKING_EXECUTOR));
                 shutdownOptimisticLockingExecutorService = true;
             }
+        } else if (lockStripes > 1) {
+            stripedLock = new StripedLock(lockStripes);
+            LOG.info("Using {} lock stripes for correlation keys", stripedLock.getStripes());
+            // the shared aggregation lock must acquire all the stripes
+            lock = stripedLock.getAllStripesLock();
         } else {
             lock = new ReentrantLock();
         }
     }
 
+    /**
+     * Gets the lock that guards the given correlation key, which is the shared aggregation lock unless using lock
+     * stripes.
+     */
+    private Lock getLock(String key) {
+        StripedLock striped = stripedLock;
+        return striped != null ? striped.getLock(key) : lock;
+    }
+
     @Override
     protected void doStop() throws Exception {
         // note: we cannot do doForceCompletionOnStop from this doStop method
@@ -1805,12 +1988,13 @@ public class AggregateProcessor extends BaseProcessorSupport
     }
 
     public int forceCompletionOfGroup(String key) {
-        // must acquire the shared aggregation lock to be able to trigger force completion
+        // must acquire the aggregation lock for the key to be able to trigger force completion
         int total = 0;
 
-        lock.lock();
+        Lock keyLock = getLock(key);
+        keyLock.lock();
         try {
-            Exchange exchange = aggregationRepository.get(camelContext, key);
+            Exchange exchange = getAggregatedExchange(key);
             if (exchange != null) {
                 total = 1;
                 LOG.trace("Force completion triggered for correlation key: {}", key);
@@ -1822,7 +2006,7 @@ public class AggregateProcessor extends BaseProcessorSupport
                 }
             }
         } finally {
-            lock.unlock();
+            keyLock.unlock();
         }
         LOG.trace("Completed force completion of group {}", key);
 
@@ -1854,7 +2038,7 @@ public class AggregateProcessor extends BaseProcessorSupport
             total = keys.size();
             try {
                 for (String key : keys) {
-                    Exchange exchange = aggregationRepository.get(camelContext, key);
+                    Exchange exchange = getAggregatedExchange(key);
                     if (exchange != null) {
                         LOG.trace("Force completion triggered for correlation key: {}", key);
                         // indicate it was completed by a force completion request
@@ -1878,12 +2062,13 @@ public class AggregateProcessor extends BaseProcessorSupport
     }
 
     public int forceDiscardingOfGroup(String key) {
-        // must acquire the shared aggregation lock to be able to trigger force completion
+        // must acquire the aggregation lock for the key to be able to trigger force completion
         int total = 0;
 
-        lock.lock();
+        Lock keyLock = getLock(key);
+        keyLock.lock();
         try {
-            Exchange exchange = aggregationRepository.get(camelContext, key);
+            Exchange exchange = getAggregatedExchange(key);
             if (exchange != null) {
                 total = 1;
                 LOG.trace("Force discarded triggered for correlation key: {}", key);
@@ -1891,7 +2076,7 @@ public class AggregateProcessor extends BaseProcessorSupport
                 onCompletion(key, exchange, exchange, false, true);
             }
         } finally {
-            lock.unlock();
+            keyLock.unlock();
         }
         LOG.trace("Completed force discarded of group {}", key);
 
@@ -1923,7 +2108,7 @@ public class AggregateProcessor extends BaseProcessorSupport
             total = keys.size();
             try {
                 for (String key : keys) {
-                    Exchange exchange = aggregationRepository.get(camelContext, key);
+                    Exchange exchange = getAggregatedExchange(key);
                     if (exchange != null) {
                         LOG.trace("Force discarded triggered for correlation key: {}", key);
                         // force discarding by setting aggregate failed as true
@@ -84,6 +84,15 @@ public class MulticastReifier extends ProcessorReifier<MulticastDefinition> {
                 camelContext, route, list, strategy, isParallelProcessing, threadPool, shutdownThreadPool, isStreaming,
                 isStopOnException, timeout, prepare, isShareUnitOfWork, isParallelAggregate, 0);
         answer.setSynchronous(isSynchronous);
+
+        int maxInflight = parseInt(definition.getMaxInflight(), 0);
+        if (maxInflight < 0) {
+            throw new IllegalArgumentException(
+                    "maxInflight must not be negative, but was: " + maxInflight);
+        }
+        if (maxInflight > 0) {
+            answer.setMaxInflight(maxInflight);
+        }
         return answer;
     }
 
@@ -89,6 +89,15 @@ public class SplitReifier extends ExpressionReifier<SplitDefinition> {
             answer.setGroup(group);
         }
 
+        int maxInflight = parseInt(definition.getMaxInflight(), 0);
+        if (maxInflight < 0) {
+            throw new IllegalArgumentException(
+                    "maxInflight must not be negative, but was: " + maxInflight);
+        }
+        if (maxInflight > 0) {
+            answer.setMaxInflight(maxInflight);
+        }
+
         configureErrorThreshold(answer, isStopOnException);
         configureWatermark(answer);
 
@@ -19,6 +19,7 @@ package org.apache.camel.reifier;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 
+import org.apache.camel.Expression;
 import org.apache.camel.Processor;
 import org.apache.camel.Route;
 import org.apache.camel.model.ProcessorDefinition;
@@ -26,6 +27,7 @@ import org.apache.camel.model.ThreadsDefinition;
 import org.apache.camel.processor.ThreadsProcessor;
 import org.apache.camel.spi.ExecutorServiceManager;
 import org.apache.camel.spi.ThreadPoolProfile;
+import org.apache.camel.support.builder.ExpressionBuilder;
 import org.apache.camel.util.concurrent.ThreadPoolRejectedPolicy;
 
 public class ThreadsReifier extends ProcessorReifier<ThreadsDefinition> {
@@ -102,6 +104,30 @@ public class ThreadsReifier extends ProcessorReifier<ThreadsDefinition> {
 
         ThreadsProcessor answer = new ThreadsProcessor(camelContext, threadPool, shutdownThreadPool, policy);
         answer.setDisabled(isDisabled(camelContext, definition));
+
+        // priority and deadline scheduling
+        String priorityHeader = parseString(definition.getPriorityHeader());
+        if (priorityHeader != null) {
+            answer.setPriority(createHeaderExpression(priorityHeader));
+        }
+        String deadlineHeader = parseString(definition.getDeadlineHeader());
+        if (deadlineHeader != null) {
+            answer.setDeadline(createHeaderExpression(deadlineHeader));
+        }
+        if (definition.getStarvationTimeout() != null) {
+            answer.setStarvationTimeout(parseDuration(definition.getStarvationTimeout()));
+        }
+        Processor onExpired = definition.getOnExpiredProcessor();
+        if (onExpired == null && definition.getOnExpired() != null) {
+            onExpired = mandatoryLookup(definition.getOnExpired(), Processor.class);
+        }
+        answer.setOnExpired(onExpired);
+        return answer;
+    }
+
+    private Expression createHeaderExpression(String name) {
+        Expression answer = ExpressionBuilder.headerExpression(name);
+        answer.init(camelContext);
         return answer;
     }
 
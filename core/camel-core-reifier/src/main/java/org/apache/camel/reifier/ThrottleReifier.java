@@ -24,6 +24,7 @@ import org.apache.camel.Route;
 import org.apache.camel.model.ProcessorDefinition;
 import org.apache.camel.model.ThrottleDefinition;
 import org.apache.camel.model.ThrottlingMode;
+import org.apache.camel.processor.AdaptiveConcurrentRequestsThrottler;
 import org.apache.camel.processor.ConcurrentRequestsThrottler;
 import org.apache.camel.processor.TotalRequestsThrottler;
 
@@ -51,7 +52,24 @@ public class ThrottleReifier extends ExpressionReifier<ThrottleDefinition> {
             throw new IllegalArgumentException("MaxRequestsPerPeriod expression must be provided on " + this);
         }
 
-        if (ThrottlingMode.toMode(parseString(definition.getMode())) == ThrottlingMode.ConcurrentRequests) {
+        ThrottlingMode mode = ThrottlingMode.toMode(parseString(definition.getMode()));
+        if (mode == ThrottlingMode.AdaptiveConcurrentRequests) {
+            AdaptiveConcurrentRequestsThrottler answer = new AdaptiveConcurrentRequestsThrottler(
+                    camelContext, maxRequestsExpression, threadPool, shutdownThreadPool, reject, correlation);
+            answer.setDisabled(isDisabled(camelContext, definition));
+            answer.setAsyncDelayed(async);
+            // should be true by default
+            answer.setCallerRunsWhenRejected(parseBoolean(definition.getCallerRunsWhenRejected(), true));
+            Double ratio = parse(Double.class, definition.getAdaptiveBackoffRatio());
+            if (ratio != null) {
+                answer.setBackoffRatio(ratio);
+            }
+            Double tolerance = parse(Double.class, definition.getAdaptiveLatencyTolerance());
+            if (tolerance != null) {
+                answer.setLatencyTolerance(tolerance);
+            }
+            return answer;
+        } else if (mode == ThrottlingMode.ConcurrentRequests) {
             ConcurrentRequestsThrottler answer = new ConcurrentRequestsThrottler(
                     camelContext, maxRequestsExpression, threadPool, shutdownThreadPool, reject, correlation);
             answer.setDisabled(isDisabled(camelContext, definition));
@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.support.processor.idempotent.MemoryIdempotentRepository;
+import org.junit.jupiter.api.Test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Unit test for streaming directory listing and skipping unchanged files
+ */
+public class FileConsumerStreamingDirectoryListingTest extends ContextTestSupport {
+
+    private final AtomicInteger lookups = new AtomicInteger();
+
+    @Test
+    public void testStreamingRecursive() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceivedInAnyOrder("Hello World", "Bye World", "Hi World");
+
+        template.sendBodyAndHeader(fileUri(), "Hello World", Exchange.FILE_NAME, "hello.txt");
+        template.sendBodyAndHeader(fileUri(), "Bye World", Exchange.FILE_NAME, "sub/bye.txt");
+        template.sendBodyAndHeader(fileUri(), "Hi World", Exchange.FILE_NAME, "sub/deep/hi.txt");
+
+        context.getRouteController().startRoute("recursive");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testStreamingMaxMessagesPerPoll() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(3);
+        mock.message(0).exchangeProperty(Exchange.BATCH_SIZE).isEqualTo(2);
+        mock.message(1).exchangeProperty(Exchange.BATCH_SIZE).isEqualTo(2);
+        mock.message(2).exchangeProperty(Exchange.BATCH_SIZE).isEqualTo(1);
+
+        template.sendBodyAndHeader(fileUri(), "Hello World", Exchange.FILE_NAME, "hello.txt");
+        template.sendBodyAndHeader(fileUri(), "Bye World", Exchange.FILE_NAME, "bye.txt");
+        template.sendBodyAndHeader(fileUri(), "Hi World", Exchange.FILE_NAME, "hi.txt");
+
+        context.getRouteController().startRoute("max");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testSkipUnchangedFiles() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceivedInAnyOrder("Hello World", "Bye World");
+
+        template.sendBodyAndHeader(fileUri(), "Hello World", Exchange.FILE_NAME, "hello.txt");
+        template.sendBodyAndHeader(fileUri(), "Bye World", Exchange.FILE_NAME, "bye.txt");
+
+        context.getRouteController().startRoute("unchanged");
+
+        assertMockEndpointsSatisfied();
+
+        // the next poll finds the files are already consumed and adds them to the index
+        await().atMost(Duration.ofSeconds(5)).until(() -> lookups.get() >= 4);
+        int count = lookups.get();
+
+        // and then the unchanged files are skipped without looking up the idempotent repository
+        await().during(Duration.ofMillis(300)).atMost(Duration.ofSeconds(2)).until(() -> lookups.get() == count);
+
+        // a changed file is consumed again
+        resetMocks();
+        mock.expectedBodiesReceived("Hello World Again");
+
+        template.sendBodyAndHeader(fileUri(), "Hello World Again", Exchange.FILE_NAME, "hello.txt");
+
+        assertMockEndpointsSatisfied();
+        assertEquals(count, lookups.get() - 1, "Should only look up the changed file");
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            public void configure() {
+                context.getRegistry().bind("myRepo", new MemoryIdempotentRepository() {
+                    @Override
+                    public boolean add(String key) {
+                        lookups.incrementAndGet();
+                        return super.add(key);
+                    }
+                });
+
+                from(fileUri("?initialDelay=0&delay=10&streamingDirectoryListing=true&recursive=true"))
+                        .routeId("recursive").autoStartup(false)
+                        .convertBodyTo(String.class).to("mock:result");
+
+                from(fileUri("?initialDelay=0&delay=10&streamingDirectoryListing=true&maxMessagesPerPoll=2"))
+                        .routeId("max").autoStartup(false)
+                        .convertBodyTo(String.class).to("mock:result");
+
+                from(fileUri("?initialDelay=0&delay=10&streamingDirectoryListing=true&skipUnchangedFiles=true"
+                             + "&noop=true&idempotentRepository=#myRepo&idempotentKey=${file:name}-${file:size}"))
+                        .routeId("unchanged").autoStartup(false)
+                        .convertBodyTo(String.class).to("mock:result");
+            }
+        };
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.seda;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RingBufferBlockingQueueTest {
+
+    @Test
+    public void testCapacity() {
+        assertEquals(2, new RingBufferBlockingQueue<String>(1).getCapacity());
+        assertEquals(16, new RingBufferBlockingQueue<String>(10).getCapacity());
+        assertEquals(1024, new RingBufferBlockingQueue<String>(1000).remainingCapacity());
+        assertThrows(IllegalArgumentException.class, () -> new RingBufferBlockingQueue<String>(0));
+    }
+
+    @Test
+    public void testOfferAndPoll() {
+        RingBufferBlockingQueue<String> queue = new RingBufferBlockingQueue<>(4);
+        assertTrue(queue.isEmpty());
+        assertNull(queue.poll());
+        assertNull(queue.peek());
+
+        // go around the ring a few times
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 4; i++) {
+                assertTrue(queue.offer("A" + i));
+            }
+            assertFalse(queue.offer("B"));
+            assertEquals(4, queue.size());
+            assertEquals(0, queue.remainingCapacity());
+            assertEquals("A0", queue.peek());
+            for (int i = 0; i < 4; i++) {
+                assertEquals("A" + i, queue.poll());
+            }
+            assertNull(queue.poll());
+        }
+        assertThrows(IllegalStateException.class, () -> {
+            for (int i = 0; i < 5; i++) {
+                queue.add("C" + i);
+            }
+        });
+    }
+
+    @Test
+    public void testDrainTo() {
+        RingBufferBlockingQueue<String> queue = new RingBufferBlockingQueue<>(8);
+        for (int i = 0; i < 6; i++) {
+            queue.offer("A" + i);
+        }
+
+        List<String> batch = new ArrayList<>();
+        assertEquals(4, queue.drainTo(batch, 4));
+        assertEquals(List.of("A0", "A1", "A2", "A3"), batch);
+        batch.clear();
+        assertEquals(2, queue.drainTo(batch));
+        assertEquals(List.of("A4", "A5"), batch);
+        assertEquals(0, queue.drainTo(batch));
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void testOfferAll() {
+        RingBufferBlockingQueue<String> queue = new RingBufferBlockingQueue<>(4);
+        queue.offer("A");
+        queue.poll();
+
+        assertEquals(3, queue.offerAll(List.of("B", "C", "D")));
+        assertEquals(1, queue.offerAll(List.of("E", "F")));
+        assertEquals(0, queue.offerAll(List.of("G")));
+        assertThrows(IllegalStateException.class, () -> queue.addAll(List.of("G")));
+
+        List<String> all = new ArrayList<>();
+        queue.drainTo(all);
+        assertEquals(List.of("B", "C", "D", "E"), all);
+    }
+
+    @Test
+    public void testRemoveAndIterator() {
+        RingBufferBlockingQueue<String> queue = new RingBufferBlockingQueue<>(8);
+        queue.addAll(List.of("A", "B", "C", "D"));
+
+        assertTrue(queue.remove("B"));
+        assertFalse(queue.remove("B"));
+        assertFalse(queue.contains("B"));
+        assertTrue(queue.contains("C"));
+        assertEquals(List.of("A", "C", "D"), new ArrayList<>(queue));
+
+        Iterator<String> it = queue.iterator();
+        assertEquals("A", it.next());
+        it.remove();
+        assertEquals("C", queue.peek());
+
+        // removed elements are skipped
+        assertEquals("C", queue.poll());
+        assertEquals("D", queue.poll());
+        assertNull(queue.poll());
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    public void testBlocking() throws Exception {
+        RingBufferBlockingQueue<String> queue = new RingBufferBlockingQueue<>(2);
+        assertNull(queue.poll(10, TimeUnit.MILLISECONDS));
+
+        queue.put("A");
+        queue.put("A");
+        assertFalse(queue.offer("B", 10, TimeUnit.MILLISECONDS));
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            CountDownLatch latch = new CountDownLatch(1);
+            executor.execute(() -> {
+                try {
+                    // blocks until there is room
+                    queue.put("B");
+                    latch.countDown();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            assertEquals("A", queue.take());
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+            assertEquals("A", queue.take());
+            assertEquals("B", queue.poll(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testConcurrentProducersAndConsumers() throws Exception {
+        final int producers = 4;
+        final int consumers = 4;
+        final int messages = 20000;
+        RingBufferBlockingQueue<Integer> queue = new RingBufferBlockingQueue<>(64);
+        Set<Integer> received = ConcurrentHashMap.newKeySet();
+        AtomicInteger count = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(producers + consumers);
+        try {
+            for (int p = 0; p < producers; p++) {
+                final int offset = p * messages;
+                executor.execute(() -> {
+                    try {
+                        for (int i = 0; i < messages; i += 2) {
+                            queue.put(offset + i);
+                            if (queue.offerAll(List.of(offset + i + 1)) == 0) {
+                                queue.put(offset + i + 1);
+                            }
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            }
+            for (int c = 0; c < consumers; c++) {
+                final boolean drain = c % 2 == 0;
+                executor.execute(() -> {
+                    List<Integer> batch = new ArrayList<>();
+                    while (count.get() < producers * messages) {
+                        try {
+                            Integer e = queue.poll(10, TimeUnit.MILLISECONDS);
+                            if (e != null) {
+                                batch.add(e);
+                                if (drain) {
+                                    queue.drainTo(batch, 16);
+                                }
+                            }
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        }
+                        for (Integer e : batch) {
+                            assertTrue(received.add(e), "Duplicate " + e);
+                        }
+                        count.addAndGet(batch.size());
+                        batch.clear();
+                    }
+                });
+            }
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(producers * messages, received.size());
+        assertTrue(queue.isEmpty());
+    }
+}
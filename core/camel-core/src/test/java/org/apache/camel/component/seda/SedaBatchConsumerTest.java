@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.seda;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SedaBatchConsumerTest extends ContextTestSupport {
+
+    @Test
+    public void testBatchConsumer() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(25);
+
+        // add the messages before the consumer is started, so the batches are filled
+        for (int i = 0; i < 25; i++) {
+            template.sendBody("seda:foo", "Message " + i);
+        }
+        context.getRouteController().startRoute("foo");
+
+        assertMockEndpointsSatisfied();
+
+        List<Exchange> received = mock.getReceivedExchanges();
+        int[] sizes = { 10, 10, 5 };
+        int n = 0;
+        for (int size : sizes) {
+            for (int i = 0; i < size; i++) {
+                Exchange exchange = received.get(n++);
+                assertEquals("Message " + (n - 1), exchange.getMessage().getBody());
+                assertEquals(i, exchange.getProperty(Exchange.BATCH_INDEX));
+                assertEquals(size, exchange.getProperty(Exchange.BATCH_SIZE));
+                assertEquals(i == size - 1, exchange.getProperty(Exchange.BATCH_COMPLETE));
+            }
+        }
+    }
+
+    @Test
+    public void testGracefulShutdownCompletesBatch() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:slow");
+        mock.expectedMessageCount(10);
+
+        for (int i = 0; i < 10; i++) {
+            template.sendBody("seda:slow", "Message " + i);
+        }
+        context.getRouteController().startRoute("slow");
+        // wait until the consumer has taken the batch from the queue
+        await().atMost(5, TimeUnit.SECONDS).until(() -> mock.getReceivedCounter() > 0);
+        assertEquals(0, context.getEndpoint("seda:slow", SedaEndpoint.class).getCurrentQueueSize());
+
+        // the exchanges in the batch are pending, so graceful shutdown waits for them
+        context.getRouteController().stopRoute("slow");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testForcedShutdownRequeuesBatch() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:slow");
+
+        for (int i = 0; i < 10; i++) {
+            template.sendBody("seda:slow", "Message " + i);
+        }
+        context.getRouteController().startRoute("slow");
+        await().atMost(5, TimeUnit.SECONDS).until(() -> mock.getReceivedCounter() > 0);
+
+        // the shutdown times out, so the exchanges that are not processed are put back on the queue
+        context.getShutdownStrategy().setTimeout(1);
+        context.getRouteController().stopRoute("slow");
+
+        SedaEndpoint seda = context.getEndpoint("seda:slow", SedaEndpoint.class);
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> assertTrue(seda.getCurrentQueueSize() > 0));
+        assertTrue(seda.getCurrentQueueSize() + mock.getReceivedCounter() <= 10);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("seda:foo?batchSize=10").routeId("foo").autoStartup(false)
+                        .to("mock:result");
+
+                from("seda:slow?batchSize=10").routeId("slow").autoStartup(false)
+                        .delay(200)
+                        .to("mock:slow");
+            }
+        };
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.seda;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.processor.aggregate.GroupedExchangeAggregationStrategy;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.jupiter.api.Test;
+
+public class SedaBulkOfferTest extends ContextTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.getRegistry().bind("ringQueueFactory", new RingBufferBlockingQueueFactory<Exchange>());
+        return context;
+    }
+
+    @Test
+    public void testBulkOffer() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived("A", "B", "C");
+
+        List<Exchange> exchanges = new ArrayList<>();
+        for (String body : List.of("A", "B", "C")) {
+            Exchange exchange = new DefaultExchange(context);
+            exchange.getMessage().setBody(body);
+            exchanges.add(exchange);
+        }
+        template.sendBody("seda:foo?bulkOffer=true", exchanges);
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testBulkOfferFromAggregator() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:ring");
+        mock.expectedBodiesReceived("A", "B", "C", "D");
+
+        template.sendBody("direct:start", "A");
+        template.sendBody("direct:start", "B");
+        template.sendBody("direct:start", "C");
+        template.sendBody("direct:start", "D");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testNoBulkOffer() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(1);
+
+        List<Exchange> exchanges = new ArrayList<>();
+        exchanges.add(new DefaultExchange(context));
+        exchanges.add(new DefaultExchange(context));
+        template.sendBody("seda:foo", exchanges);
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("seda:foo").to("mock:result");
+
+                from("direct:start")
+                        .aggregate(constant(true), new GroupedExchangeAggregationStrategy()).completionSize(2)
+                        .to("seda:ring?queueFactory=#ringQueueFactory&bulkOffer=true");
+
+                from("seda:ring?queueFactory=#ringQueueFactory&batchSize=4").to("mock:ring");
+            }
+        };
+    }
+}
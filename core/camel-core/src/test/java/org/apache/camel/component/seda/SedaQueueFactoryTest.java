@@ -19,10 +19,13 @@ package org.apache.camel.component.seda;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.ContextTestSupport;
 import org.apache.camel.Exchange;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.util.concurrent.DeadlineBlockingQueue;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -32,11 +35,17 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
  */
 public class SedaQueueFactoryTest extends ContextTestSupport {
     private final ArrayBlockingQueueFactory<Exchange> arrayQueueFactory = new ArrayBlockingQueueFactory<>();
+    private final RingBufferBlockingQueueFactory<Exchange> ringQueueFactory = new RingBufferBlockingQueueFactory<>();
+    private final DeadlineBlockingQueueFactory deadlineQueueFactory = new DeadlineBlockingQueueFactory();
 
     @Override
     protected CamelContext createCamelContext() throws Exception {
         CamelContext context = super.createCamelContext();
         context.getRegistry().bind("arrayQueueFactory", arrayQueueFactory);
+        context.getRegistry().bind("ringQueueFactory", ringQueueFactory);
+        deadlineQueueFactory.setPriorityHeader("priority");
+        deadlineQueueFactory.setDeadlineHeader("deadline");
+        context.getRegistry().bind("deadlineQueueFactory", deadlineQueueFactory);
         return context;
     }
 
@@ -60,6 +69,53 @@ public class SedaQueueFactoryTest extends ContextTestSupport {
         assertEquals(100, blockingQueue.remainingCapacity(), "remainingCapacity - custom");
     }
 
+    @Test
+    public void testRingBufferBlockingQueueFactoryAndSize() {
+        SedaEndpoint endpoint
+                = resolveMandatoryEndpoint("seda:ringQueue100?queueFactory=#ringQueueFactory&size=100", SedaEndpoint.class);
+
+        BlockingQueue<Exchange> queue = endpoint.getQueue();
+        RingBufferBlockingQueue<?> blockingQueue = assertIsInstanceOf(RingBufferBlockingQueue.class, queue);
+        assertEquals(128, blockingQueue.remainingCapacity(), "remainingCapacity - rounded up to power of two");
+    }
+
+    @Test
+    public void testDeadlineBlockingQueueFactory() {
+        SedaEndpoint endpoint
+                = resolveMandatoryEndpoint("seda:deadlineQueue?queueFactory=#deadlineQueueFactory&size=100", SedaEndpoint.class);
+
+        BlockingQueue<Exchange> queue = endpoint.getQueue();
+        assertIsInstanceOf(DeadlineBlockingQueue.class, queue);
+        assertEquals(100, queue.remainingCapacity());
+
+        long now = System.currentTimeMillis();
+        queue.offer(newExchange("Low", null, null));
+        queue.offer(newExchange("Later", null, now + 20000));
+        queue.offer(newExchange("Sooner", null, now + 10000));
+        queue.offer(newExchange("High", 5, null));
+        Exchange expired = newExchange("Expired", 5, now - 1000);
+        queue.offer(expired);
+
+        assertEquals(4, queue.size());
+        assertEquals("High", queue.poll().getMessage().getBody());
+        assertEquals("Sooner", queue.poll().getMessage().getBody());
+        assertEquals("Later", queue.poll().getMessage().getBody());
+        assertEquals("Low", queue.poll().getMessage().getBody());
+        assertIsInstanceOf(RejectedExecutionException.class, expired.getException());
+    }
+
+    private Exchange newExchange(String body, Integer priority, Long deadline) {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getMessage().setBody(body);
+        if (priority != null) {
+            exchange.getMessage().setHeader("priority", priority);
+        }
+        if (deadline != null) {
+            exchange.getMessage().setHeader("deadline", deadline);
+        }
+        return exchange;
+    }
+
     @Test
     public void testDefaultBlockingQueueFactory() {
         SedaEndpoint endpoint = resolveMandatoryEndpoint("seda:linkedQueue", SedaEndpoint.class);
@@ -0,0 +1,213 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.StreamCache;
+import org.apache.camel.impl.engine.DefaultUnitOfWork;
+import org.apache.camel.spi.StreamCachingStrategy;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CachedOutputStreamOffHeapTest extends ContextTestSupport {
+
+    private static final int BLOCK_SIZE = 64 * 1024;
+
+    private Exchange exchange;
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.setStreamCaching(true);
+        context.getStreamCachingStrategy().setSpoolThreshold(16);
+        context.getStreamCachingStrategy().setSpoolOffHeapMaxSize(2 * BLOCK_SIZE);
+        return context;
+    }
+
+    @Override
+    @BeforeEach
+    public void setUp() throws Exception {
+        super.setUp();
+        exchange = createExchange();
+    }
+
+    @Override
+    public boolean isUseRouteBuilder() {
+        return false;
+    }
+
+    private Exchange createExchange() {
+        Exchange answer = new DefaultExchange(context);
+        answer.getExchangeExtension().setUnitOfWork(new DefaultUnitOfWork(answer));
+        return answer;
+    }
+
+    private static byte[] createData(int size) {
+        byte[] data = new byte[size];
+        for (int i = 0; i < size; i++) {
+            data[i] = (byte) ('a' + i % 26);
+        }
+        return data;
+    }
+
+    @Test
+    public void testSpoolOffHeap() throws Exception {
+        context.start();
+        StreamCachingStrategy strategy = context.getStreamCachingStrategy();
+
+        byte[] data = createData(100 * 1024);
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        // write in small chunks so the content spans several blocks
+        for (int i = 0; i < data.length; i += 1000) {
+            cos.write(data, i, Math.min(1000, data.length - i));
+        }
+        assertEquals(2 * BLOCK_SIZE, strategy.getSpoolOffHeapUsedSize());
+
+        StreamCache cache = cos.newStreamCache();
+        assertInstanceOf(OffHeapInputStreamCache.class, cache);
+        assertTrue(cache.inMemory());
+        assertEquals(data.length, cache.length());
+        assertArrayEquals(data, ((InputStream) cache).readAllBytes());
+
+        // can be read again after reset
+        cache.reset();
+        assertEquals('a', ((InputStream) cache).read());
+        assertEquals(1, cache.position());
+
+        exchange.getUnitOfWork().done(exchange);
+        assertEquals(0, strategy.getSpoolOffHeapUsedSize());
+
+        // the memory is released
+        assertThrows(IOException.class, () -> ((InputStream) cache).read());
+        cos.close();
+    }
+
+    @Test
+    public void testSpoolOffHeapCopy() throws Exception {
+        context.start();
+        StreamCachingStrategy strategy = context.getStreamCachingStrategy();
+
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        byte[] data = createData(1000);
+        cos.write(data);
+        StreamCache cache = cos.newStreamCache();
+
+        Exchange other = createExchange();
+        StreamCache copy = cache.copy(other);
+        assertInstanceOf(OffHeapInputStreamCache.class, copy);
+
+        // the memory is in use until both exchanges are done
+        exchange.getUnitOfWork().done(exchange);
+        assertEquals(BLOCK_SIZE, strategy.getSpoolOffHeapUsedSize());
+        assertArrayEquals(data, ((InputStream) copy).readAllBytes());
+
+        other.getUnitOfWork().done(other);
+        assertEquals(0, strategy.getSpoolOffHeapUsedSize());
+        cos.close();
+    }
+
+    @Test
+    public void testOffHeapBudgetExhaustedKeepInHeap() throws Exception {
+        context.start();
+        StreamCachingStrategy strategy = context.getStreamCachingStrategy();
+
+        byte[] data = createData(3 * BLOCK_SIZE);
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        for (int i = 0; i < data.length; i += 1000) {
+            cos.write(data, i, Math.min(1000, data.length - i));
+        }
+        // the off-heap memory is released as soon as the content overflows to heap memory
+        assertEquals(0, strategy.getSpoolOffHeapUsedSize());
+
+        StreamCache cache = cos.newStreamCache();
+        assertInstanceOf(InputStreamCache.class, cache);
+        assertArrayEquals(data, ((InputStream) cache).readAllBytes());
+
+        exchange.getUnitOfWork().done(exchange);
+        cos.close();
+    }
+
+    @Test
+    public void testOffHeapBudgetExhaustedSpoolToFile() throws Exception {
+        context.getStreamCachingStrategy().setSpoolEnabled(true);
+        context.getStreamCachingStrategy().setSpoolDirectory(testDirectory().toFile());
+        context.start();
+        StreamCachingStrategy strategy = context.getStreamCachingStrategy();
+
+        // the budget is in use by another stream
+        CachedOutputStream first = new CachedOutputStream(exchange);
+        first.write(createData(BLOCK_SIZE + 1));
+        assertEquals(2 * BLOCK_SIZE, strategy.getSpoolOffHeapUsedSize());
+
+        Exchange other = createExchange();
+        CachedOutputStream cos = new CachedOutputStream(other);
+        byte[] data = "This is a test string that is spooled to disk".getBytes(StandardCharsets.UTF_8);
+        cos.write(data);
+
+        StreamCache cache = cos.newStreamCache();
+        assertInstanceOf(FileInputStreamCache.class, cache);
+        assertArrayEquals(data, ((InputStream) cache).readAllBytes());
+        File dir = testDirectory().toFile();
+        String[] files = dir.list();
+        assertNotNull(files);
+        assertEquals(1, files.length);
+
+        ((InputStream) cache).close();
+        other.getUnitOfWork().done(other);
+        exchange.getUnitOfWork().done(exchange);
+        assertEquals(0, strategy.getSpoolOffHeapUsedSize());
+        first.close();
+        cos.close();
+    }
+
+    @Test
+    public void testOffHeapStatistics() throws Exception {
+        context.getStreamCachingStrategy().getStatistics().setStatisticsEnabled(true);
+        context.start();
+
+        // use a buffered stream as byte array streams are cached as-is
+        exchange.getMessage().setBody(new BufferedInputStream(new ByteArrayInputStream(createData(1000))));
+        StreamCache cache = context.getStreamCachingStrategy().cache(exchange);
+        assertInstanceOf(OffHeapInputStreamCache.class, cache);
+
+        StreamCachingStrategy.Statistics statistics = context.getStreamCachingStrategy().getStatistics();
+        assertEquals(1, statistics.getCacheOffHeapCounter());
+        assertEquals(1000, statistics.getCacheOffHeapSize());
+        assertEquals(0, statistics.getCacheMemoryCounter());
+        assertEquals(0, statistics.getCacheSpoolCounter());
+
+        exchange.getUnitOfWork().done(exchange);
+        assertEquals(0, context.getStreamCachingStrategy().getSpoolOffHeapUsedSize());
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.impl.engine.CompactHeadersMapFactory;
+import org.junit.jupiter.api.Test;
+
+public class CompactHeadersMapFactoryRouteTest extends ContextTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.getCamelContextExtension().setHeadersMapFactory(new CompactHeadersMapFactory());
+        return context;
+    }
+
+    @Test
+    public void testCompactHeaders() throws Exception {
+        MockEndpoint result = getMockEndpoint("mock:result");
+        result.expectedMessageCount(1);
+        result.expectedHeaderReceived("foo", 456);
+        result.expectedHeaderReceived("bar", "yes");
+        result.expectedHeaderReceived("Beer", "Carlsberg");
+        MockEndpoint other = getMockEndpoint("mock:other");
+        other.expectedMessageCount(1);
+        other.expectedHeaderReceived("FOO", 456);
+        other.expectedHeaderReceived("beer", "Tuborg");
+
+        Map<String, Object> headers = new HashMap<>();
+        headers.put("foo", 123);
+        headers.put("Bar", "yes");
+
+        template.sendBodyAndHeaders("direct:start", "Hello World", headers);
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start")
+                        .setHeader("FOO", constant(456))
+                        .multicast()
+                        .to("direct:result", "direct:other");
+
+                from("direct:result").setHeader("Beer", constant("Carlsberg")).to("mock:result");
+                from("direct:other").setHeader("beer", constant("Tuborg")).to("mock:other");
+            }
+        };
+    }
+
+}
@@ -21,20 +21,25 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.ContextTestSupport;
 import org.apache.camel.spi.ExecutorServiceManager;
 import org.apache.camel.spi.ThreadPoolProfile;
+import org.apache.camel.util.concurrent.BoundedExecutorService;
 import org.apache.camel.util.concurrent.SizedScheduledExecutorService;
 import org.apache.camel.util.concurrent.ThreadPoolRejectedPolicy;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.DisabledIfSystemProperty;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
 
 import static org.awaitility.Awaitility.await;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -480,6 +485,26 @@ public class DefaultExecutorServiceManagerTest extends ContextTestSupport {
         assertTrue(tp.isShutdown());
     }
 
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    public void testNewThreadPoolProfileVirtualThreads() throws Exception {
+        ThreadPoolProfile profile = new ThreadPoolProfile("virtual");
+        profile.setVirtualThreads(true);
+        profile.setMaxQueueSize(5);
+        context.getExecutorServiceManager().registerThreadPoolProfile(profile);
+
+        ExecutorService pool = context.getExecutorServiceManager().newThreadPool(this, "Cool", "virtual");
+        BoundedExecutorService bounded = assertInstanceOf(BoundedExecutorService.class, pool);
+        assertEquals(5, bounded.getMaxConcurrent());
+
+        // the task runs on its own virtual thread
+        AtomicReference<String> thread = new AtomicReference<>();
+        pool.submit(() -> thread.set(Thread.currentThread().toString())).get(5, TimeUnit.SECONDS);
+        assertTrue(thread.get().startsWith("VirtualThread"), thread.get());
+
+        context.getExecutorServiceManager().shutdown(pool);
+    }
+
     @Test
     public void testNewCachedThreadPool() {
         ExecutorService pool = context.getExecutorServiceManager().newCachedThreadPool(this, "Cool");
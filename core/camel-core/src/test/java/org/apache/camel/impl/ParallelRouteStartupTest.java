@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.Processor;
+import org.apache.camel.StartupStep;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.support.startup.BacklogStartupStepRecorder;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ParallelRouteStartupTest extends ContextTestSupport {
+
+    // the slow routes can only start when they are all starting at the same time
+    private final CountDownLatch latch = new CountDownLatch(3);
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.setParallelRouteStartup(true);
+        context.setParallelRouteStartupPoolSize(4);
+        context.getCamelContextExtension().setStartupStepRecorder(new BacklogStartupStepRecorder());
+        return context;
+    }
+
+    @Test
+    public void testParallelRouteStartup() throws Exception {
+        assertEquals(6, context.getRoutesSize());
+
+        getMockEndpoint("mock:a").expectedBodiesReceived("Hello World");
+        getMockEndpoint("mock:b").expectedBodiesReceived("Bye World");
+        template.sendBody("direct:start", "Hello World");
+        template.sendBody("direct:slow2", "Bye World");
+        assertMockEndpointsSatisfied();
+
+        // the routes are stopped in reverse startup order
+        List<String> order = context.getCamelContextExtension().getRouteStartupOrder().stream()
+                .map(o -> o.getRoute().getRouteId()).collect(Collectors.toList());
+        assertEquals(List.of("ordered1", "ordered2", "start", "slow1", "slow2", "slow3"), order);
+    }
+
+    @Test
+    public void testStartupSteps() {
+        List<StartupStep> steps = context.getCamelContextExtension().getStartupStepRecorder().steps()
+                .collect(Collectors.toList());
+
+        StartupStep parent = steps.stream().filter(s -> "Parallel Warmup Routes".equals(s.getDescription()))
+                .findFirst().orElseThrow();
+        List<StartupStep> routes = steps.stream().filter(s -> s.getParentId() == parent.getId())
+                .collect(Collectors.toList());
+        assertEquals(6, routes.size());
+        for (StartupStep step : routes) {
+            assertEquals(parent.getLevel() + 1, step.getLevel());
+            assertTrue(step.getDescription().startsWith("Warmup Route"), step.getDescription());
+        }
+
+        // the route sending to direct:slow1 waits for the route consuming from direct:slow1
+        StartupStep start = routes.stream().filter(s -> "start".equals(s.getName())).findFirst().orElseThrow();
+        assertEquals("Warmup Route (after slow1)", start.getDescription());
+        // and the routes without a startup order waits for the routes with a startup order
+        StartupStep slow2 = routes.stream().filter(s -> "slow2".equals(s.getName())).findFirst().orElseThrow();
+        assertEquals("Warmup Route (after ordered2)", slow2.getDescription());
+
+        assertEquals(1, steps.stream().filter(s -> "Parallel Start Routes".equals(s.getDescription())).count());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:ordered2").routeId("ordered2").startupOrder(2).to("log:ordered2");
+                from("direct:ordered1").routeId("ordered1").startupOrder(1).to("log:ordered1");
+
+                from("direct:start").routeId("start").to("direct:slow1");
+
+                from("direct:slow1").routeId("slow1").process(new SlowProcessor()).to("mock:a");
+                from("direct:slow2").routeId("slow2").process(new SlowProcessor()).to("mock:b");
+                from("direct:slow3").routeId("slow3").process(new SlowProcessor()).to("mock:c");
+            }
+        };
+    }
+
+    private class SlowProcessor extends ServiceSupport implements Processor {
+
+        @Override
+        protected void doStart() throws Exception {
+            latch.countDown();
+            if (!latch.await(20, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("The routes are not started in parallel");
+            }
+        }
+
+        @Override
+        public void process(Exchange exchange) {
+            // noop
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import java.util.Iterator;
+import java.util.Map;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.TypeConverter;
+import org.apache.camel.spi.TypeConverterRegistry;
+import org.apache.camel.spi.TypeConvertible;
+import org.apache.camel.support.TypeConverterSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TypeConverterRegistryTopConversionsTest extends ContextTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = new DefaultCamelContext(false);
+        context.setTypeConverterStatisticsEnabled(true);
+        return context;
+    }
+
+    @Override
+    public boolean isUseRouteBuilder() {
+        return false;
+    }
+
+    @Test
+    public void testTopConversions() {
+        TypeConverter tc = context.getTypeConverter();
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i, tc.convertTo(int.class, String.valueOf(i)));
+        }
+        for (int i = 0; i < 5; i++) {
+            assertEquals(5L, tc.convertTo(Long.class, "5"));
+        }
+        assertEquals("123", tc.convertTo(String.class, new StringBuilder("123")));
+
+        TypeConverterRegistry reg = context.getTypeConverterRegistry();
+        Map<TypeConvertible<?, ?>, Long> top = reg.getStatistics().getTopConversions(2);
+        assertEquals(2, top.size());
+
+        Iterator<Map.Entry<TypeConvertible<?, ?>, Long>> it = top.entrySet().iterator();
+        Map.Entry<TypeConvertible<?, ?>, Long> first = it.next();
+        assertSame(String.class, first.getKey().getFrom());
+        assertSame(Integer.class, first.getKey().getTo());
+        // the first conversion is looked up before it is in the table
+        assertTrue(first.getValue() >= 9, "Should have at least 9 conversions, was: " + first.getValue());
+        Map.Entry<TypeConvertible<?, ?>, Long> second = it.next();
+        assertSame(String.class, second.getKey().getFrom());
+        assertSame(Long.class, second.getKey().getTo());
+
+        reg.getStatistics().reset();
+        assertTrue(reg.getStatistics().getTopConversions(10).isEmpty());
+    }
+
+    @Test
+    public void testMissThenAddTypeConverter() {
+        TypeConverter tc = context.getTypeConverter();
+        MyOrder order = new MyOrder("123");
+
+        // no converter so its a miss (which is remembered)
+        assertNull(tc.tryConvertTo(Long.class, order));
+        assertNull(tc.tryConvertTo(Long.class, order));
+
+        // the miss must not be remembered when a converter is added
+        context.getTypeConverterRegistry().addTypeConverter(Long.class, MyOrder.class, new TypeConverterSupport() {
+            @Override
+            public <T> T convertTo(Class<T> type, Exchange exchange, Object value) {
+                return type.cast(Long.valueOf(((MyOrder) value).id));
+            }
+        });
+        assertEquals(123L, tc.convertTo(Long.class, order));
+        assertEquals(123L, tc.convertTo(Long.class, order));
+
+        // and the converter must be gone when removed
+        assertTrue(context.getTypeConverterRegistry().removeTypeConverter(Long.class, MyOrder.class));
+        assertNull(tc.tryConvertTo(Long.class, order));
+    }
+
+    private static final class MyOrder {
+        private final String id;
+
+        private MyOrder(String id) {
+            this.id = id;
+        }
+    }
+}
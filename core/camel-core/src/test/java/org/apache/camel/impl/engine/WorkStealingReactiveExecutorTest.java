@@ -0,0 +1,207 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.camel.ContextTestSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class WorkStealingReactiveExecutorTest extends ContextTestSupport {
+
+    private WorkStealingReactiveExecutor executor;
+
+    @Override
+    public boolean isUseRouteBuilder() {
+        return false;
+    }
+
+    @BeforeEach
+    public void createExecutor() {
+        executor = new WorkStealingReactiveExecutor();
+        executor.setCamelContext(context);
+        executor.setStealingThreads(2);
+        executor.setStatisticsEnabled(true);
+        executor.start();
+    }
+
+    @AfterEach
+    public void stopExecutor() {
+        executor.stop();
+    }
+
+    @Test
+    public void testStealBehindSlowTask() {
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicReference<Thread> slowThread = new AtomicReference<>();
+        AtomicReference<Thread> fastThread = new AtomicReference<>();
+        List<Boolean> done = new ArrayList<>();
+
+        executor.schedule(() -> {
+            // two flows that are started as main flows (such as two exchanges)
+            executor.scheduleMain(() -> {
+                executor.schedule(() -> {
+                    fastThread.set(Thread.currentThread());
+                    latch.countDown();
+                });
+                // the second flow runs before the waiting task of the first flow
+                executor.scheduleMain(() -> executor.schedule(() -> {
+                    slowThread.set(Thread.currentThread());
+                    try {
+                        // the slow task waits for the task that is queued behind it
+                        done.add(latch.await(20, TimeUnit.SECONDS));
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }));
+            });
+        });
+
+        assertEquals(List.of(true), done);
+        assertSame(Thread.currentThread(), slowThread.get());
+        assertNotSame(Thread.currentThread(), fastThread.get());
+        assertTrue(executor.getSteals() >= 1);
+        assertTrue(executor.getStolenTasks() >= 1);
+        assertEquals(0, executor.getPendingTasks());
+        assertEquals(0, executor.getBusyWorkers());
+    }
+
+    @Test
+    public void testNotStealFromRunningFlow() {
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicReference<Thread> thread = new AtomicReference<>();
+        List<Boolean> done = new ArrayList<>();
+
+        executor.schedule(() -> {
+            // the tasks scheduled by the same flow may belong to the same exchange
+            executor.schedule(() -> executor.schedule(() -> {
+                thread.set(Thread.currentThread());
+                latch.countDown();
+            }));
+            executor.schedule(() -> {
+                try {
+                    // the task of the same flow cannot be stolen while this task is running
+                    done.add(latch.await(500, TimeUnit.MILLISECONDS));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        });
+
+        assertEquals(List.of(false), done);
+        assertSame(Thread.currentThread(), thread.get());
+        assertEquals(0, executor.getSteals());
+    }
+
+    @Test
+    public void testStealersParkedAndStoppedOnRestart() throws Exception {
+        executor.stop();
+        executor.start();
+
+        String name = "(" + context.getName() + ")";
+        // the idle stealing threads are parked until there is work to steal, and the threads from before the
+        // restart are terminated
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> {
+            List<Thread> threads = Thread.getAllStackTraces().keySet().stream()
+                    .filter(t -> t.getName().contains(name) && t.getName().contains("ReactiveExecutorStealer"))
+                    .toList();
+            assertEquals(2, threads.size());
+            for (Thread t : threads) {
+                assertEquals(Thread.State.WAITING, t.getState());
+            }
+        });
+    }
+
+    @Test
+    public void testOrderPerFlow() throws Exception {
+        int flows = 20;
+        int steps = 10;
+        List<List<Integer>> results = new ArrayList<>();
+        CountDownLatch latch = new CountDownLatch(flows);
+
+        // each flow starts the next flow as a main flow, so the flows are waiting behind each other
+        Runnable start = null;
+        for (int i = 0; i < flows; i++) {
+            List<Integer> result = new ArrayList<>();
+            results.add(result);
+            Step first = new Step(result, 0, steps, latch, start);
+            start = () -> executor.scheduleMain(first);
+        }
+        executor.schedule(start);
+
+        assertTrue(latch.await(20, TimeUnit.SECONDS));
+        for (List<Integer> result : results) {
+            synchronized (result) {
+                assertEquals(steps, result.size());
+                for (int i = 0; i < steps; i++) {
+                    assertEquals(i, result.get(i));
+                }
+            }
+        }
+    }
+
+    private final class Step implements Runnable {
+        private final List<Integer> result;
+        private final int step;
+        private final int steps;
+        private final CountDownLatch latch;
+        private final Runnable next;
+
+        private Step(List<Integer> result, int step, int steps, CountDownLatch latch, Runnable next) {
+            this.result = result;
+            this.step = step;
+            this.steps = steps;
+            this.latch = latch;
+            this.next = next;
+        }
+
+        @Override
+        public void run() {
+            synchronized (result) {
+                result.add(step);
+            }
+            if (step % 3 == 0) {
+                // make some of the steps slow so there are tasks waiting to be stolen
+                try {
+                    Thread.sleep(2);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            if (step + 1 < steps) {
+                executor.schedule(new Step(result, step + 1, steps, latch, null));
+            } else {
+                latch.countDown();
+            }
+            if (next != null) {
+                next.run();
+            }
+        }
+    }
+}
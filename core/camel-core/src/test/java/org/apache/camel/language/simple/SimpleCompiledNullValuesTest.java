@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.language.simple;
+
+import org.apache.camel.LanguageTestSupport;
+import org.apache.camel.Predicate;
+import org.apache.camel.spi.Language;
+import org.apache.camel.support.ExpressionToPredicateAdapter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Tests that compiled predicates give the same results as interpreted predicates when either side is null.
+ */
+public class SimpleCompiledNullValuesTest extends LanguageTestSupport {
+
+    private static final Object[] INTERPRETED = { null, true, false, false, false, false };
+    private static final Object[] COMPILED = { null, true, false, false, false, true };
+
+    @Test
+    public void testCompiledOption() {
+        Predicate predicate = context.resolveLanguage("simple").createPredicate("${header.left} < ${header.right}", COMPILED);
+        assertFalse(predicate instanceof ExpressionToPredicateAdapter);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "==", "=~", "!=", "!=~", "<", "<=", ">", ">=", "contains", "!contains", "~~", "!~~",
+            "startsWith", "!startsWith", "endsWith", "!endsWith", "in", "!in" })
+    public void testNullValues(String operator) {
+        assertSameResults("${header.left} " + operator + " ${header.right}", null, null);
+        assertSameResults("${header.left} " + operator + " ${header.right}", null, "5");
+        assertSameResults("${header.left} " + operator + " ${header.right}", "5", null);
+        assertSameResults("${header.left} " + operator + " '5'", null, null);
+        assertSameResults("${header.left} " + operator + " '5'", "5", null);
+    }
+
+    private void assertSameResults(String expression, Object left, Object right) {
+        exchange.getIn().setHeader("left", left);
+        exchange.getIn().setHeader("right", right);
+
+        Language simple = context.resolveLanguage("simple");
+        boolean expected = simple.createPredicate(expression, INTERPRETED).matches(exchange);
+        boolean actual = simple.createPredicate(expression, COMPILED).matches(exchange);
+        assertEquals(expected, actual, expression + " with left=" + left + " and right=" + right);
+    }
+
+    @Override
+    protected String getLanguageName() {
+        return "simple";
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.language.simple;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Predicate;
+import org.apache.camel.support.ExpressionToPredicateAdapter;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the operator tests with the simple language in compiled mode.
+ */
+public class SimpleCompiledOperatorTest extends SimpleOperatorTest {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        SimpleLanguage simple = (SimpleLanguage) context.resolveLanguage("simple");
+        simple.setCompiled(true);
+        return context;
+    }
+
+    @Test
+    public void testCompiledPredicate() {
+        Predicate predicate
+                = context.resolveLanguage("simple").createPredicate("${header.bar} > 100 && ${header.foo} == 'abc'");
+        // the binary and logical operators are compiled and not adapted from the interpreted expressions
+        assertFalse(predicate instanceof ExpressionToPredicateAdapter);
+
+        exchange.getIn().setHeader("bar", 123);
+        assertTrue(predicate.matches(exchange));
+        exchange.getIn().setHeader("bar", 99L);
+        assertFalse(predicate.matches(exchange));
+        exchange.getIn().setHeader("bar", "150");
+        assertTrue(predicate.matches(exchange));
+    }
+
+    @Test
+    public void testCompiledFallback() {
+        // the regex operator is interpreted but the logical operator is still compiled
+        Predicate predicate
+                = context.resolveLanguage("simple").createPredicate("${header.foo} regex '^a.*' || ${header.bar} < 0");
+        assertFalse(predicate instanceof ExpressionToPredicateAdapter);
+        assertTrue(predicate.matches(exchange));
+
+        // a unary operator is interpreted
+        exchange.getIn().setHeader("num", 5);
+        predicate = context.resolveLanguage("simple").createPredicate("${header.num}++ == 6");
+        assertTrue(predicate.matches(exchange));
+    }
+
+    @Test
+    public void testCompiledInConvertsValues() {
+        exchange.getIn().setHeader("num", 2);
+        assertPredicate("${header.num} in '1,2,3'", true);
+        assertPredicate("${header.num} !in '1,2,3'", false);
+        assertPredicate("${header.num} in '4,5'", false);
+        assertPredicate("${header.unknown} in '4,5'", false);
+        assertPredicate("${header.unknown} !in '4,5'", true);
+    }
+
+    @Test
+    public void testCompiledInNotConvertibleValue() {
+        // a value that cannot be converted to the type of the left value does not match
+        exchange.getIn().setHeader("num", 2);
+        assertPredicate("${header.num} in 'a,2'", true);
+        assertPredicate("${header.num} in 'a,b'", false);
+        assertPredicate("${header.num} !in 'a,b'", true);
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.model.MulticastDefinition;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Timeout(30)
+public class MulticastParallelMaxInflightTest extends ContextTestSupport {
+
+    private static final int DESTINATIONS = 20;
+    private static final int MAX_INFLIGHT = 3;
+
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger maxActive = new AtomicInteger();
+
+    @Test
+    public void testMulticastParallelMaxInflight() throws Exception {
+        getMockEndpoint("mock:destination").expectedMessageCount(DESTINATIONS * 3);
+        getMockEndpoint("mock:result").expectedBodiesReceived("Hello", "World", "Bye");
+
+        template.sendBody("direct:start", "Hello");
+        template.sendBody("direct:start", "World");
+        template.sendBody("direct:start", "Bye");
+
+        assertMockEndpointsSatisfied();
+        assertTrue(maxActive.get() <= MAX_INFLIGHT, "Max active was " + maxActive.get());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                MulticastDefinition multicast = from("direct:start")
+                        .multicast().parallelProcessing().maxInflight(MAX_INFLIGHT);
+                for (int i = 0; i < DESTINATIONS; i++) {
+                    multicast.to("direct:destination");
+                }
+                multicast.end().to("mock:result");
+
+                from("direct:destination")
+                        .process(e -> {
+                            int current = active.incrementAndGet();
+                            maxActive.accumulateAndGet(current, Math::max);
+                            try {
+                                Thread.sleep(5);
+                            } finally {
+                                active.decrementAndGet();
+                            }
+                        })
+                        .to("mock:destination");
+            }
+        };
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.AggregationStrategy;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Timeout(30)
+public class SplitParallelMaxInflightTest extends ContextTestSupport {
+
+    private static final int SIZE = 200;
+    private static final int MAX_INFLIGHT = 5;
+
+    private final AtomicInteger read = new AtomicInteger();
+    private final AtomicInteger aggregated = new AtomicInteger();
+    private final AtomicInteger maxOutstanding = new AtomicInteger();
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger maxActive = new AtomicInteger();
+
+    @Test
+    public void testSplitStreamingParallelMaxInflight() throws Exception {
+        getMockEndpoint("mock:line").expectedMessageCount(SIZE);
+        getMockEndpoint("mock:result").expectedMessageCount(1);
+
+        template.sendBody("direct:streaming", new CountingIterator());
+
+        assertMockEndpointsSatisfied();
+        assertEquals(SIZE, aggregated.get());
+        assertTrue(maxActive.get() <= MAX_INFLIGHT, "Max active was " + maxActive.get());
+        assertTrue(maxOutstanding.get() <= MAX_INFLIGHT, "Max outstanding was " + maxOutstanding.get());
+    }
+
+    @Test
+    public void testSplitOrderedParallelMaxInflight() throws Exception {
+        getMockEndpoint("mock:line").expectedMessageCount(SIZE);
+        getMockEndpoint("mock:result").expectedMessageCount(1);
+        getMockEndpoint("mock:result").expectedBodiesReceived(SIZE - 1);
+
+        template.sendBody("direct:ordered", new CountingIterator());
+
+        assertMockEndpointsSatisfied();
+        assertEquals(SIZE, aggregated.get());
+        assertTrue(maxActive.get() <= MAX_INFLIGHT, "Max active was " + maxActive.get());
+        assertTrue(maxOutstanding.get() <= MAX_INFLIGHT, "Max outstanding was " + maxOutstanding.get());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                AggregationStrategy strategy = (oldExchange, newExchange) -> {
+                    aggregated.incrementAndGet();
+                    return newExchange;
+                };
+
+                from("direct:streaming")
+                        .split(body(), strategy).streaming().parallelProcessing().maxInflight(MAX_INFLIGHT)
+                            .process(e -> track(e))
+                            .to("mock:line")
+                        .end()
+                        .to("mock:result");
+
+                from("direct:ordered")
+                        .split(body(), strategy).parallelProcessing().maxInflight(MAX_INFLIGHT)
+                            .process(e -> track(e))
+                            .to("mock:line")
+                        .end()
+                        .to("mock:result");
+            }
+        };
+    }
+
+    private void track(Exchange exchange) throws InterruptedException {
+        int current = active.incrementAndGet();
+        maxActive.accumulateAndGet(current, Math::max);
+        try {
+            // let the slow messages pile up if there was no limit
+            Thread.sleep(exchange.getMessage().getBody(Integer.class) % 7 == 0 ? 20 : 1);
+        } finally {
+            active.decrementAndGet();
+        }
+    }
+
+    private final class CountingIterator implements Iterator<Integer> {
+        private int index;
+
+        @Override
+        public boolean hasNext() {
+            return index < SIZE;
+        }
+
+        @Override
+        public Integer next() {
+            // the number of split messages read but not yet aggregated
+            int outstanding = read.incrementAndGet() - aggregated.get();
+            maxOutstanding.accumulateAndGet(outstanding, Math::max);
+            return index++;
+        }
+    }
+}
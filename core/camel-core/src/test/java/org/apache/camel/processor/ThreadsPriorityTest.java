@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelExecutionException;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.jupiter.api.Test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ThreadsPriorityTest extends ContextTestSupport {
+
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch latch = new CountDownLatch(1);
+    private final List<String> expired = new CopyOnWriteArrayList<>();
+
+    @Test
+    public void testPriorityAndDeadline() throws Exception {
+        getMockEndpoint("mock:result").expectedBodiesReceived("First", "High", "Deadline", "Low");
+
+        // the first message keeps the only thread busy, so the other messages are queued
+        template.asyncSendBody("direct:start", "First");
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        long now = System.currentTimeMillis();
+        send("Low", Map.of(), 1);
+        send("Deadline", Map.of("deadline", now + 60000), 2);
+        send("High", Map.of("priority", 5), 3);
+        send("Expired", Map.of("deadline", now + 100), 4);
+
+        // let the deadline expire before the thread is free
+        Thread.sleep(200);
+        latch.countDown();
+
+        assertMockEndpointsSatisfied();
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> assertEquals(List.of("Expired"), expired));
+    }
+
+    @Test
+    public void testExpiredWithoutHandler() {
+        CamelExecutionException e = assertThrows(CamelExecutionException.class,
+                () -> template.sendBodyAndHeader("direct:noHandler", "Hello World", "deadline",
+                        System.currentTimeMillis() - 1000));
+        assertInstanceOf(RejectedExecutionException.class, e.getCause());
+    }
+
+    private void send(String body, Map<String, Object> headers, int pending) {
+        template.asyncRequestBodyAndHeaders("direct:start", body, headers);
+        ThreadsProcessor threads = context.getProcessor("threads", ThreadsProcessor.class);
+        await().atMost(5, TimeUnit.SECONDS).until(() -> threads.getPendingExchanges() == pending);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start")
+                        .threads(1, 1).maxQueueSize(-1).priorityHeader("priority").deadlineHeader("deadline")
+                        .onExpired(e -> expired.add(e.getMessage().getBody(String.class))).id("threads")
+                        .process(e -> {
+                            if ("First".equals(e.getMessage().getBody())) {
+                                started.countDown();
+                                latch.await(10, TimeUnit.SECONDS);
+                            }
+                        })
+                        .to("mock:result");
+
+                from("direct:noHandler")
+                        .threads(1).deadlineHeader("deadline")
+                        .to("mock:noHandler");
+            }
+        };
+    }
+}
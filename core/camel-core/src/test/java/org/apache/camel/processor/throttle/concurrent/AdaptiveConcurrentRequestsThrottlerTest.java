@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.throttle.concurrent;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.model.ThrottlingMode;
+import org.apache.camel.processor.AdaptiveConcurrentRequestsThrottler;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AdaptiveConcurrentRequestsThrottlerTest extends ContextTestSupport {
+
+    @Test
+    public void testLimitBoundedByMaximum() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(1);
+
+        template.sendBody("direct:max", "Hello World");
+
+        assertMockEndpointsSatisfied();
+
+        AdaptiveConcurrentRequestsThrottler throttler = getThrottler("max");
+        assertEquals("AdaptiveConcurrentRequests", throttler.getMode());
+        assertEquals(4, throttler.getCurrentMaximumRequests());
+    }
+
+    @Test
+    public void testBackoffOnFailure() {
+        for (int i = 0; i < 5; i++) {
+            assertThrows(Exception.class, () -> template.sendBody("direct:fail", "Hello World"));
+        }
+
+        // starts at 10 and is multiplied by 0.9 for every failure
+        AdaptiveConcurrentRequestsThrottler throttler = getThrottler("fail");
+        assertEquals(5, throttler.getCurrentMaximumRequests());
+    }
+
+    @Test
+    public void testIncreaseWhenHealthy() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(40);
+
+        ExecutorService executor = Executors.newFixedThreadPool(20);
+        try {
+            for (int i = 0; i < 40; i++) {
+                executor.execute(() -> template.sendBody("direct:start", "Hello World"));
+            }
+            assertMockEndpointsSatisfied();
+        } finally {
+            shutdownAndAwait(executor);
+        }
+
+        AdaptiveConcurrentRequestsThrottler throttler = getThrottler("start");
+        assertTrue(throttler.getCurrentMaximumRequests() > 10,
+                "Limit should have increased: " + throttler.getCurrentMaximumRequests());
+        assertTrue(throttler.getCurrentMaximumRequests() <= 100);
+        assertTrue(throttler.getMinRoundTripTime() > 0);
+        assertTrue(throttler.getRoundTripTime() >= throttler.getMinRoundTripTime());
+    }
+
+    private AdaptiveConcurrentRequestsThrottler getThrottler(String id) {
+        return context.getProcessor(id, AdaptiveConcurrentRequestsThrottler.class);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:max")
+                        .throttle(4).mode(ThrottlingMode.AdaptiveConcurrentRequests).id("max")
+                        .to("mock:result");
+
+                from("direct:fail")
+                        .throttle(100).adaptiveConcurrentRequestsMode().id("fail")
+                        .throwException(new IllegalArgumentException("Forced"));
+
+                from("direct:start")
+                        .throttle(100).adaptiveConcurrentRequestsMode().adaptiveLatencyTolerance(10).id("start")
+                        .delay(50)
+                        .to("mock:result");
+            }
+        };
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AsyncBatcherTest extends ContextTestSupport {
+
+    private final List<List<Exchange>> batches = new CopyOnWriteArrayList<>();
+
+    @Test
+    public void testCompleteBySize() throws Exception {
+        AsyncBatcher batcher = new AsyncBatcher(context, exchanges -> {
+            batches.add(exchanges);
+            for (Exchange exchange : exchanges) {
+                exchange.getMessage().setBody("Bye " + exchange.getMessage().getBody());
+            }
+        });
+        batcher.setMaxBatchSize(3);
+        batcher.setLingerTime(60000);
+        batcher.start();
+
+        List<Boolean> done = new CopyOnWriteArrayList<>();
+        List<Exchange> exchanges = createExchanges(3);
+        assertFalse(batcher.offer(exchanges.get(0), done::add));
+        assertFalse(batcher.offer(exchanges.get(1), done::add));
+        assertEquals(2, batcher.getPendingSize());
+        // the last exchange completes the batch which is processed by the calling thread
+        assertTrue(batcher.offer(exchanges.get(2), done::add));
+
+        assertEquals(1, batches.size());
+        assertEquals(exchanges, batches.get(0));
+        assertEquals(List.of(false, false, true), done);
+        assertEquals("Bye 2", exchanges.get(2).getMessage().getBody());
+        assertEquals(0, batcher.getPendingSize());
+        assertEquals(1, batcher.getBatchCount());
+        assertEquals(3, batcher.getExchangeCount());
+
+        batcher.stop();
+    }
+
+    @Test
+    public void testCompleteByLingerTime() throws Exception {
+        AsyncBatcher batcher = new AsyncBatcher(context, batches::add);
+        batcher.setMaxBatchSize(100);
+        batcher.setLingerTime(50);
+        batcher.start();
+
+        CountDownLatch latch = new CountDownLatch(2);
+        List<Exchange> exchanges = createExchanges(2);
+        for (Exchange exchange : exchanges) {
+            assertFalse(batcher.offer(exchange, doneSync -> latch.countDown()));
+        }
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals(1, batches.size());
+        assertEquals(exchanges, batches.get(0));
+
+        batcher.stop();
+    }
+
+    @Test
+    public void testCompleteByBytes() throws Exception {
+        AsyncBatcher batcher = new AsyncBatcher(context, batches::add);
+        batcher.setMaxBatchSize(100);
+        batcher.setMaxBatchBytes(10);
+        batcher.setSizeEstimator(e -> e.getMessage().getBody(String.class).length());
+        batcher.setLingerTime(60000);
+        batcher.start();
+
+        Exchange first = createExchangeWithBody("Hello");
+        Exchange second = createExchangeWithBody("World");
+        assertFalse(batcher.offer(first, doneSync -> {
+        }));
+        assertTrue(batcher.offer(second, doneSync -> {
+        }));
+
+        assertEquals(1, batches.size());
+        assertEquals(List.of(first, second), batches.get(0));
+
+        batcher.stop();
+    }
+
+    @Test
+    public void testExceptionPerExchange() throws Exception {
+        AsyncBatcher batcher = new AsyncBatcher(context, exchanges -> {
+            exchanges.get(1).setException(new IllegalArgumentException("Forced"));
+        });
+        batcher.setMaxBatchSize(3);
+        batcher.setLingerTime(60000);
+        batcher.start();
+
+        List<Exchange> exchanges = createExchanges(3);
+        for (Exchange exchange : exchanges) {
+            batcher.offer(exchange, doneSync -> {
+            });
+        }
+
+        assertNull(exchanges.get(0).getException());
+        assertEquals("Forced", exchanges.get(1).getException().getMessage());
+        assertNull(exchanges.get(2).getException());
+
+        batcher.stop();
+    }
+
+    @Test
+    public void testExceptionFailsBatch() throws Exception {
+        IllegalStateException cause = new IllegalStateException("Forced");
+        AsyncBatcher batcher = new AsyncBatcher(context, exchanges -> {
+            throw cause;
+        });
+        batcher.setMaxBatchSize(2);
+        batcher.setLingerTime(60000);
+        batcher.start();
+
+        List<Exchange> exchanges = createExchanges(2);
+        for (Exchange exchange : exchanges) {
+            batcher.offer(exchange, doneSync -> {
+            });
+        }
+
+        assertSame(cause, exchanges.get(0).getException());
+        assertSame(cause, exchanges.get(1).getException());
+
+        batcher.stop();
+    }
+
+    @Test
+    public void testStopProcessesPendingBatch() throws Exception {
+        AsyncBatcher batcher = new AsyncBatcher(context, batches::add);
+        batcher.setMaxBatchSize(100);
+        batcher.setLingerTime(60000);
+        batcher.start();
+
+        List<Boolean> done = new CopyOnWriteArrayList<>();
+        AsyncCallback callback = done::add;
+        batcher.offer(createExchangeWithBody("Hello"), callback);
+        batcher.offer(createExchangeWithBody("World"), callback);
+        assertTrue(batches.isEmpty());
+
+        batcher.stop();
+        assertEquals(1, batches.size());
+        assertEquals(2, batches.get(0).size());
+        assertEquals(List.of(false, false), done);
+
+        // when stopped then exchanges are processed on their own
+        assertTrue(batcher.offer(createExchangeWithBody("Bye"), callback));
+        assertEquals(2, batches.size());
+    }
+
+    private List<Exchange> createExchanges(int count) {
+        List<Exchange> answer = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            answer.add(createExchangeWithBody(Integer.toString(i)));
+        }
+        return answer;
+    }
+}
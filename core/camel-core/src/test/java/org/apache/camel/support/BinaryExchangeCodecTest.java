@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.InvalidClassException;
+import java.io.StreamCorruptedException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BinaryExchangeCodecTest extends ContextTestSupport {
+
+    private final BinaryExchangeCodec codec = new BinaryExchangeCodec();
+
+    @Test
+    public void testRoundTrip() throws Exception {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody("Hello World".getBytes(StandardCharsets.UTF_8));
+        exchange.getIn().setHeader("string", "héllo");
+        exchange.getIn().setHeader("int", -123);
+        exchange.getIn().setHeader("long", Long.MAX_VALUE);
+        exchange.getIn().setHeader("bool", true);
+        exchange.getIn().setHeader("double", 1.5d);
+        exchange.getIn().setHeader("float", 2.5f);
+        exchange.getIn().setHeader("short", (short) 7);
+        exchange.getIn().setHeader("byte", (byte) -1);
+        exchange.getIn().setHeader("char", 'c');
+        exchange.getIn().setHeader("date", new Date(1234567890L));
+        exchange.getIn().setHeader("bigInteger", new BigInteger("-123456789012345678901234567890"));
+        exchange.getIn().setHeader("bigDecimal", new BigDecimal("12345.6789"));
+        exchange.setProperty("counter", 5);
+        exchange.setVariable("name", "Camel");
+        exchange.setException(new IllegalArgumentException("Forced"));
+
+        DefaultExchangeHolder holder = DefaultExchangeHolder.marshal(exchange, true, true);
+        byte[] data = encode(codec, holder);
+        assertTrue(BinaryExchangeCodec.isBinaryFormat(data));
+
+        Exchange answer = decode(data, null);
+        assertEquals(exchange.getExchangeId(), answer.getExchangeId());
+        assertArrayEquals("Hello World".getBytes(StandardCharsets.UTF_8), answer.getIn().getBody(byte[].class));
+        assertEquals("héllo", answer.getIn().getHeader("string"));
+        assertEquals(-123, answer.getIn().getHeader("int"));
+        assertEquals(Long.MAX_VALUE, answer.getIn().getHeader("long"));
+        assertEquals(Boolean.TRUE, answer.getIn().getHeader("bool"));
+        assertEquals(1.5d, answer.getIn().getHeader("double"));
+        assertEquals(2.5f, answer.getIn().getHeader("float"));
+        assertEquals((short) 7, answer.getIn().getHeader("short"));
+        assertEquals((byte) -1, answer.getIn().getHeader("byte"));
+        assertEquals('c', answer.getIn().getHeader("char"));
+        assertEquals(new Date(1234567890L), answer.getIn().getHeader("date"));
+        assertEquals(new BigInteger("-123456789012345678901234567890"), answer.getIn().getHeader("bigInteger"));
+        assertEquals(new BigDecimal("12345.6789"), answer.getIn().getHeader("bigDecimal"));
+        assertEquals(5, answer.getProperty("counter"));
+        assertEquals("Camel", answer.getVariable("name"));
+        assertInstanceOf(IllegalArgumentException.class, answer.getException());
+        assertEquals("Forced", answer.getException().getMessage());
+    }
+
+    @Test
+    public void testSerializableValue() throws Exception {
+        List<String> list = new ArrayList<>();
+        list.add("A");
+        list.add("B");
+
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody(list);
+
+        Exchange answer = decode(encode(codec, DefaultExchangeHolder.marshal(exchange)), null);
+        assertEquals(list, answer.getIn().getBody());
+    }
+
+    @Test
+    public void testSerializableValueFiltered() throws Exception {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody("Hello World");
+        exchange.getIn().setHeader("uri", URI.create("http://example.com/"));
+
+        byte[] data = encode(codec, DefaultExchangeHolder.marshal(exchange, false, true));
+        assertThrows(InvalidClassException.class, () -> decode(data, null));
+
+        Exchange answer = decode(data, "java.**;org.apache.camel.**;!*");
+        assertEquals(URI.create("http://example.com/"), answer.getIn().getHeader("uri"));
+    }
+
+    @Test
+    public void testReadJavaSerialization() throws Exception {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody("Hello World");
+        exchange.getIn().setHeader("foo", 123);
+
+        byte[] data = encode(new JavaSerializationExchangeCodec(), DefaultExchangeHolder.marshal(exchange));
+        Exchange answer = decode(data, null);
+        assertEquals("Hello World", answer.getIn().getBody());
+        assertEquals(123, answer.getIn().getHeader("foo"));
+    }
+
+    @Test
+    public void testSmallerThanJavaSerialization() throws Exception {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody("Hello World");
+        for (int i = 0; i < 10; i++) {
+            exchange.getIn().setHeader("header" + i, i);
+        }
+        DefaultExchangeHolder holder = DefaultExchangeHolder.marshal(exchange);
+
+        int binary = encode(codec, holder).length;
+        int java = encode(new JavaSerializationExchangeCodec(), holder).length;
+        assertTrue(binary * 2 < java, "Binary size " + binary + " should be much smaller than " + java);
+    }
+
+    @Test
+    public void testEmptyExchange() throws Exception {
+        Exchange exchange = new DefaultExchange(context);
+
+        Exchange answer = decode(encode(codec, DefaultExchangeHolder.marshal(exchange, false, false, false)), null);
+        assertNull(answer.getIn().getBody());
+        assertTrue(answer.getIn().getHeaders().isEmpty());
+        assertNull(answer.getException());
+    }
+
+    @Test
+    public void testUnsupportedVersion() {
+        byte[] data = new byte[] { (byte) BinaryExchangeCodec.MAGIC1, (byte) BinaryExchangeCodec.MAGIC2, 99, 0 };
+        assertThrows(StreamCorruptedException.class, () -> decode(data, null));
+    }
+
+    @Test
+    public void testCorruptLength() {
+        // a string with a length of 2000000000 bytes but no data
+        byte[] string = new byte[] {
+                (byte) BinaryExchangeCodec.MAGIC1, (byte) BinaryExchangeCodec.MAGIC2, BinaryExchangeCodec.VERSION,
+                1, (byte) 0x80, (byte) 0xa8, (byte) 0xd6, (byte) 0xb9, 0x07 };
+        assertThrows(EOFException.class, () -> decode(string, null));
+
+        // headers with a size of 2000000000 entries but no data
+        byte[] map = new byte[] {
+                (byte) BinaryExchangeCodec.MAGIC1, (byte) BinaryExchangeCodec.MAGIC2, BinaryExchangeCodec.VERSION,
+                0, 0, 0, (byte) 0x80, (byte) 0xa8, (byte) 0xd6, (byte) 0xb9, 0x07 };
+        assertThrows(EOFException.class, () -> decode(map, null));
+    }
+
+    private static byte[] encode(ExchangeCodec codec, DefaultExchangeHolder holder) throws Exception {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        codec.encode(holder, bos);
+        return bos.toByteArray();
+    }
+
+    private Exchange decode(byte[] data, String deserializationFilter) throws Exception {
+        DefaultExchangeHolder holder = codec.decode(context, new ByteArrayInputStream(data), deserializationFilter);
+        Exchange answer = new DefaultExchange(context);
+        DefaultExchangeHolder.unmarshal(answer, holder);
+        return answer;
+    }
+}
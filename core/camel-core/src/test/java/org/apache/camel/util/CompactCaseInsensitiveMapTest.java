@@ -0,0 +1,218 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CompactCaseInsensitiveMapTest {
+
+    @Test
+    public void testLookupCaseAgnostic() {
+        Map<String, Object> map = new CompactCaseInsensitiveMap();
+        assertNull(map.get("foo"));
+
+        map.put("foo", "cheese");
+        map.put("Bar", "beer");
+
+        assertEquals("cheese", map.get("foo"));
+        assertEquals("cheese", map.get("Foo"));
+        assertEquals("cheese", map.get("FOO"));
+        assertEquals("beer", map.get("bar"));
+        assertNull(map.get("unknown"));
+        assertEquals("none", map.getOrDefault("unknown", "none"));
+    }
+
+    @Test
+    public void testSetAndRemoveWithDifferentCase() {
+        Map<String, Object> map = new CompactCaseInsensitiveMap();
+        map.put("Foo", "cheese");
+        assertEquals("cheese", map.put("FOO", "cake"));
+        assertEquals(1, map.size());
+
+        // the original key case is preserved
+        assertEquals("Foo", map.keySet().iterator().next());
+
+        assertEquals("cake", map.remove("foo"));
+        assertTrue(map.isEmpty());
+        assertNull(map.remove("foo"));
+
+        map.put("FOO", "beer");
+        assertEquals("FOO", map.keySet().iterator().next());
+    }
+
+    @Test
+    public void testInsertionOrder() {
+        Map<String, Object> map = new CompactCaseInsensitiveMap();
+        map.put("Zebra", 1);
+        map.put("apple", 2);
+        map.put("Mango", 3);
+        map.remove("APPLE");
+        map.put("Kiwi", 4);
+
+        assertEquals(List.of("Zebra", "Mango", "Kiwi"), List.copyOf(map.keySet()));
+        assertEquals(List.of(1, 3, 4), List.copyOf(map.values()));
+    }
+
+    @Test
+    public void testIteratorRemove() {
+        Map<String, Object> map = new CompactCaseInsensitiveMap();
+        map.put("Foo", "cheese");
+        map.put("Bar", "cake");
+        map.put("Baz", "beer");
+
+        Iterator<Map.Entry<String, Object>> it = map.entrySet().iterator();
+        it.next();
+        assertEquals("Bar", it.next().getKey());
+        it.remove();
+
+        assertEquals(2, map.size());
+        assertFalse(map.containsKey("Bar"));
+        assertTrue(map.containsKey("foo"));
+        assertTrue(map.containsKey("baz"));
+
+        assertTrue(map.entrySet().remove(Map.entry("FOO", "cheese")));
+        assertFalse(map.entrySet().remove(Map.entry("baz", "wrong")));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    public void testGrowAndRemove() {
+        Map<String, Object> map = new CompactCaseInsensitiveMap();
+        for (int i = 0; i < 500; i++) {
+            map.put("key" + i, i);
+        }
+        assertEquals(500, map.size());
+        for (int i = 0; i < 500; i++) {
+            assertEquals(i, map.get("KEY" + i));
+        }
+
+        // keep adding and removing keys, so the removed entries are reclaimed
+        for (int i = 0; i < 5000; i++) {
+            map.remove("Key" + i);
+            map.put("key" + (i + 500), i + 500);
+            assertEquals(500, map.size());
+        }
+        for (int i = 5000; i < 5500; i++) {
+            assertEquals(i, map.get("KEY" + i));
+        }
+        assertNull(map.get("key4999"));
+    }
+
+    @Test
+    public void testCopy() {
+        CompactCaseInsensitiveMap map = new CompactCaseInsensitiveMap();
+        map.put("Foo", "cheese");
+        map.put("Bar", "cake");
+        map.put("Baz", "beer");
+        map.remove("bar");
+
+        Map<String, Object> copy = new CompactCaseInsensitiveMap(map);
+        assertEquals(map, copy);
+        assertEquals("cheese", copy.get("FOO"));
+
+        // the copy is independent of the original
+        copy.put("foo", "wine");
+        copy.put("Bar", "bread");
+        assertEquals("cheese", map.get("foo"));
+        assertFalse(map.containsKey("bar"));
+        assertEquals(3, copy.size());
+        assertEquals(2, map.size());
+
+        // put all into an empty map is also a copy
+        Map<String, Object> other = new CompactCaseInsensitiveMap();
+        other.putAll(map);
+        assertEquals(map, other);
+        other.remove("foo");
+        assertEquals("cheese", map.get("foo"));
+
+        // and can be copied from other maps
+        Map<String, Object> hash = new HashMap<>();
+        hash.put("Foo", 123);
+        copy = new CompactCaseInsensitiveMap(hash);
+        assertEquals(123, copy.get("FOO"));
+        assertEquals(hash, new HashMap<>(copy));
+    }
+
+    @Test
+    public void testNullValueAndContainsValue() {
+        Map<String, Object> map = new CompactCaseInsensitiveMap();
+        map.put("foo", null);
+        map.put("bar", "cheese");
+
+        assertTrue(map.containsKey("FOO"));
+        assertNull(map.get("foo"));
+        assertTrue(map.containsValue(null));
+        assertTrue(map.containsValue("cheese"));
+        assertFalse(map.containsValue("missing"));
+    }
+
+    @Test
+    public void testClearAndReuse() {
+        Map<String, Object> map = new CompactCaseInsensitiveMap();
+        map.put("Foo", "cheese");
+        map.put("Bar", "cake");
+
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertFalse(map.containsKey("Foo"));
+
+        map.put("Baz", "beer");
+        assertEquals(1, map.size());
+        assertEquals("beer", map.get("BAZ"));
+    }
+
+    @Test
+    public void testKnownKeyDeduplication() {
+        CaseInsensitiveMap.registerKnownKeys(List.of("CamelCharsetName", "CamelExchangeId", "breadcrumbId"));
+
+        Map<String, Object> map = new CompactCaseInsensitiveMap();
+        map.put(new String("camelcharsetname"), "UTF-8");
+        assertSame("CamelCharsetName", map.keySet().iterator().next());
+    }
+
+    @Test
+    public void testSerialization() throws Exception {
+        Map<String, Object> map = new CompactCaseInsensitiveMap();
+        map.put("Foo", "cheese");
+        map.put("Bar", 123);
+        map.remove("foo");
+        map.put("Baz", "beer");
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bos)) {
+            out.writeObject(map);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bos.toByteArray()))) {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> copy = (Map<String, Object>) in.readObject();
+            assertEquals(map, copy);
+            assertEquals(123, copy.get("BAR"));
+            assertEquals(List.of("Bar", "Baz"), List.copyOf(copy.keySet()));
+        }
+    }
+}
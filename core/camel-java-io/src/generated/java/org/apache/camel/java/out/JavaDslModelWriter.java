@@ -1727,6 +1727,7 @@ public class JavaDslModelWriter extends JavaDslModelWriterSupport {
         doWriteAttribute(sb, "parallelProcessing", def.getParallelProcessing(), null);
         doWriteAttribute(sb, "optimisticLocking", def.getOptimisticLocking(), null);
         doWriteAttribute(sb, "optimisticLockingSyncRetry", def.getOptimisticLockingSyncRetry(), "false");
+        doWriteAttribute(sb, "lockStripes", def.getLockStripes(), null);
         doWriteAttribute(sb, "executorService", def.getExecutorService(), null);
         doWriteAttribute(sb, "timeoutCheckerExecutorService", def.getTimeoutCheckerExecutorService(), null);
         doWriteAttribute(sb, "aggregateController", def.getAggregateController(), null);
@@ -2095,6 +2096,7 @@ public class JavaDslModelWriter extends JavaDslModelWriterSupport {
         doWriteAttribute(sb, "streaming", def.getStreaming(), null);
         doWriteAttribute(sb, "stopOnException", def.getStopOnException(), null);
         doWriteAttribute(sb, "timeout", def.getTimeout(), "0");
+        doWriteAttribute(sb, "maxInflight", def.getMaxInflight(), null);
         doWriteAttribute(sb, "executorService", def.getExecutorService(), null);
         doWriteAttribute(sb, "onPrepare", def.getOnPrepare(), null);
         doWriteAttribute(sb, "shareUnitOfWork", def.getShareUnitOfWork(), null);
@@ -2513,6 +2515,7 @@ public class JavaDslModelWriter extends JavaDslModelWriterSupport {
         doWriteAttribute(sb, "streaming", def.getStreaming(), null);
         doWriteAttribute(sb, "stopOnException", def.getStopOnException(), null);
         doWriteAttribute(sb, "timeout", def.getTimeout(), "0");
+        doWriteAttribute(sb, "maxInflight", def.getMaxInflight(), null);
         doWriteAttribute(sb, "executorService", def.getExecutorService(), null);
         doWriteAttribute(sb, "onPrepare", def.getOnPrepare(), null);
         doWriteAttribute(sb, "shareUnitOfWork", def.getShareUnitOfWork(), null);
@@ -2557,6 +2560,7 @@ public class JavaDslModelWriter extends JavaDslModelWriterSupport {
         doWriteAttribute(sb, "maxQueueSize", def.getMaxQueueSize(), null);
         doWriteAttribute(sb, "allowCoreThreadTimeOut", def.getAllowCoreThreadTimeOut(), null);
         doWriteAttribute(sb, "rejectedPolicy", def.getRejectedPolicy(), null);
+        doWriteAttribute(sb, "virtualThreads", def.getVirtualThreads(), null);
     }
     protected void doWriteThreadsDefinition(StringBuilder sb, ThreadsDefinition def) {
         doWriteProcessorDefinitionAttributes(sb, def);
@@ -2570,6 +2574,10 @@ public class JavaDslModelWriter extends JavaDslModelWriterSupport {
         doWriteAttribute(sb, "threadName", def.getThreadName(), "Threads");
         doWriteAttribute(sb, "rejectedPolicy", def.getRejectedPolicy(), null);
         doWriteAttribute(sb, "callerRunsWhenRejected", def.getCallerRunsWhenRejected(), "true");
+        doWriteAttribute(sb, "priorityHeader", def.getPriorityHeader(), null);
+        doWriteAttribute(sb, "deadlineHeader", def.getDeadlineHeader(), null);
+        doWriteAttribute(sb, "starvationTimeout", def.getStarvationTimeout(), "10000");
+        doWriteAttribute(sb, "onExpired", def.getOnExpired(), null);
     }
     protected void doWriteThrottleDefinition(StringBuilder sb, ThrottleDefinition def) {
         doWriteProcessorDefinitionAttributes(sb, def);
@@ -2579,6 +2587,8 @@ public class JavaDslModelWriter extends JavaDslModelWriterSupport {
         doWriteAttribute(sb, "callerRunsWhenRejected", def.getCallerRunsWhenRejected(), "true");
         doWriteAttribute(sb, "rejectExecution", def.getRejectExecution(), null);
         doWriteAttribute(sb, "timePeriodMillis", def.getTimePeriodMillis(), "1000");
+        doWriteAttribute(sb, "adaptiveBackoffRatio", def.getAdaptiveBackoffRatio(), "0.9");
+        doWriteAttribute(sb, "adaptiveLatencyTolerance", def.getAdaptiveLatencyTolerance(), "2.0");
         doWriteExpressionNodeElements(sb, def);
         doWriteChildElement(sb, "correlationExpression", def.getCorrelationExpression(), this::doWriteExpressionSubElementDefinition);
     }
@@ -3516,6 +3526,7 @@ public class JavaDslModelWriter extends JavaDslModelWriterSupport {
         doWriteAttribute(sb, "trimResult", def.getTrimResult(), "false");
         doWriteAttribute(sb, "pretty", def.getPretty(), "false");
         doWriteAttribute(sb, "nested", def.getNested(), "false");
+        doWriteAttribute(sb, "compiled", def.getCompiled(), "false");
         doWriteValue(sb, def.getExpression());
     }
     protected void doWriteSingleInputTypedExpressionDefinitionAttributes(StringBuilder sb, SingleInputTypedExpressionDefinition def) {
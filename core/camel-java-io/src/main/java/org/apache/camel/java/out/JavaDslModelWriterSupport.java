@@ -1040,6 +1040,7 @@ public abstract class JavaDslModelWriterSupport {
             appendNonDefaultOption(opts, "trimResult", se.getTrimResult(), "false");
             appendNonDefaultOption(opts, "pretty", se.getPretty(), "false");
             appendNonDefaultOption(opts, "nested", se.getNested(), "false");
+            appendNonDefaultOption(opts, "compiled", se.getCompiled(), "false");
         } else if (expr instanceof JsonPathExpression jp) {
             appendNonDefaultOption(opts, "suppressExceptions", jp.getSuppressExceptions(), "false");
             appendNonDefaultOption(opts, "allowSimple", jp.getAllowSimple(), "true");
@@ -71,6 +71,7 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         map.put("GroovyPreloadCompiled", boolean.class);
         map.put("GroovyScriptPattern", java.lang.String.class);
         map.put("InflightRepositoryBrowseEnabled", boolean.class);
+        map.put("InflightRepositoryBrowseMode", java.lang.String.class);
         map.put("JavaRoutesExcludePattern", java.lang.String.class);
         map.put("JavaRoutesIncludePattern", java.lang.String.class);
         map.put("JmxEnabled", boolean.class);
@@ -95,8 +96,13 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         map.put("MessageSizeEnabled", boolean.class);
         map.put("Modeline", boolean.class);
         map.put("Name", java.lang.String.class);
+        map.put("ParallelRouteStartup", boolean.class);
+        map.put("ParallelRouteStartupPoolSize", int.class);
         map.put("ProducerTemplateCacheSize", int.class);
         map.put("Profile", java.lang.String.class);
+        map.put("ReactiveExecutor", java.lang.String.class);
+        map.put("ReactiveExecutorStatisticsEnabled", boolean.class);
+        map.put("ReactiveExecutorStealingThreads", int.class);
         map.put("RouteFilterExcludePattern", java.lang.String.class);
         map.put("RouteFilterIncludePattern", java.lang.String.class);
         map.put("RoutesBuilderClasses", java.lang.String.class);
@@ -133,6 +139,7 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         map.put("StreamCachingSpoolCipher", java.lang.String.class);
         map.put("StreamCachingSpoolDirectory", java.lang.String.class);
         map.put("StreamCachingSpoolEnabled", boolean.class);
+        map.put("StreamCachingSpoolOffHeapMaxSize", long.class);
         map.put("StreamCachingSpoolRules", java.lang.String.class);
         map.put("StreamCachingSpoolThreshold", long.class);
         map.put("StreamCachingSpoolUsedHeapMemoryLimit", java.lang.String.class);
@@ -254,6 +261,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "groovyScriptPattern": target.setGroovyScriptPattern(property(camelContext, java.lang.String.class, value)); return true;
         case "inflightrepositorybrowseenabled":
         case "inflightRepositoryBrowseEnabled": target.setInflightRepositoryBrowseEnabled(property(camelContext, boolean.class, value)); return true;
+        case "inflightrepositorybrowsemode":
+        case "inflightRepositoryBrowseMode": target.setInflightRepositoryBrowseMode(property(camelContext, java.lang.String.class, value)); return true;
         case "javaroutesexcludepattern":
         case "javaRoutesExcludePattern": target.setJavaRoutesExcludePattern(property(camelContext, java.lang.String.class, value)); return true;
         case "javaroutesincludepattern":
@@ -300,9 +309,19 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "messageSizeEnabled": target.setMessageSizeEnabled(property(camelContext, boolean.class, value)); return true;
         case "modeline": target.setModeline(property(camelContext, boolean.class, value)); return true;
         case "name": target.setName(property(camelContext, java.lang.String.class, value)); return true;
+        case "parallelroutestartup":
+        case "parallelRouteStartup": target.setParallelRouteStartup(property(camelContext, boolean.class, value)); return true;
+        case "parallelroutestartuppoolsize":
+        case "parallelRouteStartupPoolSize": target.setParallelRouteStartupPoolSize(property(camelContext, int.class, value)); return true;
         case "producertemplatecachesize":
         case "producerTemplateCacheSize": target.setProducerTemplateCacheSize(property(camelContext, int.class, value)); return true;
         case "profile": target.setProfile(property(camelContext, java.lang.String.class, value)); return true;
+        case "reactiveexecutor":
+        case "reactiveExecutor": target.setReactiveExecutor(property(camelContext, java.lang.String.class, value)); return true;
+        case "reactiveexecutorstatisticsenabled":
+        case "reactiveExecutorStatisticsEnabled": target.setReactiveExecutorStatisticsEnabled(property(camelContext, boolean.class, value)); return true;
+        case "reactiveexecutorstealingthreads":
+        case "reactiveExecutorStealingThreads": target.setReactiveExecutorStealingThreads(property(camelContext, int.class, value)); return true;
         case "routefilterexcludepattern":
         case "routeFilterExcludePattern": target.setRouteFilterExcludePattern(property(camelContext, java.lang.String.class, value)); return true;
         case "routefilterincludepattern":
@@ -375,6 +394,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "streamCachingSpoolDirectory": target.setStreamCachingSpoolDirectory(property(camelContext, java.lang.String.class, value)); return true;
         case "streamcachingspoolenabled":
         case "streamCachingSpoolEnabled": target.setStreamCachingSpoolEnabled(property(camelContext, boolean.class, value)); return true;
+        case "streamcachingspooloffheapmaxsize":
+        case "streamCachingSpoolOffHeapMaxSize": target.setStreamCachingSpoolOffHeapMaxSize(property(camelContext, long.class, value)); return true;
         case "streamcachingspoolrules":
         case "streamCachingSpoolRules": target.setStreamCachingSpoolRules(property(camelContext, java.lang.String.class, value)); return true;
         case "streamcachingspoolthreshold":
@@ -518,6 +539,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "groovyScriptPattern": return java.lang.String.class;
         case "inflightrepositorybrowseenabled":
         case "inflightRepositoryBrowseEnabled": return boolean.class;
+        case "inflightrepositorybrowsemode":
+        case "inflightRepositoryBrowseMode": return java.lang.String.class;
         case "javaroutesexcludepattern":
         case "javaRoutesExcludePattern": return java.lang.String.class;
         case "javaroutesincludepattern":
@@ -564,9 +587,19 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "messageSizeEnabled": return boolean.class;
         case "modeline": return boolean.class;
         case "name": return java.lang.String.class;
+        case "parallelroutestartup":
+        case "parallelRouteStartup": return boolean.class;
+        case "parallelroutestartuppoolsize":
+        case "parallelRouteStartupPoolSize": return int.class;
         case "producertemplatecachesize":
         case "producerTemplateCacheSize": return int.class;
         case "profile": return java.lang.String.class;
+        case "reactiveexecutor":
+        case "reactiveExecutor": return java.lang.String.class;
+        case "reactiveexecutorstatisticsenabled":
+        case "reactiveExecutorStatisticsEnabled": return boolean.class;
+        case "reactiveexecutorstealingthreads":
+        case "reactiveExecutorStealingThreads": return int.class;
         case "routefilterexcludepattern":
         case "routeFilterExcludePattern": return java.lang.String.class;
         case "routefilterincludepattern":
@@ -639,6 +672,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "streamCachingSpoolDirectory": return java.lang.String.class;
         case "streamcachingspoolenabled":
         case "streamCachingSpoolEnabled": return boolean.class;
+        case "streamcachingspooloffheapmaxsize":
+        case "streamCachingSpoolOffHeapMaxSize": return long.class;
         case "streamcachingspoolrules":
         case "streamCachingSpoolRules": return java.lang.String.class;
         case "streamcachingspoolthreshold":
@@ -778,6 +813,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "groovyScriptPattern": return target.getGroovyScriptPattern();
         case "inflightrepositorybrowseenabled":
         case "inflightRepositoryBrowseEnabled": return target.isInflightRepositoryBrowseEnabled();
+        case "inflightrepositorybrowsemode":
+        case "inflightRepositoryBrowseMode": return target.getInflightRepositoryBrowseMode();
         case "javaroutesexcludepattern":
         case "javaRoutesExcludePattern": return target.getJavaRoutesExcludePattern();
         case "javaroutesincludepattern":
@@ -824,9 +861,19 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "messageSizeEnabled": return target.isMessageSizeEnabled();
         case "modeline": return target.isModeline();
         case "name": return target.getName();
+        case "parallelroutestartup":
+        case "parallelRouteStartup": return target.isParallelRouteStartup();
+        case "parallelroutestartuppoolsize":
+        case "parallelRouteStartupPoolSize": return target.getParallelRouteStartupPoolSize();
         case "producertemplatecachesize":
         case "producerTemplateCacheSize": return target.getProducerTemplateCacheSize();
         case "profile": return target.getProfile();
+        case "reactiveexecutor":
+        case "reactiveExecutor": return target.getReactiveExecutor();
+        case "reactiveexecutorstatisticsenabled":
+        case "reactiveExecutorStatisticsEnabled": return target.isReactiveExecutorStatisticsEnabled();
+        case "reactiveexecutorstealingthreads":
+        case "reactiveExecutorStealingThreads": return target.getReactiveExecutorStealingThreads();
         case "routefilterexcludepattern":
         case "routeFilterExcludePattern": return target.getRouteFilterExcludePattern();
         case "routefilterincludepattern":
@@ -899,6 +946,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "streamCachingSpoolDirectory": return target.getStreamCachingSpoolDirectory();
         case "streamcachingspoolenabled":
         case "streamCachingSpoolEnabled": return target.isStreamCachingSpoolEnabled();
+        case "streamcachingspooloffheapmaxsize":
+        case "streamCachingSpoolOffHeapMaxSize": return target.getStreamCachingSpoolOffHeapMaxSize();
         case "streamcachingspoolrules":
         case "streamCachingSpoolRules": return target.getStreamCachingSpoolRules();
         case "streamcachingspoolthreshold":
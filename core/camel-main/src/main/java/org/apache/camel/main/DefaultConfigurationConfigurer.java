@@ -42,6 +42,8 @@ import org.apache.camel.impl.engine.PooledExchangeFactory;
 import org.apache.camel.impl.engine.PooledProcessorExchangeFactory;
 import org.apache.camel.impl.engine.PrototypeExchangeFactory;
 import org.apache.camel.impl.engine.PrototypeProcessorExchangeFactory;
+import org.apache.camel.impl.engine.SampledInflightRepository;
+import org.apache.camel.impl.engine.WorkStealingReactiveExecutor;
 import org.apache.camel.model.Model;
 import org.apache.camel.model.ModelCamelContext;
 import org.apache.camel.model.ModelLifecycleStrategy;
@@ -177,6 +179,15 @@ public final class DefaultConfigurationConfigurer {
         ecc.getExchangeFactory().setStatisticsEnabled(config.isExchangeFactoryStatisticsEnabled());
         ecc.getProcessorExchangeFactory().setStatisticsEnabled(config.isExchangeFactoryStatisticsEnabled());
 
+        if ("work-stealing".equals(config.getReactiveExecutor())) {
+            WorkStealingReactiveExecutor wsre = new WorkStealingReactiveExecutor();
+            wsre.setStealingThreads(config.getReactiveExecutorStealingThreads());
+            ecc.setReactiveExecutor(wsre);
+        }
+        if (config.isReactiveExecutorStatisticsEnabled()) {
+            ecc.getReactiveExecutor().setStatisticsEnabled(true);
+        }
+
         if (!config.isJmxEnabled()) {
             camelContext.disableJMX();
         }
@@ -200,6 +211,9 @@ public final class DefaultConfigurationConfigurer {
         camelContext.getShutdownStrategy()
                 .setLogInflightExchangesOnTimeout(config.isShutdownLogInflightExchangesOnTimeout());
 
+        if ("sampled".equals(config.getInflightRepositoryBrowseMode())) {
+            camelContext.setInflightRepository(new SampledInflightRepository());
+        }
         camelContext.getInflightRepository().setInflightBrowseEnabled(config.isInflightRepositoryBrowseEnabled());
 
         // error registry is configured via ErrorRegistryConfigurationProperties (camel.errorRegistry.*)
@@ -242,6 +256,9 @@ public final class DefaultConfigurationConfigurer {
             camelContext.getStreamCachingStrategy()
                     .setSpoolUsedHeapMemoryThreshold(config.getStreamCachingSpoolUsedHeapMemoryThreshold());
         }
+        if (config.getStreamCachingSpoolOffHeapMaxSize() != 0) {
+            camelContext.getStreamCachingStrategy().setSpoolOffHeapMaxSize(config.getStreamCachingSpoolOffHeapMaxSize());
+        }
         if (config.getStreamCachingSpoolRules() != null) {
             for (String ref : config.getStreamCachingSpoolRules().split(",")) {
                 var custom = CamelContextHelper.mandatoryLookup(camelContext, ref.trim(),
@@ -276,6 +293,8 @@ public final class DefaultConfigurationConfigurer {
         camelContext.setLogExhaustedMessageBody(config.isLogExhaustedMessageBody());
         camelContext.setAutoStartup(config.isAutoStartup());
         camelContext.setAutoStartupExcludePattern(config.getAutoStartupExcludePattern());
+        camelContext.setParallelRouteStartup(config.isParallelRouteStartup());
+        camelContext.setParallelRouteStartupPoolSize(config.getParallelRouteStartupPoolSize());
         camelContext.setAllowUseOriginalMessage(config.isAllowUseOriginalMessage());
         camelContext.setCaseInsensitiveHeaders(config.isCaseInsensitiveHeaders());
         camelContext.setAutowiredEnabled(config.isAutowiredEnabled());
@@ -49,6 +49,8 @@ public abstract class DefaultConfigurationProperties<T> {
     private boolean shutdownRoutesInReverseOrder = true;
     private boolean shutdownLogInflightExchangesOnTimeout = true;
     private boolean inflightRepositoryBrowseEnabled;
+    @Metadata(label = "advanced", defaultValue = "full", enums = "full,sampled")
+    private String inflightRepositoryBrowseMode = "full";
     private String fileConfigurations;
     private boolean jmxEnabled = true;
     @Metadata(enums = "classic,default,short,simple,off", defaultValue = "default")
@@ -73,6 +75,7 @@ public abstract class DefaultConfigurationProperties<T> {
     private int streamCachingSpoolUsedHeapMemoryThreshold;
     @Metadata(defaultValue = "Max", enums = "Committed,Max")
     private String streamCachingSpoolUsedHeapMemoryLimit;
+    private long streamCachingSpoolOffHeapMaxSize;
     private boolean streamCachingAnySpoolRules;
     @Metadata(label = "advanced")
     private String streamCachingSpoolRules;
@@ -96,6 +99,8 @@ public abstract class DefaultConfigurationProperties<T> {
     private String additionalSensitiveKeywords;
     private boolean autoStartup = true;
     private String autoStartupExcludePattern;
+    private boolean parallelRouteStartup;
+    private int parallelRouteStartupPoolSize = 10;
     private boolean allowUseOriginalMessage;
     private boolean caseInsensitiveHeaders = true;
     private boolean autowiredEnabled = true;
@@ -148,6 +153,12 @@ public abstract class DefaultConfigurationProperties<T> {
     private String exchangeFactory = "default";
     private int exchangeFactoryCapacity = 100;
     private boolean exchangeFactoryStatisticsEnabled;
+    @Metadata(label = "advanced", defaultValue = "default", enums = "default,work-stealing")
+    private String reactiveExecutor = "default";
+    @Metadata(label = "advanced")
+    private int reactiveExecutorStealingThreads;
+    @Metadata(label = "advanced")
+    private boolean reactiveExecutorStatisticsEnabled;
     @Metadata(enums = "xml,yaml,json,png")
     private String dumpRoutes;
     private String dumpRoutesInclude = "routes";
@@ -346,6 +357,23 @@ public abstract class DefaultConfigurationProperties<T> {
         this.inflightRepositoryBrowseEnabled = inflightRepositoryBrowseEnabled;
     }
 
+    public String getInflightRepositoryBrowseMode() {
+        return inflightRepositoryBrowseMode;
+    }
+
+    /**
+     * Sets how the inflight repository keeps track of the inflight exchanges, when inflightRepositoryBrowseEnabled is
+     * enabled.
+     *
+     * The full mode keeps all the inflight exchanges in a map, which allows browsing all of them. The sampled mode
+     * keeps the inflight exchanges in a fixed size table, which has lower overhead at high throughput, but browsing may
+     * then only show a sample of the inflight exchanges, when there are thousands of inflight exchanges. The number of
+     * inflight exchanges is exact in both modes.
+     */
+    public void setInflightRepositoryBrowseMode(String inflightRepositoryBrowseMode) {
+        this.inflightRepositoryBrowseMode = inflightRepositoryBrowseMode;
+    }
+
     public String getFileConfigurations() {
         return fileConfigurations;
     }
@@ -610,6 +638,22 @@ public abstract class DefaultConfigurationProperties<T> {
         this.streamCachingSpoolUsedHeapMemoryLimit = streamCachingSpoolUsedHeapMemoryLimit;
     }
 
+    public long getStreamCachingSpoolOffHeapMaxSize() {
+        return streamCachingSpoolOffHeapMaxSize;
+    }
+
+    /**
+     * Sets the maximum number of bytes of off-heap (direct) memory that can be used for stream caching, when streams
+     * overflow the spool threshold. Streams are spooled to off-heap memory while there is budget left, and are
+     * otherwise spooled to disk (if streamCachingSpoolEnabled=true) or kept in the heap.
+     *
+     * The off-heap memory is allocated in pooled blocks of 64 KB. The default value is 0 which means off-heap spooling
+     * is disabled.
+     */
+    public void setStreamCachingSpoolOffHeapMaxSize(long streamCachingSpoolOffHeapMaxSize) {
+        this.streamCachingSpoolOffHeapMaxSize = streamCachingSpoolOffHeapMaxSize;
+    }
+
     public boolean isStreamCachingAnySpoolRules() {
         return streamCachingAnySpoolRules;
     }
@@ -902,6 +946,40 @@ public abstract class DefaultConfigurationProperties<T> {
         this.autoStartupExcludePattern = autoStartupExcludePattern;
     }
 
+    public boolean isParallelRouteStartup() {
+        return parallelRouteStartup;
+    }
+
+    /**
+     * Whether to start the routes in parallel, which can reduce the startup time when there are many routes with slow
+     * endpoints (such as connecting to a remote system when starting).
+     *
+     * The routes are started in parallel on a thread pool (see parallelRouteStartupPoolSize), as soon as the routes
+     * they depend on have been started. A route depends on the routes with a lower startup order (when using
+     * startupOrder), the routes consuming from the endpoints the route sends to (such as direct and seda), and the
+     * first route using the same endpoint.
+     *
+     * Notice that the routes are warmed up concurrently, which means custom lifecycle strategies, event notifiers and
+     * route policies are called concurrently from multiple threads and must be thread-safe. Only the JMX management
+     * lifecycle strategy is made safe for this.
+     */
+    public void setParallelRouteStartup(boolean parallelRouteStartup) {
+        this.parallelRouteStartup = parallelRouteStartup;
+    }
+
+    public int getParallelRouteStartupPoolSize() {
+        return parallelRouteStartupPoolSize;
+    }
+
+    /**
+     * The number of threads used for starting the routes in parallel (when parallelRouteStartup is enabled).
+     *
+     * Default is 10.
+     */
+    public void setParallelRouteStartupPoolSize(int parallelRouteStartupPoolSize) {
+        this.parallelRouteStartupPoolSize = parallelRouteStartupPoolSize;
+    }
+
     public boolean isAllowUseOriginalMessage() {
         return allowUseOriginalMessage;
     }
@@ -1553,6 +1631,42 @@ public abstract class DefaultConfigurationProperties<T> {
         this.exchangeFactoryStatisticsEnabled = exchangeFactoryStatisticsEnabled;
     }
 
+    public String getReactiveExecutor() {
+        return reactiveExecutor;
+    }
+
+    /**
+     * Controls which reactive executor to use for routing exchanges. The default executes tasks on the thread that
+     * scheduled them. Using work-stealing lets a number of stealing threads execute tasks that are waiting behind a
+     * slow task on a busy thread, while keeping the order of the tasks for each exchange.
+     */
+    public void setReactiveExecutor(String reactiveExecutor) {
+        this.reactiveExecutor = reactiveExecutor;
+    }
+
+    public int getReactiveExecutorStealingThreads() {
+        return reactiveExecutorStealingThreads;
+    }
+
+    /**
+     * Number of stealing threads when using the work-stealing reactive executor. The default uses the number of
+     * available processors.
+     */
+    public void setReactiveExecutorStealingThreads(int reactiveExecutorStealingThreads) {
+        this.reactiveExecutorStealingThreads = reactiveExecutorStealingThreads;
+    }
+
+    public boolean isReactiveExecutorStatisticsEnabled() {
+        return reactiveExecutorStatisticsEnabled;
+    }
+
+    /**
+     * Configures whether statistics is enabled on the reactive executor.
+     */
+    public void setReactiveExecutorStatisticsEnabled(boolean reactiveExecutorStatisticsEnabled) {
+        this.reactiveExecutorStatisticsEnabled = reactiveExecutorStatisticsEnabled;
+    }
+
     public String getDumpRoutes() {
         return dumpRoutes;
     }
@@ -1905,6 +2019,20 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * Sets how the inflight repository keeps track of the inflight exchanges, when inflightRepositoryBrowseEnabled is
+     * enabled.
+     *
+     * The full mode keeps all the inflight exchanges in a map, which allows browsing all of them. The sampled mode
+     * keeps the inflight exchanges in a fixed size table, which has lower overhead at high throughput, but browsing may
+     * then only show a sample of the inflight exchanges, when there are thousands of inflight exchanges. The number of
+     * inflight exchanges is exact in both modes.
+     */
+    public T withInflightRepositoryBrowseMode(String inflightRepositoryBrowseMode) {
+        this.inflightRepositoryBrowseMode = inflightRepositoryBrowseMode;
+        return (T) this;
+    }
+
     /**
      * Directory to load additional configuration files that contains configuration values that takes precedence over
      * any other configuration. This can be used to refer to files that may have secret configuration that has been
@@ -2092,6 +2220,19 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * Sets the maximum number of bytes of off-heap (direct) memory that can be used for stream caching, when streams
+     * overflow the spool threshold. Streams are spooled to off-heap memory while there is budget left, and are
+     * otherwise spooled to disk (if streamCachingSpoolEnabled=true) or kept in the heap.
+     *
+     * The off-heap memory is allocated in pooled blocks of 64 KB. The default value is 0 which means off-heap spooling
+     * is disabled.
+     */
+    public T withStreamCachingSpoolOffHeapMaxSize(long streamCachingSpoolOffHeapMaxSize) {
+        this.streamCachingSpoolOffHeapMaxSize = streamCachingSpoolOffHeapMaxSize;
+        return (T) this;
+    }
+
     /**
      * Sets whether if just any of the org.apache.camel.spi.StreamCachingStrategy.SpoolRule rules returns true then
      * shouldSpoolCache(long) returns true, to allow spooling to disk. If this option is false, then all the
@@ -2304,6 +2445,34 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * Whether to start the routes in parallel, which can reduce the startup time when there are many routes with slow
+     * endpoints (such as connecting to a remote system when starting).
+     *
+     * The routes are started in parallel on a thread pool (see parallelRouteStartupPoolSize), as soon as the routes
+     * they depend on have been started. A route depends on the routes with a lower startup order (when using
+     * startupOrder), the routes consuming from the endpoints the route sends to (such as direct and seda), and the
+     * first route using the same endpoint.
+     *
+     * Notice that the routes are warmed up concurrently, which means custom lifecycle strategies, event notifiers and
+     * route policies are called concurrently from multiple threads and must be thread-safe. Only the JMX management
+     * lifecycle strategy is made safe for this.
+     */
+    public T withParallelRouteStartup(boolean parallelRouteStartup) {
+        this.parallelRouteStartup = parallelRouteStartup;
+        return (T) this;
+    }
+
+    /**
+     * The number of threads used for starting the routes in parallel (when parallelRouteStartup is enabled).
+     *
+     * Default is 10.
+     */
+    public T withParallelRouteStartupPoolSize(int parallelRouteStartupPoolSize) {
+        this.parallelRouteStartupPoolSize = parallelRouteStartupPoolSize;
+        return (T) this;
+    }
+
     /**
      * Sets whether to allow access to the original message from Camel's error handler, or from
      * org.apache.camel.spi.UnitOfWork.getOriginalInMessage(). Turning this off can optimize performance, as defensive
@@ -2787,6 +2956,33 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * Controls which reactive executor to use for routing exchanges. The default executes tasks on the thread that
+     * scheduled them. Using work-stealing lets a number of stealing threads execute tasks that are waiting behind a
+     * slow task on a busy thread, while keeping the order of the tasks for each exchange.
+     */
+    public T withReactiveExecutor(String reactiveExecutor) {
+        this.reactiveExecutor = reactiveExecutor;
+        return (T) this;
+    }
+
+    /**
+     * Number of stealing threads when using the work-stealing reactive executor. The default uses the number of
+     * available processors.
+     */
+    public T withReactiveExecutorStealingThreads(int reactiveExecutorStealingThreads) {
+        this.reactiveExecutorStealingThreads = reactiveExecutorStealingThreads;
+        return (T) this;
+    }
+
+    /**
+     * Configures whether statistics is enabled on the reactive executor.
+     */
+    public T withReactiveExecutorStatisticsEnabled(boolean reactiveExecutorStatisticsEnabled) {
+        this.reactiveExecutorStatisticsEnabled = reactiveExecutorStatisticsEnabled;
+        return (T) this;
+    }
+
     /**
      * If dumping is enabled then Camel will during startup dump all loaded routes (incl rests and route templates)
      * represented as XML, YAML, or Java DSL into the log. This is intended for trouble shooting or to assist during
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.main;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.impl.engine.DefaultReactiveExecutor;
+import org.apache.camel.impl.engine.WorkStealingReactiveExecutor;
+import org.apache.camel.spi.ReactiveExecutor;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MainReactiveExecutorTest {
+
+    @Test
+    public void testDefault() {
+        Main main = new Main();
+        main.start();
+        try {
+            CamelContext camelContext = main.getCamelContext();
+            ReactiveExecutor re = camelContext.getCamelContextExtension().getReactiveExecutor();
+            assertInstanceOf(DefaultReactiveExecutor.class, re);
+        } finally {
+            main.stop();
+        }
+    }
+
+    @Test
+    public void testWorkStealing() throws Exception {
+        Main main = new Main();
+        main.configure().addRoutesBuilder(new MyRouteBuilder());
+        main.addInitialProperty("camel.main.reactiveExecutor", "work-stealing");
+        main.addInitialProperty("camel.main.reactiveExecutorStealingThreads", "2");
+        main.addInitialProperty("camel.main.reactiveExecutorStatisticsEnabled", "true");
+        main.start();
+        try {
+            CamelContext camelContext = main.getCamelContext();
+            ReactiveExecutor re = camelContext.getCamelContextExtension().getReactiveExecutor();
+            WorkStealingReactiveExecutor wsre = assertInstanceOf(WorkStealingReactiveExecutor.class, re);
+            assertEquals(2, wsre.getStealingThreads());
+            assertTrue(wsre.isStatisticsEnabled());
+
+            MockEndpoint mock = camelContext.getEndpoint("mock:result", MockEndpoint.class);
+            mock.expectedBodiesReceived("Hello World");
+            camelContext.createProducerTemplate().sendBody("direct:start", "Hello World");
+            mock.assertIsSatisfied();
+        } finally {
+            main.stop();
+        }
+    }
+
+    private static class MyRouteBuilder extends RouteBuilder {
+        @Override
+        public void configure() {
+            from("direct:start").to("log:foo").to("mock:result");
+        }
+    }
+}
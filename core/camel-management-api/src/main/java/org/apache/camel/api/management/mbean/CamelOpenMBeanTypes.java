@@ -257,6 +257,20 @@ public final class CamelOpenMBeanTypes {
                         SimpleType.BOOLEAN, SimpleType.BOOLEAN, SimpleType.STRING });
     }
 
+    public static TabularType listTopTypeConversionsTabularType() throws OpenDataException {
+        CompositeType ct = listTopTypeConversionsCompositeType();
+        return new TabularType(
+                "listTopTypeConversions", "Lists the most used type conversions", ct, new String[] { "from", "to" });
+    }
+
+    public static CompositeType listTopTypeConversionsCompositeType() throws OpenDataException {
+        return new CompositeType(
+                "conversions", "Conversions",
+                new String[] { "from", "to", "conversions" },
+                new String[] { "From", "To", "Conversions" },
+                new OpenType[] { SimpleType.STRING, SimpleType.STRING, SimpleType.LONG });
+    }
+
     public static TabularType listValidatorsTabularType() throws OpenDataException {
         CompositeType ct = listValidatorsCompositeType();
         return new TabularType("listValidators", "Lists all the validators in the registry", ct, new String[] { "type" });
@@ -38,4 +38,7 @@ public interface ManagedMulticastMBean extends ManagedProcessorMBean {
     @ManagedAttribute(description = "The total timeout specified in millis, when using parallel processing.")
     Long getTimeout();
 
+    @ManagedAttribute(description = "The maximum number of sub exchanges inflight at the same time, when using parallel processing (0 = no limit).")
+    Integer getMaxInflight();
+
 }
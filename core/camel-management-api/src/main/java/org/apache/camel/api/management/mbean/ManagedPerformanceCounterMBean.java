@@ -96,21 +96,39 @@ public interface ManagedPerformanceCounterMBean extends ManagedCounterMBean {
     /**
      * @since 4.22
      */
-    @ManagedAttribute(description = "50th percentile (median) of recent processing times [milliseconds]. Requires Extended statistics level, returns -1 otherwise.")
+    @ManagedAttribute(description = "50th percentile (median) of processing times [milliseconds]. Requires Extended statistics level, returns -1 otherwise.")
     long getProcessingTimeP50();
 
     /**
      * @since 4.22
      */
-    @ManagedAttribute(description = "95th percentile of recent processing times [milliseconds]. Requires Extended statistics level, returns -1 otherwise.")
+    @ManagedAttribute(description = "95th percentile of processing times [milliseconds]. Requires Extended statistics level, returns -1 otherwise.")
     long getProcessingTimeP95();
 
     /**
      * @since 4.22
      */
-    @ManagedAttribute(description = "99th percentile of recent processing times [milliseconds]. Requires Extended statistics level, returns -1 otherwise.")
+    @ManagedAttribute(description = "99th percentile of processing times [milliseconds]. Requires Extended statistics level, returns -1 otherwise.")
     long getProcessingTimeP99();
 
+    /**
+     * @since 4.22
+     */
+    @ManagedAttribute(description = "99.9th percentile of processing times [milliseconds]. Requires Extended statistics level, returns -1 otherwise.")
+    long getProcessingTimeP999();
+
+    /**
+     * @since 4.22
+     */
+    @ManagedOperation(description = "Percentile (such as 99.9) of processing times [milliseconds]. Requires Extended statistics level, returns -1 otherwise.")
+    long processingTimePercentile(double percentile);
+
+    /**
+     * @since 4.22
+     */
+    @ManagedOperation(description = "Dumps the histogram of processing times as JSon, which can be merged with other histograms. Use interval to only include the processing times since the previous interval dump. Requires Extended statistics level.")
+    String dumpProcessingTimeHistogramAsJSon(boolean interval);
+
     @ManagedAttribute(description = "Throughput (messages per second)")
     String getThroughput();
 
@@ -44,4 +44,13 @@ public interface ManagedThrottlerMBean extends ManagedProcessorMBean {
     @ManagedAttribute(description = "Whether or not throttler throws the ThrottlerRejectedExecutionException when the exchange exceeds the request limit")
     Boolean isRejectExecution();
 
+    @ManagedAttribute(description = "Number of requests rejected because the request limit was exceeded")
+    long getRejectedRequests();
+
+    @ManagedAttribute(description = "Smoothed round-trip time in millis (only in AdaptiveConcurrentRequests mode)")
+    double getRoundTripTime();
+
+    @ManagedAttribute(description = "Minimum round-trip time in millis (only in AdaptiveConcurrentRequests mode)")
+    double getMinRoundTripTime();
+
 }
@@ -16,6 +16,8 @@
  */
 package org.apache.camel.api.management.mbean;
 
+import javax.management.openmbean.TabularData;
+
 import org.apache.camel.api.management.ManagedAttribute;
 import org.apache.camel.api.management.ManagedOperation;
 
@@ -51,4 +53,7 @@ public interface ManagedTypeConverterRegistryMBean extends ManagedServiceMBean {
     @ManagedOperation(description = "Checks whether a type converter exists for converting (from -> to)")
     boolean hasTypeConverter(String fromType, String toType);
 
+    @ManagedOperation(description = "Lists the most used type conversions (requires statistics enabled)")
+    TabularData listTopTypeConversions(int limit);
+
 }
@@ -19,13 +19,15 @@ package org.apache.camel.management;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import javax.management.JMException;
 import javax.management.MalformedObjectNameException;
@@ -149,10 +151,12 @@ public class JmxManagementLifecycleStrategy extends ServiceSupport implements Li
     private volatile CamelContext camelContext;
     private volatile ManagedCamelContext camelContextMBean;
     private volatile boolean initialized;
-    private final Set<String> knowRouteIds = new HashSet<>();
+    // routes and thread pools can be added concurrently (such as when starting routes in parallel)
+    private final Set<String> knowRouteIds = ConcurrentHashMap.newKeySet();
     private final Map<BacklogTracer, ManagedBacklogTracer> managedBacklogTracers = new HashMap<>();
     private final Map<DefaultBacklogDebugger, ManagedBacklogDebugger> managedBacklogDebuggers = new HashMap<>();
-    private final Map<Object, Object> managedThreadPools = new HashMap<>();
+    private final Map<Object, Object> managedThreadPools = new ConcurrentHashMap<>();
+    private final Lock routesLock = new ReentrantLock();
 
     public JmxManagementLifecycleStrategy() {
     }
@@ -652,6 +656,16 @@ public class JmxManagementLifecycleStrategy extends ServiceSupport implements Li
 
     @Override
     public void onRoutesAdd(Collection<Route> routes) {
+        // lock as the routes can be added concurrently (such as when starting routes in parallel)
+        routesLock.lock();
+        try {
+            doOnRoutesAdd(routes);
+        } finally {
+            routesLock.unlock();
+        }
+    }
+
+    private void doOnRoutesAdd(Collection<Route> routes) {
         for (Route route : routes) {
 
             // if we are starting CamelContext or either of the two options has been
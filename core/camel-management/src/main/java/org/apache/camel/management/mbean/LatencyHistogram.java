@@ -0,0 +1,275 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management.mbean;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.apache.camel.util.json.JsonArray;
+import org.apache.camel.util.json.JsonObject;
+
+/**
+ * A lock-free histogram of latencies with log-linear buckets (in the style of HdrHistogram), used for computing
+ * percentiles of the processing time.
+ * <p/>
+ * Values below 64 are counted exactly, and larger values are counted in buckets of which the width grows with the
+ * power of two of the value, with 32 buckets per power of two, so the relative error of a percentile is at most about
+ * 3%. Recording a value is a single atomic increment, without allocation or locking, and the histogram has a fixed size
+ * regardless of the number of values recorded.
+ * <p/>
+ * The buckets are the same for all histograms, so snapshots from several histograms (such as the routes of a group, or
+ * the same route in several applications) can be merged, and then the percentiles computed from the merged snapshot.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int SUB_BUCKET_HALF_COUNT = SUB_BUCKET_COUNT >> 1;
+    // values up to 2^40 millis (about 34 years) are tracked, larger values are counted in the last bucket
+    private static final int HIGHEST_BITS = 40;
+    private static final long HIGHEST_TRACKABLE_VALUE = (1L << HIGHEST_BITS) - 1;
+    static final int BUCKET_COUNT = SUB_BUCKET_COUNT + (HIGHEST_BITS - SUB_BUCKET_BITS) * SUB_BUCKET_HALF_COUNT;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong maxValue = new AtomicLong();
+    // the counts at the previous interval snapshot
+    private final long[] intervalCounts = new long[BUCKET_COUNT];
+
+    /**
+     * Records the value.
+     *
+     * @param value the value (negative values are recorded as 0)
+     */
+    public void recordValue(long value) {
+        long v = Math.max(0, Math.min(value, HIGHEST_TRACKABLE_VALUE));
+        counts.incrementAndGet(bucketIndex(v));
+        long max = maxValue.get();
+        while (v > max && !maxValue.compareAndSet(max, v)) {
+            max = maxValue.get();
+        }
+    }
+
+    /**
+     * Resets the histogram.
+     */
+    public synchronized void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts.set(i, 0);
+            intervalCounts[i] = 0;
+        }
+        maxValue.set(0);
+    }
+
+    /**
+     * Gets the value at the given percentile of all the values recorded since the histogram was created or reset,
+     * without taking a snapshot.
+     *
+     * @param  percentile the percentile such as 99.9
+     * @return            the value, or -1 if there are no values
+     */
+    public long getValueAtPercentile(double percentile) {
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            total += counts.get(i);
+        }
+        if (total == 0) {
+            return -1;
+        }
+        long max = maxValue.get();
+        long target = percentileTarget(percentile, total);
+        long sum = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            sum += counts.get(i);
+            if (sum >= target) {
+                return Math.min(bucketUpperBound(i), max);
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Takes a snapshot of all the values recorded since the histogram was created or reset.
+     */
+    public Snapshot snapshot() {
+        long[] copy = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            copy[i] = counts.get(i);
+        }
+        return new Snapshot(copy, maxValue.get());
+    }
+
+    /**
+     * Takes a snapshot of the values recorded since the previous interval snapshot (or since the histogram was created
+     * or reset), which can be used for reporting the percentiles of each interval, instead of since the beginning.
+     */
+    public synchronized Snapshot intervalSnapshot() {
+        long[] copy = new long[BUCKET_COUNT];
+        int highest = -1;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            long count = counts.get(i);
+            copy[i] = Math.max(0, count - intervalCounts[i]);
+            intervalCounts[i] = count;
+            if (copy[i] > 0) {
+                highest = i;
+            }
+        }
+        // the max value of the interval is not tracked, so use the upper bound of the highest bucket of the interval
+        long intervalMax = highest == -1 ? 0 : Math.min(maxValue.get(), bucketUpperBound(highest));
+        return new Snapshot(copy, intervalMax);
+    }
+
+    private static long percentileTarget(double percentile, long total) {
+        double p = Math.max(0, Math.min(percentile, 100));
+        return Math.max(1, (long) Math.ceil(p * total / 100));
+    }
+
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        // the position of the highest bit decides the width of the bucket
+        int shift = 63 - Long.numberOfLeadingZeros(value) - (SUB_BUCKET_BITS - 1);
+        int subBucket = (int) (value >>> shift) - SUB_BUCKET_HALF_COUNT;
+        return SUB_BUCKET_COUNT + (shift - 1) * SUB_BUCKET_HALF_COUNT + subBucket;
+    }
+
+    static long bucketLowerBound(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = (index - SUB_BUCKET_COUNT) / SUB_BUCKET_HALF_COUNT + 1;
+        long subBucket = (index - SUB_BUCKET_COUNT) % SUB_BUCKET_HALF_COUNT + SUB_BUCKET_HALF_COUNT;
+        return subBucket << shift;
+    }
+
+    static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = (index - SUB_BUCKET_COUNT) / SUB_BUCKET_HALF_COUNT + 1;
+        return bucketLowerBound(index) + (1L << shift) - 1;
+    }
+
+    /**
+     * A snapshot of the counts of the histogram.
+     */
+    public static final class Snapshot {
+
+        private final long[] counts;
+        private final long totalCount;
+        private final long maxValue;
+
+        Snapshot(long[] counts, long maxValue) {
+            this.counts = counts;
+            long total = 0;
+            for (long count : counts) {
+                total += count;
+            }
+            this.totalCount = total;
+            this.maxValue = maxValue;
+        }
+
+        public long getTotalCount() {
+            return totalCount;
+        }
+
+        public long getMaxValue() {
+            return maxValue;
+        }
+
+        /**
+         * Gets the value at the given percentile, which is the upper bound of the bucket of the value (but not higher
+         * than the max value).
+         *
+         * @param  percentile the percentile such as 99.9
+         * @return            the value, or -1 if there are no values
+         */
+        public long getValueAtPercentile(double percentile) {
+            if (totalCount == 0) {
+                return -1;
+            }
+            long target = percentileTarget(percentile, totalCount);
+            long sum = 0;
+            for (int i = 0; i < counts.length; i++) {
+                sum += counts[i];
+                if (sum >= target) {
+                    return Math.min(bucketUpperBound(i), maxValue);
+                }
+            }
+            return maxValue;
+        }
+
+        /**
+         * Merges this snapshot with the other snapshot, such as for computing the percentiles of several routes.
+         *
+         * @param  other the other snapshot
+         * @return       the merged snapshot
+         */
+        public Snapshot merge(Snapshot other) {
+            long[] merged = new long[BUCKET_COUNT];
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                merged[i] = counts[i] + other.counts[i];
+            }
+            return new Snapshot(merged, Math.max(maxValue, other.maxValue));
+        }
+
+        /**
+         * Creates a snapshot from the output of {@link #asJson(Map)}, such as from another application, which can be
+         * merged with this snapshot.
+         *
+         * @param  json the json with the buckets
+         * @return      the snapshot
+         */
+        public static Snapshot fromJson(Map<String, Object> json) {
+            long[] counts = new long[BUCKET_COUNT];
+            Object buckets = json.get("buckets");
+            if (buckets instanceof Iterable<?> it) {
+                for (Object o : it) {
+                    if (o instanceof Map<?, ?> bucket) {
+                        long value = ((Number) bucket.get("value")).longValue();
+                        long count = ((Number) bucket.get("count")).longValue();
+                        counts[bucketIndex(Math.max(0, Math.min(value, HIGHEST_TRACKABLE_VALUE)))] += count;
+                    }
+                }
+            }
+            Object max = json.get("max");
+            return new Snapshot(counts, max instanceof Number n ? n.longValue() : 0);
+        }
+
+        /**
+         * Adds the snapshot to the json, with the count, the max value, and the buckets that has values (the upper
+         * bound of the bucket and the count), so that the output can be merged with other snapshots.
+         *
+         * @param json the json
+         */
+        public void asJson(Map<String, Object> json) {
+            json.put("count", totalCount);
+            json.put("max", maxValue);
+            JsonArray arr = new JsonArray();
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] > 0) {
+                    JsonObject jo = new JsonObject();
+                    jo.put("value", bucketUpperBound(i));
+                    jo.put("count", counts[i]);
+                    arr.add(jo);
+                }
+            }
+            json.put("buckets", arr);
+        }
+    }
+}
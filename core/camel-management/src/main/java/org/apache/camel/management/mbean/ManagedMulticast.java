@@ -63,4 +63,9 @@ public class ManagedMulticast extends ManagedProcessor implements ManagedMultica
     public Long getTimeout() {
         return getProcessor().getTimeout();
     }
+
+    @Override
+    public Integer getMaxInflight() {
+        return getProcessor().getMaxInflight();
+    }
 }
@@ -17,7 +17,6 @@
 package org.apache.camel.management.mbean;
 
 import java.text.SimpleDateFormat;
-import java.util.Arrays;
 import java.util.Date;
 import java.util.Map;
 
@@ -36,8 +35,6 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
 
     public static final String TIMESTAMP_FORMAT = "yyyy-MM-dd'T'HH:mm:ss.SSSZ";
 
-    private static final int PERCENTILE_WINDOW_SIZE = 1024;
-
     private Statistic exchangesCompleted;
     private Statistic exchangesFailed;
     private Statistic exchangesInflight;
@@ -63,10 +60,8 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
     private final LoadThroughput thp = new LoadThroughput();
     private boolean statisticsEnabled = true;
 
-    // sliding window ring buffer for percentile computation (Extended statistics only)
-    private long[] percentileWindow;
-    private int percentileIndex;
-    private int percentileCount;
+    // histogram of the processing times for percentiles (Extended statistics only)
+    private LatencyHistogram processingTimeHistogram;
 
     @Override
     public void init(ManagementStrategy strategy) {
@@ -95,9 +90,7 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
     }
 
     public void initExtendedStatistics() {
-        percentileWindow = new long[PERCENTILE_WINDOW_SIZE];
-        percentileIndex = 0;
-        percentileCount = 0;
+        processingTimeHistogram = new LatencyHistogram();
     }
 
     @Override
@@ -126,9 +119,8 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
         lastExchangeFailureTimestamp.reset();
         lastExchangeFailureExchangeId = null;
         thp.reset();
-        if (percentileWindow != null) {
-            percentileIndex = 0;
-            percentileCount = 0;
+        if (processingTimeHistogram != null) {
+            processingTimeHistogram.reset();
         }
     }
 
@@ -194,17 +186,50 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
 
     @Override
     public long getProcessingTimeP50() {
-        return getPercentile(0.50);
+        return getPercentile(50);
     }
 
     @Override
     public long getProcessingTimeP95() {
-        return getPercentile(0.95);
+        return getPercentile(95);
     }
 
     @Override
     public long getProcessingTimeP99() {
-        return getPercentile(0.99);
+        return getPercentile(99);
+    }
+
+    @Override
+    public long getProcessingTimeP999() {
+        return getPercentile(99.9);
+    }
+
+    @Override
+    public long processingTimePercentile(double percentile) {
+        return getPercentile(percentile);
+    }
+
+    @Override
+    public String dumpProcessingTimeHistogramAsJSon(boolean interval) {
+        JsonObject jo = new JsonObject();
+        LatencyHistogram.Snapshot snapshot = getProcessingTimeHistogram(interval);
+        if (snapshot != null) {
+            snapshot.asJson(jo);
+        }
+        return jo.toJson();
+    }
+
+    /**
+     * Takes a snapshot of the histogram of the processing times.
+     *
+     * @param  interval whether to only include the processing times since the previous interval snapshot
+     * @return          the snapshot, or <tt>null</tt> if the Extended statistics level is not in use
+     */
+    public LatencyHistogram.Snapshot getProcessingTimeHistogram(boolean interval) {
+        if (processingTimeHistogram == null) {
+            return null;
+        }
+        return interval ? processingTimeHistogram.intervalSnapshot() : processingTimeHistogram.snapshot();
     }
 
     @Override
@@ -333,12 +358,8 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
         lastProcessingTime.updateValue(time);
         deltaProcessingTime.updateValue(time);
 
-        if (percentileWindow != null) {
-            percentileWindow[percentileIndex] = time;
-            percentileIndex = (percentileIndex + 1) % PERCENTILE_WINDOW_SIZE;
-            if (percentileCount < PERCENTILE_WINDOW_SIZE) {
-                percentileCount++;
-            }
+        if (processingTimeHistogram != null) {
+            processingTimeHistogram.recordValue(time);
         }
 
         long now = System.currentTimeMillis();
@@ -387,14 +408,10 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
     }
 
     private long getPercentile(double percentile) {
-        if (percentileWindow == null || percentileCount == 0) {
+        if (processingTimeHistogram == null) {
             return -1;
         }
-        long[] snapshot = new long[percentileCount];
-        System.arraycopy(percentileWindow, 0, snapshot, 0, percentileCount);
-        Arrays.sort(snapshot);
-        int index = (int) Math.ceil(percentile * percentileCount) - 1;
-        return snapshot[Math.max(0, index)];
+        return processingTimeHistogram.getValueAtPercentile(percentile);
     }
 
     @Override
@@ -414,10 +431,12 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
         sb.append(String.format(" deltaProcessingTime=\"%s\"", deltaProcessingTime.getValue()));
         sb.append(String.format(" meanProcessingTime=\"%s\"", meanProcessingTime.getValue()));
         sb.append(String.format(" exchangesThroughput=\"%s\"", getThroughput()));
-        if (percentileWindow != null) {
-            sb.append(String.format(" p50ProcessingTime=\"%s\"", getProcessingTimeP50()));
-            sb.append(String.format(" p95ProcessingTime=\"%s\"", getProcessingTimeP95()));
-            sb.append(String.format(" p99ProcessingTime=\"%s\"", getProcessingTimeP99()));
+        if (processingTimeHistogram != null) {
+            LatencyHistogram.Snapshot snapshot = processingTimeHistogram.snapshot();
+            sb.append(String.format(" p50ProcessingTime=\"%s\"", snapshot.getValueAtPercentile(50)));
+            sb.append(String.format(" p95ProcessingTime=\"%s\"", snapshot.getValueAtPercentile(95)));
+            sb.append(String.format(" p99ProcessingTime=\"%s\"", snapshot.getValueAtPercentile(99)));
+            sb.append(String.format(" p999ProcessingTime=\"%s\"", snapshot.getValueAtPercentile(99.9)));
         }
         sb.append(String.format(" idleSince=\"%s\"", getIdleSince()));
 
@@ -467,10 +486,12 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
         jo.put("deltaProcessingTime", deltaProcessingTime.getValue());
         jo.put("meanProcessingTime", meanProcessingTime.getValue());
         jo.put("exchangesThroughput", getThroughput());
-        if (percentileWindow != null) {
-            jo.put("p50ProcessingTime", getProcessingTimeP50());
-            jo.put("p95ProcessingTime", getProcessingTimeP95());
-            jo.put("p99ProcessingTime", getProcessingTimeP99());
+        if (processingTimeHistogram != null) {
+            LatencyHistogram.Snapshot snapshot = processingTimeHistogram.snapshot();
+            jo.put("p50ProcessingTime", snapshot.getValueAtPercentile(50));
+            jo.put("p95ProcessingTime", snapshot.getValueAtPercentile(95));
+            jo.put("p99ProcessingTime", snapshot.getValueAtPercentile(99));
+            jo.put("p999ProcessingTime", snapshot.getValueAtPercentile(99.9));
         }
         jo.put("idleSince", getIdleSince());
         if (fullStats) {
@@ -168,6 +168,21 @@ public class ManagedStreamCachingStrategy extends ManagedService implements Mana
         return streamCachingStrategy.isAnySpoolRules();
     }
 
+    @Override
+    public void setSpoolOffHeapMaxSize(long maxSize) {
+        streamCachingStrategy.setSpoolOffHeapMaxSize(maxSize);
+    }
+
+    @Override
+    public long getSpoolOffHeapMaxSize() {
+        return streamCachingStrategy.getSpoolOffHeapMaxSize();
+    }
+
+    @Override
+    public long getSpoolOffHeapUsedSize() {
+        return streamCachingStrategy.getSpoolOffHeapUsedSize();
+    }
+
     @Override
     public long getCacheMemoryCounter() {
         return streamCachingStrategy.getStatistics().getCacheMemoryCounter();
@@ -198,6 +213,21 @@ public class ManagedStreamCachingStrategy extends ManagedService implements Mana
         return streamCachingStrategy.getStatistics().getCacheSpoolAverageSize();
     }
 
+    @Override
+    public long getCacheOffHeapCounter() {
+        return streamCachingStrategy.getStatistics().getCacheOffHeapCounter();
+    }
+
+    @Override
+    public long getCacheOffHeapSize() {
+        return streamCachingStrategy.getStatistics().getCacheOffHeapSize();
+    }
+
+    @Override
+    public long getCacheOffHeapAverageSize() {
+        return streamCachingStrategy.getStatistics().getCacheOffHeapAverageSize();
+    }
+
     @Override
     public boolean isStatisticsEnabled() {
         return streamCachingStrategy.getStatistics().isStatisticsEnabled();
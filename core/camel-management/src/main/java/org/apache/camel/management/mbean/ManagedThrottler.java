@@ -20,6 +20,7 @@ import org.apache.camel.CamelContext;
 import org.apache.camel.api.management.ManagedResource;
 import org.apache.camel.api.management.mbean.ManagedThrottlerMBean;
 import org.apache.camel.model.ProcessorDefinition;
+import org.apache.camel.processor.AdaptiveConcurrentRequestsThrottler;
 import org.apache.camel.processor.Throttler;
 import org.apache.camel.processor.TotalRequestsThrottler;
 
@@ -83,4 +84,27 @@ public class ManagedThrottler extends ManagedProcessor implements ManagedThrottl
     public Boolean isRejectExecution() {
         return getProcessor().isRejectExecution();
     }
+
+    @Override
+    public long getRejectedRequests() {
+        return getProcessor().getRejectedRequests();
+    }
+
+    @Override
+    public double getRoundTripTime() {
+        if (getProcessor() instanceof AdaptiveConcurrentRequestsThrottler t) {
+            return t.getRoundTripTime();
+        }
+
+        return 0;
+    }
+
+    @Override
+    public double getMinRoundTripTime() {
+        if (getProcessor() instanceof AdaptiveConcurrentRequestsThrottler t) {
+            return t.getMinRoundTripTime();
+        }
+
+        return 0;
+    }
 }
@@ -16,11 +16,21 @@
  */
 package org.apache.camel.management.mbean;
 
+import java.util.Map;
+
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.CompositeDataSupport;
+import javax.management.openmbean.CompositeType;
+import javax.management.openmbean.TabularData;
+import javax.management.openmbean.TabularDataSupport;
+
 import org.apache.camel.CamelContext;
 import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.api.management.mbean.CamelOpenMBeanTypes;
 import org.apache.camel.api.management.mbean.ManagedTypeConverterRegistryMBean;
 import org.apache.camel.spi.TypeConverterRegistry;
+import org.apache.camel.spi.TypeConvertible;
 
 /**
  *
@@ -95,4 +105,23 @@ public class ManagedTypeConverterRegistry extends ManagedService implements Mana
         }
     }
 
+    @Override
+    public TabularData listTopTypeConversions(int limit) {
+        try {
+            TabularData answer = new TabularDataSupport(CamelOpenMBeanTypes.listTopTypeConversionsTabularType());
+            Map<TypeConvertible<?, ?>, Long> top = registry.getStatistics().getTopConversions(limit);
+            for (Map.Entry<TypeConvertible<?, ?>, Long> entry : top.entrySet()) {
+                CompositeType ct = CamelOpenMBeanTypes.listTopTypeConversionsCompositeType();
+                CompositeData data = new CompositeDataSupport(
+                        ct, new String[] { "from", "to", "conversions" },
+                        new Object[] {
+                                entry.getKey().getFrom().getName(), entry.getKey().getTo().getName(), entry.getValue() });
+                answer.put(data);
+            }
+            return answer;
+        } catch (Exception e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        }
+    }
+
 }
@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management;
+
+import org.apache.camel.management.mbean.LatencyHistogram;
+import org.apache.camel.util.json.JsonObject;
+import org.apache.camel.util.json.Jsoner;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void testEmpty() {
+        LatencyHistogram h = new LatencyHistogram();
+        assertEquals(-1, h.getValueAtPercentile(50));
+        assertEquals(0, h.snapshot().getTotalCount());
+        assertEquals(-1, h.snapshot().getValueAtPercentile(99));
+    }
+
+    @Test
+    public void testExactSmallValues() {
+        LatencyHistogram h = new LatencyHistogram();
+        for (int i = 1; i <= 50; i++) {
+            h.recordValue(i);
+        }
+        assertEquals(25, h.getValueAtPercentile(50));
+        assertEquals(48, h.getValueAtPercentile(95));
+        assertEquals(50, h.getValueAtPercentile(100));
+        assertEquals(1, h.getValueAtPercentile(0));
+    }
+
+    @Test
+    public void testRelativeError() {
+        LatencyHistogram h = new LatencyHistogram();
+        for (int i = 1; i <= 100000; i++) {
+            h.recordValue(i);
+        }
+        LatencyHistogram.Snapshot snapshot = h.snapshot();
+        assertEquals(100000, snapshot.getTotalCount());
+        assertEquals(100000, snapshot.getMaxValue());
+        assertWithin(50000, snapshot.getValueAtPercentile(50));
+        assertWithin(99000, snapshot.getValueAtPercentile(99));
+        assertWithin(99900, snapshot.getValueAtPercentile(99.9));
+        assertEquals(100000, snapshot.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void testLargeValues() {
+        LatencyHistogram h = new LatencyHistogram();
+        h.recordValue(-5);
+        h.recordValue(Long.MAX_VALUE);
+        assertEquals(0, h.getValueAtPercentile(50));
+        assertTrue(h.getValueAtPercentile(100) > 0);
+    }
+
+    @Test
+    public void testIntervalSnapshot() {
+        LatencyHistogram h = new LatencyHistogram();
+        for (int i = 0; i < 100; i++) {
+            h.recordValue(10);
+        }
+        assertEquals(100, h.intervalSnapshot().getTotalCount());
+
+        for (int i = 0; i < 10; i++) {
+            h.recordValue(1000);
+        }
+        LatencyHistogram.Snapshot interval = h.intervalSnapshot();
+        assertEquals(10, interval.getTotalCount());
+        assertWithin(1000, interval.getValueAtPercentile(50));
+        assertEquals(0, h.intervalSnapshot().getTotalCount());
+
+        // the snapshot is still since the beginning
+        assertEquals(110, h.snapshot().getTotalCount());
+        assertEquals(10, h.snapshot().getValueAtPercentile(50));
+    }
+
+    @Test
+    public void testReset() {
+        LatencyHistogram h = new LatencyHistogram();
+        h.recordValue(123);
+        h.reset();
+        assertEquals(0, h.snapshot().getTotalCount());
+        assertEquals(-1, h.getValueAtPercentile(50));
+        h.recordValue(7);
+        assertEquals(1, h.intervalSnapshot().getTotalCount());
+    }
+
+    @Test
+    public void testMerge() throws Exception {
+        LatencyHistogram h1 = new LatencyHistogram();
+        LatencyHistogram h2 = new LatencyHistogram();
+        for (int i = 0; i < 90; i++) {
+            h1.recordValue(5);
+        }
+        for (int i = 0; i < 10; i++) {
+            h2.recordValue(5000);
+        }
+        LatencyHistogram.Snapshot merged = h1.snapshot().merge(h2.snapshot());
+        assertEquals(100, merged.getTotalCount());
+        assertEquals(5, merged.getValueAtPercentile(90));
+        assertWithin(5000, merged.getValueAtPercentile(95));
+        assertEquals(5000, merged.getMaxValue());
+
+        // merge from the json output, such as from another application
+        JsonObject jo = new JsonObject();
+        h2.snapshot().asJson(jo);
+        JsonObject parsed = (JsonObject) Jsoner.deserialize(jo.toJson());
+        LatencyHistogram.Snapshot fromJson = LatencyHistogram.Snapshot.fromJson(parsed);
+        assertEquals(10, fromJson.getTotalCount());
+        assertEquals(100, h1.snapshot().merge(fromJson).getTotalCount());
+        assertWithin(5000, h1.snapshot().merge(fromJson).getValueAtPercentile(99));
+    }
+
+    private static void assertWithin(long expected, long actual) {
+        double error = Math.abs(actual - expected) / (double) expected;
+        assertTrue(error <= 0.035, "Expected about " + expected + " but was " + actual);
+    }
+}
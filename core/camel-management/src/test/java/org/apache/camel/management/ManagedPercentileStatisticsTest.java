@@ -65,6 +65,23 @@ public class ManagedPercentileStatisticsTest extends ManagementTestSupport {
         assertTrue(p99 >= 0, "p99 should be >= 0, was: " + p99);
         assertTrue(p50 <= p95, "p50 should be <= p95, was p50=" + p50 + " p95=" + p95);
         assertTrue(p95 <= p99, "p95 should be <= p99, was p95=" + p95 + " p99=" + p99);
+
+        Long p999 = (Long) mbeanServer.getAttribute(on, "ProcessingTimeP999");
+        assertTrue(p99 <= p999, "p99 should be <= p999, was p99=" + p99 + " p999=" + p999);
+        Long p100 = (Long) mbeanServer.invoke(on, "processingTimePercentile", new Object[] { 100d },
+                new String[] { "double" });
+        Long max = (Long) mbeanServer.getAttribute(on, "MaxProcessingTime");
+        assertEquals(max, p100);
+
+        String json = (String) mbeanServer.invoke(on, "dumpProcessingTimeHistogramAsJSon", new Object[] { true },
+                new String[] { "boolean" });
+        assertTrue(json.contains("\"count\":5"), json);
+        json = (String) mbeanServer.invoke(on, "dumpProcessingTimeHistogramAsJSon", new Object[] { true },
+                new String[] { "boolean" });
+        assertTrue(json.contains("\"count\":0"), json);
+        json = (String) mbeanServer.invoke(on, "dumpProcessingTimeHistogramAsJSon", new Object[] { false },
+                new String[] { "boolean" });
+        assertTrue(json.contains("\"count\":5"), json);
     }
 
     @Test
@@ -91,6 +91,18 @@ public class ManagedStreamCachingStrategyTest extends ManagementTestSupport {
         cacheSize = (Long) mbeanServer.getAttribute(name, "CacheSpoolSize");
         assertEquals(0, cacheSize.longValue());
 
+        counter = (Long) mbeanServer.getAttribute(name, "CacheOffHeapCounter");
+        assertEquals(0, counter.longValue());
+
+        cacheSize = (Long) mbeanServer.getAttribute(name, "CacheOffHeapSize");
+        assertEquals(0, cacheSize.longValue());
+
+        Long offHeap = (Long) mbeanServer.getAttribute(name, "SpoolOffHeapMaxSize");
+        assertEquals(0, offHeap.longValue());
+
+        offHeap = (Long) mbeanServer.getAttribute(name, "SpoolOffHeapUsedSize");
+        assertEquals(0, offHeap.longValue());
+
         String cipher = (String) mbeanServer.getAttribute(name, "SpoolCipher");
         assertNull(cipher);
 
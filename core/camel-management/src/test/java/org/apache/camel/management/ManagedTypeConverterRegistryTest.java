@@ -20,6 +20,8 @@ import java.util.Set;
 
 import javax.management.MBeanServer;
 import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.TabularData;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.builder.RouteBuilder;
@@ -118,6 +120,16 @@ public class ManagedTypeConverterRegistryTest extends ManagementTestSupport {
                 new Object[] { "java.math.BigInteger", "java.util.Random" },
                 new String[] { "java.lang.String", "java.lang.String" });
         assertFalse(has, "Should not have type converter");
+
+        template.sendBody("direct:start", "8");
+        template.sendBody("direct:start", "9");
+
+        TabularData top = (TabularData) mbeanServer.invoke(name, "listTopTypeConversions", new Object[] { 5 },
+                new String[] { "int" });
+        assertTrue(top.size() >= 1, "Should have top conversions");
+        CompositeData row = (CompositeData) top.get(new Object[] { "java.lang.String", "java.lang.Integer" });
+        assertNotNull(row, "Should have String -> Integer conversion");
+        assertTrue((Long) row.get("conversions") >= 2);
     }
 
     @Override
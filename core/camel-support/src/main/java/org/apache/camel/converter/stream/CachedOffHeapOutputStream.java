@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.apache.camel.spi.StreamCachingStrategy;
+
+/**
+ * An {@link OutputStream} that stores the content in blocks of off-heap memory, which are acquired from the
+ * {@link StreamCachingStrategy} and released back to it when the stream caches are no longer in use.
+ *
+ * @see CachedOutputStream
+ */
+final class CachedOffHeapOutputStream extends OutputStream {
+
+    private final StreamCachingStrategy strategy;
+    private final List<ByteBuffer> blocks = new ArrayList<>();
+    // readers hold the read lock, so the blocks are not released while being read
+    private final ReadWriteLock releaseLock = new ReentrantReadWriteLock();
+    private long capacity;
+    private long size;
+    private int current;
+    private volatile boolean released;
+
+    CachedOffHeapOutputStream(StreamCachingStrategy strategy) {
+        this.strategy = strategy;
+    }
+
+    /**
+     * Ensures there is room for writing the given number of bytes, by acquiring more blocks if needed.
+     *
+     * @return <tt>true</tt> if there is room, or <tt>false</tt> if the off-heap budget is exhausted
+     */
+    boolean reserve(long length) {
+        while (capacity - size < length) {
+            ByteBuffer block = strategy.acquireOffHeapBlock();
+            if (block == null) {
+                return false;
+            }
+            blocks.add(block);
+            capacity += block.capacity();
+        }
+        return true;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        if (!reserve(1)) {
+            throw new IOException("Off-heap stream cache budget is exhausted");
+        }
+        ByteBuffer block = blocks.get(current);
+        if (!block.hasRemaining()) {
+            block = blocks.get(++current);
+        }
+        block.put((byte) b);
+        size++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        if (!reserve(len)) {
+            throw new IOException("Off-heap stream cache budget is exhausted");
+        }
+        while (len > 0) {
+            ByteBuffer block = blocks.get(current);
+            if (!block.hasRemaining()) {
+                block = blocks.get(++current);
+            }
+            int n = Math.min(len, block.remaining());
+            block.put(b, off, n);
+            off += n;
+            len -= n;
+            size += n;
+        }
+    }
+
+    /**
+     * Writes the content to the given stream, such as when overflowing to another kind of stream.
+     */
+    void writeTo(OutputStream out, int bufferSize) throws IOException {
+        byte[] buffer = new byte[bufferSize];
+        for (ByteBuffer block : readOnlyBlocks()) {
+            while (block.hasRemaining()) {
+                int n = Math.min(buffer.length, block.remaining());
+                block.get(buffer, 0, n);
+                out.write(buffer, 0, n);
+            }
+        }
+    }
+
+    /**
+     * Read-only views of the blocks that contain the written content.
+     */
+    ByteBuffer[] readOnlyBlocks() {
+        int count = size == 0 ? 0 : current + 1;
+        ByteBuffer[] answer = new ByteBuffer[count];
+        for (int i = 0; i < count; i++) {
+            answer[i] = blocks.get(i).asReadOnlyBuffer().flip();
+        }
+        return answer;
+    }
+
+    long size() {
+        return size;
+    }
+
+    boolean isReleased() {
+        return released;
+    }
+
+    /**
+     * The lock to hold while reading the blocks, which prevents the blocks from being released until the lock is
+     * unlocked. Check {@link #isReleased()} after locking.
+     */
+    Lock readLock() {
+        return releaseLock.readLock();
+    }
+
+    /**
+     * Releases the blocks back to the {@link StreamCachingStrategy}, after the current reads are done.
+     */
+    void release() {
+        releaseLock.writeLock().lock();
+        try {
+            if (!released) {
+                released = true;
+                for (ByteBuffer block : blocks) {
+                    strategy.releaseOffHeapBlock(block);
+                }
+                blocks.clear();
+                capacity = 0;
+            }
+        } finally {
+            releaseLock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "CachedOffHeapOutputStream[size: " + size + ", blocks: " + blocks.size() + "]";
+    }
+}
@@ -33,6 +33,10 @@ import org.apache.camel.util.IOHelper;
  * This output stream will store the content into a File if the stream context size is exceed the THRESHOLD value. The
  * default THRESHOLD value is {@link StreamCache#DEFAULT_SPOOL_THRESHOLD} bytes .
  * <p/>
+ * If the {@link StreamCachingStrategy} has a budget for off-heap memory then the content is first spooled to off-heap
+ * memory, and only when the budget is exhausted then the content is stored into the File (or kept in heap memory, if
+ * spooling to disk is not enabled).
+ * <p/>
  * The temp file will store in the temp directory, you can configure it by setting the TEMP_DIR property. If you don't
  * set the TEMP_DIR property, it will choose the directory which is set by the system property of "java.io.tmpdir".
  * <p/>
@@ -45,6 +49,7 @@ public class CachedOutputStream extends OutputStream {
     private final StreamCachingStrategy strategy;
     private OutputStream currentStream;
     private boolean inMemory = true;
+    private boolean offHeapExhausted;
     private int totalLength;
     private final TempFileManager tempFileManager;
     private final boolean closedOnCompletion;
@@ -102,30 +107,34 @@ public class CachedOutputStream extends OutputStream {
     @Override
     public void write(byte[] b, int off, int len) throws IOException {
         this.totalLength += len;
-        if (inMemory && currentStream instanceof ByteArrayOutputStream && strategy.shouldSpoolCache(totalLength)) {
-            pageToFileStream();
-        }
+        checkSpool(len);
         currentStream.write(b, off, len);
     }
 
     @Override
     public void write(byte[] b) throws IOException {
         this.totalLength += b.length;
-        if (inMemory && currentStream instanceof ByteArrayOutputStream && strategy.shouldSpoolCache(totalLength)) {
-            pageToFileStream();
-        }
+        checkSpool(b.length);
         currentStream.write(b);
     }
 
     @Override
     public void write(int b) throws IOException {
         this.totalLength++;
-        if (inMemory && currentStream instanceof ByteArrayOutputStream && strategy.shouldSpoolCache(totalLength)) {
-            pageToFileStream();
-        }
+        checkSpool(1);
         currentStream.write(b);
     }
 
+    private void checkSpool(int len) throws IOException {
+        if (inMemory) {
+            if (currentStream instanceof ByteArrayOutputStream && strategy.shouldSpoolCache(totalLength)) {
+                pageOut();
+            } else if (currentStream instanceof CachedOffHeapOutputStream offHeap && !offHeap.reserve(len)) {
+                pageOutOffHeap(offHeap);
+            }
+        }
+    }
+
     public InputStream getInputStream() throws IOException {
         return (InputStream) newStreamCache();
     }
@@ -144,6 +153,8 @@ public class CachedOutputStream extends OutputStream {
         if (inMemory) {
             if (currentStream instanceof CachedByteArrayOutputStream cachedByteArrayOutputStream) {
                 return cachedByteArrayOutputStream.newInputStreamCache();
+            } else if (currentStream instanceof CachedOffHeapOutputStream) {
+                return tempFileManager.newOffHeapStreamCache();
             } else {
                 throw new IllegalStateException(
                         "CurrentStream should be an instance of CachedByteArrayOutputStream but is: "
@@ -154,6 +165,45 @@ public class CachedOutputStream extends OutputStream {
         }
     }
 
+    private void pageOut() throws IOException {
+        if (!offHeapExhausted && strategy.getSpoolOffHeapMaxSize() > 0) {
+            CachedByteArrayOutputStream bout = (CachedByteArrayOutputStream) currentStream;
+            CachedOffHeapOutputStream out = tempFileManager.createOffHeapOutputStream(strategy);
+            // reserve room for what we have and what is about to be written
+            if (out != null && out.reserve(totalLength)) {
+                bout.writeTo(out);
+                currentStream = out;
+                return;
+            }
+            tempFileManager.releaseOffHeap();
+            offHeapExhausted = true;
+        }
+        if (isSpoolToFile()) {
+            pageToFileStream();
+        }
+    }
+
+    private void pageOutOffHeap(CachedOffHeapOutputStream offHeap) throws IOException {
+        offHeapExhausted = true;
+        try {
+            if (isSpoolToFile()) {
+                currentStream = tempFileManager.createOutputStream(strategy);
+                inMemory = false;
+            } else {
+                // keep the rest in heap memory
+                currentStream = new CachedByteArrayOutputStream(Math.max(strategy.getBufferSize(), totalLength));
+            }
+            offHeap.writeTo(currentStream, strategy.getBufferSize());
+        } finally {
+            tempFileManager.releaseOffHeap();
+        }
+    }
+
+    private boolean isSpoolToFile() {
+        // when spooling off-heap without spooling to disk, then keep the content in heap memory when the budget is exhausted
+        return strategy.getSpoolOffHeapMaxSize() <= 0 || strategy.isSpoolEnabled() || strategy.getSpoolDirectory() != null;
+    }
+
     private void pageToFileStream() throws IOException {
         flush();
         CachedByteArrayOutputStream bout = (CachedByteArrayOutputStream) currentStream;
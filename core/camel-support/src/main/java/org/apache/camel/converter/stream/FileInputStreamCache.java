@@ -206,6 +206,7 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
      *
      * Collects all FileInputStreamCache instances of the temporary file. Counts the number of exchanges which have a
      * FileInputStreamCache instance of the temporary file. Deletes the temporary file, if all exchanges are done.
+     * Likewise releases the off-heap memory, if the content was spooled to off-heap memory instead.
      *
      * @see CachedOutputStream
      */
@@ -221,6 +222,7 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
         private File tempFile;
         private OutputStream outputStream; // file output stream
         private CipherPair ciphers;
+        private CachedOffHeapOutputStream offHeapStream;
 
         // there can be several input streams, for example in the multi-cast, or wiretap parallel processing
         private List<FileInputStreamCache> fileInputStreamCaches;
@@ -354,6 +356,31 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
             return new FileInputStreamCache(this);
         }
 
+        /**
+         * Creates an output stream that spools to off-heap memory, which is released together with the temporary file.
+         *
+         * @return the stream, or <tt>null</tt> if the exchange is already done, as the memory would then never be
+         *         released
+         */
+        CachedOffHeapOutputStream createOffHeapOutputStream(StreamCachingStrategy strategy) {
+            if (closedOnCompletion && exchangeCounter.get() == 0) {
+                return null;
+            }
+            offHeapStream = new CachedOffHeapOutputStream(strategy);
+            return offHeapStream;
+        }
+
+        OffHeapInputStreamCache newOffHeapStreamCache() {
+            return new OffHeapInputStreamCache(offHeapStream, this);
+        }
+
+        void releaseOffHeap() {
+            if (offHeapStream != null) {
+                offHeapStream.release();
+                offHeapStream = null;
+            }
+        }
+
         void closeFileInputStreams() {
             if (fileInputStreamCaches != null) {
                 for (FileInputStreamCache fileInputStreamCache : fileInputStreamCaches) {
@@ -364,6 +391,8 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
         }
 
         void cleanUpTempFile() {
+            // release off-heap memory back to the pool
+            releaseOffHeap();
             // cleanup temporary file
             try {
                 if (tempFile != null) {
@@ -0,0 +1,208 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.StreamCache;
+import org.apache.camel.converter.stream.FileInputStreamCache.TempFileManager;
+import org.apache.camel.util.IOHelper;
+
+/**
+ * A {@link StreamCache} for content that has been spooled to off-heap memory.
+ * <p/>
+ * The off-heap memory is shared between copies of the stream cache, and is released when all the exchanges that use the
+ * stream cache are done. Reading from the stream cache after that fails with an {@link IOException}.
+ * <p/>
+ * <b>Important:</b> All the classes from the Camel release that implements {@link StreamCache} is NOT intended for end
+ * users to create as instances, but they are part of Camels
+ * <a href="https://camel.apache.org/manual/stream-caching.html">stream-caching</a> functionality.
+ */
+public final class OffHeapInputStreamCache extends InputStream implements StreamCache {
+
+    private final Lock lock = new ReentrantLock();
+    private final CachedOffHeapOutputStream source;
+    private final TempFileManager tempFileManager;
+    private final ByteBuffer[] blocks;
+    private final long length;
+    private int index;
+    private long pos;
+
+    OffHeapInputStreamCache(CachedOffHeapOutputStream source, TempFileManager tempFileManager) {
+        this.source = source;
+        this.tempFileManager = tempFileManager;
+        this.blocks = source.readOnlyBlocks();
+        this.length = source.size();
+    }
+
+    @Override
+    public void reset() {
+        lock.lock();
+        try {
+            for (ByteBuffer block : blocks) {
+                block.rewind();
+            }
+            index = 0;
+            pos = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void writeTo(OutputStream os) throws IOException {
+        transferTo(os);
+    }
+
+    @Override
+    public StreamCache copy(Exchange exchange) throws IOException {
+        Lock readLock = lockSource();
+        try {
+            tempFileManager.addExchange(exchange);
+            return new OffHeapInputStreamCache(source, tempFileManager);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean inMemory() {
+        return true;
+    }
+
+    @Override
+    public long length() {
+        return length;
+    }
+
+    @Override
+    public long position() {
+        return pos;
+    }
+
+    @Override
+    public int available() {
+        return (int) Math.min(Integer.MAX_VALUE, length - pos);
+    }
+
+    @Override
+    public int read() throws IOException {
+        Lock readLock = lockSource();
+        try {
+            ByteBuffer block = nextBlock();
+            if (block == null) {
+                return -1;
+            }
+            pos++;
+            return block.get() & 0xff;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        Lock readLock = lockSource();
+        try {
+            int total = 0;
+            while (total < len) {
+                ByteBuffer block = nextBlock();
+                if (block == null) {
+                    break;
+                }
+                int n = Math.min(len - total, block.remaining());
+                block.get(b, off + total, n);
+                total += n;
+            }
+            pos += total;
+            return total == 0 ? -1 : total;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        Lock readLock = lockSource();
+        try {
+            long skipped = 0;
+            while (skipped < n) {
+                ByteBuffer block = nextBlock();
+                if (block == null) {
+                    break;
+                }
+                int step = (int) Math.min(n - skipped, block.remaining());
+                block.position(block.position() + step);
+                skipped += step;
+            }
+            pos += skipped;
+            return skipped;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public long transferTo(OutputStream out) throws IOException {
+        byte[] buffer = new byte[(int) Math.min(length - pos, IOHelper.DEFAULT_BUFFER_SIZE)];
+        long total = 0;
+        int n;
+        while (buffer.length > 0 && (n = read(buffer, 0, buffer.length)) > 0) {
+            out.write(buffer, 0, n);
+            total += n;
+        }
+        return total;
+    }
+
+    private ByteBuffer nextBlock() {
+        while (index < blocks.length) {
+            ByteBuffer block = blocks[index];
+            if (block.hasRemaining()) {
+                return block;
+            }
+            index++;
+        }
+        return null;
+    }
+
+    /**
+     * Locks the off-heap memory so it is not released while reading, which must be unlocked when done.
+     */
+    private Lock lockSource() throws IOException {
+        Lock readLock = source.readLock();
+        readLock.lock();
+        if (source.isReleased()) {
+            readLock.unlock();
+            throw new IOException("The off-heap memory of the stream cache has been released");
+        }
+        return readLock;
+    }
+
+    @Override
+    public String toString() {
+        return "OffHeapInputStreamCache[length: " + length + ", position: " + pos + "]";
+    }
+}
@@ -0,0 +1,372 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToLongFunction;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.Exchange;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Coalesces {@link Exchange}s that are offered from different threads into batches, so they can be processed together
+ * (such as in a single bulk request or a JDBC batch), instead of each exchange paying for its own round-trip.
+ * <p/>
+ * A batch is completed when it has reached the maximum number of exchanges, when the (estimated) size of the exchanges
+ * has reached the maximum number of bytes, or when the linger time has elapsed since the first exchange was added to
+ * the batch. The batch is then processed by the {@link BatchProcessor}, which should set the result (or exception) on
+ * each exchange, and then the {@link AsyncCallback} of each exchange is completed individually.
+ * <p/>
+ * A batch that is completed by size is processed by the thread that offered the last exchange, and a batch completed by
+ * the linger time is processed by the scheduler thread.
+ */
+public class AsyncBatcher extends ServiceSupport implements CamelContextAware {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AsyncBatcher.class);
+
+    /**
+     * Processes a batch of exchanges.
+     */
+    @FunctionalInterface
+    public interface BatchProcessor {
+
+        /**
+         * Processes the batch of exchanges. The result (or exception) of each exchange should be set on the exchange
+         * itself.
+         *
+         * @param  exchanges the exchanges in the batch
+         * @throws Exception is thrown if the entire batch failed, which fails every exchange in the batch that has not
+         *                   already failed
+         */
+        void processBatch(List<Exchange> exchanges) throws Exception;
+    }
+
+    private final Lock lock = new ReentrantLock();
+    private final LongAdder batchCounter = new LongAdder();
+    private final LongAdder exchangeCounter = new LongAdder();
+    private final BatchProcessor processor;
+    private CamelContext camelContext;
+    private String name = "AsyncBatcher";
+    private ScheduledExecutorService executorService;
+    private boolean shutdownExecutorService;
+    private int maxBatchSize = 100;
+    private long maxBatchBytes;
+    private long lingerTime = 10;
+    private ToLongFunction<Exchange> sizeEstimator;
+
+    // the batch currently being filled (guarded by the lock)
+    private List<Entry> pending;
+    private long pendingBytes;
+    private ScheduledFuture<?> lingerTask;
+    private boolean accepting;
+
+    public AsyncBatcher(BatchProcessor processor) {
+        this.processor = processor;
+    }
+
+    public AsyncBatcher(CamelContext camelContext, BatchProcessor processor) {
+        this.camelContext = camelContext;
+        this.processor = processor;
+    }
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Name used for the thread that completes the batches when the linger time has elapsed
+     */
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public ScheduledExecutorService getExecutorService() {
+        return executorService;
+    }
+
+    /**
+     * To use a custom scheduler for completing the batches when the linger time has elapsed. By default, a single
+     * threaded scheduler is created.
+     */
+    public void setExecutorService(ScheduledExecutorService executorService) {
+        this.executorService = executorService;
+    }
+
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * The maximum number of exchanges in a batch.
+     */
+    public void setMaxBatchSize(int maxBatchSize) {
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public long getMaxBatchBytes() {
+        return maxBatchBytes;
+    }
+
+    /**
+     * The maximum (estimated) number of bytes of the exchanges in a batch. The size of an exchange is estimated by the
+     * {@link #setSizeEstimator(ToLongFunction) size estimator}. Use 0 or negative to not limit the batch by size.
+     */
+    public void setMaxBatchBytes(long maxBatchBytes) {
+        this.maxBatchBytes = maxBatchBytes;
+    }
+
+    public long getLingerTime() {
+        return lingerTime;
+    }
+
+    /**
+     * The maximum time in millis to wait for more exchanges to be added to a batch, from when the first exchange was
+     * added. Use 0 to complete the batch as soon as the scheduler is available, which only batches the exchanges that
+     * arrive while the previous batch is being processed.
+     */
+    public void setLingerTime(long lingerTime) {
+        this.lingerTime = lingerTime;
+    }
+
+    public ToLongFunction<Exchange> getSizeEstimator() {
+        return sizeEstimator;
+    }
+
+    /**
+     * To estimate the size in bytes of an exchange, which is used with the {@link #setMaxBatchBytes(long) max batch
+     * bytes}.
+     */
+    public void setSizeEstimator(ToLongFunction<Exchange> sizeEstimator) {
+        this.sizeEstimator = sizeEstimator;
+    }
+
+    /**
+     * Number of batches that has been processed
+     */
+    public long getBatchCount() {
+        return batchCounter.sum();
+    }
+
+    /**
+     * Number of exchanges that has been processed in batches
+     */
+    public long getExchangeCount() {
+        return exchangeCounter.sum();
+    }
+
+    /**
+     * Number of exchanges waiting in the current batch
+     */
+    public int getPendingSize() {
+        lock.lock();
+        try {
+            return pending != null ? pending.size() : 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Offers the exchange to be processed in a batch.
+     * <p/>
+     * This follows the contract of {@link org.apache.camel.AsyncProcessor#process(Exchange, AsyncCallback)}, where
+     * <tt>true</tt> is returned if the exchange has been processed synchronously (by the calling thread completing the
+     * batch), and <tt>false</tt> if the callback is completed later by another thread.
+     *
+     * @param  exchange the exchange
+     * @param  callback the callback to complete when the batch with the exchange has been processed
+     * @return          <tt>true</tt> if the exchange was processed synchronously
+     */
+    public boolean offer(Exchange exchange, AsyncCallback callback) {
+        Entry entry = new Entry(exchange, callback);
+        List<Entry> batch = null;
+        lock.lock();
+        try {
+            if (!accepting) {
+                // we are not started (or stopping) so process the exchange on its own
+                batch = new ArrayList<>(1);
+                batch.add(entry);
+            } else {
+                batch = addPending(entry);
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (batch != null) {
+            return processBatch(batch, entry);
+        }
+        return false;
+    }
+
+    private List<Entry> addPending(Entry entry) {
+        if (pending == null) {
+            pending = new ArrayList<>(Math.min(maxBatchSize, 64));
+        }
+        pending.add(entry);
+        if (maxBatchBytes > 0 && sizeEstimator != null) {
+            pendingBytes += sizeEstimator.applyAsLong(entry.exchange);
+        }
+        if (pending.size() >= maxBatchSize || maxBatchBytes > 0 && pendingBytes >= maxBatchBytes) {
+            return takePending();
+        } else if (pending.size() == 1) {
+            lingerTask = executorService.schedule(this::onLingerTimeout, lingerTime, TimeUnit.MILLISECONDS);
+        }
+        return null;
+    }
+
+    /**
+     * Completes the current batch (if any) and processes it with the calling thread.
+     */
+    public void flush() {
+        List<Entry> batch;
+        lock.lock();
+        try {
+            batch = pending != null ? takePending() : null;
+        } finally {
+            lock.unlock();
+        }
+        if (batch != null) {
+            processBatch(batch, null);
+        }
+    }
+
+    private void onLingerTimeout() {
+        try {
+            flush();
+        } catch (Exception e) {
+            LOG.warn("Error processing batch in {} due to: {}. This exception is ignored.", name, e.getMessage(), e);
+        }
+    }
+
+    private List<Entry> takePending() {
+        List<Entry> answer = pending;
+        pending = null;
+        pendingBytes = 0;
+        if (lingerTask != null) {
+            // if the task is already running then it will find no (or a newer) pending batch
+            lingerTask.cancel(false);
+            lingerTask = null;
+        }
+        return answer;
+    }
+
+    private boolean processBatch(List<Entry> batch, Entry caller) {
+        List<Exchange> exchanges = new ArrayList<>(batch.size());
+        for (Entry entry : batch) {
+            exchanges.add(entry.exchange);
+        }
+
+        LOG.trace("Processing batch of {} exchanges in {}", exchanges.size(), name);
+        try {
+            processor.processBatch(exchanges);
+        } catch (Exception e) {
+            for (Exchange exchange : exchanges) {
+                if (exchange.getException() == null) {
+                    exchange.setException(e);
+                }
+            }
+        }
+        batchCounter.increment();
+        exchangeCounter.add(exchanges.size());
+
+        // complete the other exchanges first, as the caller continues routing after we return
+        for (Entry entry : batch) {
+            if (entry != caller) {
+                entry.callback.done(false);
+            }
+        }
+        if (caller != null) {
+            caller.callback.done(true);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("MaxBatchSize must be a positive number, was: " + maxBatchSize);
+        }
+        if (executorService == null) {
+            ObjectHelper.notNull(camelContext, "CamelContext", this);
+            executorService = camelContext.getExecutorServiceManager().newSingleThreadScheduledExecutor(this, name);
+            shutdownExecutorService = true;
+        }
+        lock.lock();
+        try {
+            accepting = true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        // process the exchanges that are waiting in the current batch
+        List<Entry> batch;
+        lock.lock();
+        try {
+            accepting = false;
+            batch = pending != null ? takePending() : null;
+        } finally {
+            lock.unlock();
+        }
+        if (batch != null) {
+            processBatch(batch, null);
+        }
+
+        if (shutdownExecutorService && executorService != null) {
+            camelContext.getExecutorServiceManager().shutdown(executorService);
+            executorService = null;
+            shutdownExecutorService = false;
+        }
+    }
+
+    private static final class Entry {
+        private final Exchange exchange;
+        private final AsyncCallback callback;
+
+        private Entry(Exchange exchange, AsyncCallback callback) {
+            this.exchange = exchange;
+            this.callback = callback;
+        }
+    }
+}
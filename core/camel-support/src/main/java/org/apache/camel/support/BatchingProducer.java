@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.List;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.Endpoint;
+import org.apache.camel.Exchange;
+import org.apache.camel.support.service.ServiceHelper;
+
+/**
+ * A base class for producers that can coalesce exchanges, which are sent concurrently from different threads, into
+ * batches that are processed together (such as a JDBC batch or a bulk request), using an {@link AsyncBatcher}.
+ * <p/>
+ * Batching is enabled when the max batch size is higher than one. Each exchange in a batch is completed individually
+ * with its own result or exception, which the producer sets on the exchange in {@link #processBatch(List)}. Exchanges
+ * that cannot be batched (see {@link #isBatchable(Exchange)}), or when batching is disabled, are processed one by one
+ * with {@link #process(Exchange)}.
+ */
+public abstract class BatchingProducer extends DefaultAsyncProducer {
+
+    private volatile AsyncBatcher batcher;
+    private int maxBatchSize;
+    private long maxBatchBytes;
+    private long lingerTime = 10;
+
+    protected BatchingProducer(Endpoint endpoint) {
+        super(endpoint);
+    }
+
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * The maximum number of exchanges to coalesce into a batch. Batching is only enabled when this is higher than one.
+     */
+    public void setMaxBatchSize(int maxBatchSize) {
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public long getMaxBatchBytes() {
+        return maxBatchBytes;
+    }
+
+    /**
+     * The maximum (estimated) number of bytes of the exchanges in a batch, as estimated by
+     * {@link #estimateSize(Exchange)}. Use 0 or negative to not limit the batch by size.
+     */
+    public void setMaxBatchBytes(long maxBatchBytes) {
+        this.maxBatchBytes = maxBatchBytes;
+    }
+
+    public long getLingerTime() {
+        return lingerTime;
+    }
+
+    /**
+     * The maximum time in millis to wait for more exchanges to be added to a batch, from when the first exchange was
+     * added.
+     */
+    public void setLingerTime(long lingerTime) {
+        this.lingerTime = lingerTime;
+    }
+
+    /**
+     * The batcher in use, or <tt>null</tt> if batching is disabled
+     */
+    public AsyncBatcher getBatcher() {
+        return batcher;
+    }
+
+    @Override
+    public boolean process(Exchange exchange, AsyncCallback callback) {
+        AsyncBatcher current = batcher;
+        if (current != null && isBatchable(exchange)) {
+            return current.offer(exchange, callback);
+        }
+
+        try {
+            process(exchange);
+        } catch (Exception e) {
+            exchange.setException(e);
+        }
+        callback.done(true);
+        return true;
+    }
+
+    /**
+     * Processes a single exchange, which is used when batching is disabled, or the exchange cannot be batched.
+     */
+    @Override
+    public abstract void process(Exchange exchange) throws Exception;
+
+    /**
+     * Processes the batch of exchanges. The result (or exception) of each exchange should be set on the exchange
+     * itself.
+     *
+     * @param  exchanges the exchanges in the batch
+     * @throws Exception is thrown if the entire batch failed, which fails every exchange in the batch that has not
+     *                   already failed
+     */
+    protected abstract void processBatch(List<Exchange> exchanges) throws Exception;
+
+    /**
+     * Whether the exchange can be processed in a batch with other exchanges. By default, all exchanges can be batched.
+     */
+    protected boolean isBatchable(Exchange exchange) {
+        return true;
+    }
+
+    /**
+     * Estimates the size in bytes of the exchange, which is used when a max batch bytes has been configured.
+     */
+    protected long estimateSize(Exchange exchange) {
+        return 0;
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+
+        if (maxBatchSize > 1) {
+            batcher = new AsyncBatcher(getEndpoint().getCamelContext(), this::processBatch);
+            batcher.setName(getClass().getSimpleName());
+            batcher.setMaxBatchSize(maxBatchSize);
+            batcher.setMaxBatchBytes(maxBatchBytes);
+            batcher.setLingerTime(lingerTime);
+            if (maxBatchBytes > 0) {
+                batcher.setSizeEstimator(this::estimateSize);
+            }
+            ServiceHelper.startService(batcher);
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        // stopping the batcher processes the exchanges waiting in the current batch
+        ServiceHelper.stopService(batcher);
+        batcher = null;
+
+        super.doStop();
+    }
+}
@@ -0,0 +1,385 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.PushbackInputStream;
+import java.io.StreamCorruptedException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.util.ClassLoadingAwareObjectInputStream;
+
+/**
+ * An {@link ExchangeCodec} that uses a compact binary format, which is smaller and faster to encode and decode than
+ * Java serialization of the {@link DefaultExchangeHolder}.
+ * <p/>
+ * The format starts with a magic marker and a version, followed by the exchange id, the in and out body, the in and out
+ * headers, the exchange properties, the variables, and the exception. Maps are prefixed with their number of entries,
+ * and each value is prefixed with a type tag. Strings, primitive wrappers, <tt>byte[]</tt>, <tt>java.util.Date</tt>,
+ * <tt>BigInteger</tt> and <tt>BigDecimal</tt> are written in their raw form, and lengths and integers are written as
+ * variable length numbers. Any other value (such as the exception) is written using Java serialization, and read back
+ * with the deserialization filter applied.
+ * <p/>
+ * When the data does not start with the magic marker, then it is decoded using the fallback codec, which by default is
+ * {@link JavaSerializationExchangeCodec}. This allows reading data that was stored before switching to this codec.
+ */
+public class BinaryExchangeCodec implements ExchangeCodec {
+
+    static final int MAGIC1 = 0xCA;
+    static final int MAGIC2 = 0xEC;
+    static final int VERSION = 1;
+
+    private static final int MAX_INITIAL_MAP_SIZE = 64;
+
+    private static final int NULL = 0;
+    private static final int STRING = 1;
+    private static final int INTEGER = 2;
+    private static final int LONG = 3;
+    private static final int TRUE = 4;
+    private static final int FALSE = 5;
+    private static final int DOUBLE = 6;
+    private static final int FLOAT = 7;
+    private static final int SHORT = 8;
+    private static final int BYTE = 9;
+    private static final int CHARACTER = 10;
+    private static final int BYTES = 11;
+    private static final int DATE = 12;
+    private static final int BIG_INTEGER = 13;
+    private static final int BIG_DECIMAL = 14;
+    private static final int SERIALIZED = 15;
+
+    private final ExchangeCodec fallbackCodec;
+
+    public BinaryExchangeCodec() {
+        this(new JavaSerializationExchangeCodec());
+    }
+
+    /**
+     * Creates the codec.
+     *
+     * @param fallbackCodec the codec to use for decoding data that was not encoded by this codec
+     */
+    public BinaryExchangeCodec(ExchangeCodec fallbackCodec) {
+        this.fallbackCodec = fallbackCodec;
+    }
+
+    public ExchangeCodec getFallbackCodec() {
+        return fallbackCodec;
+    }
+
+    /**
+     * Whether the data is encoded using this codec.
+     */
+    public static boolean isBinaryFormat(byte[] data) {
+        return data != null && data.length > 2 && (data[0] & 0xFF) == MAGIC1 && (data[1] & 0xFF) == MAGIC2;
+    }
+
+    @Override
+    public void encode(DefaultExchangeHolder holder, OutputStream out) throws IOException {
+        DataOutputStream dos = new DataOutputStream(
+                out instanceof ByteArrayOutputStream ? out : new BufferedOutputStream(out));
+        dos.writeByte(MAGIC1);
+        dos.writeByte(MAGIC2);
+        dos.writeByte(VERSION);
+        writeValue(dos, holder.getExchangeId());
+        writeValue(dos, holder.getInBody());
+        writeValue(dos, holder.getOutBody());
+        writeMap(dos, holder.getInHeaders());
+        writeMap(dos, holder.getOutHeaders());
+        writeMap(dos, holder.getProperties());
+        writeMap(dos, holder.getVariables());
+        writeValue(dos, holder.getException());
+        dos.flush();
+    }
+
+    @Override
+    public DefaultExchangeHolder decode(CamelContext camelContext, InputStream in, String deserializationFilter)
+            throws IOException, ClassNotFoundException {
+        try (PushbackInputStream pis = new PushbackInputStream(in, 2)) {
+            return doDecode(camelContext, pis, deserializationFilter);
+        }
+    }
+
+    private DefaultExchangeHolder doDecode(CamelContext camelContext, PushbackInputStream pis, String deserializationFilter)
+            throws IOException, ClassNotFoundException {
+        int b1 = pis.read();
+        if (b1 != MAGIC1) {
+            if (b1 != -1) {
+                pis.unread(b1);
+            }
+            return fallbackCodec.decode(camelContext, pis, deserializationFilter);
+        }
+        int b2 = pis.read();
+        if (b2 != MAGIC2) {
+            if (b2 != -1) {
+                pis.unread(b2);
+            }
+            pis.unread(b1);
+            return fallbackCodec.decode(camelContext, pis, deserializationFilter);
+        }
+
+        DataInputStream dis = new DataInputStream(pis);
+        int version = dis.readUnsignedByte();
+        if (version != VERSION) {
+            throw new StreamCorruptedException("Unsupported exchange codec version: " + version);
+        }
+        Reader reader = new Reader(dis, camelContext, deserializationFilter);
+        String exchangeId = (String) reader.readValue();
+        Object inBody = reader.readValue();
+        Object outBody = reader.readValue();
+        Map<String, Object> inHeaders = reader.readMap();
+        Map<String, Object> outHeaders = reader.readMap();
+        Map<String, Object> properties = reader.readMap();
+        Map<String, Object> variables = reader.readMap();
+        Exception exception = (Exception) reader.readValue();
+        return DefaultExchangeHolder.create(exchangeId, inBody, outBody, inHeaders, outHeaders, properties, variables,
+                exception);
+    }
+
+    private static void writeMap(DataOutputStream out, Map<String, Object> map) throws IOException {
+        if (map == null) {
+            writeVarInt(out, 0);
+            return;
+        }
+        writeVarInt(out, map.size());
+        for (Map.Entry<String, Object> entry : map.entrySet()) {
+            writeString(out, entry.getKey());
+            writeValue(out, entry.getValue());
+        }
+    }
+
+    private static void writeValue(DataOutputStream out, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(NULL);
+            return;
+        }
+        // use the exact type so sub classes (such as java.sql.Timestamp) are not narrowed
+        Class<?> type = value.getClass();
+        if (type == String.class) {
+            out.writeByte(STRING);
+            writeString(out, (String) value);
+        } else if (type == Integer.class) {
+            out.writeByte(INTEGER);
+            writeVarLong(out, zigZag((Integer) value));
+        } else if (type == Long.class) {
+            out.writeByte(LONG);
+            writeVarLong(out, zigZag((Long) value));
+        } else if (type == Boolean.class) {
+            out.writeByte((Boolean) value ? TRUE : FALSE);
+        } else if (type == Double.class) {
+            out.writeByte(DOUBLE);
+            out.writeDouble((Double) value);
+        } else if (type == Float.class) {
+            out.writeByte(FLOAT);
+            out.writeFloat((Float) value);
+        } else if (type == Short.class) {
+            out.writeByte(SHORT);
+            out.writeShort((Short) value);
+        } else if (type == Byte.class) {
+            out.writeByte(BYTE);
+            out.writeByte((Byte) value);
+        } else if (type == Character.class) {
+            out.writeByte(CHARACTER);
+            out.writeChar((Character) value);
+        } else if (type == byte[].class) {
+            out.writeByte(BYTES);
+            writeBytes(out, (byte[]) value);
+        } else if (type == Date.class) {
+            out.writeByte(DATE);
+            writeVarLong(out, zigZag(((Date) value).getTime()));
+        } else if (type == BigInteger.class) {
+            out.writeByte(BIG_INTEGER);
+            writeBytes(out, ((BigInteger) value).toByteArray());
+        } else if (type == BigDecimal.class) {
+            BigDecimal decimal = (BigDecimal) value;
+            out.writeByte(BIG_DECIMAL);
+            writeVarLong(out, zigZag(decimal.scale()));
+            writeBytes(out, decimal.unscaledValue().toByteArray());
+        } else {
+            out.writeByte(SERIALIZED);
+            ByteArrayOutputStream bos = new ByteArrayOutputStream();
+            try (ObjectOutputStream oos = new ObjectOutputStream(bos)) {
+                oos.writeObject(value);
+            }
+            writeVarInt(out, bos.size());
+            bos.writeTo(out);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        writeBytes(out, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void writeBytes(DataOutputStream out, byte[] value) throws IOException {
+        writeVarInt(out, value.length);
+        out.write(value);
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        writeVarLong(out, value & 0xFFFFFFFFL);
+    }
+
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    /**
+     * Reads the values, and holds the state needed for reading Java serialized values.
+     */
+    private static final class Reader {
+        private final DataInputStream in;
+        private final CamelContext camelContext;
+        private final String deserializationFilter;
+        private ObjectInputFilter filter;
+
+        Reader(DataInputStream in, CamelContext camelContext, String deserializationFilter) {
+            this.in = in;
+            this.camelContext = camelContext;
+            this.deserializationFilter = deserializationFilter;
+        }
+
+        Map<String, Object> readMap() throws IOException, ClassNotFoundException {
+            int size = readLength();
+            if (size == 0) {
+                return null;
+            }
+            // the size is read from the data, so do not trust it for the initial capacity
+            Map<String, Object> answer = new LinkedHashMap<>(Math.min(size, MAX_INITIAL_MAP_SIZE) * 4 / 3 + 1);
+            for (int i = 0; i < size; i++) {
+                String key = readString();
+                answer.put(key, readValue());
+            }
+            return answer;
+        }
+
+        Object readValue() throws IOException, ClassNotFoundException {
+            int type = in.readUnsignedByte();
+            switch (type) {
+                case NULL:
+                    return null;
+                case STRING:
+                    return readString();
+                case INTEGER:
+                    return (int) unZigZag(readVarLong());
+                case LONG:
+                    return unZigZag(readVarLong());
+                case TRUE:
+                    return Boolean.TRUE;
+                case FALSE:
+                    return Boolean.FALSE;
+                case DOUBLE:
+                    return in.readDouble();
+                case FLOAT:
+                    return in.readFloat();
+                case SHORT:
+                    return in.readShort();
+                case BYTE:
+                    return in.readByte();
+                case CHARACTER:
+                    return in.readChar();
+                case BYTES:
+                    return readBytes();
+                case DATE:
+                    return new Date(unZigZag(readVarLong()));
+                case BIG_INTEGER:
+                    return new BigInteger(readBytes());
+                case BIG_DECIMAL:
+                    int scale = (int) unZigZag(readVarLong());
+                    return new BigDecimal(new BigInteger(readBytes()), scale);
+                case SERIALIZED:
+                    return readSerialized();
+                default:
+                    throw new StreamCorruptedException("Unknown value type: " + type);
+            }
+        }
+
+        private Object readSerialized() throws IOException, ClassNotFoundException {
+            byte[] data = readBytes();
+            if (filter == null) {
+                filter = DeserializationFilterHelper.resolveDeserializationFilter(deserializationFilter);
+            }
+            try (ObjectInputStream ois = new ClassLoadingAwareObjectInputStream(
+                    camelContext.getApplicationContextClassLoader(), new ByteArrayInputStream(data))) {
+                ois.setObjectInputFilter(filter);
+                return ois.readObject();
+            }
+        }
+
+        private String readString() throws IOException {
+            return new String(readBytes(), StandardCharsets.UTF_8);
+        }
+
+        private byte[] readBytes() throws IOException {
+            int length = readLength();
+            // read in chunks, so a corrupt length does not allocate more memory than there is data
+            byte[] answer = in.readNBytes(length);
+            if (answer.length != length) {
+                throw new EOFException("Expected " + length + " bytes but was " + answer.length);
+            }
+            return answer;
+        }
+
+        private int readLength() throws IOException {
+            long length = readVarLong();
+            if (length > Integer.MAX_VALUE - 8) {
+                throw new StreamCorruptedException("Invalid length: " + length);
+            }
+            return (int) length;
+        }
+
+        private long readVarLong() throws IOException {
+            long answer = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = in.readUnsignedByte();
+                answer |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return answer;
+                }
+            }
+            throw new StreamCorruptedException("Malformed variable length number");
+        }
+    }
+}
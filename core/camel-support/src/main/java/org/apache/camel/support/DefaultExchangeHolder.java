@@ -226,6 +226,57 @@ public class DefaultExchangeHolder implements Serializable {
         payload.variables.put(key, variable);
     }
 
+    public String getExchangeId() {
+        return exchangeId;
+    }
+
+    public Object getInBody() {
+        return inBody;
+    }
+
+    public Object getOutBody() {
+        return outBody;
+    }
+
+    public Map<String, Object> getInHeaders() {
+        return inHeaders;
+    }
+
+    public Map<String, Object> getOutHeaders() {
+        return outHeaders;
+    }
+
+    public Map<String, Object> getProperties() {
+        return properties;
+    }
+
+    public Map<String, Object> getVariables() {
+        return variables;
+    }
+
+    public Exception getException() {
+        return exception;
+    }
+
+    /**
+     * Used by {@link ExchangeCodec} implementations in this package to rebuild a payload from its encoded form.
+     */
+    static DefaultExchangeHolder create(
+            String exchangeId, Object inBody, Object outBody,
+            Map<String, Object> inHeaders, Map<String, Object> outHeaders,
+            Map<String, Object> properties, Map<String, Object> variables, Exception exception) {
+        DefaultExchangeHolder payload = new DefaultExchangeHolder();
+        payload.exchangeId = exchangeId;
+        payload.inBody = inBody;
+        payload.outBody = outBody;
+        payload.inHeaders = inHeaders;
+        payload.outHeaders = outHeaders;
+        payload.properties = properties;
+        payload.variables = variables;
+        payload.exception = exception;
+        return payload;
+    }
+
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder("DefaultExchangeHolder[exchangeId=").append(exchangeId);
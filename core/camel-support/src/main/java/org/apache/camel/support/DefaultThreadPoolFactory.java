@@ -66,9 +66,16 @@ public class DefaultThreadPoolFactory extends ServiceSupport implements CamelCon
 
     @Override
     public ExecutorService newThreadPool(ThreadPoolProfile profile, ThreadFactory factory) {
-        // Virtual threads: use the policy enum directly from the profile to avoid reverse-mapping
+        // Virtual threads: either globally, or the profile can opt in to virtual threads regardless of the global
+        // thread type, where each task runs on its own virtual thread, and the concurrency is limited by a semaphore
+        boolean virtualProfile = Boolean.TRUE.equals(profile.getVirtualThreads())
+                && factory instanceof ThreadFactoryTypeAware factoryTypeAware && factoryTypeAware.isVirtual();
+        if (virtualProfile && profile.getMaxQueueSize() <= 0) {
+            return ThreadPoolFactoryType.newThreadPerTaskExecutor(factory);
+        }
+        // use the policy enum directly from the profile to avoid reverse-mapping
         if (profile.getMaxQueueSize() > 0
-                && ThreadPoolFactoryType.from(factory, profile) == ThreadPoolFactoryType.VIRTUAL) {
+                && (virtualProfile || ThreadPoolFactoryType.from(factory, profile) == ThreadPoolFactoryType.VIRTUAL)) {
             ThreadPoolRejectedPolicy policy = profile.getRejectedPolicy();
             if (policy == null) {
                 policy = ThreadPoolRejectedPolicy.CallerRuns;
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import org.apache.camel.CamelContext;
+
+/**
+ * Encodes and decodes the content of an exchange, captured as a {@link DefaultExchangeHolder}, to and from bytes.
+ * <p/>
+ * This is used by components that persist exchanges, such as the aggregation repositories, which decide what goes into
+ * the holder (for example which exchange properties to retain) and then use a codec to store it.
+ *
+ * @see JavaSerializationExchangeCodec
+ * @see BinaryExchangeCodec
+ */
+public interface ExchangeCodec {
+
+    /**
+     * Encodes the payload to the output stream.
+     *
+     * @param  holder      the payload to encode
+     * @param  out         the stream to write to, which is not closed
+     * @throws IOException is thrown if error writing to the stream
+     */
+    void encode(DefaultExchangeHolder holder, OutputStream out) throws IOException;
+
+    /**
+     * Decodes a payload from the input stream.
+     *
+     * @param  camelContext           the camel context, used for loading classes
+     * @param  in                     the stream to read from, which is closed
+     * @param  deserializationFilter  the deserialization filter pattern to apply when values are read using Java
+     *                                serialization, or <tt>null</tt> to use the default filter
+     * @return                        the decoded payload
+     * @throws IOException            is thrown if error reading from the stream
+     * @throws ClassNotFoundException is thrown if a class of a Java serialized value cannot be found
+     */
+    DefaultExchangeHolder decode(CamelContext camelContext, InputStream in, String deserializationFilter)
+            throws IOException, ClassNotFoundException;
+
+}
@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A lock that is split into a number of independent {@link ReentrantLock} stripes, where a key is mapped to a stripe by
+ * its hash code.
+ * <p/>
+ * Work on keys that map to different stripes can run in parallel, while work on the same key is serialized. Operations
+ * that must see a consistent view across all keys can use the lock returned by {@link #getAllStripesLock()}, which
+ * acquires every stripe in a fixed order.
+ * <p/>
+ * Important: a thread holding a single stripe must not try to acquire the lock for all stripes, as this can deadlock
+ * with another thread acquiring all stripes.
+ */
+public final class StripedLock {
+
+    private final Lock[] stripes;
+    private final int mask;
+    private final Lock allStripesLock = new AllStripesLock();
+
+    /**
+     * Creates a striped lock.
+     *
+     * @param stripes the number of stripes, is rounded up to the nearest power of two
+     */
+    public StripedLock(int stripes) {
+        if (stripes <= 0) {
+            throw new IllegalArgumentException("Stripes must be a positive number, was: " + stripes);
+        }
+        int size = stripes == 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+        this.stripes = new Lock[size];
+        for (int i = 0; i < size; i++) {
+            this.stripes[i] = new ReentrantLock();
+        }
+        this.mask = size - 1;
+    }
+
+    /**
+     * Number of stripes
+     */
+    public int getStripes() {
+        return stripes.length;
+    }
+
+    /**
+     * Gets the stripe lock to use for the given key
+     */
+    public Lock getLock(Object key) {
+        int h = key.hashCode();
+        // spread the higher bits as keys such as strings often only differ in the last characters
+        h ^= h >>> 16;
+        return stripes[h & mask];
+    }
+
+    /**
+     * Gets a lock that acquires all the stripes (in order) and releases them again (in reverse order).
+     */
+    public Lock getAllStripesLock() {
+        return allStripesLock;
+    }
+
+    private final class AllStripesLock implements Lock {
+
+        @Override
+        public void lock() {
+            for (Lock stripe : stripes) {
+                stripe.lock();
+            }
+        }
+
+        @Override
+        public void lockInterruptibly() throws InterruptedException {
+            int i = 0;
+            try {
+                for (; i < stripes.length; i++) {
+                    stripes[i].lockInterruptibly();
+                }
+            } catch (InterruptedException e) {
+                unlockUntil(i);
+                throw e;
+            }
+        }
+
+        @Override
+        public boolean tryLock() {
+            for (int i = 0; i < stripes.length; i++) {
+                if (!stripes[i].tryLock()) {
+                    unlockUntil(i);
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+            long deadline = System.nanoTime() + unit.toNanos(time);
+            int i = 0;
+            try {
+                for (; i < stripes.length; i++) {
+                    long remaining = deadline - System.nanoTime();
+                    if (!stripes[i].tryLock(remaining, TimeUnit.NANOSECONDS)) {
+                        unlockUntil(i);
+                        return false;
+                    }
+                }
+            } catch (InterruptedException e) {
+                unlockUntil(i);
+                throw e;
+            }
+            return true;
+        }
+
+        @Override
+        public void unlock() {
+            unlockUntil(stripes.length);
+        }
+
+        private void unlockUntil(int end) {
+            for (int i = end - 1; i >= 0; i--) {
+                stripes[i].unlock();
+            }
+        }
+
+        @Override
+        public Condition newCondition() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,332 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.idempotent;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.Configurer;
+import org.apache.camel.spi.IdempotentRepository;
+import org.apache.camel.spi.Metadata;
+import org.apache.camel.support.service.ServiceHelper;
+import org.apache.camel.support.service.ServiceSupport;
+
+/**
+ * A memory based implementation of {@link org.apache.camel.spi.IdempotentRepository} that is designed for high
+ * concurrency.
+ * <p/>
+ * Lookups ({@link #contains(String)} and duplicate detection in {@link #add(String)}) are lock-free reads from a
+ * {@link ConcurrentHashMap}. The repository is bounded by the cache size, which is divided into a number of segments
+ * that each keep a ring of their entries. When a segment is full, then an entry is evicted using the CLOCK algorithm
+ * (an approximation of LRU), where entries that have been looked up since the clock hand last passed them are given a
+ * second chance. Only the segment the key belongs to is locked when adding a new key, so adding keys from many threads
+ * does not contend on a single lock.
+ * <p/>
+ * Entries can optionally expire after a given time to live since they were added.
+ */
+@Metadata(label = "bean",
+          description = "A memory based IdempotentRepository that is designed for high concurrency, using lock-free lookups,"
+                        + " a bounded size with CLOCK based eviction, and optional expiry of entries.",
+          annotations = { "interfaceName=org.apache.camel.spi.IdempotentRepository" })
+@Configurer(metadataOnly = true)
+@ManagedResource(description = "Concurrent memory based idempotent repository")
+public class ConcurrentMemoryIdempotentRepository extends ServiceSupport implements IdempotentRepository {
+
+    private static final int MAX_CACHE_SIZE = 1000;
+
+    private final LongAdder evicted = new LongAdder();
+    private final LongAdder expired = new LongAdder();
+    private ConcurrentMap<String, Entry> cache;
+    private Segment[] segments;
+    private int segmentMask;
+
+    @Metadata(description = "Maximum elements that can be stored in-memory", defaultValue = "" + MAX_CACHE_SIZE)
+    private int cacheSize = MAX_CACHE_SIZE;
+    @Metadata(description = "Time to live in millis for an entry after it has been added. Use 0 or negative to never expire.")
+    private long timeToLive;
+    @Metadata(label = "advanced",
+              description = "Number of segments the cache is divided into, which allows adding keys concurrently."
+                            + " The value is rounded up to a power of two. Default uses twice the number of available processors.")
+    private int concurrencyLevel;
+
+    public ConcurrentMemoryIdempotentRepository() {
+    }
+
+    public ConcurrentMemoryIdempotentRepository(int cacheSize) {
+        this.cacheSize = cacheSize;
+    }
+
+    public ConcurrentMemoryIdempotentRepository(int cacheSize, long timeToLive) {
+        this.cacheSize = cacheSize;
+        this.timeToLive = timeToLive;
+    }
+
+    /**
+     * Creates a new concurrent memory based repository with a default of 1000 entries in the cache.
+     */
+    public static IdempotentRepository concurrentMemoryIdempotentRepository() {
+        return concurrentMemoryIdempotentRepository(MAX_CACHE_SIZE);
+    }
+
+    /**
+     * Creates a new concurrent memory based repository.
+     *
+     * @param cacheSize the cache size
+     */
+    public static IdempotentRepository concurrentMemoryIdempotentRepository(int cacheSize) {
+        return concurrentMemoryIdempotentRepository(cacheSize, 0);
+    }
+
+    /**
+     * Creates a new concurrent memory based repository, where entries expire after the given time to live.
+     *
+     * @param cacheSize  the cache size
+     * @param timeToLive time to live in millis for an entry after it has been added
+     */
+    public static IdempotentRepository concurrentMemoryIdempotentRepository(int cacheSize, long timeToLive) {
+        ConcurrentMemoryIdempotentRepository answer = new ConcurrentMemoryIdempotentRepository(cacheSize, timeToLive);
+        ServiceHelper.startService(answer);
+        return answer;
+    }
+
+    @Override
+    @ManagedOperation(description = "Adds the key to the store")
+    public boolean add(String key) {
+        long now = timeToLive > 0 ? System.currentTimeMillis() : 0;
+        Entry entry = new Entry(key, timeToLive > 0 ? now + timeToLive : 0);
+        while (true) {
+            Entry existing = cache.putIfAbsent(key, entry);
+            if (existing == null) {
+                segmentFor(key).insert(entry);
+                return true;
+            }
+            if (!existing.isExpired(now)) {
+                existing.referenced = true;
+                return false;
+            }
+            // the existing entry has expired so replace it and add as a new entry
+            if (cache.replace(key, existing, entry)) {
+                expired.increment();
+                segmentFor(key).insert(entry);
+                return true;
+            }
+        }
+    }
+
+    @Override
+    @ManagedOperation(description = "Does the store contain the given key")
+    public boolean contains(String key) {
+        Entry entry = cache.get(key);
+        if (entry == null) {
+            return false;
+        }
+        if (timeToLive > 0 && entry.isExpired(System.currentTimeMillis())) {
+            if (cache.remove(key, entry)) {
+                expired.increment();
+            }
+            return false;
+        }
+        entry.referenced = true;
+        return true;
+    }
+
+    @Override
+    @ManagedOperation(description = "Remove the key from the store")
+    public boolean remove(String key) {
+        // the slot in the segment ring is reclaimed when the clock hand passes it
+        return cache.remove(key) != null;
+    }
+
+    @Override
+    public boolean confirm(String key) {
+        // noop
+        return true;
+    }
+
+    @Override
+    @ManagedOperation(description = "Clear the store")
+    public void clear() {
+        for (Segment segment : segments) {
+            segment.clear();
+        }
+        cache.clear();
+    }
+
+    @ManagedAttribute(description = "The current cache size")
+    public int getCacheSize() {
+        return cache != null ? cache.size() : 0;
+    }
+
+    @ManagedAttribute(description = "The maximum cache size")
+    public int getMaxCacheSize() {
+        return cacheSize;
+    }
+
+    public void setCacheSize(int cacheSize) {
+        this.cacheSize = cacheSize;
+    }
+
+    @ManagedAttribute(description = "Time to live in millis for an entry after it has been added")
+    public long getTimeToLive() {
+        return timeToLive;
+    }
+
+    public void setTimeToLive(long timeToLive) {
+        this.timeToLive = timeToLive;
+    }
+
+    @ManagedAttribute(description = "Number of segments the cache is divided into")
+    public int getConcurrencyLevel() {
+        return concurrencyLevel;
+    }
+
+    public void setConcurrencyLevel(int concurrencyLevel) {
+        this.concurrencyLevel = concurrencyLevel;
+    }
+
+    @ManagedAttribute(description = "Number of entries evicted because the cache was full")
+    public long getEvictedCount() {
+        return evicted.sum();
+    }
+
+    @ManagedAttribute(description = "Number of entries that expired")
+    public long getExpiredCount() {
+        return expired.sum();
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        if (cacheSize <= 0) {
+            cacheSize = MAX_CACHE_SIZE;
+        }
+        int level = concurrencyLevel > 0 ? concurrencyLevel : Runtime.getRuntime().availableProcessors() * 2;
+        // do not use more segments than there are entries
+        level = Math.min(level, cacheSize);
+        int size = level == 1 ? 1 : Integer.highestOneBit(level - 1) << 1;
+        if (size > cacheSize) {
+            size >>>= 1;
+        }
+        concurrencyLevel = size;
+        segmentMask = size - 1;
+        // spread the capacity over the segments (the last ones may get one less)
+        segments = new Segment[size];
+        for (int i = 0; i < size; i++) {
+            int capacity = cacheSize / size + (i < cacheSize % size ? 1 : 0);
+            segments[i] = new Segment(capacity);
+        }
+        if (cache == null) {
+            cache = new ConcurrentHashMap<>(Math.max(16, cacheSize * 4 / 3 + 1));
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (cache != null) {
+            clear();
+        }
+    }
+
+    private Segment segmentFor(String key) {
+        int h = key.hashCode();
+        h ^= h >>> 16;
+        return segments[h & segmentMask];
+    }
+
+    private static final class Entry {
+        private final String key;
+        private final long expireTime;
+        private volatile boolean referenced;
+
+        Entry(String key, long expireTime) {
+            this.key = key;
+            this.expireTime = expireTime;
+        }
+
+        boolean isExpired(long now) {
+            return expireTime > 0 && expireTime <= now;
+        }
+    }
+
+    /**
+     * A segment keeps a fixed size ring of the entries that belong to it, and uses a clock hand to find an entry to
+     * evict when the ring is full.
+     */
+    private final class Segment {
+        private final Lock lock = new ReentrantLock();
+        private final Entry[] ring;
+        private int hand;
+
+        Segment(int capacity) {
+            this.ring = new Entry[Math.max(1, capacity)];
+        }
+
+        void insert(Entry entry) {
+            lock.lock();
+            try {
+                long now = timeToLive > 0 ? System.currentTimeMillis() : 0;
+                // the ring is always full after warmup, so we need to find a slot to reuse
+                // (after two rounds all entries have had their second chance, so evict even if referenced again)
+                int max = ring.length * 2;
+                for (int i = 0;; i++) {
+                    Entry current = ring[hand];
+                    if (current == null || cache.get(current.key) != current) {
+                        // free slot or the entry was removed or replaced
+                        break;
+                    }
+                    if (current.isExpired(now)) {
+                        if (cache.remove(current.key, current)) {
+                            expired.increment();
+                        }
+                        break;
+                    }
+                    if (current.referenced && i < max) {
+                        // give the entry a second chance
+                        current.referenced = false;
+                    } else {
+                        if (cache.remove(current.key, current)) {
+                            evicted.increment();
+                        }
+                        break;
+                    }
+                    hand = (hand + 1) % ring.length;
+                }
+                ring[hand] = entry;
+                hand = (hand + 1) % ring.length;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void clear() {
+            lock.lock();
+            try {
+                for (int i = 0; i < ring.length; i++) {
+                    ring[i] = null;
+                }
+                hand = 0;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
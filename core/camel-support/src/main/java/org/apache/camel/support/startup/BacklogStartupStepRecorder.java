@@ -16,8 +16,8 @@
  */
 package org.apache.camel.support.startup;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.stream.Stream;
 
 import org.apache.camel.StartupStep;
@@ -27,7 +27,8 @@ import org.apache.camel.StartupStep;
  */
 public class BacklogStartupStepRecorder extends DefaultStartupStepRecorder {
 
-    private final List<StartupStep> steps = new ArrayList<>();
+    // steps can be ended by several threads (such as when starting routes in parallel)
+    private final Queue<StartupStep> steps = new ConcurrentLinkedQueue<>();
 
     public BacklogStartupStepRecorder() {
         setEnabled(true);
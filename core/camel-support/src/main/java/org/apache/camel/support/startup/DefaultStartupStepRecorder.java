@@ -78,7 +78,9 @@ public class DefaultStartupStepRecorder extends ServiceSupport implements Startu
     };
 
     private final AtomicInteger stepCounter = new AtomicInteger();
-    private final Deque<Integer> currentSteps = new ArrayDeque<>();
+    private final Steps currentSteps = new Steps(0, 0);
+    // the steps of threads that begin steps from a parent step of another thread (such as when starting routes in parallel)
+    private final ThreadLocal<Steps> threadSteps = new ThreadLocal<>();
 
     private boolean enabled;
     private int maxDepth = -1;
@@ -87,10 +89,6 @@ public class DefaultStartupStepRecorder extends ServiceSupport implements Startu
     private String recordingDir;
     private String recordingProfile = "default";
 
-    public DefaultStartupStepRecorder() {
-        currentSteps.offerFirst(0);
-    }
-
     public boolean isEnabled() {
         return enabled;
     }
@@ -156,30 +154,58 @@ public class DefaultStartupStepRecorder extends ServiceSupport implements Startu
     @Override
     public void doStop() throws Exception {
         enabled = false;
-        currentSteps.clear();
+        currentSteps.ids.clear();
+        threadSteps.remove();
     }
 
     public StartupStep beginStep(Class<?> type, String name, String description) {
         if (enabled) {
-            int level = currentSteps.size() - 1;
-            if (maxDepth != -1 && level >= maxDepth) {
-                return DISABLED_STEP;
-            }
-            int id = stepCounter.incrementAndGet();
-            Integer parent = currentSteps.peekFirst();
-            int pid = parent != null ? parent : 0;
-            StartupStep step = createStartupStep(type.getSimpleName(), name, description, id, pid, level);
-            onBeginStep(step);
-            currentSteps.offerFirst(id);
-            return step;
+            Steps steps = threadSteps.get();
+            return doBeginStep(steps != null ? steps : currentSteps, type, name, description);
+        } else {
+            return DISABLED_STEP;
+        }
+    }
+
+    @Override
+    public StartupStep beginStep(StartupStep parent, Class<?> type, String name, String description) {
+        if (enabled) {
+            // if the parent step is disabled (due to max depth) then so are its sub steps
+            int level = parent != DISABLED_STEP ? parent.getLevel() + 1 : Math.max(maxDepth, 0);
+            Steps steps = new Steps(parent.getId(), level);
+            threadSteps.set(steps);
+            return doBeginStep(steps, type, name, description);
         } else {
             return DISABLED_STEP;
         }
     }
 
+    private StartupStep doBeginStep(Steps steps, Class<?> type, String name, String description) {
+        int level = steps.level + steps.ids.size() - 1;
+        if (maxDepth != -1 && level >= maxDepth) {
+            return DISABLED_STEP;
+        }
+        int id = stepCounter.incrementAndGet();
+        Integer parent = steps.ids.peekFirst();
+        int pid = parent != null ? parent : 0;
+        StartupStep step = createStartupStep(type.getSimpleName(), name, description, id, pid, level);
+        onBeginStep(step);
+        steps.ids.offerFirst(id);
+        return step;
+    }
+
     public void endStep(StartupStep step) {
         if (step != DISABLED_STEP) {
-            currentSteps.pollFirst();
+            Steps steps = threadSteps.get();
+            if (steps != null) {
+                steps.ids.pollFirst();
+                if (steps.ids.size() == 1) {
+                    // back at the parent step from the other thread
+                    threadSteps.remove();
+                }
+            } else {
+                currentSteps.ids.pollFirst();
+            }
             step.endStep();
             onEndStep(step);
         }
@@ -197,4 +223,17 @@ public class DefaultStartupStepRecorder extends ServiceSupport implements Startu
         // noop
     }
 
+    /**
+     * The ids of the current steps (the first is the current step) and the level of the first step.
+     */
+    private static final class Steps {
+        private final Deque<Integer> ids = new ArrayDeque<>();
+        private final int level;
+
+        Steps(int parentId, int level) {
+            this.ids.offerFirst(parentId);
+            this.level = level;
+        }
+    }
+
 }
@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.support.processor.idempotent.ConcurrentMemoryIdempotentRepository;
+import org.apache.camel.support.service.ServiceHelper;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConcurrentMemoryIdempotentRepositoryTest {
+
+    @Test
+    void repositoryDetectsDuplicates() throws Exception {
+        try (ConcurrentMemoryIdempotentRepository repository = new ConcurrentMemoryIdempotentRepository(100)) {
+            ServiceHelper.startService(repository);
+
+            assertTrue(repository.add("A"));
+            assertTrue(repository.add("B"));
+            assertFalse(repository.add("A"));
+            assertTrue(repository.contains("A"));
+            assertFalse(repository.contains("C"));
+
+            assertTrue(repository.remove("A"));
+            assertFalse(repository.contains("A"));
+            assertTrue(repository.add("A"));
+            assertEquals(2, repository.getCacheSize());
+
+            repository.clear();
+            assertEquals(0, repository.getCacheSize());
+            assertFalse(repository.contains("B"));
+        }
+    }
+
+    @Test
+    void repositoryIsBounded() throws Exception {
+        final int cacheSize = 100;
+
+        try (ConcurrentMemoryIdempotentRepository repository = new ConcurrentMemoryIdempotentRepository(cacheSize)) {
+            repository.setConcurrencyLevel(4);
+            ServiceHelper.startService(repository);
+
+            for (int i = 0; i < cacheSize * 10; i++) {
+                repository.add(String.valueOf(i));
+            }
+
+            assertTrue(repository.getCacheSize() <= cacheSize, "Cache size should be bounded: " + repository.getCacheSize());
+            assertEquals(cacheSize * 10 - repository.getCacheSize(), repository.getEvictedCount());
+            // the most recently added entry is always kept
+            assertTrue(repository.contains(String.valueOf(cacheSize * 10 - 1)));
+        }
+    }
+
+    @Test
+    void referencedEntriesAreGivenSecondChance() throws Exception {
+        try (ConcurrentMemoryIdempotentRepository repository = new ConcurrentMemoryIdempotentRepository(4)) {
+            repository.setConcurrencyLevel(1);
+            ServiceHelper.startService(repository);
+
+            repository.add("A");
+            repository.add("B");
+            repository.add("C");
+            repository.add("D");
+            // A is a duplicate so it should be kept, and B is then the oldest entry to be evicted
+            assertFalse(repository.add("A"));
+            repository.add("E");
+
+            assertTrue(repository.contains("A"));
+            assertFalse(repository.contains("B"));
+            assertTrue(repository.contains("E"));
+        }
+    }
+
+    @Test
+    void entriesExpire() throws Exception {
+        try (ConcurrentMemoryIdempotentRepository repository = new ConcurrentMemoryIdempotentRepository(100, 200)) {
+            ServiceHelper.startService(repository);
+
+            assertTrue(repository.add("A"));
+            assertFalse(repository.add("A"));
+
+            Thread.sleep(300);
+            assertFalse(repository.contains("A"));
+            assertTrue(repository.add("A"));
+            assertEquals(1, repository.getExpiredCount());
+        }
+    }
+
+    @Test
+    void concurrentAddOnlyAcceptsKeyOnce() throws Exception {
+        final int threads = 8;
+        final int keys = 1000;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try (ConcurrentMemoryIdempotentRepository repository = new ConcurrentMemoryIdempotentRepository(keys * 2)) {
+            ServiceHelper.startService(repository);
+
+            AtomicInteger accepted = new AtomicInteger();
+            List<Callable<Object>> tasks = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                tasks.add(() -> {
+                    for (int i = 0; i < keys; i++) {
+                        if (repository.add(String.valueOf(i))) {
+                            accepted.incrementAndGet();
+                        }
+                    }
+                    return null;
+                });
+            }
+            for (Future<Object> future : executor.invokeAll(tasks)) {
+                future.get();
+            }
+
+            assertEquals(keys, accepted.get());
+            assertEquals(keys, repository.getCacheSize());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -84,7 +84,7 @@ public class CaseInsensitiveMap extends AbstractMap<String, Object> implements S
         knownTable = tbl;
     }
 
-    private static String deduplicateKey(String key, int hash) {
+    static String deduplicateKey(String key, int hash) {
         int[] tbl = knownTable;
         if (tbl == null) {
             return key;
@@ -0,0 +1,453 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.util;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * A map that uses case insensitive keys, but preserves the original key cases, which is designed for message headers
+ * that are copied often.
+ * <p/>
+ * The entries are stored in insertion order in plain arrays, together with the case-insensitive hash of their key, and
+ * are looked up using an open-addressing (linear probing) index. The hash of a key is computed once when the key is
+ * added, so growing the map does not hash the keys again, and lookups only compare keys with the same hash. Copying a
+ * map of this type (using the copy constructor or {@link #putAll(Map)} on an empty map) is a copy of the arrays,
+ * without hashing or allocating entries.
+ * <p/>
+ * This map is <b>not</b> designed to be thread safe as concurrent access to it is not supposed to be performed by the
+ * Camel routing engine.
+ *
+ * @see CaseInsensitiveMap
+ */
+public class CompactCaseInsensitiveMap extends AbstractMap<String, Object> implements Serializable {
+
+    private static final @Serial long serialVersionUID = 4373409346212580946L;
+    private static final int DEFAULT_CAPACITY = 8;
+    // slots in the index, where entries are stored as their position + 1
+    private static final int FREE = 0;
+    private static final int DELETED = -1;
+
+    // the index has (at least) twice the slots as there are entries to keep the probe sequences short
+    private transient int[] index;
+    private transient String[] keys;
+    private transient Object[] values;
+    private transient int[] hashes;
+    // number of used entries, including removed entries
+    private transient int used;
+    private transient int size;
+
+    public CompactCaseInsensitiveMap() {
+        init(DEFAULT_CAPACITY);
+    }
+
+    public CompactCaseInsensitiveMap(int capacity) {
+        init(capacity);
+    }
+
+    public CompactCaseInsensitiveMap(Map<? extends String, ?> map) {
+        if (map instanceof CompactCaseInsensitiveMap other) {
+            copyFrom(other);
+        } else {
+            init(map.size());
+            putAll(map);
+        }
+    }
+
+    private void init(int capacity) {
+        int cap = Math.max(DEFAULT_CAPACITY, capacity);
+        index = new int[tableSizeFor(cap * 2)];
+        keys = new String[cap];
+        values = new Object[cap];
+        hashes = new int[cap];
+        used = 0;
+        size = 0;
+    }
+
+    private void copyFrom(CompactCaseInsensitiveMap other) {
+        // copy the arrays as-is, as there is no need to hash the keys again
+        index = other.index.clone();
+        keys = other.keys.clone();
+        values = other.values.clone();
+        hashes = other.hashes.clone();
+        used = other.used;
+        size = other.size;
+    }
+
+    private static int tableSizeFor(int cap) {
+        return cap <= 1 ? 1 : Integer.highestOneBit(cap - 1) << 1;
+    }
+
+    /**
+     * Finds the slot in the index for the given key
+     *
+     * @return the slot, or <tt>-1</tt> if not found
+     */
+    private int findSlot(String key, int hash) {
+        int[] idx = index;
+        int mask = idx.length - 1;
+        for (int i = hash & mask;; i = (i + 1) & mask) {
+            int e = idx[i];
+            if (e == FREE) {
+                return -1;
+            }
+            if (e != DELETED) {
+                int n = e - 1;
+                if (hashes[n] == hash && keys[n].equalsIgnoreCase(key)) {
+                    return i;
+                }
+            }
+        }
+    }
+
+    private int findEntry(Object key) {
+        if (key == null) {
+            return -1;
+        }
+        String k = (String) key;
+        int slot = findSlot(k, CaseInsensitiveMap.caseInsensitiveHash(k));
+        return slot != -1 ? index[slot] - 1 : -1;
+    }
+
+    @Override
+    public Object get(Object key) {
+        int n = findEntry(key);
+        return n != -1 ? values[n] : null;
+    }
+
+    @Override
+    public Object getOrDefault(Object key, Object defaultValue) {
+        int n = findEntry(key);
+        return n != -1 ? values[n] : defaultValue;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return findEntry(key) != -1;
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        for (int i = 0; i < used; i++) {
+            if (keys[i] != null && Objects.equals(value, values[i])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        int hash = CaseInsensitiveMap.caseInsensitiveHash(key);
+        int slot = findSlot(key, hash);
+        if (slot != -1) {
+            int n = index[slot] - 1;
+            Object old = values[n];
+            values[n] = value;
+            return old;
+        }
+        if (used == keys.length) {
+            rebuild();
+        }
+        int n = used++;
+        keys[n] = CaseInsensitiveMap.deduplicateKey(key, hash);
+        values[n] = value;
+        hashes[n] = hash;
+        int mask = index.length - 1;
+        int i = hash & mask;
+        // the key is not present, so we can reuse the first deleted slot
+        while (index[i] > FREE) {
+            i = (i + 1) & mask;
+        }
+        index[i] = n + 1;
+        size++;
+        return null;
+    }
+
+    @Override
+    public Object remove(Object key) {
+        if (key == null) {
+            return null;
+        }
+        String k = (String) key;
+        int slot = findSlot(k, CaseInsensitiveMap.caseInsensitiveHash(k));
+        if (slot == -1) {
+            return null;
+        }
+        int n = index[slot] - 1;
+        Object old = values[n];
+        removeEntry(slot, n);
+        return old;
+    }
+
+    private void removeEntry(int slot, int n) {
+        index[slot] = DELETED;
+        keys[n] = null;
+        values[n] = null;
+        size--;
+    }
+
+    /**
+     * Grows the arrays and/or removes the holes from removed entries, and builds the index again (using the cached
+     * hashes).
+     */
+    private void rebuild() {
+        int cap = keys.length;
+        if (size >= cap / 2) {
+            cap = cap + (cap >> 1);
+        }
+        String[] newKeys = new String[cap];
+        Object[] newValues = new Object[cap];
+        int[] newHashes = new int[cap];
+        if (size == used) {
+            System.arraycopy(keys, 0, newKeys, 0, used);
+            System.arraycopy(values, 0, newValues, 0, used);
+            System.arraycopy(hashes, 0, newHashes, 0, used);
+        } else {
+            int j = 0;
+            for (int i = 0; i < used; i++) {
+                if (keys[i] != null) {
+                    newKeys[j] = keys[i];
+                    newValues[j] = values[i];
+                    newHashes[j] = hashes[i];
+                    j++;
+                }
+            }
+        }
+        int[] newIndex = new int[tableSizeFor(cap * 2)];
+        int mask = newIndex.length - 1;
+        for (int n = 0; n < size; n++) {
+            int i = newHashes[n] & mask;
+            while (newIndex[i] != FREE) {
+                i = (i + 1) & mask;
+            }
+            newIndex[i] = n + 1;
+        }
+        index = newIndex;
+        keys = newKeys;
+        values = newValues;
+        hashes = newHashes;
+        used = size;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(index, FREE);
+        Arrays.fill(keys, 0, used, null);
+        Arrays.fill(values, 0, used, null);
+        used = 0;
+        size = 0;
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ?> m) {
+        if (size == 0 && m instanceof CompactCaseInsensitiveMap other) {
+            copyFrom(other);
+            return;
+        }
+        for (Entry<? extends String, ?> entry : m.entrySet()) {
+            put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super String, ? super Object> action) {
+        for (int i = 0; i < used; i++) {
+            String key = keys[i];
+            if (key != null) {
+                action.accept(key, values[i]);
+            }
+        }
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new EntrySet();
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<String, Object>> {
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            if (!(o instanceof Entry<?, ?> e)) {
+                return false;
+            }
+            int n = findEntry(e.getKey());
+            return n != -1 && Objects.equals(values[n], e.getValue());
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            if (!(o instanceof Entry<?, ?> e) || !(e.getKey() instanceof String key)) {
+                return false;
+            }
+            int slot = findSlot(key, CaseInsensitiveMap.caseInsensitiveHash(key));
+            if (slot != -1 && Objects.equals(values[index[slot] - 1], e.getValue())) {
+                removeEntry(slot, index[slot] - 1);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void clear() {
+            CompactCaseInsensitiveMap.this.clear();
+        }
+
+        @Override
+        public Iterator<Entry<String, Object>> iterator() {
+            return new EntryIterator();
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Entry<String, Object>> {
+        private int cursor;
+        private int lastReturned = -1;
+
+        EntryIterator() {
+            cursor = advance(0);
+        }
+
+        private int advance(int from) {
+            for (int i = from; i < used; i++) {
+                if (keys[i] != null) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return cursor != -1;
+        }
+
+        @Override
+        public Entry<String, Object> next() {
+            if (cursor == -1) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = cursor;
+            cursor = advance(cursor + 1);
+            return new MapEntry(lastReturned);
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned == -1) {
+                throw new IllegalStateException();
+            }
+            String key = keys[lastReturned];
+            removeEntry(findSlot(key, hashes[lastReturned]), lastReturned);
+            lastReturned = -1;
+        }
+    }
+
+    private final class MapEntry implements Entry<String, Object> {
+        private final int n;
+
+        MapEntry(int n) {
+            this.n = n;
+        }
+
+        @Override
+        public String getKey() {
+            return keys[n];
+        }
+
+        @Override
+        public Object getValue() {
+            return values[n];
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            Object old = values[n];
+            values[n] = value;
+            return old;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Entry<?, ?> e)) {
+                return false;
+            }
+            return keys[n].equals(e.getKey()) && Objects.equals(values[n], e.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return keys[n].hashCode() ^ Objects.hashCode(values[n]);
+        }
+
+        @Override
+        public String toString() {
+            return keys[n] + "=" + values[n];
+        }
+    }
+
+    @Serial
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        out.writeInt(size);
+        for (int i = 0; i < used; i++) {
+            if (keys[i] != null) {
+                out.writeObject(keys[i]);
+                out.writeObject(values[i]);
+            }
+        }
+    }
+
+    @Serial
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        int count = in.readInt();
+        init(count);
+        for (int i = 0; i < count; i++) {
+            String key = (String) in.readObject();
+            Object value = in.readObject();
+            put(key, value);
+        }
+    }
+
+}
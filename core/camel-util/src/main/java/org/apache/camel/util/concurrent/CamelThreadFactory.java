@@ -37,6 +37,14 @@ public final class CamelThreadFactory implements ThreadFactoryTypeAware {
         this.daemon = daemon;
     }
 
+    /**
+     * Creates a thread factory, which would create virtual threads if {@code virtual} is {@code true}, however as
+     * virtual threads are not available on JDK 17, platform threads are always created.
+     */
+    public CamelThreadFactory(String pattern, String name, boolean daemon, boolean virtual) {
+        this(pattern, name, daemon);
+    }
+
     @Override
     public boolean isVirtual() {
         return false;
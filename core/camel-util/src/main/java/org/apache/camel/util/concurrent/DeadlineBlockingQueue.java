@@ -0,0 +1,482 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.util.concurrent;
+
+import java.util.AbstractQueue;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * A {@link BlockingQueue} which orders the elements by priority and deadline, and drops the elements whose deadline
+ * has expired.
+ * <p/>
+ * The priority and the deadline of an element are computed once when the element is added to the queue. Elements with
+ * a higher priority are taken first, and elements with the same priority are taken earliest deadline first, where
+ * elements without a deadline ({@link #NO_DEADLINE}) are taken after the elements with a deadline. Elements with the
+ * same priority and deadline are taken in the order they were added.
+ * <p/>
+ * The deadline is an absolute time in millis (as {@link System#currentTimeMillis()}). When an element is about to be
+ * taken, or is added, after its deadline, then the element is removed from the queue and given to the expired
+ * handler, which is called by the thread that added or took the element (outside the lock of the queue).
+ * <p/>
+ * To prevent elements with a low priority from waiting forever, when the elements with a higher priority keep coming,
+ * then the oldest element in the queue is taken first, when it has been waiting longer than the starvation timeout.
+ * <p/>
+ * The iterator is weakly consistent, and returns the elements of a snapshot of the queue in no particular order.
+ */
+public class DeadlineBlockingQueue<E> extends AbstractQueue<E> implements BlockingQueue<E> {
+
+    /**
+     * The deadline of an element which does not expire.
+     */
+    public static final long NO_DEADLINE = Long.MAX_VALUE;
+
+    private final int capacity;
+    private final ToIntFunction<E> priority;
+    private final ToLongFunction<E> deadline;
+    private final long starvationTimeoutNanos;
+    private final Consumer<E> expiredHandler;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    // the elements ordered by priority, deadline and sequence, which holds the elements currently in the queue
+    private final PriorityQueue<Node<E>> queue = new PriorityQueue<>();
+    // the elements in the order they were added, which is only used for starvation protection, and where the
+    // nodes taken from the priority queue are removed lazily, when they become the oldest
+    private final ArrayDeque<Node<E>> fifo = new ArrayDeque<>();
+    private long sequence;
+
+    /**
+     * Creates a queue.
+     *
+     * @param capacity          the capacity, use {@link Integer#MAX_VALUE} for an unbounded queue
+     * @param priority          computes the priority of an element, where higher is taken first
+     * @param deadline          computes the deadline of an element in millis, or {@link #NO_DEADLINE}
+     * @param starvationTimeout the time in millis after which the oldest element is taken first, regardless of its
+     *                          priority, or 0 to disable starvation protection
+     * @param expiredHandler    the handler for elements whose deadline has expired, or <tt>null</tt> to discard them
+     */
+    public DeadlineBlockingQueue(int capacity, ToIntFunction<E> priority, ToLongFunction<E> deadline,
+                                 long starvationTimeout, Consumer<E> expiredHandler) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive, was: " + capacity);
+        }
+        this.capacity = capacity;
+        this.priority = Objects.requireNonNull(priority, "priority");
+        this.deadline = Objects.requireNonNull(deadline, "deadline");
+        this.starvationTimeoutNanos = starvationTimeout > 0 ? TimeUnit.MILLISECONDS.toNanos(starvationTimeout) : 0;
+        this.expiredHandler = expiredHandler;
+    }
+
+    /**
+     * The capacity of the queue
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * The starvation timeout in millis
+     */
+    public long getStarvationTimeout() {
+        return TimeUnit.NANOSECONDS.toMillis(starvationTimeoutNanos);
+    }
+
+    @Override
+    public boolean offer(E e) {
+        Node<E> node = newNode(e);
+        if (node.isExpired(System.currentTimeMillis())) {
+            onExpired(e);
+            return true;
+        }
+        lock.lock();
+        try {
+            if (queue.size() >= capacity) {
+                return false;
+            }
+            enqueue(node);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean offer(E e, long timeout, TimeUnit unit) throws InterruptedException {
+        Node<E> node = newNode(e);
+        if (node.isExpired(System.currentTimeMillis())) {
+            onExpired(e);
+            return true;
+        }
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (queue.size() >= capacity) {
+                if (nanos <= 0L) {
+                    return false;
+                }
+                nanos = notFull.awaitNanos(nanos);
+            }
+            enqueue(node);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void put(E e) throws InterruptedException {
+        Node<E> node = newNode(e);
+        if (node.isExpired(System.currentTimeMillis())) {
+            onExpired(e);
+            return;
+        }
+        lock.lockInterruptibly();
+        try {
+            while (queue.size() >= capacity) {
+                notFull.await();
+            }
+            enqueue(node);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public E poll() {
+        List<E> expired = new ArrayList<>(0);
+        E answer;
+        lock.lock();
+        try {
+            answer = dequeue(expired);
+        } finally {
+            lock.unlock();
+        }
+        onExpired(expired);
+        return answer;
+    }
+
+    @Override
+    public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        List<E> expired = new ArrayList<>(0);
+        while (true) {
+            E answer = null;
+            lock.lockInterruptibly();
+            try {
+                while (queue.isEmpty() && nanos > 0L) {
+                    nanos = notEmpty.awaitNanos(nanos);
+                }
+                if (!queue.isEmpty()) {
+                    answer = dequeue(expired);
+                }
+            } finally {
+                lock.unlock();
+            }
+            // call the expired handler before waiting again
+            onExpired(expired);
+            if (answer != null || nanos <= 0L) {
+                return answer;
+            }
+            expired.clear();
+        }
+    }
+
+    @Override
+    public E take() throws InterruptedException {
+        List<E> expired = new ArrayList<>(0);
+        while (true) {
+            E answer;
+            lock.lockInterruptibly();
+            try {
+                while (queue.isEmpty()) {
+                    notEmpty.await();
+                }
+                answer = dequeue(expired);
+            } finally {
+                lock.unlock();
+            }
+            onExpired(expired);
+            if (answer != null) {
+                return answer;
+            }
+            expired.clear();
+        }
+    }
+
+    @Override
+    public E peek() {
+        lock.lock();
+        try {
+            Node<E> node = select(System.nanoTime());
+            return node != null ? node.element : null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> c) {
+        return drainTo(c, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> c, int maxElements) {
+        Objects.requireNonNull(c);
+        if (c == this) {
+            throw new IllegalArgumentException();
+        }
+        List<E> expired = new ArrayList<>(0);
+        int n = 0;
+        lock.lock();
+        try {
+            while (n < maxElements) {
+                E e = dequeue(expired);
+                if (e == null) {
+                    break;
+                }
+                c.add(e);
+                n++;
+            }
+        } finally {
+            lock.unlock();
+        }
+        onExpired(expired);
+        return n;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (o == null) {
+            return false;
+        }
+        lock.lock();
+        try {
+            for (Node<E> node : queue) {
+                if (o.equals(node.element)) {
+                    removeNode(node);
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.lock();
+        try {
+            queue.clear();
+            fifo.clear();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        lock.lock();
+        try {
+            return queue.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int remainingCapacity() {
+        lock.lock();
+        try {
+            return capacity - queue.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        List<E> snapshot;
+        lock.lock();
+        try {
+            snapshot = new ArrayList<>(queue.size());
+            for (Node<E> node : queue) {
+                snapshot.add(node.element);
+            }
+        } finally {
+            lock.unlock();
+        }
+        final Iterator<E> it = snapshot.iterator();
+        return new Iterator<>() {
+            private E last;
+
+            @Override
+            public boolean hasNext() {
+                return it.hasNext();
+            }
+
+            @Override
+            public E next() {
+                last = it.next();
+                return last;
+            }
+
+            @Override
+            public void remove() {
+                if (last == null) {
+                    throw new IllegalStateException();
+                }
+                DeadlineBlockingQueue.this.remove(last);
+                last = null;
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        return "DeadlineBlockingQueue[size=" + size() + ", capacity=" + capacity + "]";
+    }
+
+    private Node<E> newNode(E e) {
+        Objects.requireNonNull(e);
+        // compute outside the lock as the functions may be costly
+        return new Node<>(e, priority.applyAsInt(e), deadline.applyAsLong(e), System.nanoTime());
+    }
+
+    private void enqueue(Node<E> node) {
+        node.sequence = sequence++;
+        queue.add(node);
+        if (starvationTimeoutNanos > 0) {
+            fifo.addLast(node);
+        }
+        notEmpty.signal();
+    }
+
+    /**
+     * Removes and returns the next element, where the elements whose deadline has expired are removed and added to the
+     * given list.
+     */
+    private E dequeue(List<E> expired) {
+        long now = 0;
+        while (true) {
+            Node<E> node = select(System.nanoTime());
+            if (node == null) {
+                return null;
+            }
+            removeNode(node);
+            if (node.deadline != NO_DEADLINE) {
+                if (now == 0) {
+                    now = System.currentTimeMillis();
+                }
+                if (node.isExpired(now)) {
+                    expired.add(node.element);
+                    continue;
+                }
+            }
+            return node.element;
+        }
+    }
+
+    /**
+     * Selects the next element, which is the oldest element if it has been waiting longer than the starvation timeout,
+     * and otherwise the first element in the priority queue.
+     */
+    private Node<E> select(long nanoTime) {
+        if (starvationTimeoutNanos > 0) {
+            Node<E> oldest = fifo.peekFirst();
+            while (oldest != null && oldest.removed) {
+                fifo.pollFirst();
+                oldest = fifo.peekFirst();
+            }
+            if (oldest != null && nanoTime - oldest.added >= starvationTimeoutNanos) {
+                return oldest;
+            }
+        }
+        return queue.peek();
+    }
+
+    private void removeNode(Node<E> node) {
+        node.removed = true;
+        if (queue.peek() == node) {
+            queue.poll();
+        } else {
+            queue.remove(node);
+        }
+        if (fifo.peekFirst() == node) {
+            fifo.pollFirst();
+        }
+        notFull.signal();
+    }
+
+    private void onExpired(E e) {
+        if (expiredHandler != null) {
+            expiredHandler.accept(e);
+        }
+    }
+
+    private void onExpired(List<E> expired) {
+        for (E e : expired) {
+            onExpired(e);
+        }
+    }
+
+    private static final class Node<E> implements Comparable<Node<E>> {
+        private final E element;
+        private final int priority;
+        private final long deadline;
+        private final long added;
+        private long sequence;
+        private boolean removed;
+
+        Node(E element, int priority, long deadline, long added) {
+            this.element = element;
+            this.priority = priority;
+            this.deadline = deadline;
+            this.added = added;
+        }
+
+        boolean isExpired(long now) {
+            return deadline != NO_DEADLINE && deadline < now;
+        }
+
+        @Override
+        public int compareTo(Node<E> o) {
+            int answer = Integer.compare(o.priority, priority);
+            if (answer == 0) {
+                answer = Long.compare(deadline, o.deadline);
+            }
+            if (answer == 0) {
+                answer = Long.compare(sequence, o.sequence);
+            }
+            return answer;
+        }
+    }
+}
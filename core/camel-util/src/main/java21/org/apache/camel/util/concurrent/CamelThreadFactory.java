@@ -38,6 +38,21 @@ public final class CamelThreadFactory implements ThreadFactoryTypeAware {
         this.threadType = daemon ? ThreadFactoryType.current() : ThreadFactoryType.PLATFORM;
     }
 
+    /**
+     * Creates a thread factory, which creates virtual threads if {@code virtual} is {@code true}, regardless of the
+     * System property {@code camel.threads.virtual.enabled}.
+     */
+    public CamelThreadFactory(String pattern, String name, boolean daemon, boolean virtual) {
+        this.pattern = pattern;
+        this.name = name;
+        this.daemon = daemon;
+        if (virtual) {
+            this.threadType = ThreadFactoryType.VIRTUAL;
+        } else {
+            this.threadType = daemon ? ThreadFactoryType.current() : ThreadFactoryType.PLATFORM;
+        }
+    }
+
     @Override
     public boolean isVirtual() {
         return threadType == ThreadFactoryType.VIRTUAL;
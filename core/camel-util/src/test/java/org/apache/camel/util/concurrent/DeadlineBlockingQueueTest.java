@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.util.concurrent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DeadlineBlockingQueueTest {
+
+    private record Task(String name, int priority, long deadline) {
+    }
+
+    private final List<String> expired = new ArrayList<>();
+
+    private DeadlineBlockingQueue<Task> newQueue(int capacity, long starvationTimeout) {
+        return new DeadlineBlockingQueue<>(
+                capacity, Task::priority, Task::deadline, starvationTimeout, t -> expired.add(t.name()));
+    }
+
+    @Test
+    public void testPriorityThenEarliestDeadline() {
+        long now = System.currentTimeMillis();
+        DeadlineBlockingQueue<Task> queue = newQueue(Integer.MAX_VALUE, 0);
+
+        queue.offer(new Task("a", 0, DeadlineBlockingQueue.NO_DEADLINE));
+        queue.offer(new Task("b", 0, now + 20000));
+        queue.offer(new Task("c", 0, now + 10000));
+        queue.offer(new Task("d", 5, DeadlineBlockingQueue.NO_DEADLINE));
+        queue.offer(new Task("e", 0, DeadlineBlockingQueue.NO_DEADLINE));
+        assertEquals(5, queue.size());
+
+        assertEquals("d", queue.peek().name());
+        List<String> names = new ArrayList<>();
+        while (!queue.isEmpty()) {
+            names.add(queue.poll().name());
+        }
+        assertEquals(List.of("d", "c", "b", "a", "e"), names);
+        assertNull(queue.poll());
+    }
+
+    @Test
+    public void testExpired() throws Exception {
+        long now = System.currentTimeMillis();
+        DeadlineBlockingQueue<Task> queue = newQueue(Integer.MAX_VALUE, 0);
+
+        // is already expired when added
+        assertTrue(queue.offer(new Task("a", 0, now - 1000)));
+        assertEquals(0, queue.size());
+        assertEquals(List.of("a"), expired);
+
+        queue.offer(new Task("b", 0, now + 50));
+        queue.offer(new Task("c", 0, DeadlineBlockingQueue.NO_DEADLINE));
+        Thread.sleep(100);
+
+        assertEquals("c", queue.take().name());
+        assertEquals(List.of("a", "b"), expired);
+        assertNull(queue.poll(10, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testStarvationTimeout() throws Exception {
+        DeadlineBlockingQueue<Task> queue = newQueue(Integer.MAX_VALUE, 50);
+
+        queue.offer(new Task("low", 0, DeadlineBlockingQueue.NO_DEADLINE));
+        queue.offer(new Task("high1", 9, DeadlineBlockingQueue.NO_DEADLINE));
+        assertEquals("high1", queue.poll().name());
+
+        Thread.sleep(100);
+        queue.offer(new Task("high2", 9, DeadlineBlockingQueue.NO_DEADLINE));
+
+        // the low priority task has waited longer than the starvation timeout
+        assertEquals("low", queue.poll().name());
+        assertEquals("high2", queue.poll().name());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void testBounded() throws Exception {
+        DeadlineBlockingQueue<Task> queue = newQueue(2, 0);
+
+        assertTrue(queue.offer(new Task("a", 0, DeadlineBlockingQueue.NO_DEADLINE)));
+        assertTrue(queue.offer(new Task("b", 0, DeadlineBlockingQueue.NO_DEADLINE)));
+        assertFalse(queue.offer(new Task("c", 0, DeadlineBlockingQueue.NO_DEADLINE)));
+        assertFalse(queue.offer(new Task("c", 0, DeadlineBlockingQueue.NO_DEADLINE), 10, TimeUnit.MILLISECONDS));
+        assertEquals(0, queue.remainingCapacity());
+
+        List<Task> drained = new ArrayList<>();
+        assertEquals(2, queue.drainTo(drained));
+        assertEquals(2, queue.remainingCapacity());
+    }
+
+    @Test
+    public void testRemove() {
+        DeadlineBlockingQueue<Task> queue = newQueue(Integer.MAX_VALUE, 50);
+
+        Task a = new Task("a", 0, DeadlineBlockingQueue.NO_DEADLINE);
+        Task b = new Task("b", 1, DeadlineBlockingQueue.NO_DEADLINE);
+        queue.offer(a);
+        queue.offer(b);
+
+        assertTrue(queue.remove(a));
+        assertFalse(queue.remove(a));
+        assertEquals(1, queue.size());
+        assertEquals(b, queue.iterator().next());
+        assertEquals(b, queue.poll());
+        assertNull(queue.poll());
+    }
+}
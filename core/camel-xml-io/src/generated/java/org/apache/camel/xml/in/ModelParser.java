@@ -134,6 +134,7 @@ public class ModelParser extends BaseParser {
                 case "executorService": def.setExecutorService(val); yield true;
                 case "forceCompletionOnStop": def.setForceCompletionOnStop(val); yield true;
                 case "ignoreInvalidCorrelationKeys": def.setIgnoreInvalidCorrelationKeys(val); yield true;
+                case "lockStripes": def.setLockStripes(val); yield true;
                 case "optimisticLocking": def.setOptimisticLocking(val); yield true;
                 case "optimisticLockingSyncRetry": def.setOptimisticLockingSyncRetry(val); yield true;
                 case "parallelProcessing": def.setParallelProcessing(val); yield true;
@@ -566,6 +567,7 @@ public class ModelParser extends BaseParser {
                 case "aggregationStrategyMethodAllowNull": def.setAggregationStrategyMethodAllowNull(val); yield true;
                 case "aggregationStrategyMethodName": def.setAggregationStrategyMethodName(val); yield true;
                 case "executorService": def.setExecutorService(val); yield true;
+                case "maxInflight": def.setMaxInflight(val); yield true;
                 case "onPrepare": def.setOnPrepare(val); yield true;
                 case "parallelAggregate": def.setParallelAggregate(val); yield true;
                 case "parallelProcessing": def.setParallelProcessing(val); yield true;
@@ -1144,6 +1146,7 @@ public class ModelParser extends BaseParser {
                 case "executorService": def.setExecutorService(val); yield true;
                 case "group": def.setGroup(val); yield true;
                 case "maxFailedRecords": def.setMaxFailedRecords(val); yield true;
+                case "maxInflight": def.setMaxInflight(val); yield true;
                 case "onPrepare": def.setOnPrepare(val); yield true;
                 case "parallelAggregate": def.setParallelAggregate(val); yield true;
                 case "parallelProcessing": def.setParallelProcessing(val); yield true;
@@ -1221,6 +1224,7 @@ public class ModelParser extends BaseParser {
                 case "poolSize": def.setPoolSize(val); yield true;
                 case "rejectedPolicy": def.setRejectedPolicy(val); yield true;
                 case "timeUnit": def.setTimeUnit(val); yield true;
+                case "virtualThreads": def.setVirtualThreads(val); yield true;
                 default: yield optionalIdentifiedDefinitionAttributeHandler().accept(def, key, val);
             }, optionalIdentifiedDefinitionElementHandler(), noValueHandler());
     }
@@ -1228,12 +1232,16 @@ public class ModelParser extends BaseParser {
         return doParse(new ThreadsDefinition(), (def, key, val) -> switch (key) {
                 case "allowCoreThreadTimeOut": def.setAllowCoreThreadTimeOut(val); yield true;
                 case "callerRunsWhenRejected": def.setCallerRunsWhenRejected(val); yield true;
+                case "deadlineHeader": def.setDeadlineHeader(val); yield true;
                 case "executorService": def.setExecutorService(val); yield true;
                 case "keepAliveTime": def.setKeepAliveTime(val); yield true;
                 case "maxPoolSize": def.setMaxPoolSize(val); yield true;
                 case "maxQueueSize": def.setMaxQueueSize(val); yield true;
+                case "onExpired": def.setOnExpired(val); yield true;
                 case "poolSize": def.setPoolSize(val); yield true;
+                case "priorityHeader": def.setPriorityHeader(val); yield true;
                 case "rejectedPolicy": def.setRejectedPolicy(val); yield true;
+                case "starvationTimeout": def.setStarvationTimeout(val); yield true;
                 case "threadName": def.setThreadName(val); yield true;
                 case "timeUnit": def.setTimeUnit(val); yield true;
                 default: yield processorDefinitionAttributeHandler().accept(def, key, val);
@@ -1241,6 +1249,8 @@ public class ModelParser extends BaseParser {
     }
     protected ThrottleDefinition doParseThrottleDefinition() throws IOException, XmlPullParserException {
         return doParse(new ThrottleDefinition(), (def, key, val) -> switch (key) {
+                case "adaptiveBackoffRatio": def.setAdaptiveBackoffRatio(val); yield true;
+                case "adaptiveLatencyTolerance": def.setAdaptiveLatencyTolerance(val); yield true;
                 case "asyncDelayed": def.setAsyncDelayed(val); yield true;
                 case "callerRunsWhenRejected": def.setCallerRunsWhenRejected(val); yield true;
                 case "executorService": def.setExecutorService(val); yield true;
@@ -2315,6 +2325,7 @@ public class ModelParser extends BaseParser {
     }
     protected SimpleExpression doParseSimpleExpression() throws IOException, XmlPullParserException {
         return doParse(new SimpleExpression(), (def, key, val) -> switch (key) {
+                case "compiled": def.setCompiled(val); yield true;
                 case "nested": def.setNested(val); yield true;
                 case "pretty": def.setPretty(val); yield true;
                 case "trimResult": def.setTrimResult(val); yield true;
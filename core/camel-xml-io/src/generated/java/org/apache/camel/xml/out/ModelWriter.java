@@ -788,6 +788,7 @@ public class ModelWriter extends BaseWriter {
         doWriteAttribute("parallelProcessing", def.getParallelProcessing(), null);
         doWriteAttribute("optimisticLocking", def.getOptimisticLocking(), null);
         doWriteAttribute("optimisticLockingSyncRetry", def.getOptimisticLockingSyncRetry(), "false");
+        doWriteAttribute("lockStripes", def.getLockStripes(), null);
         doWriteAttribute("executorService", def.getExecutorService(), null);
         doWriteAttribute("timeoutCheckerExecutorService", def.getTimeoutCheckerExecutorService(), null);
         doWriteAttribute("aggregateController", def.getAggregateController(), null);
@@ -1232,6 +1233,7 @@ public class ModelWriter extends BaseWriter {
         doWriteAttribute("streaming", def.getStreaming(), null);
         doWriteAttribute("stopOnException", def.getStopOnException(), null);
         doWriteAttribute("timeout", def.getTimeout(), "0");
+        doWriteAttribute("maxInflight", def.getMaxInflight(), null);
         doWriteAttribute("executorService", def.getExecutorService(), null);
         doWriteAttribute("onPrepare", def.getOnPrepare(), null);
         doWriteAttribute("shareUnitOfWork", def.getShareUnitOfWork(), null);
@@ -1766,6 +1768,7 @@ public class ModelWriter extends BaseWriter {
         doWriteAttribute("streaming", def.getStreaming(), null);
         doWriteAttribute("stopOnException", def.getStopOnException(), null);
         doWriteAttribute("timeout", def.getTimeout(), "0");
+        doWriteAttribute("maxInflight", def.getMaxInflight(), null);
         doWriteAttribute("executorService", def.getExecutorService(), null);
         doWriteAttribute("onPrepare", def.getOnPrepare(), null);
         doWriteAttribute("shareUnitOfWork", def.getShareUnitOfWork(), null);
@@ -1822,6 +1825,7 @@ public class ModelWriter extends BaseWriter {
         doWriteAttribute("maxQueueSize", def.getMaxQueueSize(), null);
         doWriteAttribute("allowCoreThreadTimeOut", def.getAllowCoreThreadTimeOut(), null);
         doWriteAttribute("rejectedPolicy", def.getRejectedPolicy(), null);
+        doWriteAttribute("virtualThreads", def.getVirtualThreads(), null);
         endElement(name);
     }
     protected void doWriteThreadsDefinition(String name, ThreadsDefinition def) throws IOException {
@@ -1837,6 +1841,10 @@ public class ModelWriter extends BaseWriter {
         doWriteAttribute("threadName", def.getThreadName(), "Threads");
         doWriteAttribute("rejectedPolicy", def.getRejectedPolicy(), null);
         doWriteAttribute("callerRunsWhenRejected", def.getCallerRunsWhenRejected(), "true");
+        doWriteAttribute("priorityHeader", def.getPriorityHeader(), null);
+        doWriteAttribute("deadlineHeader", def.getDeadlineHeader(), null);
+        doWriteAttribute("starvationTimeout", def.getStarvationTimeout(), "10000");
+        doWriteAttribute("onExpired", def.getOnExpired(), null);
         endElement(name);
     }
     protected void doWriteThrottleDefinition(String name, ThrottleDefinition def) throws IOException {
@@ -1848,6 +1856,8 @@ public class ModelWriter extends BaseWriter {
         doWriteAttribute("callerRunsWhenRejected", def.getCallerRunsWhenRejected(), "true");
         doWriteAttribute("rejectExecution", def.getRejectExecution(), null);
         doWriteAttribute("timePeriodMillis", def.getTimePeriodMillis(), "1000");
+        doWriteAttribute("adaptiveBackoffRatio", def.getAdaptiveBackoffRatio(), "0.9");
+        doWriteAttribute("adaptiveLatencyTolerance", def.getAdaptiveLatencyTolerance(), "2.0");
         doWriteExpressionNodeElements(def);
         doWriteElement("correlationExpression", def.getCorrelationExpression(), this::doWriteExpressionSubElementDefinition);
         endElement(name);
@@ -2993,6 +3003,7 @@ public class ModelWriter extends BaseWriter {
         doWriteAttribute("trimResult", def.getTrimResult(), "false");
         doWriteAttribute("pretty", def.getPretty(), "false");
         doWriteAttribute("nested", def.getNested(), "false");
+        doWriteAttribute("compiled", def.getCompiled(), "false");
         doWriteValue(def.getExpression());
         endElement(name);
     }
@@ -781,6 +781,7 @@ public class YamlModelWriter extends YamlModelWriterSupport {
         doWriteAttribute(jo, "parallelProcessing", def.getParallelProcessing(), null);
         doWriteAttribute(jo, "optimisticLocking", def.getOptimisticLocking(), null);
         doWriteAttribute(jo, "optimisticLockingSyncRetry", def.getOptimisticLockingSyncRetry(), "false");
+        doWriteAttribute(jo, "lockStripes", def.getLockStripes(), null);
         doWriteAttribute(jo, "executorService", def.getExecutorService(), null);
         doWriteAttribute(jo, "timeoutCheckerExecutorService", def.getTimeoutCheckerExecutorService(), null);
         doWriteAttribute(jo, "aggregateController", def.getAggregateController(), null);
@@ -1227,6 +1228,7 @@ public class YamlModelWriter extends YamlModelWriterSupport {
         doWriteAttribute(jo, "streaming", def.getStreaming(), null);
         doWriteAttribute(jo, "stopOnException", def.getStopOnException(), null);
         doWriteAttribute(jo, "timeout", def.getTimeout(), "0");
+        doWriteAttribute(jo, "maxInflight", def.getMaxInflight(), null);
         doWriteAttribute(jo, "executorService", def.getExecutorService(), null);
         doWriteAttribute(jo, "onPrepare", def.getOnPrepare(), null);
         doWriteAttribute(jo, "shareUnitOfWork", def.getShareUnitOfWork(), null);
@@ -1762,6 +1764,7 @@ public class YamlModelWriter extends YamlModelWriterSupport {
         doWriteAttribute(jo, "streaming", def.getStreaming(), null);
         doWriteAttribute(jo, "stopOnException", def.getStopOnException(), null);
         doWriteAttribute(jo, "timeout", def.getTimeout(), "0");
+        doWriteAttribute(jo, "maxInflight", def.getMaxInflight(), null);
         doWriteAttribute(jo, "executorService", def.getExecutorService(), null);
         doWriteAttribute(jo, "onPrepare", def.getOnPrepare(), null);
         doWriteAttribute(jo, "shareUnitOfWork", def.getShareUnitOfWork(), null);
@@ -1818,6 +1821,7 @@ public class YamlModelWriter extends YamlModelWriterSupport {
         doWriteAttribute(jo, "maxQueueSize", def.getMaxQueueSize(), null);
         doWriteAttribute(jo, "allowCoreThreadTimeOut", def.getAllowCoreThreadTimeOut(), null);
         doWriteAttribute(jo, "rejectedPolicy", def.getRejectedPolicy(), null);
+        doWriteAttribute(jo, "virtualThreads", def.getVirtualThreads(), null);
         return jo;
     }
     protected JsonObject doWriteThreadsDefinition(ThreadsDefinition def) {
@@ -1833,6 +1837,10 @@ public class YamlModelWriter extends YamlModelWriterSupport {
         doWriteAttribute(jo, "threadName", def.getThreadName(), "Threads");
         doWriteAttribute(jo, "rejectedPolicy", def.getRejectedPolicy(), null);
         doWriteAttribute(jo, "callerRunsWhenRejected", def.getCallerRunsWhenRejected(), "true");
+        doWriteAttribute(jo, "priorityHeader", def.getPriorityHeader(), null);
+        doWriteAttribute(jo, "deadlineHeader", def.getDeadlineHeader(), null);
+        doWriteAttribute(jo, "starvationTimeout", def.getStarvationTimeout(), "10000");
+        doWriteAttribute(jo, "onExpired", def.getOnExpired(), null);
         return jo;
     }
     protected JsonObject doWriteThrottleDefinition(ThrottleDefinition def) {
@@ -1844,6 +1852,8 @@ public class YamlModelWriter extends YamlModelWriterSupport {
         doWriteAttribute(jo, "callerRunsWhenRejected", def.getCallerRunsWhenRejected(), "true");
         doWriteAttribute(jo, "rejectExecution", def.getRejectExecution(), null);
         doWriteAttribute(jo, "timePeriodMillis", def.getTimePeriodMillis(), "1000");
+        doWriteAttribute(jo, "adaptiveBackoffRatio", def.getAdaptiveBackoffRatio(), "0.9");
+        doWriteAttribute(jo, "adaptiveLatencyTolerance", def.getAdaptiveLatencyTolerance(), "2.0");
         doWriteExpressionNodeElements(jo, def);
         doWriteChildElement(jo, "correlationExpression", def.getCorrelationExpression(), this::doWriteExpressionSubElementDefinition);
         return jo;
@@ -2991,6 +3001,7 @@ public class YamlModelWriter extends YamlModelWriterSupport {
         doWriteAttribute(jo, "trimResult", def.getTrimResult(), "false");
         doWriteAttribute(jo, "pretty", def.getPretty(), "false");
         doWriteAttribute(jo, "nested", def.getNested(), "false");
+        doWriteAttribute(jo, "compiled", def.getCompiled(), "false");
         doWriteValue(jo, def.getExpression());
         return jo;
     }
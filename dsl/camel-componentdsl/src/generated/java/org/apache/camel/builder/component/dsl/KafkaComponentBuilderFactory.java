@@ -1054,6 +1054,53 @@ public interface KafkaComponentBuilderFactory {
             return this;
         }
     
+        /**
+         * When processing records in parallel (see the
+         * parallelProcessingThreads option), then the order to keep. With key
+         * ordering, then records with the same key are processed in order, and
+         * records with different keys (also from the same partition) can be
+         * processed at the same time. Records without a key are processed in
+         * the order of their partition. With partition ordering, then the
+         * records of each partition are processed in order, and only records
+         * from different partitions are processed at the same time.
+         * 
+         * The option is a: &lt;code&gt;java.lang.String&lt;/code&gt; type.
+         * 
+         * Default: key
+         * Group: consumer (advanced)
+         * 
+         * @param parallelProcessingOrdering the value to set
+         * @return the dsl builder
+         */
+        default KafkaComponentBuilder parallelProcessingOrdering(java.lang.String parallelProcessingOrdering) {
+            doSetProperty("parallelProcessingOrdering", parallelProcessingOrdering);
+            return this;
+        }
+    
+        /**
+         * Number of threads to use for processing the records of each poll in
+         * parallel. The default is 0, which processes the records one by one on
+         * the consumer thread. When enabled, then the records are processed
+         * concurrently while keeping the order of the records with the same key
+         * (or of the same partition), as configured by the
+         * parallelProcessingOrdering option. The offsets are only committed up
+         * to the highest record that has been processed without any gap before
+         * it. The records of the next poll are not processed until all the
+         * records of the current poll have been processed. This mode cannot be
+         * combined with batching or allowManualCommit.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: consumer (advanced)
+         * 
+         * @param parallelProcessingThreads the value to set
+         * @return the dsl builder
+         */
+        default KafkaComponentBuilder parallelProcessingThreads(int parallelProcessingThreads) {
+            doSetProperty("parallelProcessingThreads", parallelProcessingThreads);
+            return this;
+        }
+    
         /**
          * To use a custom strategy with the consumer to control how to handle
          * exceptions thrown from the Kafka broker while pooling messages.
@@ -2678,6 +2725,8 @@ public interface KafkaComponentBuilderFactory {
             case "createConsumerBackoffMaxAttempts": ((KafkaComponent) component).setCreateConsumerBackoffMaxAttempts((int) value); return true;
             case "isolationLevel": getOrCreateConfiguration((KafkaComponent) component).setIsolationLevel((java.lang.String) value); return true;
             case "kafkaManualCommitFactory": ((KafkaComponent) component).setKafkaManualCommitFactory((org.apache.camel.component.kafka.consumer.KafkaManualCommitFactory) value); return true;
+            case "parallelProcessingOrdering": getOrCreateConfiguration((KafkaComponent) component).setParallelProcessingOrdering((java.lang.String) value); return true;
+            case "parallelProcessingThreads": getOrCreateConfiguration((KafkaComponent) component).setParallelProcessingThreads((int) value); return true;
             case "pollExceptionStrategy": ((KafkaComponent) component).setPollExceptionStrategy((org.apache.camel.component.kafka.PollExceptionStrategy) value); return true;
             case "subscribeConsumerBackoffInterval": ((KafkaComponent) component).setSubscribeConsumerBackoffInterval((long) value); return true;
             case "subscribeConsumerBackoffMaxAttempts": ((KafkaComponent) component).setSubscribeConsumerBackoffMaxAttempts((int) value); return true;
@@ -335,6 +335,28 @@ public interface MllpComponentBuilderFactory {
         }
     
         
+        /**
+         * TCP Server Only - Whether to handle each MLLP Consumer connection
+         * on its own virtual thread (requires Java 21 or newer), instead of a
+         * platform thread from a thread pool. The maximum number of connections
+         * is still limited by maxConcurrentConsumers, which can be set much
+         * higher with virtual threads (such as 10000), as a connection waiting
+         * for data does not occupy a platform thread.
+         * 
+         * The option is a: &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: consumer
+         * 
+         * @param virtualThreads the value to set
+         * @return the dsl builder
+         */
+        default MllpComponentBuilder virtualThreads(boolean virtualThreads) {
+            doSetProperty("virtualThreads", virtualThreads);
+            return this;
+        }
+    
+        
         /**
          * Sets the exchange pattern when the consumer creates an exchange.
          * 
@@ -719,6 +741,7 @@ public interface MllpComponentBuilderFactory {
             case "lenientBind": getOrCreateConfiguration((MllpComponent) component).setLenientBind((boolean) value); return true;
             case "maxConcurrentConsumers": getOrCreateConfiguration((MllpComponent) component).setMaxConcurrentConsumers((int) value); return true;
             case "reuseAddress": getOrCreateConfiguration((MllpComponent) component).setReuseAddress((java.lang.Boolean) value); return true;
+            case "virtualThreads": getOrCreateConfiguration((MllpComponent) component).setVirtualThreads((boolean) value); return true;
             case "exchangePattern": getOrCreateConfiguration((MllpComponent) component).setExchangePattern((org.apache.camel.ExchangePattern) value); return true;
             case "connectTimeout": getOrCreateConfiguration((MllpComponent) component).setConnectTimeout((int) value); return true;
             case "idleTimeoutStrategy": getOrCreateConfiguration((MllpComponent) component).setIdleTimeoutStrategy((org.apache.camel.component.mllp.MllpIdleTimeoutStrategy) value); return true;
@@ -2435,6 +2435,52 @@ public interface FileEndpointBuilderFactory {
             doSetProperty("processStrategy", processStrategy);
             return this;
         }
+        /**
+         * Whether to keep an in-memory index of the files that were skipped
+         * during a poll (such as files that has already been consumed when
+         * using idempotent or noop, or files that did not match the filters),
+         * by their name, size and last modified timestamp. Files that are
+         * unchanged are then skipped on the following polls, without evaluating
+         * the filters or looking up the idempotent repository. Files that are
+         * changed are evaluated again. This option requires
+         * streamingDirectoryListing to be enabled, and should only be used when
+         * the filters of the endpoint give the same result for unchanged files.
+         * 
+         * The option is a: <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         * 
+         * @param skipUnchangedFiles the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder skipUnchangedFiles(boolean skipUnchangedFiles) {
+            doSetProperty("skipUnchangedFiles", skipUnchangedFiles);
+            return this;
+        }
+        /**
+         * Whether to keep an in-memory index of the files that were skipped
+         * during a poll (such as files that has already been consumed when
+         * using idempotent or noop, or files that did not match the filters),
+         * by their name, size and last modified timestamp. Files that are
+         * unchanged are then skipped on the following polls, without evaluating
+         * the filters or looking up the idempotent repository. Files that are
+         * changed are evaluated again. This option requires
+         * streamingDirectoryListing to be enabled, and should only be used when
+         * the filters of the endpoint give the same result for unchanged files.
+         * 
+         * The option will be converted to a <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         * 
+         * @param skipUnchangedFiles the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder skipUnchangedFiles(String skipUnchangedFiles) {
+            doSetProperty("skipUnchangedFiles", skipUnchangedFiles);
+            return this;
+        }
         /**
          * Whether the starting directory must exist. Mind that the autoCreate
          * option is default enabled, which means the starting directory is
@@ -2509,6 +2555,48 @@ public interface FileEndpointBuilderFactory {
             doSetProperty("startingDirectoryMustHaveAccess", startingDirectoryMustHaveAccess);
             return this;
         }
+        /**
+         * Whether to list the directories as a stream, instead of loading all
+         * the files of a directory into memory before they are polled. The
+         * attributes of each file are read in a single operation, and the
+         * listing stops as soon as maxMessagesPerPoll has been reached (when
+         * eagerMaxMessagesPerPoll is enabled). This is recommended for
+         * directories with a large number of files. This option cannot be used
+         * together with preSort.
+         * 
+         * The option is a: <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         * 
+         * @param streamingDirectoryListing the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder streamingDirectoryListing(boolean streamingDirectoryListing) {
+            doSetProperty("streamingDirectoryListing", streamingDirectoryListing);
+            return this;
+        }
+        /**
+         * Whether to list the directories as a stream, instead of loading all
+         * the files of a directory into memory before they are polled. The
+         * attributes of each file are read in a single operation, and the
+         * listing stops as soon as maxMessagesPerPoll has been reached (when
+         * eagerMaxMessagesPerPoll is enabled). This is recommended for
+         * directories with a large number of files. This option cannot be used
+         * together with preSort.
+         * 
+         * The option will be converted to a <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         * 
+         * @param streamingDirectoryListing the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder streamingDirectoryListing(String streamingDirectoryListing) {
+            doSetProperty("streamingDirectoryListing", streamingDirectoryListing);
+            return this;
+        }
         /**
          * Automatically create missing directories in the file's pathname. For
          * the file consumer, that means creating the starting directory. For
@@ -2311,6 +2311,74 @@ public interface KafkaEndpointBuilderFactory {
             doSetProperty("kafkaManualCommitFactory", kafkaManualCommitFactory);
             return this;
         }
+        /**
+         * When processing records in parallel (see the
+         * parallelProcessingThreads option), then the order to keep. With key
+         * ordering, then records with the same key are processed in order, and
+         * records with different keys (also from the same partition) can be
+         * processed at the same time. Records without a key are processed in
+         * the order of their partition. With partition ordering, then the
+         * records of each partition are processed in order, and only records
+         * from different partitions are processed at the same time.
+         * 
+         * The option is a: <code>java.lang.String</code> type.
+         * 
+         * Default: key
+         * Group: consumer (advanced)
+         * 
+         * @param parallelProcessingOrdering the value to set
+         * @return the dsl builder
+         */
+        default AdvancedKafkaEndpointConsumerBuilder parallelProcessingOrdering(String parallelProcessingOrdering) {
+            doSetProperty("parallelProcessingOrdering", parallelProcessingOrdering);
+            return this;
+        }
+        /**
+         * Number of threads to use for processing the records of each poll in
+         * parallel. The default is 0, which processes the records one by one on
+         * the consumer thread. When enabled, then the records are processed
+         * concurrently while keeping the order of the records with the same key
+         * (or of the same partition), as configured by the
+         * parallelProcessingOrdering option. The offsets are only committed up
+         * to the highest record that has been processed without any gap before
+         * it. The records of the next poll are not processed until all the
+         * records of the current poll have been processed. This mode cannot be
+         * combined with batching or allowManualCommit.
+         * 
+         * The option is a: <code>int</code> type.
+         * 
+         * Group: consumer (advanced)
+         * 
+         * @param parallelProcessingThreads the value to set
+         * @return the dsl builder
+         */
+        default AdvancedKafkaEndpointConsumerBuilder parallelProcessingThreads(int parallelProcessingThreads) {
+            doSetProperty("parallelProcessingThreads", parallelProcessingThreads);
+            return this;
+        }
+        /**
+         * Number of threads to use for processing the records of each poll in
+         * parallel. The default is 0, which processes the records one by one on
+         * the consumer thread. When enabled, then the records are processed
+         * concurrently while keeping the order of the records with the same key
+         * (or of the same partition), as configured by the
+         * parallelProcessingOrdering option. The offsets are only committed up
+         * to the highest record that has been processed without any gap before
+         * it. The records of the next poll are not processed until all the
+         * records of the current poll have been processed. This mode cannot be
+         * combined with batching or allowManualCommit.
+         * 
+         * The option will be converted to a <code>int</code> type.
+         * 
+         * Group: consumer (advanced)
+         * 
+         * @param parallelProcessingThreads the value to set
+         * @return the dsl builder
+         */
+        default AdvancedKafkaEndpointConsumerBuilder parallelProcessingThreads(String parallelProcessingThreads) {
+            doSetProperty("parallelProcessingThreads", parallelProcessingThreads);
+            return this;
+        }
         /**
          * Factory to use for creating
          * org.apache.kafka.clients.consumer.KafkaConsumer and
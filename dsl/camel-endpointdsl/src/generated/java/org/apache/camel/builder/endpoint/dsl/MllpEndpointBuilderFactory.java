@@ -562,6 +562,46 @@ public interface MllpEndpointBuilderFactory {
             doSetProperty("reuseAddress", reuseAddress);
             return this;
         }
+        /**
+         * TCP Server Only - Whether to handle each MLLP Consumer connection
+         * on its own virtual thread (requires Java 21 or newer), instead of a
+         * platform thread from a thread pool. The maximum number of connections
+         * is still limited by maxConcurrentConsumers, which can be set much
+         * higher with virtual threads (such as 10000), as a connection waiting
+         * for data does not occupy a platform thread.
+         * 
+         * The option is a: <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: consumer
+         * 
+         * @param virtualThreads the value to set
+         * @return the dsl builder
+         */
+        default AdvancedMllpEndpointConsumerBuilder virtualThreads(boolean virtualThreads) {
+            doSetProperty("virtualThreads", virtualThreads);
+            return this;
+        }
+        /**
+         * TCP Server Only - Whether to handle each MLLP Consumer connection
+         * on its own virtual thread (requires Java 21 or newer), instead of a
+         * platform thread from a thread pool. The maximum number of connections
+         * is still limited by maxConcurrentConsumers, which can be set much
+         * higher with virtual threads (such as 10000), as a connection waiting
+         * for data does not occupy a platform thread.
+         * 
+         * The option will be converted to a <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: consumer
+         * 
+         * @param virtualThreads the value to set
+         * @return the dsl builder
+         */
+        default AdvancedMllpEndpointConsumerBuilder virtualThreads(String virtualThreads) {
+            doSetProperty("virtualThreads", virtualThreads);
+            return this;
+        }
         /**
          * To let the consumer use a custom ExceptionHandler. Notice if the
          * option bridgeErrorHandler is enabled then this option is not in use.
@@ -289,6 +289,91 @@ public interface SqlEndpointBuilderFactory {
             doSetProperty("expectedUpdateCount", expectedUpdateCount);
             return this;
         }
+        /**
+         * To consume the rows in pages using keyset pagination on the given
+         * column, which must be unique and increasing, such as the primary key.
+         * Each poll selects the next page of rows with a greater value than the
+         * last consumed row, ordered by the column, instead of selecting all the
+         * rows. The onConsume query is executed as a JDBC batch for each page.
+         * Use greedy=true to drain the table without waiting for the next poll.
+         * 
+         * The option is a: <code>String</code> type.
+         * 
+         * Group: consumer
+         * 
+         * @param keysetColumn the value to set
+         * @return the dsl builder
+         */
+        default SqlEndpointConsumerBuilder keysetColumn(String keysetColumn) {
+            doSetProperty("keysetColumn", keysetColumn);
+            return this;
+        }
+        /**
+         * The maximum number of rows in each page, when keysetColumn is in use.
+         * 
+         * The option is a: <code>int</code> type.
+         * 
+         * Default: 1000
+         * Group: consumer
+         * 
+         * @param keysetPageSize the value to set
+         * @return the dsl builder
+         */
+        default SqlEndpointConsumerBuilder keysetPageSize(int keysetPageSize) {
+            doSetProperty("keysetPageSize", keysetPageSize);
+            return this;
+        }
+        /**
+         * The maximum number of rows in each page, when keysetColumn is in use.
+         * 
+         * The option will be converted to a <code>int</code> type.
+         * 
+         * Default: 1000
+         * Group: consumer
+         * 
+         * @param keysetPageSize the value to set
+         * @return the dsl builder
+         */
+        default SqlEndpointConsumerBuilder keysetPageSize(String keysetPageSize) {
+            doSetProperty("keysetPageSize", keysetPageSize);
+            return this;
+        }
+        /**
+         * The number of partitions to split the rows into, which are polled
+         * concurrently, when keysetColumn is in use. The rows are assigned to a
+         * partition using MOD on the keyset column, which must therefore be
+         * numeric.
+         * 
+         * The option is a: <code>int</code> type.
+         * 
+         * Default: 1
+         * Group: consumer
+         * 
+         * @param keysetPartitions the value to set
+         * @return the dsl builder
+         */
+        default SqlEndpointConsumerBuilder keysetPartitions(int keysetPartitions) {
+            doSetProperty("keysetPartitions", keysetPartitions);
+            return this;
+        }
+        /**
+         * The number of partitions to split the rows into, which are polled
+         * concurrently, when keysetColumn is in use. The rows are assigned to a
+         * partition using MOD on the keyset column, which must therefore be
+         * numeric.
+         * 
+         * The option will be converted to a <code>int</code> type.
+         * 
+         * Default: 1
+         * Group: consumer
+         * 
+         * @param keysetPartitions the value to set
+         * @return the dsl builder
+         */
+        default SqlEndpointConsumerBuilder keysetPartitions(String keysetPartitions) {
+            doSetProperty("keysetPartitions", keysetPartitions);
+            return this;
+        }
         /**
          * Sets the maximum number of messages to poll.
          * 
@@ -1079,6 +1164,44 @@ public interface SqlEndpointBuilderFactory {
             doSetProperty("exchangePattern", exchangePattern);
             return this;
         }
+        /**
+         * To use a state repository to store the last consumed key of each
+         * partition, when keysetColumn is in use. By default the last consumed
+         * keys are kept in memory, and the rows are consumed from the beginning
+         * when the route is restarted.
+         * 
+         * The option is a:
+         * <code>org.apache.camel.spi.StateRepository&lt;java.lang.String,
+         * java.lang.String&gt;</code> type.
+         * 
+         * Group: consumer (advanced)
+         * 
+         * @param keysetStateRepository the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSqlEndpointConsumerBuilder keysetStateRepository(org.apache.camel.spi.StateRepository<java.lang.String, java.lang.String> keysetStateRepository) {
+            doSetProperty("keysetStateRepository", keysetStateRepository);
+            return this;
+        }
+        /**
+         * To use a state repository to store the last consumed key of each
+         * partition, when keysetColumn is in use. By default the last consumed
+         * keys are kept in memory, and the rows are consumed from the beginning
+         * when the route is restarted.
+         * 
+         * The option will be converted to a
+         * <code>org.apache.camel.spi.StateRepository&lt;java.lang.String,
+         * java.lang.String&gt;</code> type.
+         * 
+         * Group: consumer (advanced)
+         * 
+         * @param keysetStateRepository the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSqlEndpointConsumerBuilder keysetStateRepository(String keysetStateRepository) {
+            doSetProperty("keysetStateRepository", keysetStateRepository);
+            return this;
+        }
         /**
          * A pluggable org.apache.camel.PollingConsumerPollingStrategy allowing
          * you to provide your custom implementation to control error handling
@@ -1759,6 +1882,80 @@ public interface SqlEndpointBuilderFactory {
             return (SqlEndpointProducerBuilder) this;
         }
 
+        /**
+         * To coalesce exchanges that are sent concurrently to this endpoint
+         * into a single JDBC batch of up to this number of exchanges. Each
+         * exchange is still completed on its own with its own update count (or
+         * exception). This is only used for update statements (insert, update
+         * or delete), and not when batch, useMessageBodyForSql or
+         * outputType=StreamList is in use, nor for exchanges that are
+         * transacted or use a custom query, data source or generated keys. Use
+         * 0 or 1 to turn this off.
+         * 
+         * The option is a: <code>int</code> type.
+         * 
+         * Group: producer (advanced)
+         * 
+         * @param coalescingBatchSize the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSqlEndpointProducerBuilder coalescingBatchSize(int coalescingBatchSize) {
+            doSetProperty("coalescingBatchSize", coalescingBatchSize);
+            return this;
+        }
+        /**
+         * To coalesce exchanges that are sent concurrently to this endpoint
+         * into a single JDBC batch of up to this number of exchanges. Each
+         * exchange is still completed on its own with its own update count (or
+         * exception). This is only used for update statements (insert, update
+         * or delete), and not when batch, useMessageBodyForSql or
+         * outputType=StreamList is in use, nor for exchanges that are
+         * transacted or use a custom query, data source or generated keys. Use
+         * 0 or 1 to turn this off.
+         * 
+         * The option will be converted to a <code>int</code> type.
+         * 
+         * Group: producer (advanced)
+         * 
+         * @param coalescingBatchSize the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSqlEndpointProducerBuilder coalescingBatchSize(String coalescingBatchSize) {
+            doSetProperty("coalescingBatchSize", coalescingBatchSize);
+            return this;
+        }
+        /**
+         * The maximum time in millis to wait for more exchanges to coalesce
+         * into a JDBC batch, when coalescingBatchSize is in use.
+         * 
+         * The option is a: <code>long</code> type.
+         * 
+         * Default: 10
+         * Group: producer (advanced)
+         * 
+         * @param coalescingLingerTime the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSqlEndpointProducerBuilder coalescingLingerTime(long coalescingLingerTime) {
+            doSetProperty("coalescingLingerTime", coalescingLingerTime);
+            return this;
+        }
+        /**
+         * The maximum time in millis to wait for more exchanges to coalesce
+         * into a JDBC batch, when coalescingBatchSize is in use.
+         * 
+         * The option will be converted to a <code>long</code> type.
+         * 
+         * Default: 10
+         * Group: producer (advanced)
+         * 
+         * @param coalescingLingerTime the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSqlEndpointProducerBuilder coalescingLingerTime(String coalescingLingerTime) {
+            doSetProperty("coalescingLingerTime", coalescingLingerTime);
+            return this;
+        }
         /**
          * Whether the producer should be started lazy (on the first message).
          * By starting lazy you can use this to allow CamelContext and routes to
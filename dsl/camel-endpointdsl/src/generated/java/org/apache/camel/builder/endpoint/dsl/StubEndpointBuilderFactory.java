@@ -122,6 +122,50 @@ public interface StubEndpointBuilderFactory {
         default StubEndpointConsumerBuilder basic() {
             return (StubEndpointConsumerBuilder) this;
         }
+        /**
+         * The maximum number of messages a consumer thread takes from the queue
+         * at once, which are then processed one after the other as a batch.
+         * Taking messages in batches means the consumer threads hand over the
+         * queue lock less often, which can increase throughput at high message
+         * rates. Each message has the batch exchange properties
+         * (CamelBatchIndex, CamelBatchSize and CamelBatchComplete) set. This
+         * option is not in use when virtualThreadPerTask is enabled. The
+         * default value 1 takes one message at a time.
+         * 
+         * The option is a: <code>int</code> type.
+         * 
+         * Default: 1
+         * Group: consumer (advanced)
+         * 
+         * @param batchSize the value to set
+         * @return the dsl builder
+         */
+        default AdvancedStubEndpointConsumerBuilder batchSize(int batchSize) {
+            doSetProperty("batchSize", batchSize);
+            return this;
+        }
+        /**
+         * The maximum number of messages a consumer thread takes from the queue
+         * at once, which are then processed one after the other as a batch.
+         * Taking messages in batches means the consumer threads hand over the
+         * queue lock less often, which can increase throughput at high message
+         * rates. Each message has the batch exchange properties
+         * (CamelBatchIndex, CamelBatchSize and CamelBatchComplete) set. This
+         * option is not in use when virtualThreadPerTask is enabled. The
+         * default value 1 takes one message at a time.
+         * 
+         * The option will be converted to a <code>int</code> type.
+         * 
+         * Default: 1
+         * Group: consumer (advanced)
+         * 
+         * @param batchSize the value to set
+         * @return the dsl builder
+         */
+        default AdvancedStubEndpointConsumerBuilder batchSize(String batchSize) {
+            doSetProperty("batchSize", batchSize);
+            return this;
+        }
         /**
          * Allows for bridging the consumer to the Camel routing Error Handler,
          * which mean any exceptions (if possible) occurred while the Camel
@@ -655,6 +699,44 @@ public interface StubEndpointBuilderFactory {
             doSetProperty("blockWhenFull", blockWhenFull);
             return this;
         }
+        /**
+         * Whether the producer should add the exchanges to the queue in one
+         * bulk operation, when the message body is a List of exchanges (such as
+         * the result of aggregating with groupExchanges). Each exchange in the
+         * list is then added to the queue as a message of its own. This is only
+         * in use when the producer does not wait for the task to complete.
+         * 
+         * The option is a: <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: producer (advanced)
+         * 
+         * @param bulkOffer the value to set
+         * @return the dsl builder
+         */
+        default AdvancedStubEndpointProducerBuilder bulkOffer(boolean bulkOffer) {
+            doSetProperty("bulkOffer", bulkOffer);
+            return this;
+        }
+        /**
+         * Whether the producer should add the exchanges to the queue in one
+         * bulk operation, when the message body is a List of exchanges (such as
+         * the result of aggregating with groupExchanges). Each exchange in the
+         * list is then added to the queue as a message of its own. This is only
+         * in use when the producer does not wait for the task to complete.
+         * 
+         * The option will be converted to a <code>boolean</code> type.
+         * 
+         * Default: false
+         * Group: producer (advanced)
+         * 
+         * @param bulkOffer the value to set
+         * @return the dsl builder
+         */
+        default AdvancedStubEndpointProducerBuilder bulkOffer(String bulkOffer) {
+            doSetProperty("bulkOffer", bulkOffer);
+            return this;
+        }
         /**
          * Whether the producer should discard the message (do not add the
          * message to the queue), when sending to a queue with no active
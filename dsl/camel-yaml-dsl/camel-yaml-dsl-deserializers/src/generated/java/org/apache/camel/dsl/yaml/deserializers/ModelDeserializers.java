@@ -445,6 +445,7 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     @YamlProperty(name = "forceCompletionOnStop", type = "boolean", defaultValue = "false", description = "If enabled then all current aggregated exchanges are completed when the context is stopped.", displayName = "Force Completion On Stop"),
                     @YamlProperty(name = "id", type = "string", description = "The id of this node", displayName = "Id"),
                     @YamlProperty(name = "ignoreInvalidCorrelationKeys", type = "boolean", defaultValue = "false", description = "If enabled then a correlation key that cannot be evaluated is logged and ignored, instead of throwing an exception.", displayName = "Ignore Invalid Correlation Keys"),
+                    @YamlProperty(name = "lockStripes", type = "number", description = "Number of lock stripes to use for guarding correlation keys. Exchanges with correlation keys that map to different stripes are aggregated in parallel, which improves throughput with many concurrent correlation groups. The default (0 or 1) uses a single lock. Not in use when optimistic locking is enabled, and cannot be used together with completionFromBatchConsumer or completionOnNewCorrelationGroup.", displayName = "Lock Stripes"),
                     @YamlProperty(name = "note", type = "string", description = "The note for this node", displayName = "Note"),
                     @YamlProperty(name = "optimisticLockRetryPolicy", type = "object:org.apache.camel.model.OptimisticLockRetryPolicyDefinition", description = "Configures retry settings when using optimistic locking.", displayName = "Optimistic Lock Retry Policy"),
                     @YamlProperty(name = "optimisticLocking", type = "boolean", defaultValue = "false", description = "Turns on optimistic locking, which requires the aggregation repository to implement OptimisticLockingAggregationRepository.", displayName = "Optimistic Locking"),
@@ -589,6 +590,11 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setIgnoreInvalidCorrelationKeys(val);
                     break;
                 }
+                case "lockStripes": {
+                    String val = asText(node);
+                    target.setLockStripes(val);
+                    break;
+                }
                 case "optimisticLockRetryPolicy": {
                     org.apache.camel.model.OptimisticLockRetryPolicyDefinition val = asType(node, org.apache.camel.model.OptimisticLockRetryPolicyDefinition.class);
                     target.setOptimisticLockRetryPolicyDefinition(val);
@@ -9878,6 +9884,7 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     @YamlProperty(name = "disabled", type = "boolean", defaultValue = "false", description = "Whether to disable this EIP from the route during build time. Once an EIP has been disabled then it cannot be enabled later at runtime.", displayName = "Disabled"),
                     @YamlProperty(name = "executorService", type = "string", description = "Reference to a custom thread pool to use for parallel processing. Setting this option implies parallel processing.", displayName = "Executor Service"),
                     @YamlProperty(name = "id", type = "string", description = "The id of this node", displayName = "Id"),
+                    @YamlProperty(name = "maxInflight", type = "number", description = "The maximum number of multicast exchanges that can be inflight at the same time when using parallel processing. A multicast exchange is inflight until it has been aggregated, and the multicast does not create more multicast exchanges until the number is below the limit again. This keeps the memory usage bounded when multicasting to many destinations in parallel. By default there is no limit.", displayName = "Max Inflight"),
                     @YamlProperty(name = "note", type = "string", description = "The note for this node", displayName = "Note"),
                     @YamlProperty(name = "onPrepare", type = "string", description = "Reference to a processor for preparing the exchange to be sent. Can be used to deep-clone messages that should be sent.", displayName = "On Prepare"),
                     @YamlProperty(name = "parallelAggregate", type = "boolean", deprecated = true, defaultValue = "false", description = "If enabled then the aggregate method on AggregationStrategy can be called concurrently. Notice that this would require the implementation of AggregationStrategy to be implemented as thread-safe. By default this is false meaning that Camel synchronizes the call to the aggregate method. Though in some use-cases this can be used to archive higher performance when the AggregationStrategy is implemented as thread-safe.", displayName = "Parallel Aggregate"),
@@ -9930,6 +9937,11 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setExecutorService(val);
                     break;
                 }
+                case "maxInflight": {
+                    String val = asText(node);
+                    target.setMaxInflight(val);
+                    break;
+                }
                 case "onPrepare": {
                     String val = asText(node);
                     target.setOnPrepare(val);
@@ -16581,6 +16593,7 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
             description = "Evaluates a Camel simple expression",
             deprecated = false,
             properties = {
+                    @YamlProperty(name = "compiled", type = "boolean", defaultValue = "false", description = "Whether to compile the predicate into a tree of predicates that avoids most of the overhead of interpreting the parsed predicate. Anything that cannot be compiled is interpreted as usual. This is only in use for predicates.", displayName = "Compiled"),
                     @YamlProperty(name = "expression", type = "string", required = true, description = "The expression value in your chosen language syntax.", displayName = "Expression"),
                     @YamlProperty(name = "id", type = "string", description = "The id of this node.", displayName = "Id"),
                     @YamlProperty(name = "nested", type = "boolean", defaultValue = "false", description = "If the result is a nested simple expression should this expression be evaluated as well.", displayName = "Nested"),
@@ -16610,6 +16623,11 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                 String propertyName, Node node) {
             propertyKey = org.apache.camel.util.StringHelper.dashToCamelCase(propertyKey);
             switch(propertyKey) {
+                case "compiled": {
+                    String val = asText(node);
+                    target.setCompiled(val);
+                    break;
+                }
                 case "expression": {
                     String val = asText(node);
                     target.setExpression(val);
@@ -16966,6 +16984,7 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     @YamlProperty(name = "group", type = "number", description = "Groups N split messages into a single message with a java.util.List body. This allows processing items in chunks instead of one at a time.", displayName = "Group"),
                     @YamlProperty(name = "id", type = "string", description = "The id of this node", displayName = "Id"),
                     @YamlProperty(name = "maxFailedRecords", type = "number", description = "Sets the maximum number of failed records before aborting the split operation. When the count is exceeded, a org.apache.camel.CamelExchangeException is thrown. This option is mutually exclusive with stopOnException . Can be combined with errorThreshold processing aborts when either threshold is exceeded.", displayName = "Max Failed Records"),
+                    @YamlProperty(name = "maxInflight", type = "number", description = "The maximum number of split messages that can be inflight at the same time when using parallel processing. A split message is inflight until it has been aggregated, and the splitter does not create more split messages until the number is below the limit again. This keeps the memory usage bounded when splitting large streams in parallel. By default there is no limit.", displayName = "Max Inflight"),
                     @YamlProperty(name = "note", type = "string", description = "The note for this node", displayName = "Note"),
                     @YamlProperty(name = "onPrepare", type = "string", description = "Reference to a processor for preparing the exchange to be sent. Can be used to deep-clone messages that should be sent.", displayName = "On Prepare"),
                     @YamlProperty(name = "parallelAggregate", type = "boolean", deprecated = true, defaultValue = "false", description = "If enabled then the aggregate method on AggregationStrategy can be called concurrently. Notice that this would require the implementation of AggregationStrategy to be implemented as thread-safe. By default this is false meaning that Camel synchronizes the call to the aggregate method. Though in some use-cases this can be used to archive higher performance when the AggregationStrategy is implemented as thread-safe.", displayName = "Parallel Aggregate"),
@@ -17046,6 +17065,11 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setMaxFailedRecords(val);
                     break;
                 }
+                case "maxInflight": {
+                    String val = asText(node);
+                    target.setMaxInflight(val);
+                    break;
+                }
                 case "onPrepare": {
                     String val = asText(node);
                     target.setOnPrepare(val);
@@ -17770,7 +17794,8 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     @YamlProperty(name = "note", type = "string", description = "The note for this node", displayName = "Note"),
                     @YamlProperty(name = "poolSize", type = "number", description = "Sets the core pool size (number of threads to keep in the pool, even if idle).", displayName = "Pool Size"),
                     @YamlProperty(name = "rejectedPolicy", type = "enum:Abort,CallerRuns,Block", description = "Sets the handler for tasks which cannot be executed by the thread pool", displayName = "Rejected Policy"),
-                    @YamlProperty(name = "timeUnit", type = "enum:NANOSECONDS,MICROSECONDS,MILLISECONDS,SECONDS,MINUTES,HOURS,DAYS", description = "Sets the time unit to use for keep alive time. By default SECONDS is used.", displayName = "Time Unit")
+                    @YamlProperty(name = "timeUnit", type = "enum:NANOSECONDS,MICROSECONDS,MILLISECONDS,SECONDS,MINUTES,HOURS,DAYS", description = "Sets the time unit to use for keep alive time. By default SECONDS is used.", displayName = "Time Unit"),
+                    @YamlProperty(name = "virtualThreads", type = "boolean", defaultValue = "false", description = "Whether to run each task on its own virtual thread (requires JDK 21+) instead of using a pool of platform threads. The number of concurrent tasks is then limited by the max queue size, instead of the pool size.", displayName = "Virtual Threads")
             }
     )
     public static class ThreadPoolProfileDefinitionDeserializer extends YamlDeserializerBase<ThreadPoolProfileDefinition> {
@@ -17828,6 +17853,11 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setTimeUnit(val);
                     break;
                 }
+                case "virtualThreads": {
+                    String val = asText(node);
+                    target.setVirtualThreads(val);
+                    break;
+                }
                 case "id": {
                     String val = asText(node);
                     target.setId(val);
@@ -17861,6 +17891,7 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
             properties = {
                     @YamlProperty(name = "allowCoreThreadTimeOut", type = "boolean", defaultValue = "false", description = "Whether idle core threads are allowed to timeout and therefore can shrink the pool size below the core pool size", displayName = "Allow Core Thread Time Out"),
                     @YamlProperty(name = "callerRunsWhenRejected", type = "boolean", defaultValue = "true", description = "Whether to use the caller thread as fallback when a task is rejected being added to the thread pool (when its full). This is only used as fallback if no rejectedPolicy has been configured, or the thread pool has no configured rejection handler.", displayName = "Caller Runs When Rejected"),
+                    @YamlProperty(name = "deadlineHeader", type = "string", description = "Name of the header with the deadline of the message, as an absolute time in millis (or a date), where messages with the same priority are processed earliest deadline first when the thread pool is busy. A message whose deadline has expired before it is processed is not routed any further.", displayName = "Deadline Header"),
                     @YamlProperty(name = "description", type = "string", description = "The description for this node", displayName = "Description"),
                     @YamlProperty(name = "disabled", type = "boolean", defaultValue = "false", description = "Whether to disable this EIP from the route during build time. Once an EIP has been disabled then it cannot be enabled later at runtime.", displayName = "Disabled"),
                     @YamlProperty(name = "executorService", type = "string", description = "To refer to a custom thread pool or use a thread pool profile (as overlay)", displayName = "Executor Service"),
@@ -17869,8 +17900,11 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     @YamlProperty(name = "maxPoolSize", type = "number", description = "Sets the maximum pool size (the upper bound of threads in the pool).", displayName = "Max Pool Size"),
                     @YamlProperty(name = "maxQueueSize", type = "number", description = "Sets the maximum number of tasks in the work queue. Use -1 or Integer.MAX_VALUE for an unbounded queue.", displayName = "Max Queue Size"),
                     @YamlProperty(name = "note", type = "string", description = "The note for this node", displayName = "Note"),
+                    @YamlProperty(name = "onExpired", type = "string", description = "Reference to a processor which is called with the messages whose deadline has expired, after which the message is not routed any further. If not set, then the message is failed with a RejectedExecutionException.", displayName = "On Expired"),
                     @YamlProperty(name = "poolSize", type = "number", description = "Sets the core pool size (number of threads to keep in the pool, even if idle).", displayName = "Pool Size"),
+                    @YamlProperty(name = "priorityHeader", type = "string", description = "Name of the header with the priority of the message, where messages with a higher priority are processed first when the thread pool is busy. A message without the header has priority 0.", displayName = "Priority Header"),
                     @YamlProperty(name = "rejectedPolicy", type = "enum:Abort,CallerRuns,Block", description = "Sets the handler for tasks which cannot be executed by the thread pool", displayName = "Rejected Policy"),
+                    @YamlProperty(name = "starvationTimeout", type = "string", defaultValue = "10000", description = "The time after which the message which has waited the longest is processed first, regardless of its priority and deadline, to prevent messages with a low priority from waiting forever. Use 0 to disable. Only in use when priorityHeader or deadlineHeader is configured.", displayName = "Starvation Timeout"),
                     @YamlProperty(name = "threadName", type = "string", defaultValue = "Threads", description = "Sets the thread name pattern to use for naming threads created by this thread pool.", displayName = "Thread Name"),
                     @YamlProperty(name = "timeUnit", type = "enum:NANOSECONDS,MICROSECONDS,MILLISECONDS,SECONDS,MINUTES,HOURS,DAYS", description = "Sets the time unit for the keep alive time. By default SECONDS is used.", displayName = "Time Unit")
             }
@@ -17900,6 +17934,11 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setCallerRunsWhenRejected(val);
                     break;
                 }
+                case "deadlineHeader": {
+                    String val = asText(node);
+                    target.setDeadlineHeader(val);
+                    break;
+                }
                 case "disabled": {
                     String val = asText(node);
                     target.setDisabled(val);
@@ -17925,16 +17964,31 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setMaxQueueSize(val);
                     break;
                 }
+                case "onExpired": {
+                    String val = asText(node);
+                    target.setOnExpired(val);
+                    break;
+                }
                 case "poolSize": {
                     String val = asText(node);
                     target.setPoolSize(val);
                     break;
                 }
+                case "priorityHeader": {
+                    String val = asText(node);
+                    target.setPriorityHeader(val);
+                    break;
+                }
                 case "rejectedPolicy": {
                     String val = asText(node);
                     target.setRejectedPolicy(val);
                     break;
                 }
+                case "starvationTimeout": {
+                    String val = asText(node);
+                    target.setStarvationTimeout(val);
+                    break;
+                }
                 case "threadName": {
                     String val = asText(node);
                     target.setThreadName(val);
@@ -18040,15 +18094,17 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
             deprecated = false,
             properties = {
                     @YamlProperty(name = "__extends", type = "object:org.apache.camel.model.language.ExpressionDefinition", oneOf = "expression"),
+                    @YamlProperty(name = "adaptiveBackoffRatio", type = "number", defaultValue = "0.9", description = "The ratio the concurrency limit is multiplied with, when a request fails or takes too long, in AdaptiveConcurrentRequests mode. A lower ratio backs off faster from an overloaded downstream system.", displayName = "Adaptive Backoff Ratio"),
+                    @YamlProperty(name = "adaptiveLatencyTolerance", type = "number", defaultValue = "2.0", description = "How many times the minimum observed latency a request can take, before the downstream system is considered overloaded and the concurrency limit is reduced, in AdaptiveConcurrentRequests mode.", displayName = "Adaptive Latency Tolerance"),
                     @YamlProperty(name = "asyncDelayed", type = "boolean", defaultValue = "false", description = "Enables asynchronous delay which means the thread will not block while delaying.", displayName = "Async Delayed"),
                     @YamlProperty(name = "callerRunsWhenRejected", type = "boolean", defaultValue = "true", description = "Whether or not the caller should run the task when it was rejected by the thread pool.", displayName = "Caller Runs When Rejected"),
                     @YamlProperty(name = "correlationExpression", type = "object:org.apache.camel.model.ExpressionSubElementDefinition", description = "The correlation expression to use for throttle grouping. Exchanges with the same correlation key are throttled together.", displayName = "Correlation Expression"),
                     @YamlProperty(name = "description", type = "string", description = "The description for this node", displayName = "Description"),
                     @YamlProperty(name = "disabled", type = "boolean", defaultValue = "false", description = "Whether to disable this EIP from the route during build time. Once an EIP has been disabled then it cannot be enabled later at runtime.", displayName = "Disabled"),
                     @YamlProperty(name = "executorService", type = "string", description = "To use a custom thread pool (ScheduledExecutorService) by the throttler.", displayName = "Executor Service"),
-                    @YamlProperty(name = "expression", type = "object:org.apache.camel.model.language.ExpressionDefinition", description = "The expression to set the maximum request count (for TotalRequests mode) or the maximum number of concurrent requests (for ConcurrentRequests mode).", displayName = "Expression", oneOf = "expression"),
+                    @YamlProperty(name = "expression", type = "object:org.apache.camel.model.language.ExpressionDefinition", description = "The expression to set the maximum request count (for TotalRequests mode) or the maximum number of concurrent requests (for ConcurrentRequests and AdaptiveConcurrentRequests mode).", displayName = "Expression", oneOf = "expression"),
                     @YamlProperty(name = "id", type = "string", description = "The id of this node", displayName = "Id"),
-                    @YamlProperty(name = "mode", type = "enum:TotalRequests,ConcurrentRequests", defaultValue = "TotalRequests", description = "Sets the throttling mode. TotalRequests limits the total number of requests within a time period. ConcurrentRequests uses a leaky-bucket algorithm to limit the number of concurrent requests being processed at the same time.", displayName = "Mode"),
+                    @YamlProperty(name = "mode", type = "enum:TotalRequests,ConcurrentRequests,AdaptiveConcurrentRequests", defaultValue = "TotalRequests", description = "Sets the throttling mode. TotalRequests limits the total number of requests within a time period. ConcurrentRequests uses a leaky-bucket algorithm to limit the number of concurrent requests being processed at the same time. AdaptiveConcurrentRequests limits the number of concurrent requests, where the limit is adjusted automatically from the observed latency and failures of the requests, up to the maximum number of concurrent requests.", displayName = "Mode"),
                     @YamlProperty(name = "note", type = "string", description = "The note for this node", displayName = "Note"),
                     @YamlProperty(name = "rejectExecution", type = "boolean", defaultValue = "false", description = "Whether or not throttler throws the ThrottlerRejectedExecutionException when the exchange exceeds the request limit.", displayName = "Reject Execution"),
                     @YamlProperty(name = "timePeriodMillis", type = "string", defaultValue = "1000", description = "Sets the time period during which the maximum request count is valid for.", displayName = "Time Period Millis")
@@ -18069,6 +18125,16 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                 String propertyName, Node node) {
             propertyKey = org.apache.camel.util.StringHelper.dashToCamelCase(propertyKey);
             switch(propertyKey) {
+                case "adaptiveBackoffRatio": {
+                    String val = asText(node);
+                    target.setAdaptiveBackoffRatio(val);
+                    break;
+                }
+                case "adaptiveLatencyTolerance": {
+                    String val = asText(node);
+                    target.setAdaptiveLatencyTolerance(val);
+                    break;
+                }
                 case "asyncDelayed": {
                     String val = asText(node);
                     target.setAsyncDelayed(val);
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.io.File;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Helper to launch the JMH benchmarks from JUnit, which allows running a single benchmark from Maven or the IDE.
+ * <p/>
+ * The benchmarks can be tuned with the following system properties:
+ * <ul>
+ * <li>jmh.forks - number of forks (default 1)</li>
+ * <li>jmh.warmupIterations - number of warmup iterations (default 3)</li>
+ * <li>jmh.iterations - number of measurement iterations (default 5)</li>
+ * <li>jmh.time - duration in seconds of each iteration (default 2)</li>
+ * <li>jmh.threads - number of threads (default is what the benchmark declares)</li>
+ * <li>jmh.profilers - comma separated list of JMH profilers, such as gc to measure allocation rates</li>
+ * <li>jmh.include - regular expression to only run some of the methods in the benchmark</li>
+ * <li>jmh.resultDir - directory where the results are stored as JSON (default target/jmh-results)</li>
+ * </ul>
+ * The results are stored as JSON files named after the benchmark, so the same benchmark can be compared across commits.
+ */
+public final class BenchmarkSupport {
+
+    private BenchmarkSupport() {
+    }
+
+    public static void run(Class<?> benchmark) throws Exception {
+        String include = benchmark.getName() + "." + System.getProperty("jmh.include", ".*");
+
+        File dir = new File(System.getProperty("jmh.resultDir", "target/jmh-results"));
+        dir.mkdirs();
+        File result = new File(dir, benchmark.getSimpleName() + ".json");
+
+        ChainedOptionsBuilder builder = new OptionsBuilder()
+                .include(include)
+                .forks(Integer.getInteger("jmh.forks", 1))
+                .warmupIterations(Integer.getInteger("jmh.warmupIterations", 3))
+                .warmupTime(TimeValue.seconds(Integer.getInteger("jmh.time", 2)))
+                .measurementIterations(Integer.getInteger("jmh.iterations", 5))
+                .measurementTime(TimeValue.seconds(Integer.getInteger("jmh.time", 2)))
+                .shouldFailOnError(true)
+                .jvmArgsAppend("-Xms1g", "-Xmx1g")
+                .resultFormat(ResultFormatType.JSON)
+                .result(result.getPath());
+
+        Integer threads = Integer.getInteger("jmh.threads");
+        if (threads != null) {
+            builder.threads(threads);
+        }
+        String profilers = System.getProperty("jmh.profilers");
+        if (profilers != null && !profilers.isBlank()) {
+            for (String profiler : profilers.split(",")) {
+                builder.addProfiler(profiler.trim());
+            }
+        }
+
+        new Runner(builder.build()).run();
+    }
+}
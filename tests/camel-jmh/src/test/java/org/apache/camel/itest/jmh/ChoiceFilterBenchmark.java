@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Endpoint;
+import org.apache.camel.Exchange;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Benchmarks the content based router and message filter EIPs, using predicates in the Java DSL and the simple
+ * language.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ChoiceFilterBenchmark {
+
+    @Param({ "gold", "silver", "bronze" })
+    public String level;
+
+    private CamelContext context;
+    private ProducerTemplate template;
+    private Endpoint choice;
+    private Endpoint choiceSimple;
+    private Endpoint filter;
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        BenchmarkSupport.run(getClass());
+    }
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        context = new DefaultCamelContext();
+        context.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:choice")
+                        .choice()
+                            .when(header("level").isEqualTo("gold")).setHeader("to", constant("gold"))
+                            .when(header("level").isEqualTo("silver")).setHeader("to", constant("silver"))
+                            .otherwise().setHeader("to", constant("other"))
+                        .end();
+
+                from("direct:choice-simple")
+                        .choice()
+                            .when(simple("${header.level} == 'gold'")).setHeader("to", constant("gold"))
+                            .when(simple("${header.level} == 'silver'")).setHeader("to", constant("silver"))
+                            .otherwise().setHeader("to", constant("other"))
+                        .end();
+
+                from("direct:filter")
+                        .filter(simple("${header.level} != 'bronze'"))
+                            .setHeader("to", constant("filtered"))
+                        .end();
+            }
+        });
+        context.start();
+        template = context.createProducerTemplate();
+        choice = context.getEndpoint("direct:choice");
+        choiceSimple = context.getEndpoint("direct:choice-simple");
+        filter = context.getEndpoint("direct:filter");
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() {
+        context.stop();
+    }
+
+    private Exchange createExchange() {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getMessage().setBody("Hello World");
+        exchange.getMessage().setHeader("level", level);
+        return exchange;
+    }
+
+    @Benchmark
+    public Exchange choice() {
+        return template.send(choice, createExchange());
+    }
+
+    @Benchmark
+    public Exchange choiceSimple() {
+        return template.send(choiceSimple, createExchange());
+    }
+
+    @Benchmark
+    public Exchange filter() {
+        return template.send(filter, createExchange());
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.support.BinaryExchangeCodec;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.support.DefaultExchangeHolder;
+import org.apache.camel.support.ExchangeCodec;
+import org.apache.camel.support.JavaSerializationExchangeCodec;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Benchmarks the {@link ExchangeCodec} used by the aggregation repositories to store the exchanges, with a byte[] body
+ * and a number of String, Integer and Long headers.
+ * <p/>
+ * The size of the encoded exchange is logged when the benchmark is set up, so the codecs can be compared by size as
+ * well as speed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ExchangeCodecBenchmark {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ExchangeCodecBenchmark.class);
+
+    @Param({ "java", "binary" })
+    public String codec;
+
+    @Param({ "4", "32" })
+    public int headers;
+
+    @Param({ "64", "4096" })
+    public int bodySize;
+
+    private CamelContext context;
+    private ExchangeCodec exchangeCodec;
+    private DefaultExchangeHolder holder;
+    private byte[] encoded;
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        BenchmarkSupport.run(getClass());
+    }
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        context = new DefaultCamelContext();
+        context.start();
+
+        exchangeCodec = "binary".equals(codec) ? new BinaryExchangeCodec() : new JavaSerializationExchangeCodec();
+
+        Exchange exchange = new DefaultExchange(context);
+        byte[] body = new byte[bodySize];
+        for (int i = 0; i < bodySize; i++) {
+            body[i] = (byte) ('a' + i % 26);
+        }
+        exchange.getIn().setBody(body);
+        for (int i = 0; i < headers; i++) {
+            switch (i % 3) {
+                case 0 -> exchange.getIn().setHeader("header" + i, "value" + i);
+                case 1 -> exchange.getIn().setHeader("header" + i, i);
+                default -> exchange.getIn().setHeader("header" + i, System.currentTimeMillis());
+            }
+        }
+        exchange.setProperty(Exchange.AGGREGATED_SIZE, 5);
+        exchange.setProperty(Exchange.AGGREGATED_CORRELATION_KEY, "key");
+        holder = DefaultExchangeHolder.marshal(exchange);
+        encoded = encode();
+
+        LOG.info("Encoded size using {} codec with {} headers and {} bytes body: {} bytes", codec, headers, bodySize,
+                encoded.length);
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() {
+        context.stop();
+    }
+
+    @Benchmark
+    public byte[] encode() throws Exception {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream(256);
+        exchangeCodec.encode(holder, bos);
+        return bos.toByteArray();
+    }
+
+    @Benchmark
+    public Object decode() throws Exception {
+        return exchangeCodec.decode(context, new ByteArrayInputStream(encoded), null);
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.Message;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.impl.engine.CompactHeadersMapFactory;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks the message headers, which are stored in the map created by the
+ * {@link org.apache.camel.spi.HeadersMapFactory}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class HeadersBenchmark {
+
+    @Param({ "4", "16", "64" })
+    public int headers;
+
+    @Param({ "default", "compact" })
+    public String factory;
+
+    private CamelContext context;
+    private Message message;
+    private String[] names;
+    private String[] upperNames;
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        BenchmarkSupport.run(getClass());
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = new DefaultCamelContext();
+        if ("compact".equals(factory)) {
+            context.getCamelContextExtension().setHeadersMapFactory(new CompactHeadersMapFactory());
+        }
+        context.start();
+
+        names = new String[headers];
+        upperNames = new String[headers];
+        for (int i = 0; i < headers; i++) {
+            names[i] = "CamelHeader" + i;
+            upperNames[i] = names[i].toUpperCase();
+        }
+        message = createMessage();
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() {
+        context.stop();
+    }
+
+    private Message createMessage() {
+        Exchange exchange = new DefaultExchange(context);
+        Message answer = exchange.getMessage();
+        for (int i = 0; i < headers; i++) {
+            answer.setHeader(names[i], i);
+        }
+        return answer;
+    }
+
+    @Benchmark
+    public Message populate() {
+        return createMessage();
+    }
+
+    @Benchmark
+    public void get(Blackhole bh) {
+        for (String name : names) {
+            bh.consume(message.getHeader(name));
+        }
+    }
+
+    @Benchmark
+    public void getCaseInsensitive(Blackhole bh) {
+        for (String name : upperNames) {
+            bh.consume(message.getHeader(name));
+        }
+    }
+
+    @Benchmark
+    public void getMissing(Blackhole bh) {
+        bh.consume(message.getHeader("Unknown"));
+    }
+
+    @Benchmark
+    public Map<String, Object> copy() {
+        return message.copy().getHeaders();
+    }
+
+    @Benchmark
+    public void put() {
+        for (int i = 0; i < names.length; i++) {
+            message.setHeader(names[i], i);
+        }
+    }
+
+    @Benchmark
+    public Map<String, Object> copyAndSet() {
+        // changing a header of the copy makes it copy the shared headers
+        Message copy = message.copy();
+        copy.setHeader("Extra", "value");
+        return copy.getHeaders();
+    }
+
+    @Benchmark
+    public void iterate(Blackhole bh) {
+        for (Map.Entry<String, Object> entry : message.getHeaders().entrySet()) {
+            bh.consume(entry.getKey());
+            bh.consume(entry.getValue());
+        }
+    }
+
+    @Benchmark
+    public Message setAndRemove() {
+        Message answer = createMessage();
+        for (String name : upperNames) {
+            answer.removeHeader(name);
+        }
+        return answer;
+    }
+}
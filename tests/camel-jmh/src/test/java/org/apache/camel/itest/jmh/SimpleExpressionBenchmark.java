@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
+import org.apache.camel.Predicate;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.language.simple.SimpleLanguage;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Benchmarks evaluating expressions and predicates in the simple language, which are parsed up front as they are when
+ * used in routes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SimpleExpressionBenchmark {
+
+    @Param({ "false", "true" })
+    public boolean compiled;
+
+    private CamelContext context;
+    private Exchange exchange;
+    private Expression header;
+    private Expression template;
+    private Expression ognl;
+    private Predicate predicate;
+    private Predicate compound;
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        BenchmarkSupport.run(getClass());
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = new DefaultCamelContext();
+        context.start();
+
+        exchange = new DefaultExchange(context);
+        exchange.getMessage().setBody("Hello World");
+        exchange.getMessage().setHeader("foo", "123");
+        exchange.getMessage().setHeader("bar", 456);
+        exchange.setProperty("level", "gold");
+
+        SimpleLanguage simple = (SimpleLanguage) context.resolveLanguage("simple");
+        simple.setCompiled(compiled);
+        header = simple.createExpression("${header.foo}");
+        template = simple.createExpression("The ${body} has foo ${header.foo} and level ${exchangeProperty.level}");
+        ognl = simple.createExpression("${body.toUpperCase()}");
+        predicate = simple.createPredicate("${header.foo} == 123");
+        compound = simple.createPredicate("${header.bar} > 100 && ${exchangeProperty.level} in 'gold,silver'");
+        for (Expression exp : new Expression[] { header, template, ognl }) {
+            exp.init(context);
+        }
+        predicate.init(context);
+        compound.init(context);
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() {
+        context.stop();
+    }
+
+    @Benchmark
+    public Object header() {
+        return header.evaluate(exchange, Object.class);
+    }
+
+    @Benchmark
+    public Object template() {
+        return template.evaluate(exchange, String.class);
+    }
+
+    @Benchmark
+    public Object ognl() {
+        return ognl.evaluate(exchange, String.class);
+    }
+
+    @Benchmark
+    public boolean predicate() {
+        return predicate.matches(exchange);
+    }
+
+    @Benchmark
+    public boolean compoundPredicate() {
+        return compound.matches(exchange);
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.AggregationStrategy;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Endpoint;
+import org.apache.camel.Exchange;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.AggregationStrategies;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Benchmarks the splitter and aggregator EIPs.
+ * <p/>
+ * The aggregate benchmark runs with multiple threads that aggregate into many correlation groups, and can be run with
+ * and without lock stripes in the aggregator.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SplitAggregateBenchmark {
+
+    private static final int GROUPS = 1024;
+
+    @Param({ "10", "100" })
+    public int size;
+
+    @Param({ "1", "16" })
+    public int lockStripes;
+
+    private CamelContext context;
+    private ProducerTemplate template;
+    private Endpoint split;
+    private Endpoint splitAggregate;
+    private Endpoint aggregate;
+    private List<String> body;
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        BenchmarkSupport.run(getClass());
+    }
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        body = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            body.add("Line " + i);
+        }
+
+        AggregationStrategy strategy = AggregationStrategies.groupedBody();
+
+        context = new DefaultCamelContext();
+        context.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:split")
+                        .split(body())
+                        .setHeader("line", body());
+
+                from("direct:split-aggregate")
+                        .split(body(), strategy)
+                        .transform(body().append("!"));
+
+                from("direct:aggregate")
+                        .aggregate(header("group"), strategy)
+                        .completionSize(size)
+                        .lockStripes(lockStripes)
+                        .setHeader("size", simple("${body.size}"));
+            }
+        });
+        context.start();
+        template = context.createProducerTemplate();
+        split = context.getEndpoint("direct:split");
+        splitAggregate = context.getEndpoint("direct:split-aggregate");
+        aggregate = context.getEndpoint("direct:aggregate");
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() {
+        context.stop();
+    }
+
+    @Benchmark
+    public Object split() {
+        return template.requestBody(split, body);
+    }
+
+    @Benchmark
+    public Object splitAggregate() {
+        return template.requestBody(splitAggregate, body);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Exchange aggregate() {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getMessage().setBody("Hello World");
+        exchange.getMessage().setHeader("group", ThreadLocalRandom.current().nextInt(GROUPS));
+        return template.send(aggregate, exchange);
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.TypeConverter;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Benchmarks the type converter with some of the most common conversions, and with conversions that are not possible.
+ * <p/>
+ * The statistics parameter benchmarks the overhead of counting the conversions, which is used for finding the most
+ * used type conversions.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TypeConverterBenchmark {
+
+    private static final byte[] BYTES = "Hello World".getBytes(StandardCharsets.UTF_8);
+
+    @Param({ "false", "true" })
+    public boolean statistics;
+
+    private CamelContext context;
+    private TypeConverter converter;
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        BenchmarkSupport.run(getClass());
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = new DefaultCamelContext();
+        context.setTypeConverterStatisticsEnabled(statistics);
+        context.start();
+        converter = context.getTypeConverter();
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() {
+        context.stop();
+    }
+
+    @Benchmark
+    public Object sameType() {
+        return converter.convertTo(String.class, "Hello World");
+    }
+
+    @Benchmark
+    public Object stringToInteger() {
+        return converter.convertTo(Integer.class, "12345");
+    }
+
+    @Benchmark
+    public Object stringToPrimitiveInt() {
+        return converter.convertTo(int.class, "12345");
+    }
+
+    @Benchmark
+    public Object stringToLong() {
+        return converter.convertTo(Long.class, "12345");
+    }
+
+    @Benchmark
+    public Object integerToString() {
+        return converter.convertTo(String.class, 12345);
+    }
+
+    @Benchmark
+    public Object stringToBoolean() {
+        return converter.convertTo(Boolean.class, "true");
+    }
+
+    @Benchmark
+    public Object bytesToString() {
+        return converter.convertTo(String.class, BYTES);
+    }
+
+    @Benchmark
+    public Object stringToInputStream() {
+        return converter.convertTo(InputStream.class, "Hello World");
+    }
+
+    @Benchmark
+    public Object bytesToInputStream() {
+        return converter.convertTo(InputStream.class, BYTES);
+    }
+
+    @Benchmark
+    public Object noConverter() {
+        return converter.tryConvertTo(TypeConverterBenchmark.class, "Hello World");
+    }
+
+    @Benchmark
+    public Object noConverterRemembered() {
+        // a miss using convertTo is remembered by the registry
+        return converter.convertTo(TypeConverterBenchmark.class, "Hello World");
+    }
+}